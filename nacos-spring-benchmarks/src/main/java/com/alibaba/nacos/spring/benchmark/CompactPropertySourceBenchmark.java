@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.spring.core.env.CompactPropertyMap;
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+
+/**
+ * Benchmark of the property lookups and the refreshes of {@link NacosPropertySource}
+ * with and without {@link CompactPropertyMap}, see {@link PropertySourceFootprint} for
+ * the memory footprint.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactPropertySourceBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean compact;
+
+	@Param({ "1000", "50000" })
+	private int keys;
+
+	private NacosPropertySource propertySource;
+
+	private String content;
+
+	private String[] names;
+
+	private int next;
+
+	@Setup
+	public void setup() {
+		content = ConfigContents.generate(ConfigType.PROPERTIES.getType(), keys);
+		propertySource = create();
+		// Probe in a scattered order, as the placeholders of an application do
+		names = new String[1024];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = new String(ConfigContents.key((int) ((i * 2654435761L) % keys)));
+		}
+	}
+
+	private NacosPropertySource create() {
+		return new NacosPropertySource("app.properties", "DEFAULT_GROUP", "app",
+				content, ConfigType.PROPERTIES.getType(), compact);
+	}
+
+	@Benchmark
+	public Object getProperty() {
+		return propertySource.getProperty(names[next++ & (names.length - 1)]);
+	}
+
+	@Benchmark
+	public Object getAbsentProperty() {
+		return propertySource.getProperty("spring.datasource.hikari.absent");
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public NacosPropertySource refresh() {
+		return create();
+	}
+}
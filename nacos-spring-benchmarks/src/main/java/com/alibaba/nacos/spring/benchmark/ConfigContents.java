@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import com.alibaba.nacos.api.config.ConfigType;
+
+/**
+ * Synthetic Nacos config contents of the specified key count, the keys are laid out as
+ * <code>app.group{n}.item{m}</code> so that all formats produce the same flattened
+ * properties.
+ *
+ * @since 2.1.0
+ */
+public abstract class ConfigContents {
+
+	/**
+	 * The count of items per group
+	 */
+	static final int ITEMS_PER_GROUP = 10;
+
+	public static String key(int index) {
+		return "app.group" + (index / ITEMS_PER_GROUP) + ".item"
+				+ (index % ITEMS_PER_GROUP);
+	}
+
+	public static String value(int index, int revision) {
+		return "value-" + index + "-" + revision;
+	}
+
+	public static String generate(String type, int keys) {
+		return generate(type, keys, 0);
+	}
+
+	public static String generate(String type, int keys, int revision) {
+		if (ConfigType.PROPERTIES.getType().equals(type)) {
+			return properties(keys, revision);
+		}
+		if (ConfigType.YAML.getType().equals(type)) {
+			return yaml(keys, revision);
+		}
+		if (ConfigType.JSON.getType().equals(type)) {
+			return json(keys, revision);
+		}
+		if (ConfigType.XML.getType().equals(type)) {
+			return xml(keys, revision);
+		}
+		throw new IllegalArgumentException("Unsupported config type : " + type);
+	}
+
+	private static String properties(int keys, int revision) {
+		StringBuilder content = new StringBuilder(keys * 32);
+		for (int i = 0; i < keys; i++) {
+			content.append(key(i)).append('=').append(value(i, revision)).append('\n');
+		}
+		return content.toString();
+	}
+
+	private static String yaml(int keys, int revision) {
+		StringBuilder content = new StringBuilder(keys * 32);
+		content.append("app:\n");
+		for (int i = 0; i < keys; i++) {
+			if (i % ITEMS_PER_GROUP == 0) {
+				content.append("  group").append(i / ITEMS_PER_GROUP).append(":\n");
+			}
+			content.append("    item").append(i % ITEMS_PER_GROUP).append(": ")
+					.append(value(i, revision)).append('\n');
+		}
+		return content.toString();
+	}
+
+	private static String json(int keys, int revision) {
+		StringBuilder content = new StringBuilder(keys * 32);
+		content.append("{\"app\":{");
+		for (int i = 0; i < keys; i++) {
+			if (i % ITEMS_PER_GROUP == 0) {
+				if (i > 0) {
+					content.append("},");
+				}
+				content.append("\"group").append(i / ITEMS_PER_GROUP).append("\":{");
+			}
+			else {
+				content.append(',');
+			}
+			content.append("\"item").append(i % ITEMS_PER_GROUP).append("\":\"")
+					.append(value(i, revision)).append('"');
+		}
+		if (keys > 0) {
+			content.append('}');
+		}
+		content.append("}}");
+		return content.toString();
+	}
+
+	private static String xml(int keys, int revision) {
+		StringBuilder content = new StringBuilder(keys * 48);
+		content.append("<app>");
+		for (int i = 0; i < keys; i++) {
+			if (i % ITEMS_PER_GROUP == 0) {
+				if (i > 0) {
+					content.append("</group").append(i / ITEMS_PER_GROUP - 1)
+							.append('>');
+				}
+				content.append("<group").append(i / ITEMS_PER_GROUP).append('>');
+			}
+			content.append("<item").append(i % ITEMS_PER_GROUP).append('>')
+					.append(value(i, revision)).append("</item")
+					.append(i % ITEMS_PER_GROUP).append('>');
+		}
+		if (keys > 0) {
+			content.append("</group").append((keys - 1) / ITEMS_PER_GROUP).append('>');
+		}
+		content.append("</app>");
+		return content.toString();
+	}
+}
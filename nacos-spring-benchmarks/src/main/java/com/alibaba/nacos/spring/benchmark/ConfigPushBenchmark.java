@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MutablePropertySources;
+
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.spring.context.event.config.EventPublishingConfigService;
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+
+/**
+ * End-to-end benchmark of a config push : from the {@link StubConfigService stub Nacos
+ * client} delivering the content, through {@link EventPublishingConfigService},
+ * parsing, {@link MutablePropertySources#replace property source replacement}, to the
+ * {@link com.alibaba.nacos.api.config.annotation.NacosValue} refresh.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigPushBenchmark {
+
+	@Param({ "properties", "yaml", "json", "xml" })
+	private String type;
+
+	@Param({ "10", "1000" })
+	private int keys;
+
+	@Param({ "100" })
+	private int beans;
+
+	private GenericApplicationContext context;
+
+	private EventPublishingConfigService configService;
+
+	private final String[] contents = new String[2];
+
+	private int revision;
+
+	@Setup
+	public void setup() throws NacosException {
+		for (int i = 0; i < contents.length; i++) {
+			contents[i] = ConfigContents.generate(type, keys, i);
+		}
+		final String dataId = NacosValueRefreshBenchmark.DATA_ID;
+		final String groupId = NacosValueRefreshBenchmark.GROUP_ID;
+		final String name = NacosValueRefreshBenchmark.PROPERTY_SOURCE_NAME;
+		context = NacosValueRefreshBenchmark.createContext(beans,
+				new NacosPropertySource(dataId, groupId, name, contents[0], type));
+		final MutablePropertySources propertySources = context.getEnvironment()
+				.getPropertySources();
+		configService = new EventPublishingConfigService(new StubConfigService(),
+				new Properties(), context, null);
+		// The same as NacosPropertySourcePostProcessor#addListenerIfAutoRefreshed
+		configService.addListener(dataId, groupId, type, new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String config) {
+				propertySources.replace(name,
+						new NacosPropertySource(dataId, groupId, name, config, type));
+			}
+		});
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public boolean push() throws NacosException {
+		return configService.publishConfig(NacosValueRefreshBenchmark.DATA_ID,
+				NacosValueRefreshBenchmark.GROUP_ID, contents[++revision & 1]);
+	}
+}
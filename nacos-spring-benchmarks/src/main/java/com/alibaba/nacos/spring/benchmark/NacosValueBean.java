@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import com.alibaba.nacos.api.config.annotation.NacosValue;
+
+/**
+ * The bean with auto-refreshed {@link NacosValue} fields bound to the first group of
+ * {@link ConfigContents}.
+ *
+ * @since 2.1.0
+ */
+public class NacosValueBean {
+
+	/**
+	 * The count of {@link NacosValue} fields
+	 */
+	public static final int FIELDS = 10;
+
+	@NacosValue(value = "${app.group0.item0}", autoRefreshed = true)
+	private String item0;
+
+	@NacosValue(value = "${app.group0.item1}", autoRefreshed = true)
+	private String item1;
+
+	@NacosValue(value = "${app.group0.item2}", autoRefreshed = true)
+	private String item2;
+
+	@NacosValue(value = "${app.group0.item3}", autoRefreshed = true)
+	private String item3;
+
+	@NacosValue(value = "${app.group0.item4}", autoRefreshed = true)
+	private String item4;
+
+	@NacosValue(value = "${app.group0.item5}", autoRefreshed = true)
+	private String item5;
+
+	@NacosValue(value = "${app.group0.item6}", autoRefreshed = true)
+	private String item6;
+
+	@NacosValue(value = "${app.group0.item7}", autoRefreshed = true)
+	private String item7;
+
+	@NacosValue(value = "${app.group0.item8}", autoRefreshed = true)
+	private String item8;
+
+	@NacosValue(value = "${app.group0.item9:default}", autoRefreshed = true)
+	private String item9;
+
+	public String getItem0() {
+		return item0;
+	}
+
+	public String getItem9() {
+		return item9;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MutablePropertySources;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.spring.context.annotation.config.NacosValueAnnotationBeanPostProcessor;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent;
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+import com.alibaba.nacos.spring.util.NacosBeanUtils;
+
+/**
+ * Benchmark of {@link NacosValueAnnotationBeanPostProcessor#onApplicationEvent} with
+ * thousands of {@link NacosValueBean annotated beans}.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NacosValueRefreshBenchmark {
+
+	static final String DATA_ID = "benchmark";
+
+	static final String GROUP_ID = "DEFAULT_GROUP";
+
+	static final String PROPERTY_SOURCE_NAME = "nacos-benchmark";
+
+	@Param({ "1000", "5000" })
+	private int beans;
+
+	@Param({ "1000" })
+	private int keys;
+
+	private GenericApplicationContext context;
+
+	private NacosValueAnnotationBeanPostProcessor processor;
+
+	private MutablePropertySources propertySources;
+
+	private final NacosPropertySource[] revisions = new NacosPropertySource[2];
+
+	private NacosConfigReceivedEvent event;
+
+	private int revision;
+
+	@Setup
+	public void setup() {
+		String type = ConfigType.PROPERTIES.getType();
+		for (int i = 0; i < revisions.length; i++) {
+			revisions[i] = new NacosPropertySource(DATA_ID, GROUP_ID,
+					PROPERTY_SOURCE_NAME, ConfigContents.generate(type, keys, i), type);
+		}
+		context = createContext(beans, revisions[0]);
+		propertySources = context.getEnvironment().getPropertySources();
+		processor = context.getBean(NacosValueAnnotationBeanPostProcessor.BEAN_NAME,
+				NacosValueAnnotationBeanPostProcessor.class);
+		event = new NacosConfigReceivedEvent(new StubConfigService(), DATA_ID,
+				GROUP_ID, "", type);
+	}
+
+	static GenericApplicationContext createContext(int beans,
+			NacosPropertySource propertySource) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(propertySource);
+		NacosBeanUtils.registerNacosValueAnnotationBeanPostProcessor(
+				context.getDefaultListableBeanFactory());
+		for (int i = 0; i < beans; i++) {
+			context.registerBeanDefinition("nacosValueBean" + i,
+					new RootBeanDefinition(NacosValueBean.class));
+		}
+		context.refresh();
+		return context;
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Every {@link com.alibaba.nacos.api.config.annotation.NacosValue} target is changed
+	 */
+	@Benchmark
+	public void refreshChanged() {
+		propertySources.replace(PROPERTY_SOURCE_NAME, revisions[++revision & 1]);
+		processor.onApplicationEvent(event);
+	}
+
+	/**
+	 * None of {@link com.alibaba.nacos.api.config.annotation.NacosValue} targets is
+	 * changed, e.g. the push of an unrelated dataId
+	 */
+	@Benchmark
+	public void refreshUnchanged() {
+		processor.onApplicationEvent(event);
+	}
+}
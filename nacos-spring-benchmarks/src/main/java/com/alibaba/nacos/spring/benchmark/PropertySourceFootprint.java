@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.spring.core.env.CompactPropertyMap;
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+
+/**
+ * Reports the retained heap of {@link NacosPropertySource Nacos property sources} with
+ * and without {@link CompactPropertyMap}, measured as the difference of the used heap
+ * after full GCs.
+ * <p>
+ * The options are the system properties :
+ * <ul>
+ * <li><code>footprint.sources</code> : the count of the property sources, 40 by
+ * default</li>
+ * <li><code>footprint.keys</code> : the keys per property source, 5000 by
+ * default</li>
+ * <li><code>footprint.format</code> : properties, yaml or json, yaml by default</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+public class PropertySourceFootprint {
+
+	private final int sources = Integer.getInteger("footprint.sources", 40);
+
+	private final int keys = Integer.getInteger("footprint.keys", 5000);
+
+	private final String format = System.getProperty("footprint.format",
+			ConfigType.YAML.getType());
+
+	public static void main(String[] args) {
+		new PropertySourceFootprint().run();
+	}
+
+	private void run() {
+		// Each source is a different config, as distinct dataIds are in practice
+		String[] contents = new String[sources];
+		for (int i = 0; i < sources; i++) {
+			contents[i] = ConfigContents.generate(format, keys, i);
+		}
+		// Warm up the parsers and classes out of the measurement, with other contents
+		// so that nothing measured is interned in advance
+		String[] warmUp = { ConfigContents.generate(format, 100, -1) };
+		build(warmUp, false);
+		build(warmUp, true);
+
+		long linked = measure(contents, false);
+		long compact = measure(contents, true);
+
+		System.out.printf("%d %s sources x %d keys%n", sources, format, keys);
+		report("LinkedHashMap", linked);
+		report("CompactPropertyMap", compact);
+		System.out.printf("saved %.1f%%%n", 100.0 * (linked - compact) / linked);
+	}
+
+	private void report(String name, long bytes) {
+		System.out.printf("%-20s %,14d bytes %8.1f bytes/key%n", name, bytes,
+				(double) bytes / ((long) sources * keys));
+	}
+
+	private long measure(String[] contents, boolean compact) {
+		long before = usedHeap();
+		List<NacosPropertySource> retained = build(contents, compact);
+		long after = usedHeap();
+		if (retained.size() != sources) {
+			throw new IllegalStateException();
+		}
+		return after - before;
+	}
+
+	private List<NacosPropertySource> build(String[] contents, boolean compact) {
+		List<NacosPropertySource> propertySources = new ArrayList<NacosPropertySource>(
+				contents.length);
+		for (int i = 0; i < contents.length; i++) {
+			propertySources.add(new NacosPropertySource("data-" + i, "DEFAULT_GROUP",
+					"nacos-" + i, contents[i], format, compact));
+		}
+		return propertySources;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		// Until the used heap settles
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+
+/**
+ * Benchmark of {@link MutablePropertySources#replace(String, PropertySource)} with
+ * {@link NacosPropertySource Nacos property sources}, as it happens on every push of an
+ * auto-refreshed {@link com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource}.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertySourceReplaceBenchmark {
+
+	@Param({ "10", "40" })
+	private int sources;
+
+	@Param({ "1000" })
+	private int keys;
+
+	private final MutablePropertySources propertySources = new MutablePropertySources();
+
+	private final NacosPropertySource[] replacements = new NacosPropertySource[2];
+
+	private String name;
+
+	private String content;
+
+	private int revision;
+
+	@Setup
+	public void setup() {
+		String type = ConfigType.PROPERTIES.getType();
+		content = ConfigContents.generate(type, keys);
+		for (int i = 0; i < sources; i++) {
+			propertySources.addLast(new NacosPropertySource("data-" + i,
+					"DEFAULT_GROUP", "nacos-" + i, content, type));
+		}
+		// replace the last one, the worst case of name lookup
+		name = "nacos-" + (sources - 1);
+		for (int i = 0; i < replacements.length; i++) {
+			replacements[i] = new NacosPropertySource("data-" + (sources - 1),
+					"DEFAULT_GROUP", name, ConfigContents.generate(type, keys, i), type);
+		}
+	}
+
+	@Benchmark
+	public MutablePropertySources replace() {
+		propertySources.replace(name, replacements[revision++ & 1]);
+		return propertySources;
+	}
+
+	@Benchmark
+	public MutablePropertySources parseAndReplace() {
+		propertySources.replace(name, new NacosPropertySource(
+				"data-" + (sources - 1), "DEFAULT_GROUP", name, content,
+				ConfigType.PROPERTIES.getType()));
+		return propertySources;
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.PropertyValues;
+
+import com.alibaba.nacos.spring.util.NacosUtils;
+
+/**
+ * Benchmark of {@link NacosUtils#resolvePropertyValues(Object, String, String, String, String, String)}
+ * which is used by {@link com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties}
+ * binding on every push.
+ *
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolvePropertyValuesBenchmark {
+
+	@Param({ "properties", "yaml", "json", "xml" })
+	private String type;
+
+	@Param({ "10", "1000", "50000" })
+	private int keys;
+
+	private String content;
+
+	private final AppProperties bean = new AppProperties();
+
+	@Setup
+	public void setup() {
+		content = ConfigContents.generate(type, keys);
+	}
+
+	@Benchmark
+	public PropertyValues resolvePropertyValues() {
+		return NacosUtils.resolvePropertyValues(bean, "app", "benchmark",
+				"DEFAULT_GROUP", content, type);
+	}
+
+	public static class AppProperties {
+
+		private Group group0;
+
+		private Group group1;
+
+		private Group group2;
+
+		private Group group3;
+
+		private Group group4;
+
+		private Group group5;
+
+		private Group group6;
+
+		private Group group7;
+
+		private Group group8;
+
+		private Group group9;
+
+	}
+
+	public static class Group {
+
+		private String item0;
+
+		private String item1;
+
+		private String item2;
+
+		private String item3;
+
+		private String item4;
+
+		private String item5;
+
+		private String item6;
+
+		private String item7;
+
+		private String item8;
+
+		private String item9;
+
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+
+/**
+ * In-memory {@link ConfigService} delivering the published configs to the listeners
+ * synchronously on the caller thread, so the benchmarks run offline without a Nacos
+ * server and measure only the nacos-spring side.
+ *
+ * @since 2.1.0
+ */
+public class StubConfigService implements ConfigService {
+
+	private final ConcurrentMap<String, String> contents = new ConcurrentHashMap<String, String>();
+
+	private final ConcurrentMap<String, List<Listener>> listeners = new ConcurrentHashMap<String, List<Listener>>();
+
+	@Override
+	public String getConfig(String dataId, String group, long timeoutMs)
+			throws NacosException {
+		return contents.get(key(dataId, group));
+	}
+
+	@Override
+	public String getConfigAndSignListener(String dataId, String group, long timeoutMs,
+			Listener listener) throws NacosException {
+		addListener(dataId, group, listener);
+		return getConfig(dataId, group, timeoutMs);
+	}
+
+	@Override
+	public void addListener(String dataId, String group, Listener listener)
+			throws NacosException {
+		String key = key(dataId, group);
+		List<Listener> list = listeners.get(key);
+		if (list == null) {
+			list = new CopyOnWriteArrayList<Listener>();
+			List<Listener> previous = listeners.putIfAbsent(key, list);
+			if (previous != null) {
+				list = previous;
+			}
+		}
+		list.add(listener);
+	}
+
+	@Override
+	public boolean publishConfig(String dataId, String group, String content)
+			throws NacosException {
+		String key = key(dataId, group);
+		contents.put(key, content);
+		List<Listener> list = listeners.get(key);
+		if (list != null) {
+			for (Listener listener : list) {
+				listener.receiveConfigInfo(content);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean publishConfig(String dataId, String group, String content,
+			String type) throws NacosException {
+		return publishConfig(dataId, group, content);
+	}
+
+	@Override
+	public boolean publishConfigCas(String dataId, String group, String content,
+			String casMd5) throws NacosException {
+		return publishConfig(dataId, group, content);
+	}
+
+	@Override
+	public boolean publishConfigCas(String dataId, String group, String content,
+			String casMd5, String type) throws NacosException {
+		return publishConfig(dataId, group, content);
+	}
+
+	@Override
+	public boolean removeConfig(String dataId, String group) throws NacosException {
+		return contents.remove(key(dataId, group)) != null;
+	}
+
+	@Override
+	public void removeListener(String dataId, String group, Listener listener) {
+		List<Listener> list = listeners.get(key(dataId, group));
+		if (list != null) {
+			list.remove(listener);
+		}
+	}
+
+	@Override
+	public String getServerStatus() {
+		return "UP";
+	}
+
+	@Override
+	public void shutDown() throws NacosException {
+		contents.clear();
+		listeners.clear();
+	}
+
+	private static String key(String dataId, String group) {
+		return dataId + "+" + group;
+	}
+}
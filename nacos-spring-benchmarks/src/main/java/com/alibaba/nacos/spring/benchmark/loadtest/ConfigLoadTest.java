@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark.loadtest;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.embedded.web.server.EmbeddedNacosHttpServer;
+import com.alibaba.nacos.embedded.web.server.NacosConfigHttpHandler;
+import com.alibaba.nacos.spring.benchmark.ConfigContents;
+import com.alibaba.nacos.spring.context.constants.NacosConstants;
+import com.alibaba.nacos.spring.factory.CacheableEventPublishingNacosServiceFactory;
+import com.alibaba.nacos.spring.factory.MultiplexedConfigService;
+
+/**
+ * The end-to-end load test of the config pushes, which publishes the configs to
+ * {@link EmbeddedNacosHttpServer} at a fixed rate, and reports the latency percentiles
+ * of the updates of <code>@NacosValue</code>, <code>@NacosConfigurationProperties</code>
+ * and <code>@NacosConfigListener</code> in N in-process Spring contexts. Every context
+ * has its own namespace, and all of them talk to the server through
+ * {@link MultiplexedConfigService}, as the Nacos 2.x client only speaks gRPC.
+ * <p>
+ * The options are the system properties :
+ * <ul>
+ * <li><code>loadtest.contexts</code> : the count of the Spring contexts, 4 by
+ * default</li>
+ * <li><code>loadtest.rate</code> : the publishes per second, 20 by default</li>
+ * <li><code>loadtest.duration</code> : the seconds of publishing, 30 by default</li>
+ * <li><code>loadtest.keys</code> : the keys per config, 100 by default</li>
+ * <li><code>loadtest.format</code> : properties, yaml or json, properties by
+ * default</li>
+ * <li><code>loadtest.bulk</code> : the configs per bulk publishing, the revision of
+ * all namespaces is published in bulks of N configs through
+ * {@link EmbeddedNacosHttpServer#publishConfigs}, so every long polling is notified
+ * once per bulk. 0 by default, which publishes the configs one by one</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ */
+public class ConfigLoadTest {
+
+	private static final String NAMESPACE_PREFIX = "loadtest-";
+
+	/**
+	 * The long-polling of the embedded server expires in 3 seconds
+	 */
+	private static final long DRAIN_MILLIS = 5000;
+
+	private final int contexts = Integer.getInteger("loadtest.contexts", 4);
+
+	private final int rate = Integer.getInteger("loadtest.rate", 20);
+
+	private final int duration = Integer.getInteger("loadtest.duration", 30);
+
+	private final int keys = Integer.getInteger("loadtest.keys", 100);
+
+	private final String format = System.getProperty("loadtest.format",
+			ConfigType.PROPERTIES.getType());
+
+	private final int bulk = Integer.getInteger("loadtest.bulk", 0);
+
+	private final String dataId = "loadtest." + format;
+
+	private final LoadTestRecorder recorder = new LoadTestRecorder();
+
+	private final List<AnnotationConfigApplicationContext> applicationContexts = new ArrayList<AnnotationConfigApplicationContext>();
+
+	private final List<ConfigService> publishers = new ArrayList<ConfigService>();
+
+	public static void main(String[] args) throws Exception {
+		new ConfigLoadTest().run();
+	}
+
+	void run() throws Exception {
+		EmbeddedNacosHttpServer server = new EmbeddedNacosHttpServer();
+		server.start(true);
+		String serverAddr = "127.0.0.1:" + server.getPort();
+		try {
+			for (int i = 0; i < contexts; i++) {
+				ConfigService publisher = MultiplexedConfigService
+						.create(properties(serverAddr, i));
+				publishers.add(publisher);
+				publisher.publishConfig(dataId, Constants.DEFAULT_GROUP, content(0));
+				applicationContexts.add(createContext(serverAddr, i));
+			}
+			System.out.printf(
+					"Publishing %s configs of %d keys at %d/s for %d s to %d contexts%s...%n",
+					format, keys, rate, duration, contexts,
+					bulk > 0 ? " in bulks of " + bulk : "");
+			long published = publish(server);
+			Thread.sleep(DRAIN_MILLIS);
+			report(published);
+		}
+		finally {
+			for (AnnotationConfigApplicationContext context : applicationContexts) {
+				context.close();
+			}
+			for (ConfigService configService : CacheableEventPublishingNacosServiceFactory
+					.getSingleton().getConfigServices()) {
+				configService.shutDown();
+			}
+			for (ConfigService publisher : publishers) {
+				publisher.shutDown();
+			}
+			server.stop();
+		}
+	}
+
+	private Properties properties(String serverAddr, int index) {
+		Properties properties = new Properties();
+		properties.setProperty(PropertyKeyConst.SERVER_ADDR, serverAddr);
+		properties.setProperty(PropertyKeyConst.NAMESPACE, NAMESPACE_PREFIX + index);
+		return properties;
+	}
+
+	/**
+	 * Create the context, whose config service is a {@link MultiplexedConfigService} as
+	 * enabled by {@link NacosConstants#NACOS_CONFIG_MULTIPLEXED}, so all contexts share
+	 * one long-polling thread
+	 */
+	private AnnotationConfigApplicationContext createContext(String serverAddr,
+			int index) throws NacosException {
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		Map<String, Object> source = new HashMap<String, Object>();
+		source.put("loadtest.server-addr", serverAddr);
+		source.put("loadtest.namespace", NAMESPACE_PREFIX + index);
+		source.put("loadtest.data-id", dataId);
+		source.put(NacosConstants.NACOS_CONFIG_MULTIPLEXED, "true");
+		context.getEnvironment().getPropertySources()
+				.addFirst(new MapPropertySource("loadtest", source));
+		context.getBeanFactory().registerSingleton("loadTestRecorder", recorder);
+		context.register(LoadTestConfiguration.class);
+		// The config service of the context is bound to it when created
+		CacheableEventPublishingNacosServiceFactory.getSingleton()
+				.publishDeferService(context);
+		context.refresh();
+		return context;
+	}
+
+	/**
+	 * Publish the same revision to the namespaces of all contexts
+	 */
+	private long publish(final EmbeddedNacosHttpServer server)
+			throws InterruptedException {
+		final AtomicLong revision = new AtomicLong();
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		scheduler.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				String content = content(revision.incrementAndGet());
+				if (bulk > 0) {
+					publishInBulk(server, content);
+					return;
+				}
+				for (ConfigService publisher : publishers) {
+					try {
+						publisher.publishConfig(dataId, Constants.DEFAULT_GROUP,
+								content);
+					}
+					catch (NacosException e) {
+						System.err.println("Failed to publish : " + e.getMessage());
+					}
+				}
+			}
+		}, 0, TimeUnit.SECONDS.toNanos(1) / rate, TimeUnit.NANOSECONDS);
+		Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+		scheduler.shutdown();
+		scheduler.awaitTermination(1, TimeUnit.MINUTES);
+		return revision.get();
+	}
+
+	private void publishInBulk(EmbeddedNacosHttpServer server, String content) {
+		String encodedContent;
+		try {
+			// The contents are cached URL-encoded, like the published ones
+			encodedContent = URLEncoder.encode(content, "UTF-8");
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+		List<Map<String, String>> configs = new ArrayList<Map<String, String>>(bulk);
+		for (int i = 0; i < contexts; i++) {
+			Map<String, String> config = new HashMap<String, String>(4);
+			config.put(NacosConfigHttpHandler.DATA_ID_PARAM_NAME, dataId);
+			config.put(NacosConfigHttpHandler.GROUP_ID_PARAM_NAME,
+					Constants.DEFAULT_GROUP);
+			config.put(NacosConfigHttpHandler.TENANT_PARAM_NAME, NAMESPACE_PREFIX + i);
+			config.put(NacosConfigHttpHandler.CONTENT_PARAM_NAME, encodedContent);
+			configs.add(config);
+			if (configs.size() == bulk || i == contexts - 1) {
+				server.publishConfigs(configs);
+				configs = new ArrayList<Map<String, String>>(bulk);
+			}
+		}
+	}
+
+	/**
+	 * The generated config carrying the publishing time, or 0 for the initial one
+	 */
+	private String content(long revision) {
+		long published = revision == 0 ? 0 : System.nanoTime();
+		String content = ConfigContents.generate(format, keys, (int) revision);
+		if (ConfigType.YAML.getType().equals(format)) {
+			return "loadtest:\n  published: " + published + "\n" + content;
+		}
+		if (ConfigType.JSON.getType().equals(format)) {
+			return "{\"loadtest\":{\"published\":" + published + "},"
+					+ content.substring(1);
+		}
+		return "loadtest.published=" + published + "\n" + content;
+	}
+
+	private void report(long published) {
+		long expected = published * contexts;
+		System.out.printf("Published %d configs, %d updates expected per target%n",
+				published, expected);
+		System.out.println(recorder.getValueSamples().summarize(expected));
+		System.out.println(recorder.getPropertiesSamples().summarize(expected));
+		System.out.println(recorder.getListenerSamples().summarize(expected));
+		System.out.println(
+				"The pushes within a long-polling round are coalesced, so fewer updates than expected are normal under high rates.");
+	}
+}
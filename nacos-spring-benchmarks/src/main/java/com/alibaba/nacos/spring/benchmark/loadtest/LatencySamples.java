@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latency samples of a kind of update, the percentiles are exact rather than
+ * bucketed, as the samples of a load test are bounded.
+ *
+ * @since 2.1.0
+ */
+public class LatencySamples {
+
+	private final String name;
+
+	private long[] samples = new long[1024];
+
+	private int size;
+
+	public LatencySamples(String name) {
+		this.name = name;
+	}
+
+	public synchronized void record(long nanos) {
+		if (size == samples.length) {
+			samples = Arrays.copyOf(samples, size * 2);
+		}
+		samples[size++] = nanos;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Summarize the samples
+	 *
+	 * @param expected the expected count of the updates
+	 * @return the summary line
+	 */
+	public synchronized String summarize(long expected) {
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		return String.format(
+				"%-32s applied %7d / %-7d p50 %9.3f ms  p90 %9.3f ms  p99 %9.3f ms  max %9.3f ms",
+				name, size, expected, millis(sorted, 50), millis(sorted, 90),
+				millis(sorted, 99), millis(sorted, 100));
+	}
+
+	private static double millis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(sorted.length * percentile / 100.0d);
+		return sorted[Math.max(rank, 1) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark.loadtest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.alibaba.nacos.api.annotation.NacosProperties;
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
+import com.alibaba.nacos.api.config.annotation.NacosValue;
+import com.alibaba.nacos.spring.context.annotation.config.EnableNacosConfig;
+import com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource;
+
+/**
+ * The Spring configuration of a load-tested context, each kind of the refreshed targets
+ * records the latency from the publishing to the update it observes, which is carried
+ * by the <code>loadtest.published</code> property of the config.
+ *
+ * @see ConfigLoadTest
+ * @since 2.1.0
+ */
+@Configuration
+@EnableNacosConfig(globalProperties = @NacosProperties(serverAddr = "${loadtest.server-addr}", namespace = "${loadtest.namespace}"))
+@NacosPropertySource(dataId = "${loadtest.data-id}", autoRefreshed = true)
+public class LoadTestConfiguration {
+
+	@Bean
+	public ValueTarget valueTarget() {
+		return new ValueTarget();
+	}
+
+	@Bean
+	public PropertiesTarget propertiesTarget() {
+		return new PropertiesTarget();
+	}
+
+	@Bean
+	public ListenerTarget listenerTarget() {
+		return new ListenerTarget();
+	}
+
+	/**
+	 * The recorder of the updates of a target, the repeated or stale revisions are
+	 * ignored
+	 */
+	abstract static class Target {
+
+		@Autowired
+		private LoadTestRecorder recorder;
+
+		private long lastPublished;
+
+		synchronized void applied(long published) {
+			if (published > lastPublished) {
+				lastPublished = published;
+				getSamples(recorder).record(System.nanoTime() - published);
+			}
+		}
+
+		abstract LatencySamples getSamples(LoadTestRecorder recorder);
+	}
+
+	/**
+	 * The target of {@link NacosValue @NacosValue}
+	 */
+	public static class ValueTarget extends Target {
+
+		@NacosValue(value = "${loadtest.published:0}", autoRefreshed = true)
+		public void setPublished(long published) {
+			applied(published);
+		}
+
+		@Override
+		LatencySamples getSamples(LoadTestRecorder recorder) {
+			return recorder.getValueSamples();
+		}
+	}
+
+	/**
+	 * The target of {@link NacosConfigurationProperties @NacosConfigurationProperties}
+	 */
+	@NacosConfigurationProperties(dataId = "${loadtest.data-id}", prefix = "loadtest", autoRefreshed = true)
+	public static class PropertiesTarget extends Target {
+
+		/**
+		 * The properties are resolved by the fields
+		 */
+		private long published;
+
+		public long getPublished() {
+			return published;
+		}
+
+		public void setPublished(long published) {
+			this.published = published;
+			applied(published);
+		}
+
+		@Override
+		LatencySamples getSamples(LoadTestRecorder recorder) {
+			return recorder.getPropertiesSamples();
+		}
+	}
+
+	/**
+	 * The target of {@link NacosConfigListener @NacosConfigListener}
+	 */
+	public static class ListenerTarget extends Target {
+
+		private static final Pattern PUBLISHED = Pattern
+				.compile("published\"?\\s*[=:]\\s*(\\d+)");
+
+		@NacosConfigListener(dataId = "${loadtest.data-id}")
+		public void onChange(String content) {
+			Matcher matcher = PUBLISHED.matcher(content);
+			if (matcher.find()) {
+				applied(Long.parseLong(matcher.group(1)));
+			}
+		}
+
+		@Override
+		LatencySamples getSamples(LoadTestRecorder recorder) {
+			return recorder.getListenerSamples();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.benchmark.loadtest;
+
+/**
+ * The latency samples of the updates shared by all the load-tested contexts
+ *
+ * @since 2.1.0
+ */
+public class LoadTestRecorder {
+
+	private final LatencySamples valueSamples = new LatencySamples("@NacosValue");
+
+	private final LatencySamples propertiesSamples = new LatencySamples(
+			"@NacosConfigurationProperties");
+
+	private final LatencySamples listenerSamples = new LatencySamples(
+			"@NacosConfigListener");
+
+	public LatencySamples getValueSamples() {
+		return valueSamples;
+	}
+
+	public LatencySamples getPropertiesSamples() {
+		return propertiesSamples;
+	}
+
+	public LatencySamples getListenerSamples() {
+		return listenerSamples;
+	}
+}
@@ -20,57 +20,260 @@
 package com.alibaba.nacos.spring.aot;
 
 import com.alibaba.nacos.api.annotation.NacosInjected;
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
 import com.alibaba.nacos.api.config.annotation.NacosValue;
+import com.alibaba.nacos.spring.context.annotation.discovery.NacosInstances;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
 import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
 import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
 import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
+import javax.lang.model.element.Modifier;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
- * {@link NacosInjected} and {@link NacosValue} AotProcessor
- * The fields annotated with {@link NacosInjected} or {@link NacosValue} must be added to the reflect-config.json
+ * {@link NacosInjected}, {@link NacosValue}, {@link NacosInstances}, {@link NacosConfigListener} and
+ * {@link NacosConfigurationProperties} AotProcessor
+ * The annotated fields and methods must be added to the reflect-config.json, and are recorded as
+ * {@link NacosAnnotatedMembers} so that the post-processors do not scan the bean class again at startup.
+ * Bean classes without any of them are recorded together by one bean factory initializer.
  * @author SuperZ1999
  */
-public class NacosAnnotationBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor {
+public class NacosAnnotationBeanRegistrationAotProcessor implements BeanRegistrationAotProcessor,
+        BeanFactoryInitializationAotProcessor {
+
+    private static final List<Class<? extends Annotation>> ANNOTATION_TYPES = Arrays.asList(
+            NacosInjected.class, NacosValue.class, NacosInstances.class, NacosConfigListener.class);
+
+    /**
+     * The maximum number of bean classes registered by one generated initializer method.
+     */
+    private static final int WITHOUT_MEMBERS_CHUNK_SIZE = 200;
+
     @Override
     public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
         Class<?> beanClass = registeredBean.getBeanClass();
-        List<Field> fields = new ArrayList<>();
+        List<AnnotatedMember<Field>> fields = findAnnotatedFields(beanClass);
+        List<AnnotatedMember<Method>> methods = findAnnotatedMethods(beanClass);
+        boolean configurationProperties = isConfigurationProperties(beanClass);
+        if (fields.isEmpty() && methods.isEmpty() && !configurationProperties) {
+            return null;
+        }
+        return new AotContribution(beanClass, fields, methods, configurationProperties);
+    }
+
+    /**
+     * Beans without Nacos members are recorded together in one generated initializer, so that
+     * the post-processors skip scanning them at startup without a generated class per bean.
+     */
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<String> beanClassNames = new TreeSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            RegisteredBean registeredBean = RegisteredBean.of(beanFactory, beanName);
+            RootBeanDefinition beanDefinition = registeredBean.getMergedBeanDefinition();
+            if (beanDefinition.isAbstract() || beanDefinition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            Class<?> beanClass = registeredBean.getBeanClass();
+            if (beanClass == Object.class || beanClassNames.contains(beanClass.getName())) {
+                continue;
+            }
+            if (findAnnotatedFields(beanClass).isEmpty() && findAnnotatedMethods(beanClass).isEmpty()
+                    && !isConfigurationProperties(beanClass)) {
+                beanClassNames.add(beanClass.getName());
+            }
+        }
+        return beanClassNames.isEmpty() ? null : new WithoutMembersAotContribution(new ArrayList<>(beanClassNames));
+    }
+
+    private static List<AnnotatedMember<Field>> findAnnotatedFields(Class<?> beanClass) {
+        List<AnnotatedMember<Field>> fields = new ArrayList<>();
         ReflectionUtils.doWithFields(beanClass, field -> {
-            NacosInjected injectedAnnotation = field.getDeclaredAnnotation(NacosInjected.class);
-            NacosValue nacosValueAnnotation = field.getDeclaredAnnotation(NacosValue.class);
-            if (injectedAnnotation != null || nacosValueAnnotation != null) {
-                fields.add(field);
+            for (Class<? extends Annotation> annotationType : ANNOTATION_TYPES) {
+                if (AnnotatedElementUtils.hasAnnotation(field, annotationType)) {
+                    fields.add(new AnnotatedMember<>(annotationType, field));
+                }
             }
         });
-        if (fields.isEmpty()) {
-            return null;
+        return fields;
+    }
+
+    private static List<AnnotatedMember<Method>> findAnnotatedMethods(Class<?> beanClass) {
+        List<AnnotatedMember<Method>> methods = new ArrayList<>();
+        ReflectionUtils.doWithMethods(beanClass, method -> {
+            Method bridgedMethod = BridgeMethodResolver.findBridgedMethod(method);
+            for (Class<? extends Annotation> annotationType : ANNOTATION_TYPES) {
+                if (AnnotatedElementUtils.hasAnnotation(method, annotationType)
+                        || AnnotatedElementUtils.hasAnnotation(bridgedMethod, annotationType)) {
+                    methods.add(new AnnotatedMember<>(annotationType, method));
+                }
+            }
+        });
+        return methods;
+    }
+
+    private static boolean isConfigurationProperties(Class<?> beanClass) {
+        return AnnotationUtils.findAnnotation(beanClass, NacosConfigurationProperties.class) != null;
+    }
+
+    private static void addAnnotationTypes(CodeBlock.Builder code) {
+        for (Class<? extends Annotation> annotationType : ANNOTATION_TYPES) {
+            code.add("$T.class, ", annotationType);
         }
-        return new AotContribution(fields);
+        code.add("$T.class", NacosConfigurationProperties.class);
     }
 
-    private static class AotContribution implements BeanRegistrationAotContribution {
-        private final List<Field> fields;
+    private static class AnnotatedMember<M extends AnnotatedElement> {
+        private final Class<? extends Annotation> annotationType;
 
-        public AotContribution() {
-            this.fields = new ArrayList<>();
+        private final M member;
+
+        AnnotatedMember(Class<? extends Annotation> annotationType, M member) {
+            this.annotationType = annotationType;
+            this.member = member;
         }
+    }
+
+    private static class AotContribution implements BeanRegistrationAotContribution {
+        private final Class<?> beanClass;
+
+        private final List<AnnotatedMember<Field>> fields;
+
+        private final List<AnnotatedMember<Method>> methods;
 
-        public AotContribution(List<Field> fields) {
+        private final boolean configurationProperties;
+
+        AotContribution(Class<?> beanClass, List<AnnotatedMember<Field>> fields,
+                        List<AnnotatedMember<Method>> methods, boolean configurationProperties) {
+            this.beanClass = beanClass;
             this.fields = fields;
+            this.methods = methods;
+            this.configurationProperties = configurationProperties;
         }
 
         @Override
         public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
-            for (Field field : fields) {
-                generationContext.getRuntimeHints().reflection().registerField(field);
+            ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
+            for (AnnotatedMember<Field> field : fields) {
+                reflectionHints.registerField(field.member);
+            }
+            for (AnnotatedMember<Method> method : methods) {
+                reflectionHints.registerMethod(method.member, ExecutableMode.INVOKE);
+                for (Class<?> parameterType : method.member.getParameterTypes()) {
+                    if (!parameterType.isPrimitive()) {
+                        reflectionHints.registerType(parameterType);
+                    }
+                }
+            }
+            GeneratedClass generatedClass = generationContext.getGeneratedClasses()
+                    .addForFeatureComponent("NacosAnnotatedMembers", beanClass, type -> {
+                        type.addJavadoc("Nacos annotated members for {@link $T}.", beanClass);
+                        type.addModifiers(Modifier.PUBLIC);
+                    });
+            GeneratedMethod generatedMethod = generatedClass.getMethods().add("apply", method -> {
+                method.addJavadoc("Register the Nacos annotated members of {@link $T}.", beanClass);
+                method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                method.addParameter(RegisteredBean.class, "registeredBean");
+                method.addParameter(beanClass, "instance");
+                method.returns(beanClass);
+                method.addStatement("$T.register($L)", NacosAnnotatedMembersRegistry.class, generateMembersCode());
+                method.addStatement("return instance");
+            });
+            beanRegistrationCode.addInstancePostProcessor(generatedMethod.toMethodReference());
+        }
+
+        private CodeBlock generateMembersCode() {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.add("$T.builder($S)", NacosAnnotatedMembers.class, beanClass.getName());
+            code.add("\n.annotationTypes(");
+            addAnnotationTypes(code);
+            code.add(")");
+            for (AnnotatedMember<Field> field : fields) {
+                code.add("\n.field($T.class, $S, $S)", field.annotationType,
+                        field.member.getDeclaringClass().getName(), field.member.getName());
+            }
+            for (AnnotatedMember<Method> method : methods) {
+                code.add("\n.method($T.class, $S, $S", method.annotationType,
+                        method.member.getDeclaringClass().getName(), method.member.getName());
+                for (Class<?> parameterType : method.member.getParameterTypes()) {
+                    code.add(", $S", ClassUtils.getQualifiedName(parameterType));
+                }
+                code.add(")");
+            }
+            code.add("\n.configurationProperties($L)", configurationProperties);
+            code.add("\n.build()");
+            return code.build();
+        }
+    }
+
+    private static class WithoutMembersAotContribution implements BeanFactoryInitializationAotContribution {
+        private final List<String> beanClassNames;
+
+        WithoutMembersAotContribution(List<String> beanClassNames) {
+            this.beanClassNames = beanClassNames;
+        }
+
+        @Override
+        public void applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+            GeneratedClass generatedClass = generationContext.getGeneratedClasses()
+                    .addForFeature("NacosAnnotatedMembers", type -> {
+                        type.addJavadoc("Bean classes without Nacos annotated members.");
+                        type.addModifiers(Modifier.PUBLIC);
+                    });
+            for (int from = 0; from < beanClassNames.size(); from += WITHOUT_MEMBERS_CHUNK_SIZE) {
+                List<String> chunk = beanClassNames.subList(from,
+                        Math.min(from + WITHOUT_MEMBERS_CHUNK_SIZE, beanClassNames.size()));
+                GeneratedMethod generatedMethod = generatedClass.getMethods().add("registerWithoutMembers", method -> {
+                    method.addJavadoc("Register the bean classes without Nacos annotated members.");
+                    method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                    method.addParameter(DefaultListableBeanFactory.class, "beanFactory");
+                    method.addStatement("$T.registerWithoutMembers($L)",
+                            NacosAnnotatedMembersRegistry.class, generateArgumentsCode(chunk));
+                });
+                beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+            }
+        }
+
+        private CodeBlock generateArgumentsCode(List<String> chunk) {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.add("$T.asList(", Arrays.class);
+            addAnnotationTypes(code);
+            code.add(")");
+            for (String beanClassName : chunk) {
+                code.add(",\n$S", beanClassName);
             }
+            return code.build();
         }
     }
-}
\ No newline at end of file
+}
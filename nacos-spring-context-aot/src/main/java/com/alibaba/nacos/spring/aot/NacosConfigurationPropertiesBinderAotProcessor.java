@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.aot;
+
+import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
+import com.alibaba.nacos.api.config.annotation.NacosIgnore;
+import com.alibaba.nacos.api.config.annotation.NacosProperty;
+import com.alibaba.nacos.spring.context.properties.config.AbstractTypedPropertiesBinder;
+import com.alibaba.nacos.spring.context.properties.config.TypedPropertiesBinderRegistry;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import javax.lang.model.element.Modifier;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link NacosConfigurationProperties} AotProcessor
+ * Generates a typed binder for each {@link NacosConfigurationProperties} bean whose properties are all
+ * {@link String}s, primitives or their wrappers, so that rebinding calls the setters directly instead of
+ * going through a {@link org.springframework.validation.DataBinder}. The other beans keep the
+ * {@link org.springframework.validation.DataBinder} and get the reflection hints it needs.
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigurationPropertiesBinderAotProcessor implements BeanRegistrationAotProcessor {
+
+    @Override
+    public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+        Class<?> beanClass = registeredBean.getBeanClass();
+        NacosConfigurationProperties annotation = AnnotationUtils.findAnnotation(beanClass,
+                NacosConfigurationProperties.class);
+        if (annotation == null) {
+            return null;
+        }
+        return new AotContribution(beanClass, findBindableProperties(beanClass, annotation));
+    }
+
+    /**
+     * Mirrors the field walk of {@link com.alibaba.nacos.spring.util.NacosUtils#resolvePropertyValues}.
+     *
+     * @param beanClass  the bean class
+     * @param annotation the {@link NacosConfigurationProperties} of the bean class
+     * @return <code>null</code> if a property can only be bound by a {@link org.springframework.validation.DataBinder}
+     */
+    private static List<BindableProperty> findBindableProperties(Class<?> beanClass,
+                                                                 NacosConfigurationProperties annotation) {
+        List<BindableProperty> properties = new ArrayList<>();
+        boolean[] bindable = {true};
+        ReflectionUtils.doWithFields(beanClass, field -> {
+            if (!bindable[0] || AnnotationUtils.getAnnotation(field, NacosIgnore.class) != null) {
+                return;
+            }
+            NacosProperty nacosProperty = AnnotationUtils.getAnnotation(field, NacosProperty.class);
+            String name = nacosProperty != null ? nacosProperty.value() : field.getName();
+            if (!StringUtils.hasText(name)) {
+                return;
+            }
+            Class<?> fieldType = field.getType();
+            if (Collection.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(fieldType)) {
+                bindable[0] = false;
+                return;
+            }
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(beanClass, field.getName());
+            Method writeMethod = descriptor != null ? descriptor.getWriteMethod() : null;
+            if (writeMethod == null) {
+                // DataBinder fails on unknown fields unless they are ignored
+                bindable[0] = annotation.ignoreUnknownFields();
+                return;
+            }
+            Class<?> propertyType = writeMethod.getParameterTypes()[0];
+            if (propertyType != String.class && !ClassUtils.isPrimitiveOrWrapper(propertyType)
+                    || propertyType == char.class || propertyType == Character.class) {
+                bindable[0] = false;
+                return;
+            }
+            properties.add(new BindableProperty(name, writeMethod.getName(), propertyType));
+        });
+        return bindable[0] ? properties : null;
+    }
+
+    private static class BindableProperty {
+        private final String name;
+
+        private final String setterName;
+
+        private final Class<?> type;
+
+        BindableProperty(String name, String setterName, Class<?> type) {
+            this.name = name;
+            this.setterName = setterName;
+            this.type = type;
+        }
+
+        CodeBlock conversion() {
+            if (type == String.class) {
+                return CodeBlock.of("value");
+            }
+            boolean allowEmpty = !type.isPrimitive();
+            Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(type);
+            if (wrapperType == Boolean.class) {
+                return CodeBlock.of("toBoolean(value, $L)", allowEmpty);
+            }
+            return CodeBlock.of("toNumber(value, $T.class, $L)", wrapperType, allowEmpty);
+        }
+    }
+
+    private static class AotContribution implements BeanRegistrationAotContribution {
+        private final Class<?> beanClass;
+
+        private final List<BindableProperty> properties;
+
+        AotContribution(Class<?> beanClass, List<BindableProperty> properties) {
+            this.beanClass = beanClass;
+            this.properties = properties;
+        }
+
+        @Override
+        public void applyTo(GenerationContext generationContext, BeanRegistrationCode beanRegistrationCode) {
+            if (properties == null) {
+                new BindingReflectionHintsRegistrar().registerReflectionHints(
+                        generationContext.getRuntimeHints().reflection(), beanClass);
+                return;
+            }
+            GeneratedClass binderClass = generationContext.getGeneratedClasses()
+                    .addForFeatureComponent("NacosPropertiesBinder", beanClass, type -> {
+                        type.addJavadoc("Nacos properties binder for {@link $T}.", beanClass);
+                        type.addModifiers(Modifier.PUBLIC);
+                        type.superclass(ParameterizedTypeName.get(
+                                ClassName.get(AbstractTypedPropertiesBinder.class), ClassName.get(beanClass)));
+                    });
+            binderClass.getMethods().add("bind", method -> {
+                method.addAnnotation(Override.class);
+                method.addModifiers(Modifier.PUBLIC);
+                method.addParameter(beanClass, "bean");
+                method.addParameter(String.class, "prefix");
+                method.addParameter(ParameterizedTypeName.get(Map.class, String.class, Object.class), "properties");
+                method.addCode(generateBindCode());
+            });
+            GeneratedMethod registerMethod = binderClass.getMethods().add("register", method -> {
+                method.addJavadoc("Register the Nacos properties binder of {@link $T}.", beanClass);
+                method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+                method.addParameter(RegisteredBean.class, "registeredBean");
+                method.addParameter(beanClass, "instance");
+                method.returns(beanClass);
+                method.addStatement("$T.register($S, new $T())", TypedPropertiesBinderRegistry.class,
+                        beanClass.getName(), binderClass.getName());
+                method.addStatement("return instance");
+            });
+            beanRegistrationCode.addInstancePostProcessor(registerMethod.toMethodReference());
+        }
+
+        private CodeBlock generateBindCode() {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.addStatement("$T value", String.class);
+            for (BindableProperty property : properties) {
+                code.addStatement("value = getValue(properties, prefix, $S)", property.name);
+                code.beginControlFlow("if (value != null)");
+                code.beginControlFlow("try");
+                code.addStatement("bean.$L($L)", property.setterName, property.conversion());
+                code.nextControlFlow("catch ($T ex)", IllegalArgumentException.class);
+                code.addStatement("onBindError(bean, $S, value, ex)", property.name);
+                code.endControlFlow();
+                code.endControlFlow();
+            }
+            return code.build();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.aot;
+
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+import com.alibaba.nacos.api.config.annotation.NacosValue;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.test.tools.Compiled;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link NacosAnnotationBeanRegistrationAotProcessor} Test, compiling and running the generated code.
+ *
+ * @since 2.1.0
+ */
+public class NacosAnnotationBeanRegistrationAotProcessorTest {
+
+    private final NacosAnnotationBeanRegistrationAotProcessor processor = new NacosAnnotationBeanRegistrationAotProcessor();
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @Before
+    public void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        NacosAnnotatedMembersRegistry.clear();
+    }
+
+    @After
+    public void tearDown() {
+        NacosAnnotatedMembersRegistry.clear();
+    }
+
+    @Test
+    public void testNoContributionWithoutMembers() {
+        beanFactory.registerBeanDefinition("plainBean", new RootBeanDefinition(PlainBean.class));
+        Assert.assertNull(processor.processAheadOfTime(RegisteredBean.of(beanFactory, "plainBean")));
+    }
+
+    @Test
+    public void testRegisterAnnotatedMembers() {
+        beanFactory.registerBeanDefinition("annotatedBean", new RootBeanDefinition(AnnotatedBean.class));
+        RegisteredBean registeredBean = RegisteredBean.of(beanFactory, "annotatedBean");
+        BeanRegistrationAotContribution contribution = processor.processAheadOfTime(registeredBean);
+        Assert.assertNotNull(contribution);
+
+        TestGenerationContext generationContext = new TestGenerationContext();
+        CapturingCode code = new CapturingCode();
+        contribution.applyTo(generationContext, code);
+        generationContext.writeGeneratedContent();
+        Assert.assertEquals(1, code.methodReferences.size());
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            AnnotatedBean instance = new AnnotatedBean();
+            Assert.assertSame(instance, invoke(compiled, code.methodReferences.get(0), registeredBean, instance));
+            NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry.get(AnnotatedBean.class);
+            Assert.assertNotNull(members);
+            Assert.assertTrue(members.covers(NacosValue.class, NacosConfigListener.class));
+            Assert.assertFalse(members.isConfigurationProperties());
+            Assert.assertEquals("value",
+                    members.resolveFields(AnnotatedBean.class, NacosValue.class).get(0).getName());
+            Assert.assertEquals("onChange",
+                    members.resolveMethods(AnnotatedBean.class, NacosConfigListener.class).get(0).getName());
+        });
+    }
+
+    @Test
+    public void testRegisterBeansWithoutMembers() {
+        beanFactory.registerBeanDefinition("plainBean", new RootBeanDefinition(PlainBean.class));
+        beanFactory.registerBeanDefinition("otherPlainBean", new RootBeanDefinition(OtherPlainBean.class));
+        beanFactory.registerBeanDefinition("anotherPlainBean", new RootBeanDefinition(PlainBean.class));
+        beanFactory.registerBeanDefinition("annotatedBean", new RootBeanDefinition(AnnotatedBean.class));
+        RootBeanDefinition infrastructure = new RootBeanDefinition(InfrastructureBean.class);
+        infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        beanFactory.registerBeanDefinition("infrastructureBean", infrastructure);
+
+        BeanFactoryInitializationAotContribution contribution = processor.processAheadOfTime(beanFactory);
+        Assert.assertNotNull(contribution);
+
+        TestGenerationContext generationContext = new TestGenerationContext();
+        CapturingCode code = new CapturingCode();
+        contribution.applyTo(generationContext, code);
+        generationContext.writeGeneratedContent();
+        Assert.assertEquals(1, code.methodReferences.size());
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            Assert.assertEquals(1, compiled.getAllCompiledClasses().size());
+            invoke(compiled, code.methodReferences.get(0), beanFactory);
+            for (Class<?> beanClass : new Class<?>[] {PlainBean.class, OtherPlainBean.class}) {
+                NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry.get(beanClass);
+                Assert.assertNotNull(members);
+                Assert.assertTrue(members.covers(NacosValue.class, NacosConfigListener.class));
+                Assert.assertTrue(members.resolveFields(beanClass, NacosValue.class).isEmpty());
+                Assert.assertTrue(members.resolveMethods(beanClass, NacosConfigListener.class).isEmpty());
+            }
+            Assert.assertNull(NacosAnnotatedMembersRegistry.get(AnnotatedBean.class));
+            Assert.assertNull(NacosAnnotatedMembersRegistry.get(InfrastructureBean.class));
+        });
+    }
+
+    @Test
+    public void testNoInitializerWithoutPlainBeans() {
+        beanFactory.registerBeanDefinition("annotatedBean", new RootBeanDefinition(AnnotatedBean.class));
+        Assert.assertNull(processor.processAheadOfTime(beanFactory));
+    }
+
+    private static Object invoke(Compiled compiled, MethodReference methodReference, Object... args) {
+        String reference = methodReference.toCodeBlock().toString();
+        int separator = reference.indexOf("::");
+        try {
+            Class<?> generatedClass = compiled.getClassLoader().loadClass(reference.substring(0, separator));
+            for (Method method : generatedClass.getMethods()) {
+                if (method.getName().equals(reference.substring(separator + 2))) {
+                    return method.invoke(null, args);
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        throw new IllegalStateException("No generated method " + reference);
+    }
+
+    private static class CapturingCode implements BeanRegistrationCode, BeanFactoryInitializationCode {
+
+        private final List<MethodReference> methodReferences = new ArrayList<>();
+
+        @Override
+        public ClassName getClassName() {
+            return ClassName.get("com.alibaba.nacos.spring.aot", "TestCode");
+        }
+
+        @Override
+        public GeneratedMethods getMethods() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addInstancePostProcessor(MethodReference methodReference) {
+            methodReferences.add(methodReference);
+        }
+
+        @Override
+        public void addInitializer(MethodReference methodReference) {
+            methodReferences.add(methodReference);
+        }
+    }
+
+    public static class PlainBean {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public static class OtherPlainBean {
+    }
+
+    public static class InfrastructureBean {
+    }
+
+    public static class AnnotatedBean {
+
+        @NacosValue("${app.value:}")
+        private String value;
+
+        @NacosConfigListener(dataId = "app")
+        public void onChange(String config) {
+        }
+    }
+}
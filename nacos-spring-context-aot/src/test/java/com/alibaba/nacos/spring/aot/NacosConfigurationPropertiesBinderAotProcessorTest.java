@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.aot;
+
+import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
+import com.alibaba.nacos.api.config.annotation.NacosIgnore;
+import com.alibaba.nacos.api.config.annotation.NacosProperty;
+import com.alibaba.nacos.spring.context.properties.config.TypedPropertiesBinder;
+import com.alibaba.nacos.spring.context.properties.config.TypedPropertiesBinderRegistry;
+import com.alibaba.nacos.spring.util.NacosUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.aot.generate.MethodReference;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.NotWritablePropertyException;
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.DataBinder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link NacosConfigurationPropertiesBinderAotProcessor} Test, comparing the generated binders with the
+ * {@link DataBinder} that binds the beans without them.
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigurationPropertiesBinderAotProcessorTest {
+
+    private final NacosConfigurationPropertiesBinderAotProcessor processor =
+            new NacosConfigurationPropertiesBinderAotProcessor();
+
+    @After
+    public void tearDown() {
+        TypedPropertiesBinderRegistry.clear();
+    }
+
+    @Test
+    public void testBindLikeDataBinder() {
+        String content = "app.name=nacos\n"
+                + "app.port= 8848 \n"
+                + "app.count=many\n"
+                + "app.timeout=\n"
+                + "app.enabled=on\n"
+                + "app.ratio=invalid\n"
+                + "app.alias=renamed\n"
+                + "app.nickName=ignored\n"
+                + "app.ignored=ignored\n"
+                + "name=ignored\n";
+        PrefixedProperties bean = assertBindLikeDataBinder(PrefixedProperties::new, content);
+        Assert.assertEquals("nacos", bean.name);
+        Assert.assertEquals(8848, bean.port);
+        Assert.assertEquals(3, bean.count);
+        Assert.assertNull(bean.timeout);
+        Assert.assertTrue(bean.enabled);
+        Assert.assertEquals(Double.valueOf(0.5d), bean.ratio);
+        Assert.assertEquals("renamed", bean.nickName);
+        Assert.assertNull(bean.ignored);
+    }
+
+    @Test
+    public void testBindInvalidBooleanLikeDataBinder() {
+        PrefixedProperties bean = assertBindLikeDataBinder(PrefixedProperties::new,
+                "app.enabled=maybe\napp.port=\napp.timeout=abc\n");
+        Assert.assertFalse(bean.enabled);
+        Assert.assertEquals(80, bean.port);
+        Assert.assertEquals(Long.valueOf(3000L), bean.timeout);
+    }
+
+    @Test
+    public void testBindWithoutPrefixLikeDataBinder() {
+        UnprefixedProperties bean = assertBindLikeDataBinder(UnprefixedProperties::new,
+                "name=1\nport=\nenabled=false\n");
+        Assert.assertEquals("1", bean.name);
+        Assert.assertEquals(80, bean.port);
+        Assert.assertFalse(bean.enabled);
+    }
+
+    @Test
+    public void testBindStrictLikeDataBinder() {
+        StrictProperties bean = assertBindLikeDataBinder(StrictProperties::new, "name=nacos\nport=8848\n");
+        Assert.assertEquals("nacos", bean.name);
+        Assert.assertEquals(8848, bean.port);
+    }
+
+    @Test
+    public void testNoBinderForUnknownFieldsNotIgnored() {
+        TestGenerationContext generationContext = new TestGenerationContext();
+        CapturingCode code = new CapturingCode();
+        contribution(StrictReadOnlyProperties.class).applyTo(generationContext, code);
+        Assert.assertTrue(code.methodReferences.isEmpty());
+        Assert.assertTrue(generationContext.getGeneratedFiles().getGeneratedFiles(
+                Kind.SOURCE).isEmpty());
+
+        // The DataBinder path still fails on the read-only property, as it must
+        try {
+            bindWithDataBinder(new StrictReadOnlyProperties(), "name=nacos\nversion=1\n");
+            Assert.fail();
+        } catch (NotWritablePropertyException expected) {
+        }
+    }
+
+    private <T> T assertBindLikeDataBinder(Supplier<T> beanFactory, String content) {
+        T expected = beanFactory.get();
+        bindWithDataBinder(expected, content);
+
+        T bean = beanFactory.get();
+        Class<?> beanClass = bean.getClass();
+        TestGenerationContext generationContext = new TestGenerationContext();
+        CapturingCode code = new CapturingCode();
+        contribution(beanClass).applyTo(generationContext, code);
+        generationContext.writeGeneratedContent();
+        Assert.assertEquals(1, code.methodReferences.size());
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            String reference = code.methodReferences.get(0).toCodeBlock().toString();
+            int separator = reference.indexOf("::");
+            try {
+                Class<?> generatedClass = compiled.getClassLoader().loadClass(reference.substring(0, separator));
+                Method register = null;
+                for (Method method : generatedClass.getMethods()) {
+                    if (method.getName().equals(reference.substring(separator + 2))) {
+                        register = method;
+                    }
+                }
+                Assert.assertNotNull(register);
+                register.invoke(null, null, bean);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            NacosConfigurationProperties properties = AnnotationUtils.findAnnotation(beanClass,
+                    NacosConfigurationProperties.class);
+            TypedPropertiesBinder<Object> binder = TypedPropertiesBinderRegistry.get(beanClass);
+            Assert.assertNotNull(binder);
+            binder.bind(bean, properties.prefix(), NacosUtils.toProperties(properties.dataId(),
+                    properties.groupId(), content, "properties"));
+        });
+
+        ReflectionUtils.doWithFields(beanClass, field -> {
+            ReflectionUtils.makeAccessible(field);
+            Assert.assertEquals(field.getName(), field.get(expected), field.get(bean));
+        });
+        return bean;
+    }
+
+    private BeanRegistrationAotContribution contribution(Class<?> beanClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("properties", new RootBeanDefinition(beanClass));
+        BeanRegistrationAotContribution contribution = processor.processAheadOfTime(
+                RegisteredBean.of(beanFactory, "properties"));
+        Assert.assertNotNull(contribution);
+        return contribution;
+    }
+
+    /**
+     * Binds like {@code NacosConfigurationPropertiesBinder} does without a generated binder.
+     */
+    private static void bindWithDataBinder(Object bean, String content) {
+        NacosConfigurationProperties properties = AnnotationUtils.findAnnotation(bean.getClass(),
+                NacosConfigurationProperties.class);
+        PropertyValues propertyValues = NacosUtils.resolvePropertyValues(bean, properties.prefix(),
+                properties.dataId(), properties.groupId(), content, "properties");
+        DataBinder dataBinder = new DataBinder(bean);
+        dataBinder.setAutoGrowNestedPaths(properties.ignoreNestedProperties());
+        dataBinder.setIgnoreInvalidFields(properties.ignoreInvalidFields());
+        dataBinder.setIgnoreUnknownFields(properties.ignoreUnknownFields());
+        dataBinder.bind(propertyValues);
+    }
+
+    private static class CapturingCode implements BeanRegistrationCode {
+
+        private final List<MethodReference> methodReferences = new ArrayList<>();
+
+        @Override
+        public ClassName getClassName() {
+            return ClassName.get("com.alibaba.nacos.spring.aot", "TestCode");
+        }
+
+        @Override
+        public GeneratedMethods getMethods() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addInstancePostProcessor(MethodReference methodReference) {
+            methodReferences.add(methodReference);
+        }
+    }
+
+    @NacosConfigurationProperties(prefix = "app", dataId = "app")
+    public static class PrefixedProperties {
+
+        private String name;
+
+        private int port = 80;
+
+        private int count = 3;
+
+        private Long timeout = 3000L;
+
+        private boolean enabled;
+
+        private Double ratio = 0.5d;
+
+        @NacosProperty("alias")
+        private String nickName;
+
+        @NacosIgnore
+        private String ignored;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setTimeout(Long timeout) {
+            this.timeout = timeout;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setRatio(Double ratio) {
+            this.ratio = ratio;
+        }
+
+        public void setNickName(String nickName) {
+            this.nickName = nickName;
+        }
+
+        public void setIgnored(String ignored) {
+            this.ignored = ignored;
+        }
+    }
+
+    @NacosConfigurationProperties(dataId = "app")
+    public static class UnprefixedProperties {
+
+        private String name;
+
+        private int port = 80;
+
+        private boolean enabled = true;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    @NacosConfigurationProperties(dataId = "app", ignoreUnknownFields = false)
+    public static class StrictProperties {
+
+        private String name;
+
+        private int port;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+    }
+
+    @NacosConfigurationProperties(dataId = "app", ignoreUnknownFields = false)
+    public static class StrictReadOnlyProperties {
+
+        private String name;
+
+        private String version;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+    }
+}
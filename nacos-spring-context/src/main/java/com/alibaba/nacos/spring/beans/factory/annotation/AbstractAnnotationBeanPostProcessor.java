@@ -17,6 +17,8 @@
 
 package com.alibaba.nacos.spring.beans.factory.annotation;
 
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeanUtils;
@@ -196,31 +198,44 @@ public abstract class AbstractAnnotationBeanPostProcessor implements Instantiati
 
         final List<AnnotatedFieldElement> elements = new LinkedList<AnnotatedFieldElement>();
 
+        List<Field> precomputedFields = findPrecomputedFields(beanClass);
+
+        if (precomputedFields != null) {
+            for (Field field : precomputedFields) {
+                addFieldElement(field, elements);
+            }
+            return elements;
+        }
+
         ReflectionUtils.doWithFields(beanClass, new ReflectionUtils.FieldCallback() {
             @Override
             public void doWith(Field field) throws IllegalArgumentException, IllegalAccessException {
+                addFieldElement(field, elements);
+            }
+        });
 
-                for (Class<? extends Annotation> annotationType : getAnnotationTypes()) {
+        return elements;
 
-                    AnnotationAttributes attributes = doGetAnnotationAttributes(field, annotationType);
+    }
+
+    private void addFieldElement(Field field, List<AnnotatedFieldElement> elements) {
+
+        for (Class<? extends Annotation> annotationType : getAnnotationTypes()) {
 
-                    if (attributes != null) {
+            AnnotationAttributes attributes = doGetAnnotationAttributes(field, annotationType);
 
-                        if (Modifier.isStatic(field.getModifiers())) {
-                            if (logger.isWarnEnabled()) {
-                                logger.warn("@" + annotationType.getName() + " is not supported on static fields: " + field);
-                            }
-                            return;
-                        }
+            if (attributes != null) {
 
-                        elements.add(new AnnotatedFieldElement(field, attributes));
+                if (Modifier.isStatic(field.getModifiers())) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("@" + annotationType.getName() + " is not supported on static fields: " + field);
                     }
+                    return;
                 }
-            }
-        });
-
-        return elements;
 
+                elements.add(new AnnotatedFieldElement(field, attributes));
+            }
+        }
     }
 
     /**
@@ -233,42 +248,85 @@ public abstract class AbstractAnnotationBeanPostProcessor implements Instantiati
 
         final List<AnnotatedMethodElement> elements = new LinkedList<AnnotatedMethodElement>();
 
+        List<Method> precomputedMethods = findPrecomputedMethods(beanClass);
+
+        if (precomputedMethods != null) {
+            for (Method method : precomputedMethods) {
+                addMethodElement(method, beanClass, elements);
+            }
+            return elements;
+        }
+
         ReflectionUtils.doWithMethods(beanClass, new ReflectionUtils.MethodCallback() {
             @Override
             public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
+                addMethodElement(method, beanClass, elements);
+            }
+        });
 
-                Method bridgedMethod = findBridgedMethod(method);
+        return elements;
+    }
 
-                if (!isVisibilityBridgeMethodPair(method, bridgedMethod)) {
-                    return;
-                }
+    private void addMethodElement(Method method, Class<?> beanClass, List<AnnotatedMethodElement> elements) {
+
+        Method bridgedMethod = findBridgedMethod(method);
+
+        if (!isVisibilityBridgeMethodPair(method, bridgedMethod)) {
+            return;
+        }
 
 
-                for (Class<? extends Annotation> annotationType : getAnnotationTypes()) {
-
-                    AnnotationAttributes attributes = doGetAnnotationAttributes(bridgedMethod, annotationType);
-
-                    if (attributes != null && method.equals(ClassUtils.getMostSpecificMethod(method, beanClass))) {
-                        if (Modifier.isStatic(method.getModifiers())) {
-                            if (logger.isWarnEnabled()) {
-                                logger.warn("@" + annotationType.getName() + " annotation is not supported on static methods: " + method);
-                            }
-                            return;
-                        }
-                        if (method.getParameterTypes().length == 0) {
-                            if (logger.isWarnEnabled()) {
-                                logger.warn("@" + annotationType.getName() + " annotation should only be used on methods with parameters: " +
-                                        method);
-                            }
-                        }
-                        PropertyDescriptor pd = BeanUtils.findPropertyForMethod(bridgedMethod, beanClass);
-                        elements.add(new AnnotatedMethodElement(method, pd, attributes));
+        for (Class<? extends Annotation> annotationType : getAnnotationTypes()) {
+
+            AnnotationAttributes attributes = doGetAnnotationAttributes(bridgedMethod, annotationType);
+
+            if (attributes != null && method.equals(ClassUtils.getMostSpecificMethod(method, beanClass))) {
+                if (Modifier.isStatic(method.getModifiers())) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("@" + annotationType.getName() + " annotation is not supported on static methods: " + method);
                     }
+                    return;
                 }
+                if (method.getParameterTypes().length == 0) {
+                    if (logger.isWarnEnabled()) {
+                        logger.warn("@" + annotationType.getName() + " annotation should only be used on methods with parameters: " +
+                                method);
+                    }
+                }
+                PropertyDescriptor pd = BeanUtils.findPropertyForMethod(bridgedMethod, beanClass);
+                elements.add(new AnnotatedMethodElement(method, pd, attributes));
             }
-        });
+        }
+    }
 
-        return elements;
+    /**
+     * Resolves the annotated fields recorded ahead of time for the bean class, if any.
+     *
+     * @param beanClass The {@link Class} of Bean
+     * @return <code>null</code> if the bean class has to be scanned
+     * @since 2.1.0
+     */
+    private List<Field> findPrecomputedFields(Class<?> beanClass) {
+        NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry.get(beanClass);
+        if (members == null || !members.covers(getAnnotationTypes())) {
+            return null;
+        }
+        return members.resolveFields(beanClass, getAnnotationTypes());
+    }
+
+    /**
+     * Resolves the annotated methods recorded ahead of time for the bean class, if any.
+     *
+     * @param beanClass The {@link Class} of Bean
+     * @return <code>null</code> if the bean class has to be scanned
+     * @since 2.1.0
+     */
+    private List<Method> findPrecomputedMethods(Class<?> beanClass) {
+        NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry.get(beanClass);
+        if (members == null || !members.covers(getAnnotationTypes())) {
+            return null;
+        }
+        return members.resolveMethods(beanClass, getAnnotationTypes());
     }
 
     /**
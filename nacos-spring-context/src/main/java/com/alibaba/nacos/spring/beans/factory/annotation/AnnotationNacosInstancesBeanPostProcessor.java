@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.beans.factory.annotation;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.InjectionMetadata;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.ObjectUtils;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.spring.context.annotation.discovery.NacosInstances;
+import com.alibaba.nacos.spring.core.discovery.NacosServiceInstances;
+
+/**
+ * {@link AbstractAnnotationBeanPostProcessor} implementation is used to inject the
+ * subscribed {@link NacosServiceInstances} into a Spring Bean If it's attributes or
+ * properties annotated {@link NacosInstances @NacosInstances}. The {@link NamingService}
+ * is built by {@link NamingServiceBeanBuilder} as
+ * {@link com.alibaba.nacos.api.annotation.NacosInjected @NacosInjected} does.
+ *
+ * @see NacosInstances
+ * @see AnnotationNacosInjectedBeanPostProcessor
+ * @since 2.1.0
+ */
+public class AnnotationNacosInstancesBeanPostProcessor
+		extends AbstractAnnotationBeanPostProcessor {
+
+	/**
+	 * The name of {@link AnnotationNacosInstancesBeanPostProcessor}
+	 */
+	public static final String BEAN_NAME = "annotationNacosInstancesBeanPostProcessor";
+
+	public AnnotationNacosInstancesBeanPostProcessor() {
+		super(NacosInstances.class);
+	}
+
+	@Override
+	protected Object doGetInjectedBean(AnnotationAttributes attributes, Object bean,
+			String beanName, Class<?> injectedType,
+			InjectionMetadata.InjectedElement injectedElement) throws Exception {
+		NamingServiceBeanBuilder namingServiceBeanBuilder = getBeanFactory().getBean(
+				NamingServiceBeanBuilder.BEAN_NAME, NamingServiceBeanBuilder.class);
+		NamingService namingService = namingServiceBeanBuilder
+				.build(getNacosProperties(attributes));
+		NacosServiceInstances serviceInstances = new NacosServiceInstances(
+				namingService, attributes.getString("serviceName"),
+				getGroupName(attributes), getClusters(attributes));
+		serviceInstances.subscribe();
+		return serviceInstances;
+	}
+
+	@Override
+	protected String buildInjectedObjectCacheKey(AnnotationAttributes attributes,
+			Object bean, String beanName, Class<?> injectedType,
+			InjectionMetadata.InjectedElement injectedElement) {
+		if (!injectedType.isAssignableFrom(NacosServiceInstances.class)) {
+			throw new UnsupportedOperationException(format(
+					"Only support to inject type[%s] instance , however actual injected type [%s] in member[%s]",
+					NacosServiceInstances.class, injectedType,
+					injectedElement.getMember()));
+		}
+		NamingServiceBeanBuilder namingServiceBeanBuilder = getBeanFactory().getBean(
+				NamingServiceBeanBuilder.BEAN_NAME, NamingServiceBeanBuilder.class);
+		return NacosServiceInstances.class.getSimpleName() + getGroupName(attributes)
+				+ Constants.SERVICE_INFO_SPLITER + attributes.getString("serviceName")
+				+ getClusters(attributes) + namingServiceBeanBuilder
+						.resolveProperties(getNacosProperties(attributes));
+	}
+
+	private String getGroupName(AnnotationAttributes attributes) {
+		String groupName = (String) attributes.get("groupName");
+		return groupName == null ? Constants.DEFAULT_GROUP : groupName;
+	}
+
+	private List<String> getClusters(AnnotationAttributes attributes) {
+		String[] clusters = (String[]) attributes.get("clusters");
+		return ObjectUtils.isEmpty(clusters) ? Collections.<String> emptyList()
+				: Arrays.asList(clusters);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> getNacosProperties(AnnotationAttributes attributes) {
+		return (Map<String, Object>) attributes.get("properties");
+	}
+}
@@ -23,8 +23,12 @@ import static org.springframework.beans.BeanUtils.instantiateClass;
 import static org.springframework.core.annotation.AnnotationUtils.getAnnotationAttributes;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.alibaba.nacos.api.config.ConfigType;
 import org.springframework.beans.BeansException;
@@ -48,6 +52,7 @@ import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.spring.beans.factory.annotation.ConfigServiceBeanBuilder;
 import com.alibaba.nacos.spring.context.event.AnnotationListenerMethodProcessor;
+import com.alibaba.nacos.spring.context.event.config.FanOutNacosConfigListener;
 import com.alibaba.nacos.spring.context.event.config.NacosConfigMetadataEvent;
 import com.alibaba.nacos.spring.context.event.config.TimeoutNacosConfigListener;
 import com.alibaba.nacos.spring.convert.converter.config.DefaultNacosConfigConverter;
@@ -89,11 +94,22 @@ public class NacosConfigListenerMethodProcessor
 
 	private ApplicationEventPublisher applicationEventPublisher;
 
+	private ApplicationContext applicationContext;
+
+	private final ConcurrentMap<String, NacosConfigConverter> configConvertersCache = new ConcurrentHashMap<String, NacosConfigConverter>();
+
+	/**
+	 * The shared subscriptions per {@link ConfigService}, keyed by dataId and group
+	 */
+	private final Map<ConfigService, Map<String, FanOutNacosConfigListener>> subscriptions = new IdentityHashMap<ConfigService, Map<String, FanOutNacosConfigListener>>();
+
 	@Override
 	protected void processListenerMethod(String beanName, final Object bean,
 			Class<?> beanClass, final NacosConfigListener listener, final Method method,
 			ApplicationContext applicationContext) {
 
+		resolveDependencies();
+
 		final String dataId = NacosUtils.readFromEnvironment(listener.dataId(),
 				environment);
 		final String groupId = NacosUtils.readFromEnvironment(listener.groupId(),
@@ -117,31 +133,70 @@ public class NacosConfigListenerMethodProcessor
 		ConfigService configService = configServiceBeanBuilder
 				.build(listener.properties());
 
-		try {
-			configService.addListener(dataId, groupId,
+		final FanOutNacosConfigListener subscription = getSubscription(configService,
+				dataId, groupId);
+
+		if (subscription != null) {
+			final Class<?> targetType = method.getParameterTypes()[0];
+			final NacosConfigConverter configConverter = determineNacosConfigConverter(
+					targetType, listener, type);
+			// Methods converting to the same type share one conversion per push
+			final String conversionKey = configConverter.getClass().getName() + "#"
+					+ targetType.getName() + "#" + type;
+			subscription.addListener(
 					new TimeoutNacosConfigListener(dataId, groupId, timeout) {
 
 						@Override
 						protected void onReceived(String config) {
-							Class<?> targetType = method.getParameterTypes()[0];
-							NacosConfigConverter configConverter = determineNacosConfigConverter(
-									targetType, listener, type);
-							Object parameterValue = configConverter.convert(config);
+							Object parameterValue = subscription.convert(config,
+									conversionKey, configConverter);
 							// Execute target method
 							ReflectionUtils.invokeMethod(method, bean, parameterValue);
 						}
 					});
 		}
-		catch (NacosException e) {
-			logger.error("ConfigService can't add Listener for dataId : " + dataId
-					+ " , groupId : " + groupId, e);
-		}
 
 		publishMetadataEvent(beanName, bean, beanClass, dataId, groupId, listener,
 				method);
 
 	}
 
+	/**
+	 * Get the subscription shared by all listener methods on the same dataId and group
+	 * of a {@link ConfigService}, adding it to the {@link ConfigService} on first use.
+	 *
+	 * @param configService {@link ConfigService}
+	 * @param dataId dataId
+	 * @param groupId groupId
+	 * @return <code>null</code> if the subscription can't be added
+	 */
+	private FanOutNacosConfigListener getSubscription(ConfigService configService,
+			String dataId, String groupId) {
+		synchronized (subscriptions) {
+			Map<String, FanOutNacosConfigListener> configSubscriptions = subscriptions
+					.get(configService);
+			if (configSubscriptions == null) {
+				configSubscriptions = new HashMap<String, FanOutNacosConfigListener>();
+				subscriptions.put(configService, configSubscriptions);
+			}
+			String key = dataId + "+" + groupId;
+			FanOutNacosConfigListener subscription = configSubscriptions.get(key);
+			if (subscription == null) {
+				subscription = new FanOutNacosConfigListener(dataId, groupId);
+				try {
+					configService.addListener(dataId, groupId, subscription);
+				}
+				catch (NacosException e) {
+					logger.error("ConfigService can't add Listener for dataId : "
+							+ dataId + " , groupId : " + groupId, e);
+					return null;
+				}
+				configSubscriptions.put(key, subscription);
+			}
+			return subscription;
+		}
+	}
+
 	private void publishMetadataEvent(String beanName, Object bean, Class<?> beanClass,
 			String dataId, String groupId, NacosConfigListener listener, Method method) {
 
@@ -175,6 +230,8 @@ public class NacosConfigListenerMethodProcessor
 	protected boolean isCandidateMethod(Object bean, Class<?> beanClass,
 			NacosConfigListener listener, Method method,
 			ApplicationContext applicationContext) {
+		resolveDependencies();
+
 		Class<?>[] parameterTypes = method.getParameterTypes();
 
 		if (parameterTypes.length != 1) { // Only one argument on method
@@ -202,23 +259,35 @@ public class NacosConfigListenerMethodProcessor
 		return true;
 	}
 
+	/**
+	 * Get the converter of a listener method, reusing the instance created for the same
+	 * converter class, target type and config type.
+	 */
 	private NacosConfigConverter determineNacosConfigConverter(Class<?> targetType,
 			NacosConfigListener listener, String type) {
 
 		Class<?> converterClass = listener.converter();
 
-		NacosConfigConverter configConverter = null;
-
 		// Use default implementation
-		if (NacosConfigConverter.class.equals(converterClass)) {
-			configConverter = new DefaultNacosConfigConverter(targetType,
-					conversionService, type);
-
-		}
-		else {
-			// Use customized implementation
-			configConverter = (NacosConfigConverter) instantiateClass(converterClass);
-
+		boolean useDefault = NacosConfigConverter.class.equals(converterClass);
+
+		String cacheKey = useDefault
+				? DefaultNacosConfigConverter.class.getName() + "#" + targetType.getName()
+						+ "#" + type
+				: converterClass.getName();
+
+		NacosConfigConverter configConverter = configConvertersCache.get(cacheKey);
+
+		if (configConverter == null) {
+			configConverter = useDefault
+					? new DefaultNacosConfigConverter(targetType, conversionService, type)
+					// Use customized implementation
+					: (NacosConfigConverter) instantiateClass(converterClass);
+			NacosConfigConverter existing = configConvertersCache.putIfAbsent(cacheKey,
+					configConverter);
+			if (existing != null) {
+				configConverter = existing;
+			}
 		}
 
 		return configConverter;
@@ -227,6 +296,18 @@ public class NacosConfigListenerMethodProcessor
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext)
 			throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * As a {@link org.springframework.beans.factory.config.BeanPostProcessor} this
+	 * processor is created early, so the beans it depends on are only looked up once
+	 * the first listener method is processed.
+	 */
+	private synchronized void resolveDependencies() {
+		if (configServiceBeanBuilder != null) {
+			return;
+		}
 		globalNacosProperties = CONFIG.getMergedGlobalProperties(applicationContext);
 		nacosServiceFactory = getNacosServiceFactoryBean(applicationContext);
 		conversionService = determineConversionService(applicationContext);
@@ -49,6 +49,10 @@ import org.springframework.util.ReflectionUtils;
 import com.alibaba.nacos.api.config.annotation.NacosValue;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
 
 /**
  * Injected {@link NacosValue}
@@ -154,6 +158,8 @@ public class NacosValueAnnotationBeanPostProcessor
 		// In to this event receiver, the environment has been updated the
 		// latest configuration information, pull directly from the environment
 		// fix issue #142
+		long start = System.nanoTime();
+		int updatedTargets = 0;
 		for (Map.Entry<String, List<NacosValueTarget>> entry : placeholderNacosValueTargetMap
 				.entrySet()) {
 			String key = environment.resolvePlaceholders(entry.getKey());
@@ -168,6 +174,7 @@ public class NacosValueAnnotationBeanPostProcessor
 				boolean isUpdate = !target.lastMD5.equals(md5String);
 				if (isUpdate) {
 					target.updateLastMD5(md5String);
+					updatedTargets++;
 					Object evaluatedValue = resolveNotifyValue(target.nacosValueExpr, key, newValue);
 					if (target.method == null) {
 						setField(target, evaluatedValue);
@@ -178,6 +185,14 @@ public class NacosValueAnnotationBeanPostProcessor
 				}
 			}
 		}
+		NacosConfigMetricsHolder.getMetrics().recordNacosValueRefresh(event.getDataId(),
+				event.getGroupId(), updatedTargets);
+		// The event may be multicast asynchronously, record on the trace it carries
+		NacosConfigPushTrace trace = event.getTrace();
+		if (trace != null) {
+			trace.recordStage(NacosConfigPushTrace.NACOS_VALUE_REFRESH,
+					System.nanoTime() - start);
+		}
 	}
 
 	private Object resolveNotifyValue(String nacosValueExpr, String key, String newValue) {
@@ -218,29 +233,58 @@ public class NacosValueAnnotationBeanPostProcessor
 	}
 
 	private void doWithFields(final Object bean, final String beanName) {
+		NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry
+				.get(bean.getClass());
+		List<Field> fields = members != null && members.covers(NacosValue.class)
+				? members.resolveFields(bean.getClass(), NacosValue.class)
+				: null;
+		if (fields != null) {
+			for (Field field : fields) {
+				doWithField(bean, beanName, field);
+			}
+			return;
+		}
 		ReflectionUtils.doWithFields(bean.getClass(),
 				new ReflectionUtils.FieldCallback() {
 					@Override
 					public void doWith(Field field) throws IllegalArgumentException {
-						NacosValue annotation = getAnnotation(field, NacosValue.class);
-						doWithAnnotation(beanName, bean, annotation, field.getModifiers(),
-								null, field);
+						doWithField(bean, beanName, field);
 					}
 				});
 	}
 
+	private void doWithField(Object bean, String beanName, Field field) {
+		NacosValue annotation = getAnnotation(field, NacosValue.class);
+		doWithAnnotation(beanName, bean, annotation, field.getModifiers(), null, field);
+	}
+
 	private void doWithMethods(final Object bean, final String beanName) {
+		NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry
+				.get(bean.getClass());
+		List<Method> methods = members != null && members.covers(NacosValue.class)
+				? members.resolveMethods(bean.getClass(), NacosValue.class)
+				: null;
+		if (methods != null) {
+			for (Method method : methods) {
+				doWithMethod(bean, beanName, method);
+			}
+			return;
+		}
 		ReflectionUtils.doWithMethods(bean.getClass(),
 				new ReflectionUtils.MethodCallback() {
 					@Override
 					public void doWith(Method method) throws IllegalArgumentException {
-						NacosValue annotation = getAnnotation(method, NacosValue.class);
-						doWithAnnotation(beanName, bean, annotation,
-								method.getModifiers(), method, null);
+						doWithMethod(bean, beanName, method);
 					}
 				});
 	}
 
+	private void doWithMethod(Object bean, String beanName, Method method) {
+		NacosValue annotation = getAnnotation(method, NacosValue.class);
+		doWithAnnotation(beanName, bean, annotation, method.getModifiers(), method,
+				null);
+	}
+
 	private void doWithAnnotation(String beanName, Object bean, NacosValue annotation,
 			int modifiers, Method method, Field field) {
 		if (annotation != null) {
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.annotation.discovery;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.alibaba.nacos.api.annotation.NacosProperties;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.spring.core.discovery.NacosServiceInstances;
+
+/**
+ * An annotation that injects the live {@link NacosServiceInstances view} of the
+ * instances of the declared Nacos service, which is subscribed and shared by the same
+ * service, group, clusters and {@link NacosProperties properties}.
+ *
+ * <pre class="code">
+ * &#64;NacosInstances(serviceName = "${user.service.name}")
+ * private NacosServiceInstances userServiceInstances;
+ * </pre>
+ *
+ * @see NacosServiceInstances
+ * @see com.alibaba.nacos.spring.beans.factory.annotation.AnnotationNacosInstancesBeanPostProcessor
+ * @since 2.1.0
+ */
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface NacosInstances {
+
+	/**
+	 * The name of service, the placeholders are supported
+	 *
+	 * @return service name
+	 */
+	String serviceName();
+
+	/**
+	 * The name of group, the placeholders are supported
+	 *
+	 * @return default value is {@link Constants#DEFAULT_GROUP}
+	 */
+	String groupName() default Constants.DEFAULT_GROUP;
+
+	/**
+	 * The clusters subscribed
+	 *
+	 * @return default value is all clusters
+	 */
+	String[] clusters() default {};
+
+	/**
+	 * The {@link NacosProperties} attribute, If not specified, it will use global Nacos
+	 * Properties.
+	 *
+	 * @return the default value is {@link NacosProperties}
+	 */
+	NacosProperties properties() default @NacosProperties;
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.spring.convert.converter.config.DefaultNacosConfigConverter;
+
+/**
+ * Holds the converted value of one Nacos config for hot read paths.
+ * <p>
+ * Each change is converted once, on the listener thread, into a new {@link Snapshot}
+ * that replaces the previous one as a whole. {@link #get()} is then a single volatile
+ * read with no property source lookup and no conversion. Values are shared by all
+ * readers and must not be modified.
+ * <p>
+ * A change that fails to convert is logged and the previous snapshot is kept.
+ *
+ * @param <T> the type of the config value
+ * @see com.alibaba.nacos.spring.context.properties.config.NacosConfigurationPropertiesBinder#createConfigHolder(Class)
+ * @since 2.1.0
+ */
+public class NacosConfigHolder<T> {
+
+	/**
+	 * The default timeout of fetching the initial content
+	 */
+	public static final long DEFAULT_TIMEOUT = 3000;
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(NacosConfigHolder.class);
+
+	private final ConfigService configService;
+
+	private final String dataId;
+
+	private final String groupId;
+
+	private final NacosConfigConverter<T> converter;
+
+	private final Listener listener = new AbstractListener() {
+		@Override
+		public void receiveConfigInfo(String configInfo) {
+			refresh(configInfo);
+		}
+	};
+
+	private volatile Snapshot<T> snapshot = new Snapshot<T>(null, null, 0, 0);
+
+	private boolean started;
+
+	public NacosConfigHolder(ConfigService configService, String dataId,
+			String groupId, NacosConfigConverter<T> converter) {
+		Assert.notNull(configService, "configService must not be null");
+		Assert.hasText(dataId, "dataId must not be empty");
+		Assert.hasText(groupId, "groupId must not be empty");
+		Assert.notNull(converter, "converter must not be null");
+		this.configService = configService;
+		this.dataId = dataId;
+		this.groupId = groupId;
+		this.converter = converter;
+	}
+
+	/**
+	 * Creates a holder converting the config with a {@link DefaultNacosConfigConverter}.
+	 *
+	 * @param configService {@link ConfigService}
+	 * @param dataId data id
+	 * @param groupId group id
+	 * @param targetType the type of the config value
+	 * @param type the config type, e.g. "properties", "json" or "yaml"
+	 * @param <T> the type of the config value
+	 * @return a holder that is not started yet
+	 */
+	public static <T> NacosConfigHolder<T> of(ConfigService configService,
+			String dataId, String groupId, Class<T> targetType, String type) {
+		return new NacosConfigHolder<T>(configService, dataId, groupId,
+				new DefaultNacosConfigConverter<T>(targetType,
+						new DefaultFormattingConversionService(), type));
+	}
+
+	/**
+	 * Loads the current config and starts following its changes.
+	 *
+	 * @return this holder
+	 * @throws NacosException if the listener can't be added or the config can't be
+	 *     loaded
+	 */
+	public synchronized NacosConfigHolder<T> start() throws NacosException {
+		if (!started) {
+			// Listen before loading so that no change is missed in between
+			configService.addListener(dataId, groupId, listener);
+			started = true;
+			String content = configService.getConfig(dataId, groupId, DEFAULT_TIMEOUT);
+			if (content != null) {
+				refresh(content);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Stops following changes, keeping the current snapshot.
+	 */
+	public synchronized void stop() {
+		if (started) {
+			configService.removeListener(dataId, groupId, listener);
+			started = false;
+		}
+	}
+
+	/**
+	 * @return the current value, or {@code null} if nothing was loaded yet
+	 */
+	public T get() {
+		return snapshot.value;
+	}
+
+	/**
+	 * @return the current snapshot, never {@code null}
+	 */
+	public Snapshot<T> getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Converts the content and replaces the current snapshot, unless the content is
+	 * unchanged or can't be converted.
+	 *
+	 * @param content the config content
+	 */
+	protected synchronized void refresh(String content) {
+		if (ObjectUtils.nullSafeEquals(content, snapshot.content)) {
+			return;
+		}
+		T value;
+		try {
+			value = converter.convert(content);
+		}
+		catch (RuntimeException e) {
+			logger.error(
+					"Can't convert the Nacos config[dataId : {} , groupId : {}], keeping the previous value",
+					dataId, groupId, e);
+			return;
+		}
+		snapshot = new Snapshot<T>(value, content, snapshot.version + 1,
+				System.currentTimeMillis());
+	}
+
+	public String getDataId() {
+		return dataId;
+	}
+
+	public String getGroupId() {
+		return groupId;
+	}
+
+	/**
+	 * An immutable view of a config at one version.
+	 *
+	 * @param <T> the type of the config value
+	 */
+	public static final class Snapshot<T> {
+
+		private final T value;
+
+		private final String content;
+
+		private final long version;
+
+		private final long timestamp;
+
+		Snapshot(T value, String content, long version, long timestamp) {
+			this.value = value;
+			this.content = content;
+			this.version = version;
+			this.timestamp = timestamp;
+		}
+
+		public T getValue() {
+			return value;
+		}
+
+		public String getContent() {
+			return content;
+		}
+
+		/**
+		 * @return the number of times the value was replaced, {@code 0} before the
+		 *     first load
+		 */
+		public long getVersion() {
+			return version;
+		}
+
+		/**
+		 * @return the time the value was converted, in milliseconds since the epoch
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+	}
+
+}
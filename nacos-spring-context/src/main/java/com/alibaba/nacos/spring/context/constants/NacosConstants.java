@@ -38,4 +38,91 @@ public interface NacosConstants {
 	int DEFAULT_NACOS_CONFIG_LISTENER_PARALLELISM = Runtime.getRuntime()
 			.availableProcessors();
 
-}
\ No newline at end of file
+	/**
+	 * The capacity of the deferred Nacos event queue held until the Spring
+	 * ApplicationContext is refreshed
+	 */
+	String NACOS_DEFERRED_EVENT_CAPACITY = NacosProperties.PREFIX
+			+ "deferred-event.capacity";
+
+	/**
+	 * The default capacity of the deferred Nacos event queue
+	 */
+	int DEFAULT_NACOS_DEFERRED_EVENT_CAPACITY = 1024;
+
+	/**
+	 * Whether {@link com.alibaba.nacos.spring.context.event.config.NacosConfigEvent Nacos
+	 * config events} are multicast asynchronously
+	 */
+	String NACOS_CONFIG_EVENT_ASYNC = NacosProperties.PREFIX + "config.event.async";
+
+	/**
+	 * The parallelism of the asynchronous Nacos config event multicaster, the events of
+	 * the same dataId and groupId are always multicast in order
+	 */
+	String NACOS_CONFIG_EVENT_PARALLELISM = NacosProperties.PREFIX
+			+ "config.event.parallelism";
+
+	/**
+	 * The default parallelism of the asynchronous Nacos config event multicaster
+	 */
+	int DEFAULT_NACOS_CONFIG_EVENT_PARALLELISM = 1;
+
+	/**
+	 * Whether the subscribed instances of Nacos naming are served from the snapshots fed
+	 * by the subscriptions, it could be set in the Nacos properties or the Spring
+	 * Environment
+	 */
+	String NACOS_NAMING_SNAPSHOT_ENABLED = NacosProperties.PREFIX
+			+ "naming.snapshot.enabled";
+
+	/**
+	 * The class name of {@link com.alibaba.nacos.spring.factory.InstanceSelector} used by
+	 * <code>selectOneHealthyInstance</code> of the Nacos naming snapshots, it could be
+	 * set in the Nacos properties or the Spring Environment. The selectors requiring the
+	 * callers to complete their requests, like
+	 * {@link com.alibaba.nacos.spring.factory.PowerOfTwoChoicesInstanceSelector}, are
+	 * rejected
+	 */
+	String NACOS_NAMING_SNAPSHOT_SELECTOR = NacosProperties.PREFIX
+			+ "naming.snapshot.selector";
+
+	/**
+	 * The directory to store the last-known instances of the subscribed services of the
+	 * Nacos naming snapshots, which are loaded on start to serve the reads before the
+	 * subscriptions deliver. The instances are not stored if it's absent. It could be
+	 * set in the Nacos properties or the Spring Environment
+	 */
+	String NACOS_NAMING_SNAPSHOT_PATH = NacosProperties.PREFIX + "naming.snapshot.path";
+
+	/**
+	 * The window in milliseconds to batch the registrations of the ephemeral instances
+	 * of Nacos naming, which are flushed through <code>batchRegisterInstance</code> and
+	 * <code>batchDeregisterInstance</code> per (service, group), the registrations are
+	 * not batched if it's absent or non-positive. It could be set in the Nacos properties
+	 * or the Spring Environment
+	 */
+	String NACOS_NAMING_REGISTRATION_BATCH_WINDOW = NacosProperties.PREFIX
+			+ "naming.registration.batch.window";
+
+	/**
+	 * Whether the properties of Nacos property sources are kept in a compact, interned
+	 * representation, which takes less memory for large configs. It could be set in the
+	 * Nacos properties or the Spring Environment
+	 */
+	String NACOS_CONFIG_PROPERTY_SOURCE_COMPACT = NacosProperties.PREFIX
+			+ "config.property-source.compact";
+
+	/**
+	 * Whether the Nacos config services of the same server share one transport across
+	 * their namespaces, which talks to the server through the HTTP Open API and polls
+	 * the listened configs of all namespaces with one thread. The servers located by an
+	 * endpoint and the AK/SK authentication are not supported, their config services are
+	 * created as usual. It could be set in the Nacos properties or the Spring Environment.
+	 * <p>
+	 * The shared transport is experimental and disabled by default, it supports a subset
+	 * of the Nacos client features only
+	 */
+	String NACOS_CONFIG_MULTIPLEXED = NacosProperties.PREFIX + "config.multiplexed";
+
+}
@@ -24,17 +24,32 @@ import static java.lang.reflect.Modifier.isStatic;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ReflectionUtils;
 
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
+
 /**
  * Listener {@link Method method} Processor
  * <p>
@@ -52,11 +67,27 @@ import org.springframework.util.ReflectionUtils;
  * @since 0.1.0
  */
 public abstract class AnnotationListenerMethodProcessor<A extends Annotation>
-		implements ApplicationListener<ContextRefreshedEvent> {
+		implements ApplicationListener<ContextRefreshedEvent>, BeanPostProcessor,
+		BeanFactoryAware {
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 	private final Class<A> annotationType;
 
+	/**
+	 * The listener methods per bean class, empty for classes without any.
+	 */
+	private final ConcurrentMap<Class<?>, List<Method>> listenerMethodsCache = new ConcurrentHashMap<Class<?>, List<Method>>();
+
+	/**
+	 * The beans with listener methods that were initialized before the context
+	 * refreshed.
+	 */
+	private final List<ListenerBean> pendingBeans = new LinkedList<ListenerBean>();
+
+	private BeanFactory beanFactory;
+
+	private ApplicationContext refreshedContext;
+
 	public AnnotationListenerMethodProcessor() {
 		this.annotationType = resolveGenericType(getClass());
 	}
@@ -84,68 +115,194 @@ public abstract class AnnotationListenerMethodProcessor<A extends Annotation>
 				&& !isAbstract(modifiers) && void.class.equals(returnType);
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName)
+			throws BeansException {
+		return bean;
+	}
+
+	/**
+	 * Record the singleton beans that declare listener methods, so that the refresh
+	 * only processes those instead of every bean in the context. Beans initialized
+	 * after the refresh, such as lazy singletons, are processed right away.
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName)
+			throws BeansException {
+		Class<?> beanClass = AopUtils.getTargetClass(bean);
+		List<Method> listenerMethods = findListenerMethods(beanClass);
+		if (listenerMethods.isEmpty() || !isSingleton(beanName)) {
+			return bean;
+		}
+		ApplicationContext applicationContext;
+		synchronized (pendingBeans) {
+			applicationContext = refreshedContext;
+			if (applicationContext == null) {
+				pendingBeans.add(new ListenerBean(beanName, bean, beanClass));
+				return bean;
+			}
+		}
+		processBean(beanName, bean, beanClass, listenerMethods, applicationContext);
+		return bean;
+	}
+
+	private boolean isSingleton(String beanName) {
+		return beanFactory == null
+				|| beanFactory.containsBean(beanName) && beanFactory.isSingleton(beanName);
+	}
+
 	@Override
 	public final void onApplicationEvent(ContextRefreshedEvent event) {
 		// Retrieve ApplicationContext from ContextRefreshedEvent
 		ApplicationContext applicationContext = event.getApplicationContext();
-		// Select those methods from all beans that annotated
-		processBeans(applicationContext);
+		List<ListenerBean> listenerBeans;
+		boolean firstRefresh;
+		synchronized (pendingBeans) {
+			firstRefresh = refreshedContext == null;
+			refreshedContext = applicationContext;
+			listenerBeans = new ArrayList<ListenerBean>(pendingBeans);
+			pendingBeans.clear();
+		}
+		if (firstRefresh) {
+			Set<String> recordedBeanNames = new HashSet<String>();
+			for (ListenerBean listenerBean : listenerBeans) {
+				recordedBeanNames.add(listenerBean.beanName);
+			}
+			listenerBeans.addAll(findUnrecordedSingletons(recordedBeanNames));
+		}
+		// Process the beans recorded with annotated methods
+		for (ListenerBean listenerBean : listenerBeans) {
+			processBean(listenerBean.beanName, listenerBean.bean,
+					listenerBean.beanClass, findListenerMethods(listenerBean.beanClass),
+					applicationContext);
+		}
 	}
 
-	private void processBeans(ApplicationContext applicationContext) {
+	/**
+	 * Find the singletons with listener methods that were never post-processed by
+	 * current processor, such as the ones registered directly by
+	 * {@link ConfigurableListableBeanFactory#registerSingleton} and the ones initialized
+	 * before current processor was registered, e.g. the beans looked up by a
+	 * BeanFactoryPostProcessor or the dependencies of a BeanPostProcessor.
+	 *
+	 * @param recordedBeanNames the names of the beans recorded by
+	 *     {@link #postProcessAfterInitialization}
+	 * @return non-null {@link List}
+	 */
+	private List<ListenerBean> findUnrecordedSingletons(Set<String> recordedBeanNames) {
+		if (!(beanFactory instanceof ConfigurableListableBeanFactory)) {
+			return Collections.emptyList();
+		}
+		ConfigurableListableBeanFactory listableBeanFactory = (ConfigurableListableBeanFactory) beanFactory;
+		List<ListenerBean> listenerBeans = new ArrayList<ListenerBean>();
+		for (String beanName : listableBeanFactory.getSingletonNames()) {
+			if (recordedBeanNames.contains(beanName)) {
+				continue;
+			}
+			Object bean = listableBeanFactory.getSingleton(beanName);
+			if (bean == null) {
+				continue;
+			}
+			Class<?> beanClass = AopUtils.getTargetClass(bean);
+			if (!findListenerMethods(beanClass).isEmpty()) {
+				listenerBeans.add(new ListenerBean(beanName, bean, beanClass));
+			}
+		}
+		return listenerBeans;
+	}
 
-		Map<String, Object> beansMap = applicationContext.getBeansOfType(Object.class,
-				false, false);
+	/**
+	 * Select those methods from bean class that could be annotated listener methods
+	 *
+	 * @param beanClass the {@link Class} of Bean
+	 * @return non-null {@link List}
+	 */
+	private List<Method> findListenerMethods(final Class<?> beanClass) {
 
-		processBeans(beansMap, applicationContext);
+		List<Method> listenerMethods = listenerMethodsCache.get(beanClass);
 
-	}
+		if (listenerMethods != null) {
+			return listenerMethods;
+		}
 
-	private void processBeans(Map<String, Object> beansMap,
-			ApplicationContext applicationContext) {
+		final List<Method> methods = new ArrayList<Method>();
 
-		for (Map.Entry<String, Object> entry : beansMap.entrySet()) {
-			String beanName = entry.getKey();
-			Object bean = entry.getValue();
-			// Bean type
-			if (bean != null) {
-				Class<?> beanClass = AopUtils.getTargetClass(bean);
-				processBean(beanName, bean, beanClass, applicationContext);
+		NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry.get(beanClass);
+		List<Method> precomputedMethods = members != null
+				&& members.covers(annotationType)
+						? members.resolveMethods(beanClass, annotationType)
+						: null;
+
+		if (precomputedMethods != null) {
+			for (Method method : precomputedMethods) {
+				if (isListenerMethod(method)) {
+					methods.add(method);
+				}
 			}
 		}
+		else {
+			ReflectionUtils.doWithMethods(beanClass, new ReflectionUtils.MethodCallback() {
+				@Override
+				public void doWith(Method method)
+						throws IllegalArgumentException, IllegalAccessException {
+					if (AnnotationUtils.getAnnotation(method, annotationType) != null) {
+						methods.add(method);
+					}
+				}
 
+			}, new ReflectionUtils.MethodFilter() {
+				@Override
+				public boolean matches(Method method) {
+					return isListenerMethod(method);
+				}
+			});
+		}
+
+		listenerMethods = methods.isEmpty() ? Collections.<Method> emptyList()
+				: Collections.unmodifiableList(methods);
+		listenerMethodsCache.putIfAbsent(beanClass, listenerMethods);
+		return listenerMethods;
 	}
 
 	/**
-	 * Select those methods from bean that annotated
+	 * Process the listener methods of bean
 	 *
 	 * @param beanName Bean name
 	 * @param bean Bean object
 	 * @param beanClass the {@link Class} of Bean
+	 * @param listenerMethods the listener methods of Bean
 	 * @param applicationContext
 	 */
-	private void processBean(final String beanName, final Object bean,
-			final Class<?> beanClass, final ApplicationContext applicationContext) {
-
-		ReflectionUtils.doWithMethods(beanClass, new ReflectionUtils.MethodCallback() {
-			@Override
-			public void doWith(Method method)
-					throws IllegalArgumentException, IllegalAccessException {
-				A annotation = AnnotationUtils.getAnnotation(method, annotationType);
-				if (annotation != null && isCandidateMethod(bean, beanClass, annotation,
-						method, applicationContext)) {
-					processListenerMethod(beanName, bean, beanClass, annotation, method,
-							applicationContext);
-				}
+	private void processBean(String beanName, Object bean, Class<?> beanClass,
+			List<Method> listenerMethods, ApplicationContext applicationContext) {
+		for (Method method : listenerMethods) {
+			A annotation = AnnotationUtils.getAnnotation(method, annotationType);
+			if (annotation != null && isCandidateMethod(bean, beanClass, annotation,
+					method, applicationContext)) {
+				processListenerMethod(beanName, bean, beanClass, annotation, method,
+						applicationContext);
 			}
+		}
+	}
 
-		}, new ReflectionUtils.MethodFilter() {
-			@Override
-			public boolean matches(Method method) {
-				return isListenerMethod(method);
-			}
-		});
+	private static class ListenerBean {
+
+		private final String beanName;
 
+		private final Object bean;
+
+		private final Class<?> beanClass;
+
+		ListenerBean(String beanName, Object bean, Class<?> beanClass) {
+			this.beanName = beanName;
+			this.bean = bean;
+			this.beanClass = beanClass;
+		}
 	}
 
 	/**
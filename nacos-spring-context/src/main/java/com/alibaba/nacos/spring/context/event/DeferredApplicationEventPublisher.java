@@ -16,17 +16,35 @@
  */
 package com.alibaba.nacos.spring.context.event;
 
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.DEFAULT_NACOS_DEFERRED_EVENT_CAPACITY;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_DEFERRED_EVENT_CAPACITY;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.AbstractApplicationContext;
 
+import com.alibaba.nacos.spring.context.event.config.NacosConfigEvent;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigListenerRegisteredEvent;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+
 /**
  * Deferred {@link ApplicationEventPublisher} to resolve
  * {@link #publishEvent(ApplicationEvent)} too early to publish {@link ApplicationEvent}
@@ -35,22 +53,89 @@ import org.springframework.context.support.AbstractApplicationContext;
  * hold all early {@link ApplicationEvent events} temporary until
  * {@link ConfigurableApplicationContext#isRunning() Spring ApplicationContext is active},
  * and then those {@link ApplicationEvent events} will be replayed.
+ * <p>
+ * The deferred events are kept in a bounded queue : {@link NacosConfigEvent Nacos config
+ * events} of the same type, source, dataId and groupId are coalesced so that only the
+ * latest one is replayed, and the eldest coalescable event is dropped if the queue
+ * overflows its {@link #getCapacity() capacity}. An instance is shared per
+ * {@link ConfigurableApplicationContext} via {@link #getInstance}, the context is
+ * referenced weakly so that the contexts never closed are not pinned. The buffered and
+ * dropped events are reported to {@link NacosConfigMetricsHolder#getMetrics() the
+ * metrics}.
+ *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @since 0.1.0
  */
 public class DeferredApplicationEventPublisher
-		implements ApplicationEventPublisher, ApplicationListener<ContextRefreshedEvent> {
+		implements ApplicationEventPublisher, ApplicationListener<ApplicationContextEvent> {
+
+	/**
+	 * The publishers are referenced weakly too, as every publisher is referenced by its
+	 * context as a listener
+	 */
+	private static final Map<ApplicationContext, WeakReference<DeferredApplicationEventPublisher>> INSTANCES = new WeakHashMap<ApplicationContext, WeakReference<DeferredApplicationEventPublisher>>();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	private final ConfigurableApplicationContext context;
 
+	private final int capacity;
+
 	// fix issue #85
-	private final ConcurrentLinkedQueue<ApplicationEvent> deferredEvents = new ConcurrentLinkedQueue<ApplicationEvent>();
+	private final LinkedHashMap<Object, ApplicationEvent> deferredEvents = new LinkedHashMap<Object, ApplicationEvent>();
+
+	private final AtomicLong bufferedEventCount = new AtomicLong();
+
+	private final AtomicLong coalescedEventCount = new AtomicLong();
+
+	private final AtomicLong droppedEventCount = new AtomicLong();
+
+	private final AtomicLong droppedUncoalescableEventCount = new AtomicLong();
+
+	private volatile boolean closed;
 
 	public DeferredApplicationEventPublisher(ConfigurableApplicationContext context) {
+		this(context, resolveCapacity(context));
+	}
+
+	public DeferredApplicationEventPublisher(ConfigurableApplicationContext context,
+			int capacity) {
 		this.context = context;
+		this.capacity = capacity < 1 ? DEFAULT_NACOS_DEFERRED_EVENT_CAPACITY : capacity;
 		this.context.addApplicationListener(this);
 	}
 
+	/**
+	 * Get the {@link DeferredApplicationEventPublisher} shared by the specified
+	 * {@link ConfigurableApplicationContext}, it will be created if absent. Once the
+	 * context is closed, its publisher is kept and no longer defers events rather than
+	 * being created again.
+	 *
+	 * @param context {@link ConfigurableApplicationContext}
+	 * @return non-null
+	 * @since 2.1.0
+	 */
+	public static DeferredApplicationEventPublisher getInstance(
+			ConfigurableApplicationContext context) {
+		synchronized (INSTANCES) {
+			WeakReference<DeferredApplicationEventPublisher> reference = INSTANCES
+					.get(context);
+			DeferredApplicationEventPublisher publisher = reference == null ? null
+					: reference.get();
+			if (publisher == null) {
+				publisher = new DeferredApplicationEventPublisher(context);
+				INSTANCES.put(context,
+						new WeakReference<DeferredApplicationEventPublisher>(publisher));
+			}
+			return publisher;
+		}
+	}
+
+	private static int resolveCapacity(ConfigurableApplicationContext context) {
+		return context.getEnvironment().getProperty(NACOS_DEFERRED_EVENT_CAPACITY,
+				int.class, DEFAULT_NACOS_DEFERRED_EVENT_CAPACITY);
+	}
+
 	@Override
 	public void publishEvent(ApplicationEvent event) {
 
@@ -58,12 +143,18 @@ public class DeferredApplicationEventPublisher
 			if (context.isRunning()) {
 				context.publishEvent(event);
 			}
+			else if (closed) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("The context is closed, the event is dropped : {}",
+							event);
+				}
+			}
 			else {
-				deferredEvents.add(event);
+				defer(event);
 			}
 		}
 		catch (Exception ignore) {
-			deferredEvents.add(event);
+			defer(event);
 		}
 	}
 
@@ -72,7 +163,7 @@ public class DeferredApplicationEventPublisher
 	}
 
 	@Override
-	public void onApplicationEvent(ContextRefreshedEvent event) {
+	public void onApplicationEvent(ApplicationContextEvent event) {
 
 		ApplicationContext currentContext = event.getApplicationContext();
 
@@ -81,15 +172,158 @@ public class DeferredApplicationEventPublisher
 			return;
 		}
 
-		replayDeferredEvents();
+		if (event instanceof ContextRefreshedEvent) {
+			// the context may be refreshed again after being closed
+			closed = false;
+			replayDeferredEvents();
+		}
+		else if (event instanceof ContextClosedEvent) {
+			closed = true;
+			synchronized (deferredEvents) {
+				deferredEvents.clear();
+			}
+		}
 	}
 
-	private void replayDeferredEvents() {
-		Iterator<ApplicationEvent> iterator = deferredEvents.iterator();
+	private void defer(ApplicationEvent event) {
+		Object key = coalescingKey(event);
+		synchronized (deferredEvents) {
+			if (key == null) {
+				key = new UncoalescableKey();
+			}
+			else if (deferredEvents.remove(key) != null) {
+				coalescedEventCount.incrementAndGet();
+			}
+			deferredEvents.put(key, event);
+			bufferedEventCount.incrementAndGet();
+			NacosConfigMetricsHolder.getMetrics().recordDeferredEvent(event.getClass());
+			if (deferredEvents.size() > capacity) {
+				dropEldestEvent();
+			}
+		}
+	}
+
+	/**
+	 * Drop the eldest coalescable event, as a later event of the same config will bring
+	 * it up to date, or the eldest event if none is coalescable
+	 */
+	private void dropEldestEvent() {
+		Iterator<Map.Entry<Object, ApplicationEvent>> iterator = deferredEvents
+				.entrySet().iterator();
+		Map.Entry<Object, ApplicationEvent> dropped = null;
 		while (iterator.hasNext()) {
-			ApplicationEvent event = iterator.next();
+			Map.Entry<Object, ApplicationEvent> entry = iterator.next();
+			if (!(entry.getKey() instanceof UncoalescableKey)) {
+				dropped = entry;
+				break;
+			}
+		}
+		if (dropped == null) {
+			iterator = deferredEvents.entrySet().iterator();
+			dropped = iterator.next();
+			droppedUncoalescableEventCount.incrementAndGet();
+		}
+		iterator.remove();
+		droppedEventCount.incrementAndGet();
+		NacosConfigMetricsHolder.getMetrics()
+				.recordDeferredEventDropped(dropped.getValue().getClass());
+		if (logger.isWarnEnabled()) {
+			logger.warn(
+					"The deferred events exceed the capacity {}, the eldest event is dropped : {}",
+					capacity, dropped.getValue());
+		}
+	}
+
+	/**
+	 * The key to coalesce the deferred {@link ApplicationEvent events}, the latest event
+	 * will replace the previous one with the same key.
+	 *
+	 * @param event {@link ApplicationEvent}
+	 * @return the key, or <code>null</code> if the event must not be coalesced
+	 */
+	protected Object coalescingKey(ApplicationEvent event) {
+		if (!(event instanceof NacosConfigEvent)
+				|| event instanceof NacosConfigListenerRegisteredEvent) {
+			return null;
+		}
+		NacosConfigEvent nacosConfigEvent = (NacosConfigEvent) event;
+		// The source tells apart the ConfigServices of different namespaces or servers
+		return Arrays.asList(event.getClass(), event.getSource(),
+				nacosConfigEvent.getDataId(), nacosConfigEvent.getGroupId());
+	}
+
+	private void replayDeferredEvents() {
+		List<ApplicationEvent> events;
+		synchronized (deferredEvents) {
+			events = new ArrayList<ApplicationEvent>(deferredEvents.values());
+			deferredEvents.clear();
+		}
+		for (ApplicationEvent event : events) {
 			publishEvent(event);
-			iterator.remove(); // remove if published
 		}
 	}
+
+	/**
+	 * Get the capacity of the deferred events
+	 *
+	 * @return the capacity of the deferred events
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Get the count of the events pending to be replayed
+	 *
+	 * @return the count of the pending events
+	 */
+	public int getPendingEventCount() {
+		synchronized (deferredEvents) {
+			return deferredEvents.size();
+		}
+	}
+
+	/**
+	 * Get the total count of the events have been buffered
+	 *
+	 * @return the total count of the buffered events
+	 */
+	public long getBufferedEventCount() {
+		return bufferedEventCount.get();
+	}
+
+	/**
+	 * Get the total count of the events have been replaced by the latest ones
+	 *
+	 * @return the total count of the coalesced events
+	 */
+	public long getCoalescedEventCount() {
+		return coalescedEventCount.get();
+	}
+
+	/**
+	 * Get the total count of the events have been dropped on overflow
+	 *
+	 * @return the total count of the dropped events
+	 */
+	public long getDroppedEventCount() {
+		return droppedEventCount.get();
+	}
+
+	/**
+	 * Get the total count of the events never coalesced have been dropped on overflow,
+	 * which happens only if none of the pending events is coalescable
+	 *
+	 * @return the total count of the dropped uncoalescable events, which are included in
+	 *     {@link #getDroppedEventCount()}
+	 */
+	public long getDroppedUncoalescableEventCount() {
+		return droppedUncoalescableEventCount.get();
+	}
+
+	/**
+	 * The key of an event never coalesced
+	 */
+	private static class UncoalescableKey {
+	}
 }
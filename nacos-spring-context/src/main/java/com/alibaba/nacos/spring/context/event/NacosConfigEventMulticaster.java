@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import com.alibaba.nacos.spring.context.event.config.NacosConfigEvent;
+import com.alibaba.nacos.spring.util.LatencyHistogram;
+
+/**
+ * An asynchronous {@link SimpleApplicationEventMulticaster} for
+ * {@link NacosConfigEvent Nacos config events}, they are multicast on dedicated threads
+ * rather than the Nacos client notification threads, so that the slow listeners can't
+ * block the delivery of the next push. The events of the same dataId and groupId are
+ * always multicast in order, other {@link ApplicationEvent events} are multicast
+ * synchronously as usual. The {@link NacosConfigEvent Nacos config events} published
+ * after {@link #destroy()} are dropped.
+ * <p>
+ * The latency of every listener handling {@link NacosConfigEvent} is recorded in a
+ * {@link LatencyHistogram}, see {@link #getListenerLatencies()}.
+ * <p>
+ * It's registered as the {@link AbstractApplicationContext#APPLICATION_EVENT_MULTICASTER_BEAN_NAME
+ * ApplicationEventMulticaster} only if
+ * {@link com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_CONFIG_EVENT_ASYNC}
+ * is enabled.
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigEventMulticaster extends SimpleApplicationEventMulticaster
+		implements DisposableBean {
+
+	/**
+	 * The bean name of {@link NacosConfigEventMulticaster}
+	 */
+	public static final String BEAN_NAME = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
+
+	private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ExecutorService[] executors;
+
+	private final ConcurrentMap<String, LatencyHistogram> listenerLatencies = new ConcurrentHashMap<String, LatencyHistogram>();
+
+	public NacosConfigEventMulticaster(int parallelism) {
+		this.executors = new ExecutorService[parallelism < 1 ? 1 : parallelism];
+		for (int i = 0; i < executors.length; i++) {
+			executors[i] = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r);
+					thread.setDaemon(true);
+					thread.setName("NacosConfigEventMulticaster-"
+							+ threadNumber.getAndIncrement());
+					return thread;
+				}
+			});
+		}
+	}
+
+	@Override
+	public void multicastEvent(final ApplicationEvent event,
+			final ResolvableType eventType) {
+		if (!(event instanceof NacosConfigEvent)) {
+			super.multicastEvent(event, eventType);
+			return;
+		}
+		try {
+			executorFor((NacosConfigEvent) event).execute(new Runnable() {
+				@Override
+				public void run() {
+					NacosConfigEventMulticaster.super.multicastEvent(event, eventType);
+				}
+			});
+		}
+		catch (RejectedExecutionException e) {
+			// destroyed with the context, while the Nacos client is still pushing
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dropped the Nacos config event " + event
+						+ ", the multicaster has been destroyed");
+			}
+		}
+	}
+
+	private ExecutorService executorFor(NacosConfigEvent event) {
+		int hash = (event.getDataId() + "+" + event.getGroupId()).hashCode();
+		return executors[(hash & Integer.MAX_VALUE) % executors.length];
+	}
+
+	@Override
+	protected void invokeListener(ApplicationListener<?> listener,
+			ApplicationEvent event) {
+		if (!(event instanceof NacosConfigEvent)) {
+			super.invokeListener(listener, event);
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			super.invokeListener(listener, event);
+		}
+		catch (RuntimeException e) {
+			// never break the multicast to the rest listeners
+			logger.error("Failed to handle the Nacos config event " + event
+					+ " by the listener " + listener, e);
+		}
+		finally {
+			latencyOf(listener).record(System.nanoTime() - start);
+		}
+	}
+
+	private LatencyHistogram latencyOf(ApplicationListener<?> listener) {
+		String key = listener instanceof ApplicationListenerMethodAdapter
+				? listener.toString()
+				: listener.getClass().getName();
+		LatencyHistogram histogram = listenerLatencies.get(key);
+		if (histogram == null) {
+			histogram = new LatencyHistogram();
+			LatencyHistogram previous = listenerLatencies.putIfAbsent(key, histogram);
+			if (previous != null) {
+				histogram = previous;
+			}
+		}
+		return histogram;
+	}
+
+	/**
+	 * Get the latencies of the listeners handling {@link NacosConfigEvent}
+	 *
+	 * @return the read-only {@link Map} whose key is the listener
+	 */
+	public Map<String, LatencyHistogram> getListenerLatencies() {
+		return Collections.unmodifiableMap(listenerLatencies);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		for (ExecutorService executor : executors) {
+			executor.shutdown();
+		}
+	}
+}
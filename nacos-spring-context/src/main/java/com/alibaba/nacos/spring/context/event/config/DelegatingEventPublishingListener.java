@@ -23,6 +23,10 @@ import org.springframework.context.ApplicationEventPublisher;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetrics;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.metrics.NacosConfigTraceRecorder;
 
 /**
  * A Delegating {@link NacosConfigReceivedEvent Event} Publishing {@link Listener} of
@@ -88,13 +92,29 @@ public final class DelegatingEventPublishingListener implements Listener {
 	 */
 	@Override
 	public void receiveConfigInfo(String content) {
-		onReceived(content);
-		publishEvent(content);
+		NacosConfigMetrics metrics = NacosConfigMetricsHolder.getMetrics();
+		metrics.recordPush(dataId, groupId);
+		NacosConfigPushTrace trace = NacosConfigTraceRecorder.getInstance()
+				.begin(dataId, groupId);
+		NacosConfigPushTrace previous = NacosConfigTraceRecorder.attach(trace);
+		long start = System.nanoTime();
+		try {
+			onReceived(content);
+			long received = System.nanoTime();
+			trace.recordStage(NacosConfigPushTrace.LISTENER, received - start);
+			publishEvent(content, trace);
+			trace.recordStage(NacosConfigPushTrace.EVENT_PUBLISH,
+					System.nanoTime() - received);
+		}
+		finally {
+			NacosConfigTraceRecorder.attach(previous);
+		}
+		metrics.recordPushApplied(dataId, groupId, System.nanoTime() - start);
 	}
 
-	private void publishEvent(String content) {
+	private void publishEvent(String content, NacosConfigPushTrace trace) {
 		NacosConfigReceivedEvent event = new NacosConfigReceivedEvent(configService,
-				dataId, groupId, content, configType);
+				dataId, groupId, content, configType, trace);
 		applicationEventPublisher.publishEvent(event);
 	}
 
@@ -52,7 +52,8 @@ public class EventPublishingConfigService
 			Executor executor) {
 		this.configService = configService;
 		this.properties = properties;
-		this.applicationEventPublisher = new DeferredApplicationEventPublisher(context);
+		this.applicationEventPublisher = DeferredApplicationEventPublisher
+				.getInstance(context);
 		this.executor = executor;
 	}
 
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.config.listener.Listener;
+
+/**
+ * A {@link Listener Nacos Config Listener} that shares one subscription between
+ * several listeners of the same dataId and group. Each push is handed to the
+ * listeners in registration order, and the content is converted at most once per
+ * conversion key via {@link #convert(String, String, NacosConfigConverter)}, so
+ * listeners with the same target type share the converted instance.
+ * <p>
+ * Like the listeners added to a Nacos subscription, the listeners added later are only
+ * notified of the later pushes.
+ *
+ * @since 2.1.0
+ */
+public class FanOutNacosConfigListener extends AbstractListener {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(FanOutNacosConfigListener.class);
+
+	private final String dataId;
+
+	private final String groupId;
+
+	private final List<Listener> listeners = new ArrayList<Listener>();
+
+	private volatile Conversions conversions;
+
+	public FanOutNacosConfigListener(String dataId, String groupId) {
+		this.dataId = dataId;
+		this.groupId = groupId;
+	}
+
+	/**
+	 * Add a listener to the subscription.
+	 *
+	 * @param listener the listener
+	 */
+	public synchronized void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	@Override
+	public void receiveConfigInfo(String content) {
+		List<Listener> snapshot;
+		synchronized (this) {
+			snapshot = new ArrayList<Listener>(listeners);
+		}
+		for (Listener listener : snapshot) {
+			notifyListener(listener, content);
+		}
+	}
+
+	private void notifyListener(Listener listener, String content) {
+		try {
+			listener.receiveConfigInfo(content);
+		}
+		catch (RuntimeException e) {
+			logger.error("Nacos Config Listener " + listener + " failed on [dataId : "
+					+ dataId + " , groupId : " + groupId + "]", e);
+		}
+	}
+
+	/**
+	 * Convert the pushed content, reusing the result of an earlier conversion with the
+	 * same key for the same push.
+	 *
+	 * @param content the pushed content
+	 * @param key the conversion key, e.g. the target type and config type
+	 * @param converter the converter used on a miss
+	 * @param <T> the target type
+	 * @return the converted value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T convert(String content, String key, NacosConfigConverter<T> converter) {
+		Conversions current = conversions;
+		if (current == null || current.content != content) {
+			current = new Conversions(content);
+			conversions = current;
+		}
+		if (current.values.containsKey(key)) {
+			return (T) current.values.get(key);
+		}
+		T value = converter.convert(content);
+		if (value != null) {
+			current.values.put(key, value);
+		}
+		return value;
+	}
+
+	public synchronized int getListenerCount() {
+		return listeners.size();
+	}
+
+	public String getDataId() {
+		return dataId;
+	}
+
+	public String getGroupId() {
+		return groupId;
+	}
+
+	private static class Conversions {
+
+		private final String content;
+
+		private final Map<String, Object> values = new ConcurrentHashMap<String, Object>();
+
+		Conversions(String content) {
+			this.content = content;
+		}
+	}
+}
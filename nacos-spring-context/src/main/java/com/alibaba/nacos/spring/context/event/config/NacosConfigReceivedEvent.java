@@ -17,6 +17,7 @@
 package com.alibaba.nacos.spring.context.event.config;
 
 import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
 
 /**
  * The {@link NacosConfigEvent event} of Nacos Configuration that has been changed.
@@ -28,12 +29,19 @@ public class NacosConfigReceivedEvent extends NacosConfigEvent {
 
 	private final String content;
 	private final String type;
+	private final NacosConfigPushTrace trace;
 
 	public NacosConfigReceivedEvent(ConfigService configService, String dataId,
 			String groupId, String content, String type) {
+		this(configService, dataId, groupId, content, type, null);
+	}
+
+	public NacosConfigReceivedEvent(ConfigService configService, String dataId,
+			String groupId, String content, String type, NacosConfigPushTrace trace) {
 		super(configService, dataId, groupId);
 		this.content = content;
 		this.type = type;
+		this.trace = trace;
 	}
 
 	/**
@@ -49,4 +57,22 @@ public class NacosConfigReceivedEvent extends NacosConfigEvent {
 		return type;
 	}
 
+	/**
+	 * Get the trace of the push carrying this event
+	 *
+	 * @return <code>null</code> if the event is not published by a push
+	 */
+	public NacosConfigPushTrace getTrace() {
+		return trace;
+	}
+
+	/**
+	 * Get the correlation id of the push carrying this event
+	 *
+	 * @return <code>null</code> if the event is not published by a push
+	 */
+	public String getCorrelationId() {
+		return trace == null ? null : trace.getCorrelationId();
+	}
+
 }
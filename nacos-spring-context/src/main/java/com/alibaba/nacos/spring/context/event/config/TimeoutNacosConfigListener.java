@@ -30,6 +30,9 @@ import org.slf4j.LoggerFactory;
 
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.metrics.NacosConfigTraceRecorder;
 
 /**
  * Timeout {@link Listener Nacos Config Listener}
@@ -69,10 +72,17 @@ public abstract class TimeoutNacosConfigListener extends AbstractListener {
 
 	@Override
 	public void receiveConfigInfo(final String content) {
+		final NacosConfigPushTrace trace = NacosConfigTraceRecorder.current();
 		Future future = executorService.submit(new Runnable() {
 			@Override
 			public void run() {
-				onReceived(content);
+				NacosConfigPushTrace previous = NacosConfigTraceRecorder.attach(trace);
+				try {
+					onReceived(content);
+				}
+				finally {
+					NacosConfigTraceRecorder.attach(previous);
+				}
 			}
 		});
 		try {
@@ -87,6 +97,7 @@ public abstract class TimeoutNacosConfigListener extends AbstractListener {
 		}
 		catch (TimeoutException e) {
 			future.cancel(true);
+			NacosConfigMetricsHolder.getMetrics().recordListenerTimeout(dataId, groupId);
 			logger.warn(
 					"Listening on Nacos Config exceeds timeout {} ms "
 							+ "[dataId : {}, groupId : {}, data : {}]",
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.properties.config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Base class of generated {@link TypedPropertiesBinder}s. The conversions follow the
+ * default property editors a {@link org.springframework.validation.DataBinder}
+ * would use, and a value that cannot be converted leaves the property unchanged.
+ *
+ * @param <T> the type of bean
+ * @since 2.1.0
+ */
+public abstract class AbstractTypedPropertiesBinder<T>
+		implements TypedPropertiesBinder<T> {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(AbstractTypedPropertiesBinder.class);
+
+	/**
+	 * Look up the value of a property.
+	 *
+	 * @param properties the flattened configuration properties
+	 * @param prefix the prefix, may be empty
+	 * @param name the property name
+	 * @return the value as {@link String}, or <code>null</code> if absent
+	 */
+	protected static String getValue(Map<String, Object> properties, String prefix,
+			String name) {
+		String key = StringUtils.hasLength(prefix) ? prefix + "." + name : name;
+		if (!properties.containsKey(key)) {
+			return null;
+		}
+		return String.valueOf(properties.get(key));
+	}
+
+	protected static <N extends Number> N toNumber(String value, Class<N> numberType,
+			boolean allowEmpty) {
+		if (allowEmpty && !StringUtils.hasText(value)) {
+			return null;
+		}
+		return NumberUtils.parseNumber(value, numberType);
+	}
+
+	protected static Boolean toBoolean(String value, boolean allowEmpty) {
+		String input = value.trim();
+		if (allowEmpty && input.isEmpty()) {
+			return null;
+		}
+		if ("true".equalsIgnoreCase(input) || "on".equalsIgnoreCase(input)
+				|| "yes".equalsIgnoreCase(input) || "1".equals(input)) {
+			return Boolean.TRUE;
+		}
+		if ("false".equalsIgnoreCase(input) || "off".equalsIgnoreCase(input)
+				|| "no".equalsIgnoreCase(input) || "0".equals(input)) {
+			return Boolean.FALSE;
+		}
+		throw new IllegalArgumentException("Invalid boolean value [" + value + "]");
+	}
+
+	protected void onBindError(T bean, String name, String value,
+			IllegalArgumentException ex) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Can't bind value [" + value + "] to property '" + name
+					+ "' of " + bean.getClass().getName(), ex);
+		}
+	}
+
+}
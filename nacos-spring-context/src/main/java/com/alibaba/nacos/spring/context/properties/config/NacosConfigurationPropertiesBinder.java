@@ -27,6 +27,7 @@ import java.util.Properties;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.PropertyValues;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -38,14 +39,19 @@ import com.alibaba.nacos.api.annotation.NacosProperties;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
+import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.spring.beans.factory.annotation.ConfigServiceBeanBuilder;
+import com.alibaba.nacos.spring.context.config.NacosConfigHolder;
 import com.alibaba.nacos.spring.context.event.config.EventPublishingConfigService;
 import com.alibaba.nacos.spring.context.event.config.NacosConfigEvent;
 import com.alibaba.nacos.spring.context.event.config.NacosConfigMetadataEvent;
 import com.alibaba.nacos.spring.context.event.config.NacosConfigurationPropertiesBeanBoundEvent;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.metrics.NacosConfigTraceRecorder;
 import com.alibaba.nacos.spring.util.NacosUtils;
 import com.alibaba.nacos.spring.util.ObjectUtils;
 
@@ -101,15 +107,7 @@ public class NacosConfigurationPropertiesBinder {
 				environment);
 		final String groupId = NacosUtils.readFromEnvironment(properties.groupId(),
 				environment);
-		final String type;
-		
-		ConfigType typeEunm = properties.type();
-		if (ConfigType.UNSET.equals(typeEunm)) {
-			type = NacosUtils.readFileExtension(dataId);
-		}
-		else {
-			type = typeEunm.getType();
-		}
+		final String type = resolveType(properties, dataId);
 
 		final ConfigService configService = configServiceBeanBuilder
 				.build(properties.properties());
@@ -148,13 +146,64 @@ public class NacosConfigurationPropertiesBinder {
 		}
 	}
 
+	/**
+	 * Creates a {@link NacosConfigHolder} for a {@link NacosConfigurationProperties}
+	 * annotated type. Every change of its config is bound into a new instance of the
+	 * type, which replaces the held one, so readers never see a half bound object.
+	 * Unlike {@link NacosConfigurationProperties} beans, no events are published.
+	 *
+	 * @param type the annotated type, which needs a no-arg constructor
+	 * @param <T> the annotated type
+	 * @return a holder that is not started yet
+	 */
+	public <T> NacosConfigHolder<T> createConfigHolder(final Class<T> type) {
+		final NacosConfigurationProperties properties = findAnnotation(type,
+				NacosConfigurationProperties.class);
+		Assert.notNull(properties, type.getName() + " must be annotated with @"
+				+ NacosConfigurationProperties.class.getSimpleName());
+		final String dataId = NacosUtils.readFromEnvironment(properties.dataId(),
+				environment);
+		final String groupId = NacosUtils.readFromEnvironment(properties.groupId(),
+				environment);
+		final String configType = resolveType(properties, dataId);
+		ConfigService configService = configServiceBeanBuilder
+				.build(properties.properties());
+		return new NacosConfigHolder<T>(configService, dataId, groupId,
+				new NacosConfigConverter<T>() {
+					@Override
+					public boolean canConvert(Class<T> targetType) {
+						return type.isAssignableFrom(targetType);
+					}
+
+					@Override
+					public T convert(String content) {
+						T bean = BeanUtils.instantiateClass(type);
+						bindProperties(bean, dataId, groupId, configType, properties,
+								content);
+						return bean;
+					}
+				});
+	}
+
+	private static String resolveType(NacosConfigurationProperties properties,
+			String dataId) {
+		ConfigType typeEunm = properties.type();
+		if (ConfigType.UNSET.equals(typeEunm)) {
+			return NacosUtils.readFileExtension(dataId);
+		}
+		return typeEunm.getType();
+	}
+
 	protected void doBind(Object bean, String beanName, String dataId, String groupId,
 			String type, NacosConfigurationProperties properties, String content,
 			ConfigService configService) {
-		final String prefix = properties.prefix();
-		PropertyValues propertyValues = NacosUtils.resolvePropertyValues(bean, prefix,
-				dataId, groupId, content, type);
-		doBind(bean, properties, propertyValues);
+		long start = System.nanoTime();
+		bindProperties(bean, dataId, groupId, type, properties, content);
+		long nanos = System.nanoTime() - start;
+		NacosConfigMetricsHolder.getMetrics().recordConfigurationPropertiesBind(dataId,
+				groupId, bean.getClass(), nanos);
+		NacosConfigTraceRecorder.recordStage(
+				NacosConfigPushTrace.CONFIGURATION_PROPERTIES_BIND, nanos);
 		publishBoundEvent(bean, beanName, dataId, groupId, properties, content,
 				configService);
 		publishMetadataEvent(bean, beanName, dataId, groupId, properties);
@@ -196,6 +245,22 @@ public class NacosConfigurationPropertiesBinder {
 		applicationEventPublisher.publishEvent(event);
 	}
 
+	private void bindProperties(Object bean, String dataId, String groupId,
+			String type, NacosConfigurationProperties properties, String content) {
+		final String prefix = properties.prefix();
+		TypedPropertiesBinder<Object> typedBinder = TypedPropertiesBinderRegistry
+				.get(bean.getClass());
+		if (typedBinder != null) {
+			typedBinder.bind(bean, prefix,
+					NacosUtils.toProperties(dataId, groupId, content, type));
+		}
+		else {
+			PropertyValues propertyValues = NacosUtils.resolvePropertyValues(bean,
+					prefix, dataId, groupId, content, type);
+			doBind(bean, properties, propertyValues);
+		}
+	}
+
 	private void doBind(Object bean, NacosConfigurationProperties properties,
 			PropertyValues propertyValues) {
 		ObjectUtils.cleanMapOrCollectionField(bean);
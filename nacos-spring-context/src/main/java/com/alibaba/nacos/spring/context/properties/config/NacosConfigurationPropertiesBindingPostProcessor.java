@@ -30,6 +30,8 @@ import org.springframework.core.env.Environment;
 
 import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
 import com.alibaba.nacos.spring.factory.NacosServiceFactory;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembers;
+import com.alibaba.nacos.spring.util.aot.NacosAnnotatedMembersRegistry;
 
 /**
  * {@link NacosConfigurationProperties} Binding {@link BeanPostProcessor}
@@ -61,6 +63,14 @@ public class NacosConfigurationPropertiesBindingPostProcessor
 	public Object postProcessBeforeInitialization(Object bean, String beanName)
 			throws BeansException {
 
+		NacosAnnotatedMembers members = NacosAnnotatedMembersRegistry
+				.get(bean.getClass());
+
+		if (members != null && members.covers(NacosConfigurationProperties.class)
+				&& !members.isConfigurationProperties()) {
+			return bean;
+		}
+
 		NacosConfigurationProperties nacosConfigurationProperties = findAnnotation(
 				bean.getClass(), NacosConfigurationProperties.class);
 
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.properties.config;
+
+import java.util.Map;
+
+import com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties;
+
+/**
+ * Binds flattened configuration properties onto a
+ * {@link NacosConfigurationProperties @NacosConfigurationProperties} bean without
+ * going through a {@link org.springframework.validation.DataBinder}. Implementations
+ * are generated ahead of time and registered in the
+ * {@link TypedPropertiesBinderRegistry}.
+ *
+ * @param <T> the type of bean
+ * @see AbstractTypedPropertiesBinder
+ * @since 2.1.0
+ */
+public interface TypedPropertiesBinder<T> {
+
+	/**
+	 * Bind the properties onto the bean.
+	 *
+	 * @param bean the bean
+	 * @param prefix the {@link NacosConfigurationProperties#prefix() prefix}, may be
+	 *     empty
+	 * @param properties the flattened configuration properties
+	 */
+	void bind(T bean, String prefix, Map<String, Object> properties);
+
+}
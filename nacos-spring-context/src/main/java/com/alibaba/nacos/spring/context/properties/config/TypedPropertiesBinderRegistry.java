@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.properties.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of {@link TypedPropertiesBinder}s generated ahead of time, keyed by the
+ * user class name of the bean. Beans without a registered binder are bound by a
+ * {@link org.springframework.validation.DataBinder}.
+ *
+ * @since 2.1.0
+ */
+public abstract class TypedPropertiesBinderRegistry {
+
+	private static final Map<String, TypedPropertiesBinder<?>> REGISTRY = new ConcurrentHashMap<String, TypedPropertiesBinder<?>>();
+
+	public static void register(String beanClassName, TypedPropertiesBinder<?> binder) {
+		REGISTRY.put(beanClassName, binder);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> TypedPropertiesBinder<T> get(Class<? extends T> beanClass) {
+		if (REGISTRY.isEmpty()) {
+			return null;
+		}
+		return (TypedPropertiesBinder<T>) REGISTRY
+				.get(ClassUtils.getUserClass(beanClass).getName());
+	}
+
+	public static void clear() {
+		REGISTRY.clear();
+	}
+}
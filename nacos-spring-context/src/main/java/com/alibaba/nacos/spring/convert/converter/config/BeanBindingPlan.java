@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.convert.converter.config;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.alibaba.nacos.spring.util.PropertyKeyIndex;
+
+/**
+ * Binds the flattened properties of a JSON or YAML config onto a new instance of a
+ * POJO. The writable properties, their setters and conversions are resolved once
+ * when the plan is built, so binding a push only looks up keys and invokes setters.
+ * <p>
+ * {@link String}, primitive and wrapper properties are parsed directly, nested POJOs
+ * get a nested plan, and any other property type is converted by the
+ * {@link ConversionService} with a precomputed {@link TypeDescriptor}.
+ *
+ * @param <T> the type of POJO
+ * @since 2.1.0
+ */
+class BeanBindingPlan<T> {
+
+	private static final TypeDescriptor STRING_TYPE = TypeDescriptor
+			.valueOf(String.class);
+
+	/**
+	 * Guards against deep or cyclic object graphs
+	 */
+	private static final int MAX_DEPTH = 8;
+
+	private final Class<T> beanType;
+
+	private final List<PropertyBinding> bindings;
+
+	private BeanBindingPlan(Class<T> beanType, List<PropertyBinding> bindings) {
+		this.beanType = beanType;
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Build the plan of a POJO type.
+	 *
+	 * @param beanType the POJO type
+	 * @param conversionService the {@link ConversionService} for other property types
+	 * @param <T> the type of POJO
+	 * @return <code>null</code> if the type isn't a bindable POJO
+	 */
+	static <T> BeanBindingPlan<T> of(Class<T> beanType,
+			ConversionService conversionService) {
+		return of(beanType, conversionService, new HashSet<Class<?>>());
+	}
+
+	private static <T> BeanBindingPlan<T> of(Class<T> beanType,
+			ConversionService conversionService, Set<Class<?>> building) {
+		if (!isBindableBean(beanType) || building.size() >= MAX_DEPTH
+				|| !building.add(beanType)) {
+			return null;
+		}
+		try {
+			List<PropertyBinding> bindings = new ArrayList<PropertyBinding>();
+			for (PropertyDescriptor descriptor : BeanUtils
+					.getPropertyDescriptors(beanType)) {
+				Method writeMethod = descriptor.getWriteMethod();
+				if (writeMethod == null) {
+					continue;
+				}
+				ReflectionUtils.makeAccessible(writeMethod);
+				PropertyBinding binding = new PropertyBinding(descriptor.getName(),
+						writeMethod);
+				Class<?> propertyType = writeMethod.getParameterTypes()[0];
+				if (propertyType == String.class
+						|| ClassUtils.isPrimitiveOrWrapper(propertyType)) {
+					binding.valueType = ClassUtils
+							.resolvePrimitiveIfNecessary(propertyType);
+				}
+				else if (conversionService.canConvert(String.class, propertyType)) {
+					binding.conversionService = conversionService;
+					binding.typeDescriptor = new TypeDescriptor(
+							new MethodParameter(writeMethod, 0));
+				}
+				else {
+					binding.nested = of(propertyType, conversionService, building);
+					if (binding.nested == null) {
+						continue;
+					}
+				}
+				bindings.add(binding);
+			}
+			return new BeanBindingPlan<T>(beanType, bindings);
+		}
+		finally {
+			building.remove(beanType);
+		}
+	}
+
+	static boolean isBindableBean(Class<?> type) {
+		return !ClassUtils.isPrimitiveOrWrapper(type) && !type.isArray()
+				&& !type.isEnum() && !type.isInterface()
+				&& !Modifier.isAbstract(type.getModifiers())
+				&& !type.getName().startsWith("java.")
+				&& ClassUtils.hasConstructor(type);
+	}
+
+	/**
+	 * Bind the properties parsed from a config content.
+	 *
+	 * @param content the content of config
+	 * @param type the type of config
+	 * @param properties the properties parsed from the content
+	 * @return the bound POJO
+	 */
+	T bind(String content, String type, Map<String, Object> properties) {
+		return bind(properties, PropertyKeyIndex.of("", "", content, type, properties),
+				"");
+	}
+
+	private T bind(Map<String, Object> properties, PropertyKeyIndex keyIndex,
+			String prefix) {
+		T bean = BeanUtils.instantiateClass(beanType);
+		for (PropertyBinding binding : bindings) {
+			String key = prefix + binding.name;
+			Object value;
+			if (binding.nested != null) {
+				if (!keyIndex.hasDescendant(key)) {
+					continue;
+				}
+				value = binding.nested.bind(properties, keyIndex, key + ".");
+			}
+			else if (properties.containsKey(key)) {
+				value = binding.convert(String.valueOf(properties.get(key)));
+			}
+			else {
+				continue;
+			}
+			if (value == null && binding.isPrimitive()) {
+				continue;
+			}
+			ReflectionUtils.invokeMethod(binding.writeMethod, bean, value);
+		}
+		return bean;
+	}
+
+	private static class PropertyBinding {
+
+		private final String name;
+
+		private final Method writeMethod;
+
+		private Class<?> valueType;
+
+		private ConversionService conversionService;
+
+		private TypeDescriptor typeDescriptor;
+
+		private BeanBindingPlan<?> nested;
+
+		PropertyBinding(String name, Method writeMethod) {
+			this.name = name;
+			this.writeMethod = writeMethod;
+		}
+
+		boolean isPrimitive() {
+			return writeMethod.getParameterTypes()[0].isPrimitive();
+		}
+
+		@SuppressWarnings("unchecked")
+		Object convert(String value) {
+			if (valueType == String.class) {
+				return value;
+			}
+			if (valueType == Boolean.class) {
+				return Boolean.valueOf(value.trim());
+			}
+			if (valueType == Character.class) {
+				return value.isEmpty() ? null : value.charAt(0);
+			}
+			if (valueType != null) {
+				return value.trim().isEmpty() ? null
+						: NumberUtils.parseNumber(value,
+								(Class<? extends Number>) valueType);
+			}
+			return conversionService.convert(value, STRING_TYPE, typeDescriptor);
+		}
+	}
+}
@@ -21,11 +21,17 @@ import java.util.Map;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.format.support.DefaultFormattingConversionService;
 
+import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
 import com.alibaba.nacos.spring.util.ConfigParseUtils;
 
 /**
  * Default {@link NacosConfigConverter} implementation
+ * <p>
+ * The conversion path for the target type is resolved once, on first use: {@link Map}
+ * targets get the parsed config, types the {@link ConversionService} can convert
+ * from {@link String} are converted, and POJO targets of JSON or YAML configs are
+ * bound from the parsed config by a {@link BeanBindingPlan}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @since 0.1.0
@@ -38,6 +44,10 @@ public class DefaultNacosConfigConverter<T> implements NacosConfigConverter<T> {
 
 	private final String type;
 
+	private volatile ConversionPath conversionPath;
+
+	private volatile BeanBindingPlan<T> bindingPlan;
+
 	public DefaultNacosConfigConverter(Class<T> targetType) {
 		this(targetType, new DefaultFormattingConversionService(), "properties");
 	}
@@ -52,20 +62,57 @@ public class DefaultNacosConfigConverter<T> implements NacosConfigConverter<T> {
 	@Override
 	public T convert(String source) {
 
-		// If the parameter is of Map type, the configuration is automatically formatted
-
-		if (Map.class.isAssignableFrom(targetType)) {
+		switch (getConversionPath()) {
+		case PROPERTIES:
+			// If the parameter is of Map type, the configuration is automatically
+			// formatted
 			return (T) ConfigParseUtils.toProperties(source, type);
+		case CONVERSION_SERVICE:
+			return conversionService.convert(source, targetType);
+		case BINDING:
+			return bindingPlan.bind(source, type,
+					ConfigParseUtils.toProperties(source, type));
+		default:
+			return null;
 		}
+	}
 
-		if (conversionService.canConvert(source.getClass(), targetType)) {
-			return conversionService.convert(source, targetType);
+	private ConversionPath getConversionPath() {
+		ConversionPath path = conversionPath;
+		if (path == null) {
+			if (Map.class.isAssignableFrom(targetType)) {
+				path = ConversionPath.PROPERTIES;
+			}
+			else if (conversionService.canConvert(String.class, targetType)) {
+				path = ConversionPath.CONVERSION_SERVICE;
+			}
+			else if (isStructuredType(type)) {
+				bindingPlan = BeanBindingPlan.of(targetType, conversionService);
+				path = bindingPlan != null ? ConversionPath.BINDING : ConversionPath.NONE;
+			}
+			else {
+				path = ConversionPath.NONE;
+			}
+			conversionPath = path;
 		}
-		return null;
+		return path;
+	}
+
+	private static boolean isStructuredType(String type) {
+		return ConfigType.JSON.getType().equalsIgnoreCase(type)
+				|| ConfigType.YAML.getType().equalsIgnoreCase(type)
+				|| "yml".equalsIgnoreCase(type);
 	}
 
 	@Override
 	public boolean canConvert(Class<T> targetType) {
-		return conversionService.canConvert(String.class, targetType);
+		return conversionService.canConvert(String.class, targetType)
+				|| isStructuredType(type) && BeanBindingPlan.isBindableBean(targetType);
+	}
+
+	private enum ConversionPath {
+
+		PROPERTIES, CONVERSION_SERVICE, BINDING, NONE
+
 	}
 }
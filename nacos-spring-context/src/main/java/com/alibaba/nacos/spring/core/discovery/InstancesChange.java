@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.ObjectUtils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The change of the instances of a Nacos service between two naming pushes, the
+ * instances are identified by ip, port and cluster.
+ *
+ * @see InstancesChangeListener
+ * @see NacosServiceInstances
+ * @since 2.1.0
+ */
+public final class InstancesChange {
+
+	private final String serviceName;
+
+	private final String groupName;
+
+	private final List<Instance> added;
+
+	private final List<Instance> removed;
+
+	private final List<Instance> weightChanged;
+
+	private final List<Instance> modified;
+
+	InstancesChange(String serviceName, String groupName, List<Instance> added,
+			List<Instance> removed, List<Instance> weightChanged,
+			List<Instance> modified) {
+		this.serviceName = serviceName;
+		this.groupName = groupName;
+		this.added = Collections.unmodifiableList(added);
+		this.removed = Collections.unmodifiableList(removed);
+		this.weightChanged = Collections.unmodifiableList(weightChanged);
+		this.modified = Collections.unmodifiableList(modified);
+	}
+
+	/**
+	 * Compute the change from the previous instances to the current ones
+	 *
+	 * @param serviceName service name
+	 * @param groupName group name
+	 * @param previous the previous instances
+	 * @param current the current instances
+	 * @return non-null
+	 */
+	public static InstancesChange between(String serviceName, String groupName,
+			List<Instance> previous, List<Instance> current) {
+		Map<String, Instance> previousInstances = new LinkedHashMap<String, Instance>(
+				previous.size() * 4 / 3 + 1);
+		for (Instance instance : previous) {
+			previousInstances.put(keyOf(instance), instance);
+		}
+		List<Instance> added = new ArrayList<Instance>();
+		List<Instance> weightChanged = new ArrayList<Instance>();
+		List<Instance> modified = new ArrayList<Instance>();
+		for (Instance instance : current) {
+			Instance old = previousInstances.remove(keyOf(instance));
+			if (old == null) {
+				added.add(instance);
+			}
+			else if (Double.compare(old.getWeight(), instance.getWeight()) != 0) {
+				weightChanged.add(instance);
+			}
+			else if (old.isHealthy() != instance.isHealthy()
+					|| old.isEnabled() != instance.isEnabled()
+					|| !ObjectUtils.nullSafeEquals(old.getMetadata(),
+							instance.getMetadata())) {
+				modified.add(instance);
+			}
+		}
+		List<Instance> removed = new ArrayList<Instance>(previousInstances.values());
+		return new InstancesChange(serviceName, groupName, added, removed,
+				weightChanged, modified);
+	}
+
+	private static String keyOf(Instance instance) {
+		return instance.getIp() + ":" + instance.getPort() + "#"
+				+ instance.getClusterName();
+	}
+
+	public String getServiceName() {
+		return serviceName;
+	}
+
+	public String getGroupName() {
+		return groupName;
+	}
+
+	/**
+	 * Get the instances added
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getAdded() {
+		return added;
+	}
+
+	/**
+	 * Get the previous instances removed
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Get the current instances whose weight is changed
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getWeightChanged() {
+		return weightChanged;
+	}
+
+	/**
+	 * Get the current instances whose health, enabled or metadata is changed with the
+	 * same weight
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getModified() {
+		return modified;
+	}
+
+	/**
+	 * Whether nothing is changed
+	 *
+	 * @return <code>true</code> if empty
+	 */
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty() && weightChanged.isEmpty()
+				&& modified.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "InstancesChange{" + "serviceName='" + serviceName + '\''
+				+ ", groupName='" + groupName + '\'' + ", added=" + added.size()
+				+ ", removed=" + removed.size() + ", weightChanged="
+				+ weightChanged.size() + ", modified=" + modified.size() + '}';
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.discovery;
+
+import java.util.EventListener;
+
+/**
+ * The listener of {@link InstancesChange} delivered by {@link NacosServiceInstances}.
+ *
+ * @see NacosServiceInstances#addListener(InstancesChangeListener)
+ * @since 2.1.0
+ */
+public interface InstancesChangeListener extends EventListener {
+
+	/**
+	 * The instances of service are changed, it's invoked in order and should not block
+	 *
+	 * @param change {@link InstancesChange}, non-empty
+	 */
+	void onChange(InstancesChange change);
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.discovery;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.Event;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.factory.InstanceSelector;
+import com.alibaba.nacos.spring.factory.InstancesSnapshot;
+
+/**
+ * The live, auto-updating view of the instances of a Nacos service, which is fed by the
+ * naming subscription. The {@link InstancesChangeListener listeners} are notified with
+ * the {@link InstancesChange diffs} rather than the full lists, so that a load balancer
+ * could be updated incrementally.
+ *
+ * @see com.alibaba.nacos.spring.context.annotation.discovery.NacosInstances
+ * @see InstancesChange
+ * @since 2.1.0
+ */
+public class NacosServiceInstances implements EventListener, DisposableBean {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(NacosServiceInstances.class);
+
+	private final NamingService namingService;
+
+	private final String serviceName;
+
+	private final String groupName;
+
+	private final List<String> clusters;
+
+	private final List<InstancesChangeListener> listeners = new CopyOnWriteArrayList<InstancesChangeListener>();
+
+	private volatile InstancesSnapshot snapshot;
+
+	private boolean subscribed;
+
+	public NacosServiceInstances(NamingService namingService, String serviceName,
+			String groupName, List<String> clusters) {
+		this.namingService = namingService;
+		this.serviceName = serviceName;
+		this.groupName = groupName;
+		this.clusters = clusters;
+		this.snapshot = new InstancesSnapshot(serviceName,
+				Collections.<Instance> emptyList());
+	}
+
+	/**
+	 * Subscribe the service and load the current instances
+	 *
+	 * @throws NacosException if failed to subscribe
+	 */
+	public synchronized void subscribe() throws NacosException {
+		if (subscribed) {
+			return;
+		}
+		namingService.subscribe(serviceName, groupName, clusters, this);
+		subscribed = true;
+		update(namingService.getAllInstances(serviceName, groupName, clusters, true));
+	}
+
+	@Override
+	public void onEvent(Event event) {
+		if (event instanceof NamingEvent) {
+			update(((NamingEvent) event).getInstances());
+		}
+	}
+
+	private synchronized void update(List<Instance> instances) {
+		InstancesSnapshot current = new InstancesSnapshot(serviceName, instances);
+		InstancesChange change = InstancesChange.between(serviceName, groupName,
+				snapshot.getInstances(), current.getInstances());
+		snapshot = current;
+		if (change.isEmpty()) {
+			return;
+		}
+		for (InstancesChangeListener listener : listeners) {
+			notify(listener, change);
+		}
+	}
+
+	private void notify(InstancesChangeListener listener, InstancesChange change) {
+		try {
+			listener.onChange(change);
+		}
+		catch (RuntimeException e) {
+			logger.error("Failed to notify {} of {}", listener, change, e);
+		}
+	}
+
+	/**
+	 * Add the listener, which is notified with all current instances as added at first
+	 *
+	 * @param listener {@link InstancesChangeListener}
+	 */
+	public synchronized void addListener(InstancesChangeListener listener) {
+		listeners.add(listener);
+		List<Instance> instances = snapshot.getInstances();
+		if (!instances.isEmpty()) {
+			notify(listener, InstancesChange.between(serviceName, groupName,
+					Collections.<Instance> emptyList(), instances));
+		}
+	}
+
+	/**
+	 * Remove the listener
+	 *
+	 * @param listener {@link InstancesChangeListener}
+	 */
+	public void removeListener(InstancesChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	public String getServiceName() {
+		return serviceName;
+	}
+
+	public String getGroupName() {
+		return groupName;
+	}
+
+	public List<String> getClusters() {
+		return clusters;
+	}
+
+	/**
+	 * Get the current snapshot
+	 *
+	 * @return non-null
+	 */
+	public InstancesSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Get all current instances
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getInstances() {
+		return snapshot.getInstances();
+	}
+
+	/**
+	 * Get the current healthy, enabled instances with positive weight
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getHealthyInstances() {
+		return snapshot.getInstances(true);
+	}
+
+	/**
+	 * Select one healthy instance by the {@link InstanceSelector}
+	 *
+	 * @param selector {@link InstanceSelector}
+	 * @param key the key of request, may be <code>null</code>
+	 * @return the selected instance
+	 * @throws IllegalStateException if no healthy instance
+	 */
+	public Instance select(InstanceSelector<?> selector, String key) {
+		return snapshot.select(selector, key);
+	}
+
+	@Override
+	public synchronized void destroy() throws NacosException {
+		if (subscribed) {
+			namingService.unsubscribe(serviceName, groupName, clusters, this);
+			subscribed = false;
+		}
+		listeners.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "NacosServiceInstances{" + "serviceName='" + serviceName + '\''
+				+ ", groupName='" + groupName + '\'' + ", clusters=" + clusters + '}';
+	}
+}
@@ -21,6 +21,7 @@ import static com.alibaba.nacos.spring.context.annotation.config.NacosPropertySo
 import static com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource.GROUP_ID_ATTRIBUTE_NAME;
 import static com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource.NAME_ATTRIBUTE_NAME;
 import static com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource.PROPERTIES_ATTRIBUTE_NAME;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_CONFIG_PROPERTY_SOURCE_COMPACT;
 import static com.alibaba.nacos.spring.util.GlobalNacosPropertiesSource.CONFIG;
 import static com.alibaba.nacos.spring.util.NacosBeanUtils.getNacosServiceFactoryBean;
 import static com.alibaba.nacos.spring.util.NacosUtils.buildDefaultPropertySourceName;
@@ -195,8 +196,15 @@ public abstract class AbstractNacosPropertySourceBuilder<T extends BeanDefinitio
 			name = buildDefaultPropertySourceName(dataId, groupId, nacosProperties);
 		}
 
+		String compact = nacosProperties != null
+				? nacosProperties.getProperty(NACOS_CONFIG_PROPERTY_SOURCE_COMPACT)
+				: null;
+		if (compact == null) {
+			compact = environment.getProperty(NACOS_CONFIG_PROPERTY_SOURCE_COMPACT);
+		}
+
 		NacosPropertySource nacosPropertySource = new NacosPropertySource(dataId, groupId,
-				name, nacosConfig, type);
+				name, nacosConfig, type, Boolean.parseBoolean(compact));
 
 		nacosPropertySource.setBeanName(beanName);
 
@@ -265,7 +273,8 @@ public abstract class AbstractNacosPropertySourceBuilder<T extends BeanDefinitio
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) {
 		ConfigurableApplicationContext context = (ConfigurableApplicationContext) applicationContext;
-		this.applicationEventPublisher = new DeferredApplicationEventPublisher(context);
+		this.applicationEventPublisher = DeferredApplicationEventPublisher
+				.getInstance(context);
 	}
 
 	@Override
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.env;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.alibaba.nacos.spring.util.parse.DefaultPropertiesConfigParse.OriginTrackedValue;
+
+/**
+ * An immutable, array backed {@link Map} of Nacos config properties, which keeps the
+ * insertion order and takes far less memory than a {@link java.util.LinkedHashMap}
+ * for large configs:
+ * <ul>
+ * <li>the entries are two parallel arrays and the hash table is an <code>int</code>
+ * array with open addressing, no entry objects</li>
+ * <li>the property names and short {@link String} values are interned, so they are
+ * shared by all property sources and by every refresh of the same config</li>
+ * <li>{@link OriginTrackedValue} wrappers are unwrapped</li>
+ * </ul>
+ *
+ * @since 2.1.0
+ * @see NacosPropertySource#isCompact()
+ */
+public final class CompactPropertyMap extends AbstractMap<String, Object> {
+
+	/**
+	 * The longer values are unlikely to repeat, interning them would only grow the
+	 * string table
+	 */
+	static final int MAX_INTERNED_VALUE_LENGTH = 64;
+
+	private final String[] keys;
+
+	private final Object[] values;
+
+	/**
+	 * The positions of the entries plus one, <code>0</code> is an empty slot
+	 */
+	private final int[] table;
+
+	private final int mask;
+
+	private final int shift;
+
+	private CompactPropertyMap(String[] keys, Object[] values) {
+		this.keys = keys;
+		this.values = values;
+		// Half full at most to keep the probe sequences short
+		int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+		this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+		for (int i = 0; i < keys.length; i++) {
+			int slot = slot(keys[i].hashCode());
+			while (table[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = i + 1;
+		}
+	}
+
+	/**
+	 * @param properties the parsed properties, the entries with <code>null</code> names
+	 *     are ignored
+	 * @return the compact copy
+	 */
+	public static CompactPropertyMap of(Map<?, ?> properties) {
+		String[] keys = new String[properties.size()];
+		Object[] values = new Object[keys.length];
+		int size = 0;
+		for (Map.Entry<?, ?> entry : properties.entrySet()) {
+			if (entry.getKey() == null) {
+				continue;
+			}
+			keys[size] = String.valueOf(entry.getKey()).intern();
+			values[size] = compact(entry.getValue());
+			size++;
+		}
+		if (size < keys.length) {
+			String[] trimmedKeys = new String[size];
+			Object[] trimmedValues = new Object[size];
+			System.arraycopy(keys, 0, trimmedKeys, 0, size);
+			System.arraycopy(values, 0, trimmedValues, 0, size);
+			keys = trimmedKeys;
+			values = trimmedValues;
+		}
+		return new CompactPropertyMap(keys, values);
+	}
+
+	private static Object compact(Object value) {
+		if (value instanceof OriginTrackedValue) {
+			value = ((OriginTrackedValue) value).getValue();
+		}
+		if (value instanceof String
+				&& ((String) value).length() <= MAX_INTERNED_VALUE_LENGTH) {
+			return ((String) value).intern();
+		}
+		return value;
+	}
+
+	/**
+	 * Fibonacci hashing, the hash codes of property names like <code>a.b1</code> and
+	 * <code>a.b2</code> are consecutive, which would cluster with linear probing
+	 */
+	private int slot(int hash) {
+		return (hash * 0x9E3779B9) >>> shift;
+	}
+
+	private int indexOf(Object key) {
+		if (!(key instanceof String)) {
+			return -1;
+		}
+		int hash = key.hashCode();
+		for (int slot = slot(hash);; slot = (slot + 1) & mask) {
+			int position = table[slot];
+			if (position == 0) {
+				return -1;
+			}
+			String candidate = keys[position - 1];
+			// String caches its hash code, comparing it first skips most equals calls
+			if (candidate == key
+					|| candidate.hashCode() == hash && candidate.equals(key)) {
+				return position - 1;
+			}
+		}
+	}
+
+	@Override
+	public Object get(Object key) {
+		int index = indexOf(key);
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return keys.length;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<Entry<String, Object>>() {
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new Iterator<Entry<String, Object>>() {
+
+					private int next;
+
+					@Override
+					public boolean hasNext() {
+						return next < keys.length;
+					}
+
+					@Override
+					public Entry<String, Object> next() {
+						if (next >= keys.length) {
+							throw new NoSuchElementException();
+						}
+						int index = next++;
+						return new SimpleImmutableEntry<String, Object>(keys[index],
+								values[index]);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return keys.length;
+			}
+		};
+	}
+
+}
@@ -24,6 +24,8 @@ import java.util.Map;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.PropertySource;
 
+import com.alibaba.nacos.spring.util.PropertyKeyIndex;
+
 /**
  * Nacos {@link PropertySource}, all read methods are immutable.
  *
@@ -57,10 +59,29 @@ public class NacosPropertySource extends MapPropertySource {
 
 	private Class<?> beanType;
 
+	private volatile PropertyKeyIndex keyIndex;
+
 	public NacosPropertySource(String dataId, String groupId, String name,
 			String nacosConfig, String type) {
-		super(name, toProperties(dataId, groupId, nacosConfig, type));
+		this(dataId, groupId, name, nacosConfig, type, false);
+	}
+
+	/**
+	 * @param dataId dataId
+	 * @param groupId groupId
+	 * @param name the name of {@link PropertySource}
+	 * @param nacosConfig the content of Nacos config
+	 * @param type the type of Nacos config
+	 * @param compact whether the properties are kept in a {@link CompactPropertyMap}
+	 */
+	public NacosPropertySource(String dataId, String groupId, String name,
+			String nacosConfig, String type, boolean compact) {
+		super(name, compact
+				? CompactPropertyMap.of(toProperties(dataId, groupId, nacosConfig, type))
+				: toProperties(dataId, groupId, nacosConfig, type));
 		this.type = type;
+		this.keyIndex = PropertyKeyIndex.of(dataId, groupId, nacosConfig, type,
+				getSource());
 	}
 
 	public String getGroupId() {
@@ -176,6 +197,27 @@ public class NacosPropertySource extends MapPropertySource {
 		this.beanType = beanType;
 	}
 
+	/**
+	 * @return whether the properties are kept in a {@link CompactPropertyMap}, the
+	 *     refreshed property sources keep the same representation
+	 */
+	public boolean isCompact() {
+		return getSource() instanceof CompactPropertyMap;
+	}
+
+	/**
+	 * @return the sorted index of the property names, shared by all callers and the
+	 *     beans bound from the same content
+	 */
+	public PropertyKeyIndex getKeyIndex() {
+		PropertyKeyIndex index = keyIndex;
+		if (index == null) {
+			index = PropertyKeyIndex.of(getSource());
+			keyIndex = index;
+		}
+		return index;
+	}
+
 	protected void copy(NacosPropertySource original) {
 		this.groupId = original.groupId;
 		this.dataId = original.dataId;
@@ -56,6 +56,9 @@ import com.alibaba.nacos.spring.context.annotation.config.NacosPropertySources;
 import com.alibaba.nacos.spring.context.config.xml.NacosPropertySourceXmlBeanDefinition;
 import com.alibaba.nacos.spring.context.event.config.EventPublishingConfigService;
 import com.alibaba.nacos.spring.factory.NacosServiceFactory;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.metrics.NacosConfigTraceRecorder;
 import com.alibaba.spring.util.BeanUtils;
 
 /**
@@ -117,12 +120,19 @@ public class NacosPropertySourcePostProcessor
 				public void receiveConfigInfo(String config) {
 					String name = nacosPropertySource.getName();
 					NacosPropertySource newNacosPropertySource = new NacosPropertySource(
-							dataId, groupId, name, config, type);
+							dataId, groupId, name, config, type,
+							nacosPropertySource.isCompact());
 					newNacosPropertySource.copy(nacosPropertySource);
 					MutablePropertySources propertySources = environment
 							.getPropertySources();
 					// replace NacosPropertySource
+					long start = System.nanoTime();
 					propertySources.replace(name, newNacosPropertySource);
+					long nanos = System.nanoTime() - start;
+					NacosConfigMetricsHolder.getMetrics()
+							.recordPropertySourceReplace(dataId, groupId, nanos);
+					NacosConfigTraceRecorder.recordStage(
+							NacosConfigPushTrace.PROPERTY_SOURCE_REPLACE, nanos);
 				}
 			};
 
@@ -16,21 +16,29 @@
  */
 package com.alibaba.nacos.spring.factory;
 
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_CONFIG_MULTIPLEXED;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_NAMING_REGISTRATION_BATCH_WINDOW;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_NAMING_SNAPSHOT_ENABLED;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_NAMING_SNAPSHOT_PATH;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_NAMING_SNAPSHOT_SELECTOR;
 import static com.alibaba.nacos.spring.util.NacosBeanUtils.getNacosConfigListenerExecutorIfPresent;
-import static com.alibaba.nacos.spring.util.NacosUtils.identify;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import com.alibaba.nacos.api.NacosFactory;
 import com.alibaba.nacos.api.config.ConfigService;
@@ -50,13 +58,16 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 
 	private static volatile CacheableEventPublishingNacosServiceFactory SINGLETON = new CacheableEventPublishingNacosServiceFactory();
 
-	private final Map<String, ConfigService> configServicesCache = new LinkedHashMap<String, ConfigService>(
+	/**
+	 * The caches are read without locking on every cache hit
+	 */
+	private final Map<NacosServiceIdentity, ConfigService> configServicesCache = new ConcurrentHashMap<NacosServiceIdentity, ConfigService>(
 			2);
 
-	private final Map<String, NamingService> namingServicesCache = new LinkedHashMap<String, NamingService>(
+	private final Map<NacosServiceIdentity, NamingService> namingServicesCache = new ConcurrentHashMap<NacosServiceIdentity, NamingService>(
 			2);
 
-	private final Map<String, NamingMaintainService> maintainServiceCache = new LinkedHashMap<String, NamingMaintainService>(
+	private final Map<NacosServiceIdentity, NamingMaintainService> maintainServiceCache = new ConcurrentHashMap<NacosServiceIdentity, NamingMaintainService>(
 			2);
 
 	private final LinkedList<DeferServiceHolder> deferServiceCache = new LinkedList<DeferServiceHolder>();
@@ -82,6 +93,12 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 	@Override
 	public ConfigService createConfigService(Properties properties)
 			throws NacosException {
+		// Cached services are returned without copying the properties
+		ConfigService configService = configServicesCache
+				.get(NacosServiceIdentity.of(properties));
+		if (configService != null) {
+			return configService;
+		}
 		Properties copy = new Properties();
 		copy.putAll(properties);
 		return (ConfigService) createWorkerManager.get(ServiceType.CONFIG).run(copy,
@@ -91,6 +108,11 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 	@Override
 	public NamingService createNamingService(Properties properties)
 			throws NacosException {
+		NamingService namingService = namingServicesCache
+				.get(NacosServiceIdentity.of(properties));
+		if (namingService != null) {
+			return namingService;
+		}
 		Properties copy = new Properties();
 		copy.putAll(properties);
 		return (NamingService) createWorkerManager.get(ServiceType.NAMING).run(copy,
@@ -104,6 +126,11 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 	@Override
 	public NamingMaintainService createNamingMaintainService(Properties properties)
 			throws NacosException {
+		NamingMaintainService maintainService = maintainServiceCache
+				.get(NacosServiceIdentity.of(properties));
+		if (maintainService != null) {
+			return maintainService;
+		}
 		Properties copy = new Properties();
 		copy.putAll(properties);
 		return (NamingMaintainService) createWorkerManager.get(ServiceType.MAINTAIN)
@@ -242,12 +269,14 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 		@Override
 		public ConfigService run(Properties properties, ConfigService service)
 				throws NacosException {
-			String cacheKey = identify(properties);
+			NacosServiceIdentity cacheKey = NacosServiceIdentity.of(properties);
 			ConfigService configService = configServicesCache.get(cacheKey);
 
 			if (configService == null) {
 				if (service == null) {
-					service = NacosFactory.createConfigService(properties);
+					service = isMultiplexed(properties)
+							? MultiplexedConfigService.create(properties)
+							: NacosFactory.createConfigService(properties);
 				}
 				configService = new EventPublishingConfigService(service, properties,
 						getSingleton().context,
@@ -266,20 +295,79 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 		@Override
 		public NamingService run(Properties properties, NamingService service)
 				throws NacosException {
-			String cacheKey = identify(properties);
+			NacosServiceIdentity cacheKey = NacosServiceIdentity.of(properties);
 			NamingService namingService = namingServicesCache.get(cacheKey);
 
 			if (namingService == null) {
 				if (service == null) {
 					service = NacosFactory.createNamingService(properties);
 				}
-				namingService = new DelegatingNamingService(service, properties);
+				DelegatingNamingService delegatingNamingService = Boolean
+						.parseBoolean(getServiceProperty(properties,
+								NACOS_NAMING_SNAPSHOT_ENABLED))
+										? new SnapshotNamingService(service, properties,
+												createInstanceSelector(properties),
+												createSnapshotStore(properties))
+										: new DelegatingNamingService(service,
+												properties);
+				String batchWindow = getServiceProperty(properties,
+						NACOS_NAMING_REGISTRATION_BATCH_WINDOW);
+				long batchWindowMillis = StringUtils.hasText(batchWindow)
+						? Long.parseLong(batchWindow.trim())
+						: 0;
+				if (batchWindowMillis > 0) {
+					delegatingNamingService.enableRegistrationBatching(batchWindowMillis);
+				}
+				namingService = delegatingNamingService;
 				namingServicesCache.put(cacheKey, namingService);
 			}
 			return namingService;
 		}
 	}
 
+	private boolean isMultiplexed(Properties properties) {
+		return Boolean
+				.parseBoolean(getServiceProperty(properties, NACOS_CONFIG_MULTIPLEXED))
+				&& MultiplexedConfigTransport.supports(properties);
+	}
+
+	private String getServiceProperty(Properties properties, String name) {
+		String value = properties.getProperty(name);
+		ConfigurableApplicationContext context = getSingleton().context;
+		if (value == null && context != null) {
+			value = context.getEnvironment().getProperty(name);
+		}
+		return value;
+	}
+
+	private InstancesSnapshotStore createSnapshotStore(Properties properties) {
+		String path = getServiceProperty(properties, NACOS_NAMING_SNAPSHOT_PATH);
+		if (!StringUtils.hasText(path)) {
+			return null;
+		}
+		String fileName = "naming-" + NacosServiceIdentity.of(properties).digest()
+				+ ".snapshot";
+		return new InstancesSnapshotStore(new File(path.trim(), fileName));
+	}
+
+	private InstanceSelector<?> createInstanceSelector(Properties properties) {
+		String className = getServiceProperty(properties,
+				NACOS_NAMING_SNAPSHOT_SELECTOR);
+		if (className == null) {
+			return WeightedRandomInstanceSelector.INSTANCE;
+		}
+		Class<?> selectorClass = ClassUtils.resolveClassName(className.trim(),
+				ClassUtils.getDefaultClassLoader());
+		// Its requests could never be completed by the callers
+		if (PowerOfTwoChoicesInstanceSelector.class.isAssignableFrom(selectorClass)) {
+			throw new IllegalArgumentException(selectorClass.getName()
+					+ " needs the callers to complete the requests, it can't be set by "
+					+ NACOS_NAMING_SNAPSHOT_SELECTOR
+					+ ", pass it to InstanceSelectingNamingService instead");
+		}
+		return (InstanceSelector<?>) BeanUtils.instantiateClass(selectorClass);
+	}
+
 	class MaintainCreateWorker extends AbstractCreateWorker<NamingMaintainService> {
 
 		MaintainCreateWorker() {
@@ -288,7 +376,7 @@ public class CacheableEventPublishingNacosServiceFactory implements NacosService
 		@Override
 		public NamingMaintainService run(Properties properties,
 				NamingMaintainService service) throws NacosException {
-			String cacheKey = identify(properties);
+			NacosServiceIdentity cacheKey = NacosServiceIdentity.of(properties);
 			NamingMaintainService namingMaintainService = maintainServiceCache
 					.get(cacheKey);
 
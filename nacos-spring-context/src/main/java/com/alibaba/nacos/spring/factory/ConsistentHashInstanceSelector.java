@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The {@link InstanceSelector} selecting by consistent hashing of the key, e.g. request
+ * id, on a ring with virtual nodes, whose count per instance is proportional to the
+ * weight. The requests with the same key are routed to the same instance as long as it's
+ * present, and only the keys of the changed instances are remapped. The instance is
+ * selected randomly if the key is <code>null</code>.
+ *
+ * @since 2.1.0
+ */
+public class ConsistentHashInstanceSelector
+		implements InstanceSelector<ConsistentHashInstanceSelector.HashRing> {
+
+	/**
+	 * The default count of virtual nodes per instance of average weight
+	 */
+	public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final int virtualNodes;
+
+	public ConsistentHashInstanceSelector() {
+		this(DEFAULT_VIRTUAL_NODES);
+	}
+
+	public ConsistentHashInstanceSelector(int virtualNodes) {
+		Assert.isTrue(virtualNodes > 0, "The virtual nodes must be positive!");
+		this.virtualNodes = virtualNodes;
+	}
+
+	@Override
+	public HashRing buildIndex(List<Instance> instances) {
+		double totalWeight = 0;
+		for (Instance instance : instances) {
+			totalWeight += instance.getWeight();
+		}
+		double averageWeight = totalWeight / instances.size();
+		int[] replicas = new int[instances.size()];
+		int total = 0;
+		for (int i = 0; i < replicas.length; i++) {
+			replicas[i] = Math.max(1, (int) Math
+					.round(virtualNodes * instances.get(i).getWeight() / averageWeight));
+			total += replicas[i];
+		}
+		// The high bits are the hash, the low bits are the index of instance, the ring
+		// is ordered by the signed hashes of both the nodes and the keys
+		long[] nodes = new long[total];
+		int indexBits = 32 - Integer.numberOfLeadingZeros(instances.size());
+		int n = 0;
+		for (int i = 0; i < replicas.length; i++) {
+			String prefix = instances.get(i).getIp() + ":" + instances.get(i).getPort()
+					+ "#";
+			for (int j = 0; j < replicas[i]; j++) {
+				nodes[n++] = (hash(prefix + j) >>> indexBits << indexBits) | i;
+			}
+		}
+		Arrays.sort(nodes);
+		long mask = (1L << indexBits) - 1;
+		long[] hashes = new long[total];
+		Instance[] owners = new Instance[total];
+		for (int i = 0; i < total; i++) {
+			hashes[i] = nodes[i] & ~mask;
+			owners[i] = instances.get((int) (nodes[i] & mask));
+		}
+		return new HashRing(hashes, owners, indexBits);
+	}
+
+	@Override
+	public Instance select(HashRing index, String key) {
+		Instance[] owners = index.owners;
+		if (key == null) {
+			return owners[ThreadLocalRandom.current().nextInt(owners.length)];
+		}
+		long hash = hash(key) >>> index.indexBits << index.indexBits;
+		int i = Arrays.binarySearch(index.hashes, hash);
+		if (i < 0) {
+			i = -i - 1;
+		}
+		return owners[i == owners.length ? 0 : i];
+	}
+
+	/**
+	 * 64-bit FNV-1a with the finalizer of MurmurHash3
+	 */
+	static long hash(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * The sorted ring of virtual nodes
+	 */
+	public static final class HashRing {
+
+		private final long[] hashes;
+
+		private final Instance[] owners;
+
+		private final int indexBits;
+
+		HashRing(long[] hashes, Instance[] owners, int indexBits) {
+			this.hashes = hashes;
+			this.owners = owners;
+			this.indexBits = indexBits;
+		}
+	}
+}
@@ -20,8 +20,11 @@ package com.alibaba.nacos.spring.factory;
 import java.util.List;
 import java.util.Properties;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.NamingService;
 import com.alibaba.nacos.api.naming.listener.EventListener;
@@ -42,49 +45,121 @@ import com.alibaba.nacos.spring.metadata.NacosServiceMetaData;
 class DelegatingNamingService
 		implements NamingService, NacosServiceMetaData, DisposableBean {
 
+	private static final Logger logger = LoggerFactory
+			.getLogger(DelegatingNamingService.class);
+
 	private final NamingService delegate;
 
 	private final Properties properties;
 
+	private volatile RegistrationBatcher registrationBatcher;
+
 	DelegatingNamingService(NamingService delegate, Properties properties) {
 		this.delegate = delegate;
 		this.properties = properties;
 	}
 
+	/**
+	 * Batch the registrations of the ephemeral instances within the window
+	 *
+	 * @param windowMillis the window in milliseconds
+	 * @see RegistrationBatcher
+	 * @since 2.1.0
+	 */
+	void enableRegistrationBatching(long windowMillis) {
+		this.registrationBatcher = new RegistrationBatcher(delegate, windowMillis);
+	}
+
+	/**
+	 * Flush the batched registrations if the batching is enabled
+	 *
+	 * @throws NacosException the failure of the flush
+	 * @since 2.1.0
+	 */
+	public void flushRegistrations() throws NacosException {
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			batcher.flush();
+		}
+	}
+
+	private static Instance newInstance(String ip, int port, String clusterName) {
+		Instance instance = new Instance();
+		instance.setIp(ip);
+		instance.setPort(port);
+		instance.setWeight(1.0D);
+		instance.setClusterName(clusterName);
+		return instance;
+	}
+
 	@Override
 	public void registerInstance(String serviceName, String ip, int port)
 			throws NacosException {
-		delegate.registerInstance(serviceName, ip, port);
+		if (registrationBatcher != null) {
+			registerInstance(serviceName, Constants.DEFAULT_GROUP, ip, port);
+		}
+		else {
+			delegate.registerInstance(serviceName, ip, port);
+		}
 	}
 
 	@Override
 	public void registerInstance(String serviceName, String groupName, String ip,
 			int port) throws NacosException {
-		delegate.registerInstance(serviceName, groupName, ip, port);
+		if (registrationBatcher != null) {
+			registerInstance(serviceName, groupName, ip, port,
+					Constants.DEFAULT_CLUSTER_NAME);
+		}
+		else {
+			delegate.registerInstance(serviceName, groupName, ip, port);
+		}
 	}
 
 	@Override
 	public void registerInstance(String serviceName, String ip, int port,
 			String clusterName) throws NacosException {
-		delegate.registerInstance(serviceName, ip, port, clusterName);
+		if (registrationBatcher != null) {
+			registerInstance(serviceName, Constants.DEFAULT_GROUP, ip, port, clusterName);
+		}
+		else {
+			delegate.registerInstance(serviceName, ip, port, clusterName);
+		}
 	}
 
 	@Override
 	public void registerInstance(String serviceName, String groupName, String ip,
 			int port, String clusterName) throws NacosException {
-		delegate.registerInstance(serviceName, groupName, ip, port, clusterName);
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			batcher.registerInstance(serviceName, groupName,
+					newInstance(ip, port, clusterName));
+		}
+		else {
+			delegate.registerInstance(serviceName, groupName, ip, port, clusterName);
+		}
 	}
 
 	@Override
 	public void registerInstance(String serviceName, Instance instance)
 			throws NacosException {
-		delegate.registerInstance(serviceName, instance);
+		if (registrationBatcher != null) {
+			registerInstance(serviceName, Constants.DEFAULT_GROUP, instance);
+		}
+		else {
+			delegate.registerInstance(serviceName, instance);
+		}
 	}
 
 	@Override
 	public void registerInstance(String serviceName, String groupName, Instance instance)
 			throws NacosException {
-		delegate.registerInstance(serviceName, groupName, instance);
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			batcher.registerInstance(serviceName, groupName, instance);
+		}
+		else {
+			delegate.registerInstance(serviceName, groupName, instance);
+		}
 	}
 	
 	@Override
@@ -102,37 +177,71 @@ class DelegatingNamingService
 	@Override
 	public void deregisterInstance(String serviceName, String ip, int port)
 			throws NacosException {
-		delegate.deregisterInstance(serviceName, ip, port);
+		if (registrationBatcher != null) {
+			deregisterInstance(serviceName, Constants.DEFAULT_GROUP, ip, port);
+		}
+		else {
+			delegate.deregisterInstance(serviceName, ip, port);
+		}
 	}
 
 	@Override
 	public void deregisterInstance(String serviceName, String groupName, String ip,
 			int port) throws NacosException {
-		delegate.deregisterInstance(serviceName, groupName, ip, port);
+		if (registrationBatcher != null) {
+			deregisterInstance(serviceName, groupName, ip, port,
+					Constants.DEFAULT_CLUSTER_NAME);
+		}
+		else {
+			delegate.deregisterInstance(serviceName, groupName, ip, port);
+		}
 	}
 
 	@Override
 	public void deregisterInstance(String serviceName, String ip, int port,
 			String clusterName) throws NacosException {
-		delegate.deregisterInstance(serviceName, ip, port, clusterName);
+		if (registrationBatcher != null) {
+			deregisterInstance(serviceName, Constants.DEFAULT_GROUP, ip, port, clusterName);
+		}
+		else {
+			delegate.deregisterInstance(serviceName, ip, port, clusterName);
+		}
 	}
 
 	@Override
 	public void deregisterInstance(String serviceName, String groupName, String ip,
 			int port, String clusterName) throws NacosException {
-		delegate.deregisterInstance(serviceName, groupName, ip, port, clusterName);
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			batcher.deregisterInstance(serviceName, groupName,
+					newInstance(ip, port, clusterName));
+		}
+		else {
+			delegate.deregisterInstance(serviceName, groupName, ip, port, clusterName);
+		}
 	}
 
 	@Override
 	public void deregisterInstance(String serviceName, Instance instance)
 			throws NacosException {
-		delegate.deregisterInstance(serviceName, instance);
+		if (registrationBatcher != null) {
+			deregisterInstance(serviceName, Constants.DEFAULT_GROUP, instance);
+		}
+		else {
+			delegate.deregisterInstance(serviceName, instance);
+		}
 	}
 
 	@Override
 	public void deregisterInstance(String serviceName, String groupName,
 			Instance instance) throws NacosException {
-		delegate.deregisterInstance(serviceName, groupName, instance);
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			batcher.deregisterInstance(serviceName, groupName, instance);
+		}
+		else {
+			delegate.deregisterInstance(serviceName, groupName, instance);
+		}
 	}
 
 	@Override
@@ -364,6 +473,15 @@ class DelegatingNamingService
 
 	@Override
 	public void shutDown() throws NacosException {
+		RegistrationBatcher batcher = registrationBatcher;
+		if (batcher != null) {
+			try {
+				batcher.close();
+			}
+			catch (NacosException e) {
+				logger.warn("Failed to flush the batched registrations of Nacos", e);
+			}
+		}
 		delegate.shutDown();
 	}
 
@@ -373,7 +491,8 @@ class DelegatingNamingService
 	}
 
 	/**
-	 * Destroy lifecycle method to invoke {@link #shutDown()}
+	 * Destroy lifecycle method to invoke {@link #shutDown()}, the batched registrations
+	 * are flushed before shutting down
 	 * @throws Exception
 	 * @since 1.0.0
 	 */
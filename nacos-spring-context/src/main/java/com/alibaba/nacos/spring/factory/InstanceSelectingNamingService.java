@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.List;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The {@link NamingService} selecting the subscribed instances by the
+ * {@link InstanceSelector} strategies over the {@link InstancesSnapshot snapshots}. The
+ * {@link NamingService} created by the
+ * {@link CacheableEventPublishingNacosServiceFactory} implements it if
+ * {@link com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_NAMING_SNAPSHOT_ENABLED}
+ * is <code>true</code>.
+ *
+ * @see InstanceSelector
+ * @see InstancesSnapshot
+ * @since 2.1.0
+ */
+public interface InstanceSelectingNamingService extends NamingService {
+
+	/**
+	 * Get the snapshot of the subscribed service, subscribe it at first
+	 *
+	 * @param serviceName service name
+	 * @param groupName group name
+	 * @param clusters clusters
+	 * @return non-null
+	 * @throws NacosException if failed to subscribe
+	 */
+	InstancesSnapshot getInstancesSnapshot(String serviceName, String groupName,
+			List<String> clusters) throws NacosException;
+
+	/**
+	 * Select one healthy instance of the subscribed service by the
+	 * {@link InstanceSelector}
+	 *
+	 * @param serviceName service name
+	 * @param groupName group name
+	 * @param clusters clusters
+	 * @param selector {@link InstanceSelector}
+	 * @param key the key of request, e.g. request id, may be <code>null</code>
+	 * @return the selected instance
+	 * @throws NacosException if failed to subscribe
+	 * @throws IllegalStateException if no healthy instance
+	 */
+	Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters, InstanceSelector<?> selector, String key)
+			throws NacosException;
+
+}
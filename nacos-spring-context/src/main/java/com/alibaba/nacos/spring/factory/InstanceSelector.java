@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.List;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The strategy selecting one of the healthy instances of an {@link InstancesSnapshot}.
+ * The index is built once per snapshot, that is, only when the subscribed instances are
+ * changed, so that {@link #select(Object, String)} on the request path could be cheap.
+ * The implementation must be thread-safe.
+ *
+ * @param <I> the type of index
+ * @see WeightedRandomInstanceSelector
+ * @see PowerOfTwoChoicesInstanceSelector
+ * @see ConsistentHashInstanceSelector
+ * @see InstancesSnapshot#select(InstanceSelector, String)
+ * @since 2.1.0
+ */
+public interface InstanceSelector<I> {
+
+	/**
+	 * Build the index of the healthy instances
+	 *
+	 * @param instances the healthy, enabled instances with positive weight, non-empty
+	 * @return the index
+	 */
+	I buildIndex(List<Instance> instances);
+
+	/**
+	 * Select one instance
+	 *
+	 * @param index the index built by {@link #buildIndex(List)}
+	 * @param key the key of request, e.g. request id, may be <code>null</code>
+	 * @return the selected instance
+	 */
+	Instance select(I index, String key);
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The immutable snapshot of the instances of a subscribed service, the healthy instances
+ * and the indexes of {@link InstanceSelector selectors} are built once per snapshot, so
+ * that the selections are lock-free and allocation-free.
+ *
+ * @see SnapshotNamingService
+ * @since 2.1.0
+ */
+public final class InstancesSnapshot {
+
+	private final String serviceName;
+
+	private final List<Instance> instances;
+
+	private final List<Instance> healthyInstances;
+
+	private final List<Instance> unhealthyInstances;
+
+	private final ConcurrentMap<InstanceSelector<?>, Object> indexes = new ConcurrentHashMap<InstanceSelector<?>, Object>(
+			4);
+
+	public InstancesSnapshot(String serviceName, List<Instance> instances) {
+		this.serviceName = serviceName;
+		List<Instance> all = instances == null ? new ArrayList<Instance>()
+				: new ArrayList<Instance>(instances);
+		List<Instance> healthy = new ArrayList<Instance>(all.size());
+		List<Instance> unhealthy = new ArrayList<Instance>();
+		for (Instance instance : all) {
+			// The same as NacosNamingService#selectInstances
+			if (!instance.isEnabled() || instance.getWeight() <= 0) {
+				continue;
+			}
+			if (instance.isHealthy()) {
+				healthy.add(instance);
+			}
+			else {
+				unhealthy.add(instance);
+			}
+		}
+		this.instances = Collections.unmodifiableList(all);
+		this.healthyInstances = Collections.unmodifiableList(healthy);
+		this.unhealthyInstances = Collections.unmodifiableList(unhealthy);
+	}
+
+	public String getServiceName() {
+		return serviceName;
+	}
+
+	/**
+	 * Get all instances
+	 *
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getInstances() {
+		return instances;
+	}
+
+	/**
+	 * Get the enabled instances with positive weight by the health
+	 *
+	 * @param healthy <code>true</code> for healthy instances, or unhealthy ones
+	 * @return the unmodifiable list
+	 */
+	public List<Instance> getInstances(boolean healthy) {
+		return healthy ? healthyInstances : unhealthyInstances;
+	}
+
+	/**
+	 * Select one healthy instance randomly by weight in O(1)
+	 *
+	 * @return the selected instance
+	 * @throws IllegalStateException if no healthy instance
+	 * @see WeightedRandomInstanceSelector
+	 */
+	public Instance selectOneHealthyInstance() {
+		return select(WeightedRandomInstanceSelector.INSTANCE, null);
+	}
+
+	/**
+	 * Select one healthy instance by the {@link InstanceSelector}, whose index is built
+	 * once per snapshot
+	 *
+	 * @param selector {@link InstanceSelector}
+	 * @param key the key of request, may be <code>null</code>
+	 * @param <I> the type of index
+	 * @return the selected instance
+	 * @throws IllegalStateException if no healthy instance
+	 */
+	@SuppressWarnings("unchecked")
+	public <I> Instance select(InstanceSelector<I> selector, String key) {
+		if (healthyInstances.isEmpty()) {
+			throw new IllegalStateException(
+					"no healthy host to srv for serviceInfo: " + serviceName);
+		}
+		Object index = indexes.get(selector);
+		if (index == null) {
+			// The index may be built more than once on the race, which is harmless
+			index = selector.buildIndex(healthyInstances);
+			Object previous = indexes.putIfAbsent(selector, index);
+			if (previous != null) {
+				index = previous;
+			}
+		}
+		return selector.select((I) index, key);
+	}
+}
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The local store of the last-known instances of the subscribed services, which is
+ * loaded by {@link SnapshotNamingService} on start to serve the reads before the
+ * subscriptions deliver. The instances are kept in a compact binary file, which is
+ * rewritten asynchronously on change, the writes are coalesced and the file is replaced
+ * atomically.
+ *
+ * @see com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_NAMING_SNAPSHOT_PATH
+ * @since 2.1.0
+ */
+class InstancesSnapshotStore {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(InstancesSnapshotStore.class);
+
+	private static final int MAGIC = 0x4E41534E;
+
+	/**
+	 * The strings are length-prefixed UTF-8 since version 2, without the 64KB limit of
+	 * the modified UTF-8
+	 */
+	private static final int VERSION = 2;
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Guards against allocating for the length read from a broken file
+	 */
+	private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+	/**
+	 * Guards against allocating for the count of entries, instances or metadata read
+	 * from a broken file
+	 */
+	private static final int MAX_COUNT = 1024 * 1024;
+
+	private static final int HEALTHY = 1;
+
+	private static final int ENABLED = 1 << 1;
+
+	private static final int EPHEMERAL = 1 << 2;
+
+	private static final ExecutorService writer = Executors
+			.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r);
+					t.setDaemon(true);
+					t.setName("com.alibaba.nacos.spring.namingSnapshotWriter");
+					return t;
+				}
+			});
+
+	private final File file;
+
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+	private final AtomicBoolean dirty = new AtomicBoolean();
+
+	private final Runnable writeTask = new Runnable() {
+		@Override
+		public void run() {
+			write();
+		}
+	};
+
+	InstancesSnapshotStore(File file) {
+		this.file = file;
+	}
+
+	File getFile() {
+		return file;
+	}
+
+	/**
+	 * Load the stored entries, the broken or incompatible file is ignored
+	 *
+	 * @return the stored entries
+	 */
+	Collection<Entry> load() {
+		if (!file.isFile()) {
+			return Collections.emptyList();
+		}
+		DataInputStream input = null;
+		try {
+			input = new DataInputStream(
+					new BufferedInputStream(new FileInputStream(file)));
+			if (input.readInt() != MAGIC || input.readUnsignedByte() != VERSION) {
+				logger.warn("Ignore the incompatible Nacos naming snapshot : {}", file);
+				return Collections.emptyList();
+			}
+			int size = readCount(input);
+			Map<String, Entry> loaded = new LinkedHashMap<String, Entry>(size);
+			for (int i = 0; i < size; i++) {
+				Entry entry = readEntry(input);
+				loaded.put(entry.getKey(), entry);
+			}
+			for (Map.Entry<String, Entry> entry : loaded.entrySet()) {
+				entries.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+			return loaded.values();
+		}
+		catch (IOException e) {
+			logger.warn("Failed to load the Nacos naming snapshot : {}", file, e);
+			return Collections.emptyList();
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to load the broken Nacos naming snapshot : {}", file, e);
+			return Collections.emptyList();
+		}
+		finally {
+			closeQuietly(input);
+		}
+	}
+
+	/**
+	 * Store the instances of the service, which is written asynchronously
+	 *
+	 * @param entry the instances of the service
+	 */
+	void save(Entry entry) {
+		entries.put(entry.getKey(), entry);
+		if (dirty.compareAndSet(false, true)) {
+			writer.execute(writeTask);
+		}
+	}
+
+	/**
+	 * Remove the instances of the service, which is written asynchronously
+	 *
+	 * @param key the key of the entry
+	 * @see Entry#getKey()
+	 */
+	void remove(String key) {
+		if (entries.remove(key) != null && dirty.compareAndSet(false, true)) {
+			writer.execute(writeTask);
+		}
+	}
+
+	/**
+	 * Write the pending changes synchronously, waiting for the running write if any
+	 */
+	synchronized void flush() {
+		if (dirty.get()) {
+			write();
+		}
+	}
+
+	private synchronized void write() {
+		dirty.set(false);
+		List<Entry> snapshot = new ArrayList<Entry>(entries.values());
+		File parent = file.getAbsoluteFile().getParentFile();
+		File temp = new File(parent, file.getName() + ".tmp");
+		DataOutputStream output = null;
+		try {
+			if (!parent.isDirectory() && !parent.mkdirs()) {
+				throw new IOException("Can't create the directory " + parent);
+			}
+			output = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp)));
+			output.writeInt(MAGIC);
+			output.writeByte(VERSION);
+			output.writeInt(snapshot.size());
+			for (Entry entry : snapshot) {
+				writeEntry(output, entry);
+			}
+			output.close();
+			output = null;
+			Files.move(temp.toPath(), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException e) {
+			logger.warn("Failed to write the Nacos naming snapshot : {}", file, e);
+		}
+		finally {
+			closeQuietly(output);
+		}
+	}
+
+	private static void writeEntry(DataOutputStream output, Entry entry)
+			throws IOException {
+		writeString(output, entry.getServiceName());
+		writeString(output, entry.getGroupName());
+		writeString(output, StringUtils.collectionToCommaDelimitedString(entry.getClusters()));
+		output.writeInt(entry.getInstances().size());
+		for (Instance instance : entry.getInstances()) {
+			int flags = (instance.isHealthy() ? HEALTHY : 0)
+					| (instance.isEnabled() ? ENABLED : 0)
+					| (instance.isEphemeral() ? EPHEMERAL : 0);
+			output.writeByte(flags);
+			writeNullableString(output, instance.getInstanceId());
+			writeNullableString(output, instance.getIp());
+			output.writeInt(instance.getPort());
+			output.writeDouble(instance.getWeight());
+			writeNullableString(output, instance.getClusterName());
+			writeNullableString(output, instance.getServiceName());
+			Map<String, String> metadata = instance.getMetadata();
+			output.writeInt(metadata == null ? 0 : metadata.size());
+			if (metadata != null) {
+				for (Map.Entry<String, String> item : metadata.entrySet()) {
+					writeString(output, item.getKey());
+					writeNullableString(output, item.getValue());
+				}
+			}
+		}
+	}
+
+	private static Entry readEntry(DataInputStream input) throws IOException {
+		String serviceName = readString(input);
+		String groupName = readString(input);
+		List<String> clusters = Arrays
+				.asList(StringUtils.commaDelimitedListToStringArray(readString(input)));
+		int size = readCount(input);
+		List<Instance> instances = new ArrayList<Instance>(size);
+		for (int i = 0; i < size; i++) {
+			int flags = input.readUnsignedByte();
+			Instance instance = new Instance();
+			instance.setHealthy((flags & HEALTHY) != 0);
+			instance.setEnabled((flags & ENABLED) != 0);
+			instance.setEphemeral((flags & EPHEMERAL) != 0);
+			instance.setInstanceId(readNullableString(input));
+			instance.setIp(readNullableString(input));
+			instance.setPort(input.readInt());
+			instance.setWeight(input.readDouble());
+			instance.setClusterName(readNullableString(input));
+			instance.setServiceName(readNullableString(input));
+			int metadataSize = readCount(input);
+			Map<String, String> metadata = new HashMap<String, String>(metadataSize);
+			for (int j = 0; j < metadataSize; j++) {
+				metadata.put(readString(input), readNullableString(input));
+			}
+			instance.setMetadata(metadata);
+			instances.add(instance);
+		}
+		return new Entry(serviceName, groupName, clusters, instances);
+	}
+
+	private static void writeNullableString(DataOutputStream output, String value)
+			throws IOException {
+		output.writeBoolean(value != null);
+		if (value != null) {
+			writeString(output, value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream input)
+			throws IOException {
+		return input.readBoolean() ? readString(input) : null;
+	}
+
+	private static void writeString(DataOutputStream output, String value)
+			throws IOException {
+		byte[] bytes = value.getBytes(UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IOException("Illegal length of string : " + length);
+		}
+		byte[] bytes = new byte[length];
+		input.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	private static int readCount(DataInputStream input) throws IOException {
+		int count = input.readInt();
+		if (count < 0 || count > MAX_COUNT) {
+			throw new IOException("Illegal count : " + count);
+		}
+		return count;
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			}
+			catch (IOException ignored) {
+			}
+		}
+	}
+
+	/**
+	 * The stored instances of a (service, group, clusters)
+	 */
+	static class Entry {
+
+		private final String serviceName;
+
+		private final String groupName;
+
+		private final List<String> clusters;
+
+		private final List<Instance> instances;
+
+		Entry(String serviceName, String groupName, List<String> clusters,
+				List<Instance> instances) {
+			this.serviceName = serviceName;
+			this.groupName = groupName;
+			this.clusters = clusters;
+			this.instances = instances;
+		}
+
+		String getKey() {
+			return SnapshotNamingService.subscriptionKey(serviceName, groupName,
+					clusters);
+		}
+
+		String getServiceName() {
+			return serviceName;
+		}
+
+		String getGroupName() {
+			return groupName;
+		}
+
+		List<String> getClusters() {
+			return clusters;
+		}
+
+		List<Instance> getInstances() {
+			return instances;
+		}
+	}
+}
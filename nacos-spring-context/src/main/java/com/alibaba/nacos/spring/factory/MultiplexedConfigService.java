@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import static com.alibaba.nacos.api.PropertyKeyConst.NAMESPACE;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.util.StringUtils;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+
+/**
+ * The {@link ConfigService} of a namespace served by a {@link MultiplexedConfigTransport}
+ * shared with the other namespaces of the same server. The namespace is bound to the
+ * service as a {@link ConfigService} created by
+ * {@link com.alibaba.nacos.api.NacosFactory}, and shutting down a service only removes
+ * its own listeners.
+ * <p>
+ * The services are created by {@link CacheableEventPublishingNacosServiceFactory} when
+ * multiplexing is enabled, or directly by {@link #create(Properties)}.
+ * <p>
+ * Unlike the Nacos client, the configs are neither backed by the local snapshots nor
+ * filtered by the config filters.
+ *
+ * @see com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_CONFIG_MULTIPLEXED
+ * @since 2.1.0
+ */
+public class MultiplexedConfigService implements ConfigService {
+
+	private final MultiplexedConfigTransport transport;
+
+	private final String namespace;
+
+	private final AtomicBoolean shutdown = new AtomicBoolean();
+
+	MultiplexedConfigService(MultiplexedConfigTransport transport, String namespace) {
+		this.transport = transport;
+		this.namespace = StringUtils.hasText(namespace) ? namespace.trim() : "";
+	}
+
+	/**
+	 * Create a {@link ConfigService} of the namespace of the properties on the shared
+	 * transport of its server
+	 *
+	 * @param properties the Nacos properties
+	 * @return a new {@link ConfigService}
+	 * @see MultiplexedConfigTransport#supports(Properties)
+	 */
+	public static ConfigService create(Properties properties) {
+		return new MultiplexedConfigService(
+				MultiplexedConfigTransport.acquire(properties),
+				properties.getProperty(NAMESPACE));
+	}
+
+	MultiplexedConfigTransport getTransport() {
+		return transport;
+	}
+
+	@Override
+	public String getConfig(String dataId, String group, long timeoutMs)
+			throws NacosException {
+		return transport.getConfig(namespace, checkDataId(dataId), resolveGroup(group),
+				timeoutMs);
+	}
+
+	@Override
+	public String getConfigAndSignListener(String dataId, String group, long timeoutMs,
+			Listener listener) throws NacosException {
+		String content = getConfig(dataId, group, timeoutMs);
+		addListener(dataId, group, listener);
+		return content;
+	}
+
+	@Override
+	public void addListener(String dataId, String group, Listener listener)
+			throws NacosException {
+		if (listener == null) {
+			throw new NacosException(NacosException.CLIENT_INVALID_PARAM,
+					"listener is null");
+		}
+		transport.addListener(this, namespace, checkDataId(dataId),
+				resolveGroup(group), listener);
+	}
+
+	@Override
+	public boolean publishConfig(String dataId, String group, String content)
+			throws NacosException {
+		return publishConfig(dataId, group, content, null);
+	}
+
+	@Override
+	public boolean publishConfig(String dataId, String group, String content,
+			String type) throws NacosException {
+		return transport.publishConfig(namespace, checkDataId(dataId),
+				resolveGroup(group), checkContent(content), type, null);
+	}
+
+	@Override
+	public boolean publishConfigCas(String dataId, String group, String content,
+			String casMd5) throws NacosException {
+		return publishConfigCas(dataId, group, content, casMd5, null);
+	}
+
+	@Override
+	public boolean publishConfigCas(String dataId, String group, String content,
+			String casMd5, String type) throws NacosException {
+		return transport.publishConfig(namespace, checkDataId(dataId),
+				resolveGroup(group), checkContent(content), type,
+				casMd5 == null ? "" : casMd5);
+	}
+
+	@Override
+	public boolean removeConfig(String dataId, String group) throws NacosException {
+		return transport.removeConfig(namespace, checkDataId(dataId),
+				resolveGroup(group));
+	}
+
+	@Override
+	public void removeListener(String dataId, String group, Listener listener) {
+		if (!StringUtils.hasText(dataId)) {
+			return;
+		}
+		transport.removeListener(this, namespace, dataId.trim(), resolveGroup(group),
+				listener);
+	}
+
+	@Override
+	public String getServerStatus() {
+		return transport.isHealthy() ? "UP" : "DOWN";
+	}
+
+	@Override
+	public void shutDown() throws NacosException {
+		if (shutdown.compareAndSet(false, true)) {
+			transport.removeListeners(this);
+			transport.release();
+		}
+	}
+
+	private static String checkDataId(String dataId) throws NacosException {
+		if (!StringUtils.hasText(dataId)) {
+			throw new NacosException(NacosException.CLIENT_INVALID_PARAM,
+					"dataId invalid");
+		}
+		return dataId.trim();
+	}
+
+	private static String checkContent(String content) throws NacosException {
+		if (!StringUtils.hasText(content)) {
+			throw new NacosException(NacosException.CLIENT_INVALID_PARAM,
+					"content invalid");
+		}
+		return content;
+	}
+
+	private static String resolveGroup(String group) {
+		return StringUtils.hasText(group) ? group.trim() : Constants.DEFAULT_GROUP;
+	}
+}
@@ -0,0 +1,801 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import static com.alibaba.nacos.api.PropertyKeyConst.ACCESS_KEY;
+import static com.alibaba.nacos.api.PropertyKeyConst.CONFIG_LONG_POLL_TIMEOUT;
+import static com.alibaba.nacos.api.PropertyKeyConst.CONTEXT_PATH;
+import static com.alibaba.nacos.api.PropertyKeyConst.ENDPOINT;
+import static com.alibaba.nacos.api.PropertyKeyConst.NAMESPACE;
+import static com.alibaba.nacos.api.PropertyKeyConst.PASSWORD;
+import static com.alibaba.nacos.api.PropertyKeyConst.RAM_ROLE_NAME;
+import static com.alibaba.nacos.api.PropertyKeyConst.SECRET_KEY;
+import static com.alibaba.nacos.api.PropertyKeyConst.SERVER_ADDR;
+import static com.alibaba.nacos.api.PropertyKeyConst.USERNAME;
+import static com.alibaba.nacos.api.common.Constants.CONFIG_CONTROLLER_PATH;
+import static com.alibaba.nacos.api.common.Constants.LINE_SEPARATOR;
+import static com.alibaba.nacos.api.common.Constants.WORD_SEPARATOR;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.listener.AbstractSharedListener;
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The transport shared by the {@link MultiplexedConfigService}s of all namespaces of a
+ * Nacos server, which talks to the server through its HTTP Open API. The requests of
+ * all namespaces go through the pooled connections of {@link HttpURLConnection}, and
+ * the listened configs of all namespaces are checked by one long polling, so a
+ * transport takes one polling thread however many namespaces are served. The listeners
+ * are never notified on the polling thread, the ones without an executor are notified
+ * in order on a worker thread of the transport.
+ * <p>
+ * A transport is shared per server and credentials, it's closed once the last service
+ * using it is shut down. The endpoint and the AK/SK authentication are not supported.
+ * <p>
+ * The transport is experimental, it's only used if
+ * {@link com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_CONFIG_MULTIPLEXED}
+ * is enabled explicitly.
+ *
+ * @see com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_CONFIG_MULTIPLEXED
+ * @since 2.1.0
+ */
+class MultiplexedConfigTransport {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(MultiplexedConfigTransport.class);
+
+	private static final Charset UTF_8 = Charset.forName(Constants.ENCODE);
+
+	private static final Map<NacosServiceIdentity, MultiplexedConfigTransport> transports = new HashMap<NacosServiceIdentity, MultiplexedConfigTransport>();
+
+	private static final String DEFAULT_PORT = "8848";
+
+	private static final String DEFAULT_CONTEXT_PATH = "nacos";
+
+	private static final String LISTENER_PATH = CONFIG_CONTROLLER_PATH + "/listener";
+
+	private static final String LOGIN_PATH = "/v1/auth/users/login";
+
+	private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+
+	private static final int READ_TIMEOUT_MILLIS = 5000;
+
+	private static final long RETRY_DELAY_MILLIS = 2000;
+
+	/**
+	 * The default token expiry of the Nacos server, used if the login result misses the
+	 * tokenTtl
+	 */
+	private static final long DEFAULT_TOKEN_TTL_MILLIS = 18000 * 1000L;
+
+	private final NacosServiceIdentity identity;
+
+	private final String[] serverUrls;
+
+	private final String username;
+
+	private final String password;
+
+	private final int longPollTimeoutMillis;
+
+	private final ConcurrentMap<String, ListenedConfig> listenedConfigs = new ConcurrentHashMap<String, ListenedConfig>();
+
+	private volatile int serverIndex;
+
+	private volatile boolean healthy = true;
+
+	private volatile boolean closed;
+
+	private volatile HttpURLConnection pollingConnection;
+
+	private final ExecutorService notifier;
+
+	/**
+	 * The login is guarded by its own lock rather than the monitor of the transport, so
+	 * a blocking login never holds up the polling or closing
+	 */
+	private final Object tokenLock = new Object();
+
+	private volatile String accessToken;
+
+	private volatile long tokenRefreshTime;
+
+	private Thread pollingThread;
+
+	private int references;
+
+	private MultiplexedConfigTransport(NacosServiceIdentity identity,
+			Properties properties) {
+		this.identity = identity;
+		this.serverUrls = resolveServerUrls(properties.getProperty(SERVER_ADDR),
+				properties.getProperty(CONTEXT_PATH));
+		this.username = properties.getProperty(USERNAME);
+		this.password = properties.getProperty(PASSWORD);
+		String longPollTimeout = properties.getProperty(CONFIG_LONG_POLL_TIMEOUT);
+		this.longPollTimeoutMillis = StringUtils.hasText(longPollTimeout)
+				? Math.max(Integer.parseInt(longPollTimeout.trim()),
+						Constants.MIN_CONFIG_LONG_POLL_TIMEOUT)
+				: Constants.CONFIG_LONG_POLL_TIMEOUT;
+		final String notifierName = "com.alibaba.nacos.spring.multiplexedConfigNotifier-"
+				+ serverUrls[0];
+		this.notifier = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r);
+				t.setDaemon(true);
+				t.setName(notifierName);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Whether the services of the properties could be served by a transport
+	 *
+	 * @param properties the Nacos properties
+	 * @return <code>false</code> if the server is located by an endpoint or the AK/SK
+	 *     authentication is used
+	 */
+	static boolean supports(Properties properties) {
+		return StringUtils.hasText(properties.getProperty(SERVER_ADDR))
+				&& !StringUtils.hasText(properties.getProperty(ENDPOINT))
+				&& !StringUtils.hasText(properties.getProperty(ACCESS_KEY))
+				&& !StringUtils.hasText(properties.getProperty(SECRET_KEY))
+				&& !StringUtils.hasText(properties.getProperty(RAM_ROLE_NAME));
+	}
+
+	/**
+	 * Get the transport of the server of the properties, which is created if absent.
+	 * Every acquisition must be paired with a {@link #release()}.
+	 *
+	 * @param properties the Nacos properties, whose namespace is ignored
+	 * @return the shared transport
+	 */
+	static MultiplexedConfigTransport acquire(Properties properties) {
+		Properties serverProperties = new Properties();
+		serverProperties.putAll(properties);
+		serverProperties.remove(NAMESPACE);
+		NacosServiceIdentity identity = NacosServiceIdentity.of(serverProperties);
+		synchronized (transports) {
+			MultiplexedConfigTransport transport = transports.get(identity);
+			if (transport == null) {
+				transport = new MultiplexedConfigTransport(identity, serverProperties);
+				logger.warn("The multiplexed Nacos config transport of {} is experimental",
+						identity);
+				transports.put(identity, transport);
+			}
+			transport.references++;
+			return transport;
+		}
+	}
+
+	void release() {
+		synchronized (transports) {
+			if (--references > 0) {
+				return;
+			}
+			transports.remove(identity);
+		}
+		close();
+	}
+
+	boolean isHealthy() {
+		return healthy;
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	String getConfig(String tenant, String dataId, String group, long timeoutMs)
+			throws NacosException {
+		HttpResult result = execute("GET", CONFIG_CONTROLLER_PATH,
+				configParams(tenant, dataId, group), null,
+				(int) Math.min(Math.max(timeoutMs, 1), Integer.MAX_VALUE));
+		if (result.code == HttpURLConnection.HTTP_NOT_FOUND) {
+			return null;
+		}
+		if (result.code != HttpURLConnection.HTTP_OK) {
+			throw new NacosException(result.code, result.body);
+		}
+		return result.body;
+	}
+
+	boolean publishConfig(String tenant, String dataId, String group, String content,
+			String type, String casMd5) throws NacosException {
+		Map<String, String> params = configParams(tenant, dataId, group);
+		params.put("content", content);
+		if (StringUtils.hasText(type)) {
+			params.put("type", type);
+		}
+		if (casMd5 != null) {
+			params.put("casMd5", casMd5);
+		}
+		return isOk(execute("POST", CONFIG_CONTROLLER_PATH, params, null,
+				READ_TIMEOUT_MILLIS));
+	}
+
+	boolean removeConfig(String tenant, String dataId, String group)
+			throws NacosException {
+		return isOk(execute("DELETE", CONFIG_CONTROLLER_PATH,
+				configParams(tenant, dataId, group), null, READ_TIMEOUT_MILLIS));
+	}
+
+	/**
+	 * Add a listener, the current content of a newly listened config is fetched first,
+	 * so the listener is only notified of the later changes.
+	 *
+	 * @param owner the service the listener is added through
+	 * @param tenant the namespace
+	 * @param dataId the data id
+	 * @param group the group
+	 * @param listener the listener
+	 */
+	void addListener(Object owner, String tenant, String dataId, String group,
+			Listener listener) {
+		String key = key(tenant, dataId, group);
+		while (true) {
+			ListenedConfig config = listenedConfigs.get(key);
+			if (config == null) {
+				ListenedConfig created = new ListenedConfig(tenant, dataId, group);
+				config = listenedConfigs.putIfAbsent(key, created);
+				if (config == null) {
+					config = created;
+				}
+			}
+			synchronized (config) {
+				// The config may be removed by its last listener meanwhile
+				if (config.removed) {
+					continue;
+				}
+				if (!config.initialized) {
+					config.initialized = true;
+					try {
+						config.update(getConfig(tenant, dataId, group,
+								READ_TIMEOUT_MILLIS));
+					}
+					catch (NacosException e) {
+						logger.warn("Failed to get the config of Nacos [dataId : {}, "
+								+ "group : {}, namespace : {}], the listener will be "
+								+ "notified once it's polled", dataId, group, tenant, e);
+					}
+				}
+				config.listeners.add(new ManagedListener(owner, listener, config.md5));
+			}
+			startPolling();
+			return;
+		}
+	}
+
+	void removeListener(Object owner, String tenant, String dataId, String group,
+			Listener listener) {
+		ListenedConfig config = listenedConfigs.get(key(tenant, dataId, group));
+		if (config != null) {
+			removeListeners(config, owner, listener);
+		}
+	}
+
+	/**
+	 * Remove all listeners added through a service.
+	 *
+	 * @param owner the service the listeners were added through
+	 */
+	void removeListeners(Object owner) {
+		for (ListenedConfig config : listenedConfigs.values()) {
+			removeListeners(config, owner, null);
+		}
+	}
+
+	private void removeListeners(ListenedConfig config, Object owner,
+			Listener listener) {
+		synchronized (config) {
+			for (ManagedListener managedListener : config.listeners) {
+				if (managedListener.owner == owner
+						&& (listener == null || managedListener.listener == listener)) {
+					config.listeners.remove(managedListener);
+				}
+			}
+			if (config.listeners.isEmpty() && !config.removed) {
+				config.removed = true;
+				listenedConfigs.remove(config.key, config);
+			}
+		}
+	}
+
+	private synchronized void startPolling() {
+		if (pollingThread == null && !closed) {
+			pollingThread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					poll();
+				}
+			});
+			pollingThread.setDaemon(true);
+			pollingThread.setName(
+					"com.alibaba.nacos.spring.multiplexedConfig-" + serverUrls[0]);
+			pollingThread.start();
+		}
+		notifyAll();
+	}
+
+	private void poll() {
+		while (!closed) {
+			try {
+				if (!awaitListenedConfigs()) {
+					return;
+				}
+				for (String key : checkChangedKeys()) {
+					ListenedConfig config = listenedConfigs.get(key);
+					if (config != null) {
+						refresh(config);
+					}
+				}
+			}
+			catch (NacosException e) {
+				if (closed) {
+					return;
+				}
+				logger.warn("Failed to poll the configs of Nacos from {}, retry in {} ms",
+						serverUrls[serverIndex], RETRY_DELAY_MILLIS, e);
+				try {
+					Thread.sleep(RETRY_DELAY_MILLIS);
+				}
+				catch (InterruptedException ie) {
+					return;
+				}
+			}
+		}
+	}
+
+	private synchronized boolean awaitListenedConfigs() {
+		while (listenedConfigs.isEmpty() && !closed) {
+			try {
+				wait();
+			}
+			catch (InterruptedException e) {
+				return false;
+			}
+		}
+		return !closed;
+	}
+
+	/**
+	 * Probe the md5 of all listened configs with a long polling.
+	 *
+	 * @return the keys of the changed configs
+	 * @throws NacosException if the probing fails
+	 */
+	private List<String> checkChangedKeys() throws NacosException {
+		StringBuilder probe = new StringBuilder();
+		for (ListenedConfig config : listenedConfigs.values()) {
+			probe.append(config.dataId).append(WORD_SEPARATOR).append(config.group)
+					.append(WORD_SEPARATOR).append(config.md5);
+			if (StringUtils.hasText(config.tenant)) {
+				probe.append(WORD_SEPARATOR).append(config.tenant);
+			}
+			probe.append(LINE_SEPARATOR);
+		}
+		Map<String, String> params = new HashMap<String, String>(2);
+		params.put(Constants.PROBE_MODIFY_REQUEST, probe.toString());
+		Map<String, String> headers = new HashMap<String, String>(2);
+		headers.put("Long-Pulling-Timeout", String.valueOf(longPollTimeoutMillis));
+		HttpResult result = execute("POST", LISTENER_PATH, params, headers,
+				longPollTimeoutMillis + (longPollTimeoutMillis >> 1));
+		if (result.code != HttpURLConnection.HTTP_OK) {
+			throw new NacosException(result.code, result.body);
+		}
+		List<String> changedKeys = new ArrayList<String>();
+		if (!StringUtils.hasText(result.body)) {
+			return changedKeys;
+		}
+		for (String line : decode(result.body).split(LINE_SEPARATOR)) {
+			String[] words = line.split(WORD_SEPARATOR);
+			if (words.length >= 2) {
+				changedKeys.add(key(words.length > 2 ? words[2] : "", words[0],
+						words[1]));
+			}
+		}
+		return changedKeys;
+	}
+
+	private void refresh(ListenedConfig config) throws NacosException {
+		String content = getConfig(config.tenant, config.dataId, config.group,
+				READ_TIMEOUT_MILLIS);
+		String md5;
+		List<ManagedListener> notified = new ArrayList<ManagedListener>();
+		synchronized (config) {
+			config.update(content);
+			md5 = config.md5;
+			for (ManagedListener managedListener : config.listeners) {
+				if (!md5.equals(managedListener.lastMd5)) {
+					managedListener.lastMd5 = md5;
+					notified.add(managedListener);
+				}
+			}
+		}
+		for (ManagedListener managedListener : notified) {
+			notifyListener(config, managedListener.listener, content);
+		}
+	}
+
+	private void notifyListener(final ListenedConfig config, final Listener listener,
+			final String content) {
+		Runnable notification = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					if (listener instanceof AbstractSharedListener) {
+						((AbstractSharedListener) listener).fillContext(config.dataId,
+								config.group);
+					}
+					listener.receiveConfigInfo(content);
+				}
+				catch (Throwable e) {
+					logger.error("Failed to notify the listener of Nacos config "
+							+ "[dataId : {}, group : {}, namespace : {}]", config.dataId,
+							config.group, config.tenant, e);
+				}
+			}
+		};
+		Executor executor = listener.getExecutor();
+		try {
+			(executor != null ? executor : notifier).execute(notification);
+		}
+		catch (RejectedExecutionException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dropped the notification of Nacos config [dataId : {}, "
+						+ "group : {}, namespace : {}] as the executor is shut down",
+						config.dataId, config.group, config.tenant);
+			}
+		}
+	}
+
+	private void close() {
+		HttpURLConnection connection;
+		synchronized (this) {
+			closed = true;
+			notifyAll();
+			connection = pollingConnection;
+		}
+		// Abort the pending long polling
+		if (connection != null) {
+			connection.disconnect();
+		}
+		listenedConfigs.clear();
+		notifier.shutdown();
+	}
+
+	/**
+	 * Execute a request against the servers in turn, starting from the last available
+	 * one. A forbidden request is retried once with a new token, as the token may be
+	 * expired on the server.
+	 */
+	private HttpResult execute(String method, String path, Map<String, String> params,
+			Map<String, String> headers, int readTimeoutMillis) throws NacosException {
+		IOException lastException = null;
+		int index = serverIndex;
+		for (int i = 0; i < serverUrls.length; i++) {
+			String serverUrl = serverUrls[index];
+			try {
+				HttpResult result = execute(serverUrl, method, path, params, headers,
+						readTimeoutMillis);
+				if (result.code == HttpURLConnection.HTTP_FORBIDDEN
+						&& StringUtils.hasText(username)) {
+					resetAccessToken();
+					result = execute(serverUrl, method, path, params, headers,
+							readTimeoutMillis);
+				}
+				serverIndex = index;
+				healthy = true;
+				return result;
+			}
+			catch (IOException e) {
+				lastException = e;
+				index = (index + 1) % serverUrls.length;
+			}
+		}
+		healthy = false;
+		throw new NacosException(NacosException.SERVER_ERROR,
+				"No Nacos server is available of " + identity, lastException);
+	}
+
+	private HttpResult execute(String serverUrl, String method, String path,
+			Map<String, String> params, Map<String, String> headers,
+			int readTimeoutMillis) throws IOException {
+		Map<String, String> allParams = new LinkedHashMap<String, String>(params);
+		String token = getAccessToken(serverUrl);
+		if (token != null) {
+			allParams.put("accessToken", token);
+		}
+		String query = encode(allParams);
+		boolean post = "POST".equals(method);
+		URL url = new URL(serverUrl + path + (post ? "" : "?" + query));
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		boolean polling = LISTENER_PATH.equals(path);
+		if (polling) {
+			pollingConnection = connection;
+		}
+		try {
+			connection.setRequestMethod(method);
+			connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+			connection.setReadTimeout(readTimeoutMillis);
+			if (headers != null) {
+				for (Map.Entry<String, String> header : headers.entrySet()) {
+					connection.setRequestProperty(header.getKey(), header.getValue());
+				}
+			}
+			if (post) {
+				connection.setDoOutput(true);
+				connection.setRequestProperty("Content-Type",
+						"application/x-www-form-urlencoded;charset=UTF-8");
+				OutputStream outputStream = connection.getOutputStream();
+				try {
+					outputStream.write(query.getBytes(UTF_8));
+				}
+				finally {
+					outputStream.close();
+				}
+			}
+			int code = connection.getResponseCode();
+			InputStream inputStream = code < HttpURLConnection.HTTP_BAD_REQUEST
+					? connection.getInputStream()
+					: connection.getErrorStream();
+			String body = null;
+			if (inputStream != null) {
+				try {
+					body = StreamUtils.copyToString(inputStream, UTF_8);
+				}
+				finally {
+					inputStream.close();
+				}
+			}
+			return new HttpResult(code, body);
+		}
+		finally {
+			if (polling) {
+				pollingConnection = null;
+			}
+		}
+	}
+
+	private String getAccessToken(String serverUrl) throws IOException {
+		if (!StringUtils.hasText(username)) {
+			return null;
+		}
+		String token = accessToken;
+		if (token != null && System.currentTimeMillis() < tokenRefreshTime) {
+			return token;
+		}
+		synchronized (tokenLock) {
+			return login(serverUrl);
+		}
+	}
+
+	private String login(String serverUrl) throws IOException {
+		long now = System.currentTimeMillis();
+		// The token may be refreshed by another thread meanwhile
+		if (accessToken == null || now >= tokenRefreshTime) {
+			HttpURLConnection connection = (HttpURLConnection) new URL(
+					serverUrl + LOGIN_PATH).openConnection();
+			connection.setRequestMethod("POST");
+			connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+			connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+			connection.setDoOutput(true);
+			Map<String, String> params = new LinkedHashMap<String, String>(2);
+			params.put(USERNAME, username);
+			params.put(PASSWORD, password == null ? "" : password);
+			OutputStream outputStream = connection.getOutputStream();
+			try {
+				outputStream.write(encode(params).getBytes(UTF_8));
+			}
+			finally {
+				outputStream.close();
+			}
+			if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+				logger.warn("Failed to login Nacos {} as {}, response code : {}",
+						serverUrl, username, connection.getResponseCode());
+				return null;
+			}
+			InputStream inputStream = connection.getInputStream();
+			try {
+				JsonNode result = JacksonUtils
+						.toObj(StreamUtils.copyToString(inputStream, UTF_8));
+				long ttlMillis = result.path("tokenTtl").asLong() * 1000;
+				if (ttlMillis <= 0) {
+					ttlMillis = DEFAULT_TOKEN_TTL_MILLIS;
+				}
+				// Refresh ahead of the expiry as the Nacos client does
+				tokenRefreshTime = now + ttlMillis - ttlMillis / 10;
+				accessToken = result.path("accessToken").asText(null);
+			}
+			finally {
+				inputStream.close();
+			}
+		}
+		return accessToken;
+	}
+
+	private void resetAccessToken() {
+		accessToken = null;
+	}
+
+	private static boolean isOk(HttpResult result) throws NacosException {
+		if (result.code == HttpURLConnection.HTTP_FORBIDDEN) {
+			throw new NacosException(result.code, result.body);
+		}
+		return result.code == HttpURLConnection.HTTP_OK;
+	}
+
+	private static Map<String, String> configParams(String tenant, String dataId,
+			String group) {
+		Map<String, String> params = new LinkedHashMap<String, String>(8);
+		params.put("dataId", dataId);
+		params.put("group", group);
+		if (StringUtils.hasText(tenant)) {
+			params.put("tenant", tenant);
+		}
+		return params;
+	}
+
+	private static String[] resolveServerUrls(String serverAddr, String contextPath) {
+		String path = StringUtils.hasText(contextPath)
+				? StringUtils.trimLeadingCharacter(contextPath.trim(), '/')
+				: DEFAULT_CONTEXT_PATH;
+		List<String> serverUrls = new ArrayList<String>();
+		for (String address : StringUtils.commaDelimitedListToStringArray(serverAddr)) {
+			address = address.trim();
+			if (address.isEmpty()) {
+				continue;
+			}
+			int schemeEnd = address.indexOf("://");
+			if (schemeEnd < 0) {
+				address = "http://" + address;
+				schemeEnd = address.indexOf("://");
+			}
+			if (address.indexOf(':', schemeEnd + 3) < 0) {
+				address = address + ":" + DEFAULT_PORT;
+			}
+			serverUrls.add(
+					StringUtils.trimTrailingCharacter(address, '/') + "/" + path);
+		}
+		return serverUrls.toArray(new String[0]);
+	}
+
+	private static String key(String tenant, String dataId, String group) {
+		return dataId + '+' + group + '+' + (tenant == null ? "" : tenant);
+	}
+
+	private static String encode(Map<String, String> params) {
+		StringBuilder query = new StringBuilder();
+		for (Iterator<Map.Entry<String, String>> iterator = params.entrySet()
+				.iterator(); iterator.hasNext();) {
+			Map.Entry<String, String> param = iterator.next();
+			try {
+				query.append(URLEncoder.encode(param.getKey(), Constants.ENCODE))
+						.append('=')
+						.append(URLEncoder.encode(param.getValue(), Constants.ENCODE));
+			}
+			catch (UnsupportedEncodingException e) {
+				throw new IllegalStateException(e);
+			}
+			if (iterator.hasNext()) {
+				query.append('&');
+			}
+		}
+		return query.toString();
+	}
+
+	private static String decode(String value) {
+		try {
+			return URLDecoder.decode(value, Constants.ENCODE);
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class HttpResult {
+
+		private final int code;
+
+		private final String body;
+
+		HttpResult(int code, String body) {
+			this.code = code;
+			this.body = body;
+		}
+	}
+
+	private static class ListenedConfig {
+
+		private final String key;
+
+		private final String tenant;
+
+		private final String dataId;
+
+		private final String group;
+
+		private final List<ManagedListener> listeners = new CopyOnWriteArrayList<ManagedListener>();
+
+		private volatile String md5 = "";
+
+		private boolean initialized;
+
+		private boolean removed;
+
+		ListenedConfig(String tenant, String dataId, String group) {
+			this.key = key(tenant, dataId, group);
+			this.tenant = tenant;
+			this.dataId = dataId;
+			this.group = group;
+		}
+
+		void update(String content) {
+			md5 = content == null ? "" : MD5Utils.md5Hex(content, Constants.ENCODE);
+		}
+	}
+
+	private static class ManagedListener {
+
+		private final Object owner;
+
+		private final Listener listener;
+
+		private String lastMd5;
+
+		ManagedListener(Object owner, Listener listener, String lastMd5) {
+			this.owner = owner;
+			this.listener = listener;
+			this.lastMd5 = lastMd5;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import static com.alibaba.nacos.api.PropertyKeyConst.ACCESS_KEY;
+import static com.alibaba.nacos.api.PropertyKeyConst.CLUSTER_NAME;
+import static com.alibaba.nacos.api.PropertyKeyConst.CONTEXT_PATH;
+import static com.alibaba.nacos.api.PropertyKeyConst.ENCODE;
+import static com.alibaba.nacos.api.PropertyKeyConst.ENDPOINT;
+import static com.alibaba.nacos.api.PropertyKeyConst.ENDPOINT_PORT;
+import static com.alibaba.nacos.api.PropertyKeyConst.ENDPOINT_QUERY_PARAMS;
+import static com.alibaba.nacos.api.PropertyKeyConst.NAMESPACE;
+import static com.alibaba.nacos.api.PropertyKeyConst.PASSWORD;
+import static com.alibaba.nacos.api.PropertyKeyConst.RAM_ROLE_NAME;
+import static com.alibaba.nacos.api.PropertyKeyConst.SECRET_KEY;
+import static com.alibaba.nacos.api.PropertyKeyConst.SERVER_ADDR;
+import static com.alibaba.nacos.api.PropertyKeyConst.USERNAME;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * The identity of a Nacos service, made of the properties deciding which server it
+ * connects to and as whom. The services created from the properties of the same
+ * identity are interchangeable, so it is the key of the cached services.
+ * <p>
+ * Absent and empty properties are equal, as in
+ * {@link com.alibaba.nacos.spring.util.NacosUtils#identify(Map)}.
+ *
+ * @since 2.1.0
+ */
+public final class NacosServiceIdentity {
+
+	private static final String[] KEYS = { NAMESPACE, SERVER_ADDR, CONTEXT_PATH,
+			CLUSTER_NAME, ENDPOINT, ENDPOINT_PORT, ENDPOINT_QUERY_PARAMS, ACCESS_KEY,
+			SECRET_KEY, RAM_ROLE_NAME, USERNAME, PASSWORD, ENCODE };
+
+	private final String[] values;
+
+	private final int hash;
+
+	private NacosServiceIdentity(String[] values) {
+		this.values = values;
+		this.hash = Arrays.hashCode(values);
+	}
+
+	public static NacosServiceIdentity of(Map<?, ?> properties) {
+		String[] values = new String[KEYS.length];
+		for (int i = 0; i < KEYS.length; i++) {
+			Object value = properties.get(KEYS[i]);
+			String stringValue = value == null ? null : String.valueOf(value);
+			values[i] = StringUtils.hasText(stringValue) ? stringValue : null;
+		}
+		return new NacosServiceIdentity(values);
+	}
+
+	/**
+	 * Get the digest of the identity, which is stable across the JVMs, e.g. to name the
+	 * files stored per identity. The credentials are only included as digested.
+	 *
+	 * @return the MD5 hex of all properties of the identity
+	 */
+	public String digest() {
+		StringBuilder builder = new StringBuilder();
+		for (String value : values) {
+			// Length-prefixed, so that no values could be joined ambiguously
+			if (value == null) {
+				builder.append('-');
+			}
+			else {
+				builder.append(value.length()).append(':').append(value);
+			}
+		}
+		return DigestUtils
+				.md5DigestAsHex(builder.toString().getBytes(Charset.forName("UTF-8")));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof NacosServiceIdentity)) {
+			return false;
+		}
+		NacosServiceIdentity that = (NacosServiceIdentity) o;
+		return hash == that.hash && Arrays.equals(values, that.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("NacosServiceIdentity{");
+		for (int i = 0; i < KEYS.length; i++) {
+			if (values[i] == null) {
+				continue;
+			}
+			boolean secret = KEYS[i].equals(SECRET_KEY) || KEYS[i].equals(PASSWORD);
+			builder.append(KEYS[i]).append('=').append(secret ? "******" : values[i])
+					.append(", ");
+		}
+		if (builder.charAt(builder.length() - 1) == ' ') {
+			builder.setLength(builder.length() - 2);
+		}
+		return builder.append('}').toString();
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The {@link InstanceSelector} picking two instances randomly and selecting the one with
+ * less in-flight requests per weight. The in-flight count of the selected instance is
+ * increased, so the caller must {@link #complete(Instance) complete} it when the request
+ * is done. The counters are kept by this selector across the snapshots, so it should be
+ * shared by the callers, and a counter is released once no snapshot contains its
+ * instance. The key is ignored.
+ * <p>
+ * As the callers must reach the selector to complete their requests, it can't be
+ * configured by
+ * {@link com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_NAMING_SNAPSHOT_SELECTOR},
+ * pass it to
+ * {@link InstanceSelectingNamingService#selectOneHealthyInstance(String, String, List, InstanceSelector, String)}
+ * instead.
+ *
+ * @since 2.1.0
+ */
+public class PowerOfTwoChoicesInstanceSelector implements
+		InstanceSelector<PowerOfTwoChoicesInstanceSelector.LoadIndex> {
+
+	/**
+	 * The counters are strongly referenced by the indexes of the snapshots only
+	 */
+	private final ConcurrentMap<String, InflightReference> inflights = new ConcurrentHashMap<String, InflightReference>();
+
+	private final ReferenceQueue<AtomicLong> releasedInflights = new ReferenceQueue<AtomicLong>();
+
+	@Override
+	public LoadIndex buildIndex(List<Instance> instances) {
+		pruneReleasedInflights();
+		int size = instances.size();
+		Instance[] candidates = instances.toArray(new Instance[size]);
+		AtomicLong[] loads = new AtomicLong[size];
+		for (int i = 0; i < size; i++) {
+			loads[i] = inflightOf(candidates[i]);
+		}
+		return new LoadIndex(candidates, loads);
+	}
+
+	@Override
+	public Instance select(LoadIndex index, String key) {
+		Instance[] instances = index.instances;
+		int size = instances.length;
+		int selected = 0;
+		if (size > 1) {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			int first = random.nextInt(size);
+			int second = random.nextInt(size - 1);
+			if (second >= first) {
+				second++;
+			}
+			// load(first) / weight(first) <= load(second) / weight(second)
+			double firstLoad = index.loads[first].get() * instances[second].getWeight();
+			double secondLoad = index.loads[second].get() * instances[first].getWeight();
+			selected = firstLoad <= secondLoad ? first : second;
+		}
+		index.loads[selected].incrementAndGet();
+		return instances[selected];
+	}
+
+	/**
+	 * Complete a request on the instance selected
+	 *
+	 * @param instance the instance selected by this selector
+	 */
+	public void complete(Instance instance) {
+		AtomicLong inflight = getInflightCounter(instance);
+		if (inflight != null && inflight.decrementAndGet() < 0) {
+			inflight.set(0);
+		}
+	}
+
+	/**
+	 * Get the in-flight requests of the instance
+	 *
+	 * @param instance the instance
+	 * @return the count
+	 */
+	public long getInflight(Instance instance) {
+		AtomicLong inflight = getInflightCounter(instance);
+		return inflight == null ? 0 : inflight.get();
+	}
+
+	/**
+	 * Get the count of the instances whose counters are kept
+	 *
+	 * @return the count
+	 */
+	int getInflightCounterCount() {
+		pruneReleasedInflights();
+		return inflights.size();
+	}
+
+	private AtomicLong getInflightCounter(Instance instance) {
+		InflightReference reference = inflights.get(keyOf(instance));
+		return reference == null ? null : reference.get();
+	}
+
+	private AtomicLong inflightOf(Instance instance) {
+		String key = keyOf(instance);
+		while (true) {
+			InflightReference reference = inflights.get(key);
+			AtomicLong inflight = reference == null ? null : reference.get();
+			if (inflight != null) {
+				return inflight;
+			}
+			inflight = new AtomicLong();
+			InflightReference created = new InflightReference(key, inflight,
+					releasedInflights);
+			if (reference == null ? inflights.putIfAbsent(key, created) == null
+					: inflights.replace(key, reference, created)) {
+				return inflight;
+			}
+		}
+	}
+
+	private void pruneReleasedInflights() {
+		InflightReference reference;
+		while ((reference = (InflightReference) releasedInflights.poll()) != null) {
+			inflights.remove(reference.key, reference);
+		}
+	}
+
+	private static String keyOf(Instance instance) {
+		return instance.getIp() + ":" + instance.getPort();
+	}
+
+	private static final class InflightReference extends WeakReference<AtomicLong> {
+
+		private final String key;
+
+		InflightReference(String key, AtomicLong inflight,
+				ReferenceQueue<AtomicLong> queue) {
+			super(inflight, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * The instances with their in-flight counters
+	 */
+	public static final class LoadIndex {
+
+		private final Instance[] instances;
+
+		private final AtomicLong[] loads;
+
+		LoadIndex(Instance[] instances, AtomicLong[] loads) {
+			this.instances = instances;
+			this.loads = loads;
+		}
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The batcher of the registrations of {@link DelegatingNamingService}, the ephemeral
+ * instances registered or deregistered within a window are collected per (service,
+ * group) and flushed through <code>batchRegisterInstance</code> and
+ * <code>batchDeregisterInstance</code>. As the batch registration of Nacos replaces the
+ * instances previously batch-registered by the client, the whole registered set of the
+ * service is sent on every flush. The persistent instances are not supported by the
+ * batch APIs, thus they are registered immediately.
+ *
+ * @see com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_NAMING_REGISTRATION_BATCH_WINDOW
+ * @since 2.1.0
+ */
+class RegistrationBatcher {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(RegistrationBatcher.class);
+
+	private static final ScheduledExecutorService scheduler = Executors
+			.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r);
+					t.setDaemon(true);
+					t.setName("com.alibaba.nacos.spring.registrationBatcher");
+					return t;
+				}
+			});
+
+	private final NamingService delegate;
+
+	private final long windowMillis;
+
+	private final Map<String, Batch> batches = new LinkedHashMap<String, Batch>();
+
+	private final Object flushMonitor = new Object();
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	private boolean closed;
+
+	/**
+	 * @param delegate the {@link NamingService} to flush into
+	 * @param windowMillis the window in milliseconds to collect the registrations
+	 */
+	RegistrationBatcher(NamingService delegate, long windowMillis) {
+		this.delegate = delegate;
+		this.windowMillis = windowMillis;
+	}
+
+	void registerInstance(String serviceName, String groupName, Instance instance)
+			throws NacosException {
+		if (!instance.isEphemeral() || !enqueue(serviceName, groupName, instance, true)) {
+			delegate.registerInstance(serviceName, groupName, instance);
+		}
+	}
+
+	void deregisterInstance(String serviceName, String groupName, Instance instance)
+			throws NacosException {
+		if (!instance.isEphemeral()
+				|| !enqueue(serviceName, groupName, instance, false)) {
+			delegate.deregisterInstance(serviceName, groupName, instance);
+		}
+	}
+
+	private synchronized boolean enqueue(String serviceName, String groupName,
+			Instance instance, boolean register) {
+		if (closed) {
+			return false;
+		}
+		String key = serviceName + "@@" + groupName;
+		Batch batch = batches.get(key);
+		if (batch == null) {
+			batch = new Batch(serviceName, groupName);
+			batches.put(key, batch);
+		}
+		if (register) {
+			batch.register(instance);
+		}
+		else if (!batch.deregister(instance)) {
+			return false;
+		}
+		scheduleFlush();
+		return true;
+	}
+
+	private void scheduleFlush() {
+		if (scheduledFlush == null) {
+			scheduledFlush = scheduler.schedule(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						flush();
+					}
+					catch (NacosException e) {
+						logger.warn("Failed to flush the batched registrations of Nacos, "
+								+ "retry in {} ms", windowMillis, e);
+					}
+				}
+			}, windowMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Flush the pending registrations and deregistrations, the failed ones are kept and
+	 * retried by the next flush.
+	 *
+	 * @throws NacosException the first failure of the flush
+	 */
+	void flush() throws NacosException {
+		synchronized (flushMonitor) {
+			List<Batch> pending = new ArrayList<Batch>();
+			synchronized (this) {
+				scheduledFlush = null;
+				for (Batch batch : batches.values()) {
+					if (batch.hasPending()) {
+						pending.add(batch);
+					}
+				}
+			}
+			NacosException failure = null;
+			for (Batch batch : pending) {
+				try {
+					batch.flush();
+				}
+				catch (NacosException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+			if (failure != null) {
+				synchronized (this) {
+					if (!closed) {
+						scheduleFlush();
+					}
+				}
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * Flush the pending registrations, the registrations after closing are not batched
+	 * any more.
+	 *
+	 * @throws NacosException the failure of the last flush
+	 */
+	void close() throws NacosException {
+		synchronized (this) {
+			closed = true;
+			if (scheduledFlush != null) {
+				scheduledFlush.cancel(false);
+			}
+		}
+		flush();
+	}
+
+	private static String identify(Instance instance) {
+		return instance.getIp() + ":" + instance.getPort() + "#"
+				+ instance.getClusterName();
+	}
+
+	/**
+	 * The registration state of a (service, group), guarded by the
+	 * {@link RegistrationBatcher}
+	 */
+	private class Batch {
+
+		private final String serviceName;
+
+		private final String groupName;
+
+		private final Map<String, Instance> registered = new LinkedHashMap<String, Instance>();
+
+		private final Map<String, Instance> pendingRegistrations = new LinkedHashMap<String, Instance>();
+
+		private final Map<String, Instance> pendingDeregistrations = new LinkedHashMap<String, Instance>();
+
+		Batch(String serviceName, String groupName) {
+			this.serviceName = serviceName;
+			this.groupName = groupName;
+		}
+
+		void register(Instance instance) {
+			String key = identify(instance);
+			pendingDeregistrations.remove(key);
+			pendingRegistrations.put(key, instance);
+		}
+
+		/**
+		 * @return <code>false</code> if the instance is not registered by the batches,
+		 *     which has to be deregistered individually
+		 */
+		boolean deregister(Instance instance) {
+			String key = identify(instance);
+			if (pendingRegistrations.remove(key) != null) {
+				// Never flushed, nothing to deregister
+				if (!registered.containsKey(key)) {
+					return true;
+				}
+			}
+			else if (!registered.containsKey(key)) {
+				return false;
+			}
+			pendingDeregistrations.put(key, instance);
+			return true;
+		}
+
+		boolean hasPending() {
+			return !pendingRegistrations.isEmpty() || !pendingDeregistrations.isEmpty();
+		}
+
+		void flush() throws NacosException {
+			Map<String, Instance> deregistrations;
+			Map<String, Instance> registrations;
+			List<Instance> instances;
+			synchronized (RegistrationBatcher.this) {
+				deregistrations = new LinkedHashMap<String, Instance>(
+						pendingDeregistrations);
+				registrations = new LinkedHashMap<String, Instance>(
+						pendingRegistrations);
+				pendingDeregistrations.clear();
+				pendingRegistrations.clear();
+				Map<String, Instance> current = new LinkedHashMap<String, Instance>(
+						registered);
+				current.keySet().removeAll(deregistrations.keySet());
+				current.putAll(registrations);
+				instances = new ArrayList<Instance>(current.values());
+			}
+			try {
+				if (!deregistrations.isEmpty()) {
+					delegate.batchDeregisterInstance(serviceName, groupName,
+							new ArrayList<Instance>(deregistrations.values()));
+					synchronized (RegistrationBatcher.this) {
+						registered.keySet().removeAll(deregistrations.keySet());
+					}
+					deregistrations.clear();
+				}
+				if (!registrations.isEmpty()) {
+					delegate.batchRegisterInstance(serviceName, groupName, instances);
+					synchronized (RegistrationBatcher.this) {
+						registered.putAll(registrations);
+					}
+					registrations.clear();
+				}
+			}
+			finally {
+				requeue(deregistrations, registrations);
+			}
+		}
+
+		private void requeue(Map<String, Instance> deregistrations,
+				Map<String, Instance> registrations) {
+			synchronized (RegistrationBatcher.this) {
+				for (Map.Entry<String, Instance> entry : deregistrations.entrySet()) {
+					if (!pendingRegistrations.containsKey(entry.getKey())) {
+						pendingDeregistrations.put(entry.getKey(), entry.getValue());
+					}
+				}
+				for (Map.Entry<String, Instance> entry : registrations.entrySet()) {
+					if (!pendingRegistrations.containsKey(entry.getKey())
+							&& !pendingDeregistrations.containsKey(entry.getKey())) {
+						pendingRegistrations.put(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+		}
+	}
+}
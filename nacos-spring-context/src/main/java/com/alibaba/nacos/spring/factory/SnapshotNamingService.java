@@ -0,0 +1,493 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.Event;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The read-optimized {@link DelegatingNamingService}, the subscribed reads of
+ * <code>getAllInstances</code>, <code>selectInstances</code> and
+ * <code>selectOneHealthyInstance</code> are served from an {@link InstancesSnapshot}
+ * per (service, group, clusters), which is fed by the subscription and replaced
+ * atomically on every naming push. The returned lists are unmodifiable, and the
+ * non-subscribed reads are still delegated.
+ * <p>
+ * With an {@link InstancesSnapshotStore}, the last-known instances are loaded on start
+ * and served immediately. A loaded service is subscribed and reconciled against the live
+ * instances in background on its first read, and the ones never read are pruned from
+ * the store on shutdown.
+ *
+ * @see InstancesSnapshot
+ * @see InstanceSelector
+ * @see com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_NAMING_SNAPSHOT_ENABLED
+ * @since 2.1.0
+ */
+class SnapshotNamingService extends DelegatingNamingService
+		implements InstanceSelectingNamingService {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(SnapshotNamingService.class);
+
+	private static final ExecutorService reconciler = Executors
+			.newCachedThreadPool(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r);
+					t.setDaemon(true);
+					t.setName("com.alibaba.nacos.spring.namingSnapshotReconciler");
+					return t;
+				}
+			});
+
+	private final NamingService delegate;
+
+	private final InstanceSelector<?> selector;
+
+	private final InstancesSnapshotStore store;
+
+	private final ConcurrentMap<String, SnapshotSubscription> subscriptions = new ConcurrentHashMap<String, SnapshotSubscription>();
+
+	SnapshotNamingService(NamingService delegate, Properties properties) {
+		this(delegate, properties, WeightedRandomInstanceSelector.INSTANCE);
+	}
+
+	/**
+	 * @param delegate {@link NamingService}
+	 * @param properties the properties of Nacos
+	 * @param selector the {@link InstanceSelector} of
+	 *     <code>selectOneHealthyInstance</code>
+	 */
+	SnapshotNamingService(NamingService delegate, Properties properties,
+			InstanceSelector<?> selector) {
+		this(delegate, properties, selector, null);
+	}
+
+	/**
+	 * @param delegate {@link NamingService}
+	 * @param properties the properties of Nacos
+	 * @param selector the {@link InstanceSelector} of
+	 *     <code>selectOneHealthyInstance</code>
+	 * @param store the {@link InstancesSnapshotStore} to warm up from, or
+	 *     <code>null</code>
+	 */
+	SnapshotNamingService(NamingService delegate, Properties properties,
+			InstanceSelector<?> selector, InstancesSnapshotStore store) {
+		super(delegate, properties);
+		this.delegate = delegate;
+		this.selector = selector;
+		this.store = store;
+		if (store != null) {
+			warmUp(store);
+		}
+	}
+
+	private void warmUp(InstancesSnapshotStore store) {
+		for (InstancesSnapshotStore.Entry entry : store.load()) {
+			SnapshotSubscription subscription = new SnapshotSubscription(
+					entry.getServiceName(), entry.getGroupName(), entry.getClusters());
+			subscription.warmUp(entry.getInstances());
+			subscriptions.put(entry.getKey(), subscription);
+		}
+		if (!subscriptions.isEmpty()) {
+			logger.info("{} services are warmed up from the Nacos naming snapshot : {}",
+					subscriptions.size(), store.getFile());
+		}
+	}
+
+	static String subscriptionKey(String serviceName, String groupName,
+			List<String> clusters) {
+		return serviceName + Constants.SERVICE_INFO_SPLITER + groupName
+				+ Constants.SERVICE_INFO_SPLITER
+				+ StringUtils.collectionToCommaDelimitedString(clusters);
+	}
+
+	@Override
+	public InstancesSnapshot getInstancesSnapshot(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		String key = subscriptionKey(serviceName, groupName, clusters);
+		SnapshotSubscription subscription = subscriptions.get(key);
+		if (subscription == null) {
+			SnapshotSubscription newSubscription = new SnapshotSubscription(serviceName,
+					groupName, clusters);
+			subscription = subscriptions.putIfAbsent(key, newSubscription);
+			if (subscription == null) {
+				subscription = newSubscription;
+			}
+		}
+		return subscription.getSnapshot();
+	}
+
+	private InstancesSnapshot getSnapshot(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		return getInstancesSnapshot(serviceName, groupName, clusters);
+	}
+
+	private InstancesSnapshot getSnapshot(String serviceName, String groupName)
+			throws NacosException {
+		return getSnapshot(serviceName, groupName, Collections.<String> emptyList());
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters, InstanceSelector<?> selector, String key)
+			throws NacosException {
+		return getSnapshot(serviceName, groupName, clusters).select(selector, key);
+	}
+
+	private InstancesSnapshot getSnapshot(String serviceName) throws NacosException {
+		return getSnapshot(serviceName, Constants.DEFAULT_GROUP);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName) throws NacosException {
+		return getSnapshot(serviceName).getInstances();
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName)
+			throws NacosException {
+		return getSnapshot(serviceName, groupName).getInstances();
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, boolean subscribe)
+			throws NacosException {
+		return subscribe ? getAllInstances(serviceName)
+				: super.getAllInstances(serviceName, false);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			boolean subscribe) throws NacosException {
+		return subscribe ? getAllInstances(serviceName, groupName)
+				: super.getAllInstances(serviceName, groupName, false);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, List<String> clusters)
+			throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP, clusters);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		return getSnapshot(serviceName, groupName, clusters).getInstances();
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, List<String> clusters,
+			boolean subscribe) throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP, clusters,
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			List<String> clusters, boolean subscribe) throws NacosException {
+		return subscribe ? getAllInstances(serviceName, groupName, clusters)
+				: super.getAllInstances(serviceName, groupName, clusters, false);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, boolean healthy)
+			throws NacosException {
+		return getSnapshot(serviceName).getInstances(healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			boolean healthy) throws NacosException {
+		return getSnapshot(serviceName, groupName).getInstances(healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, boolean healthy,
+			boolean subscribe) throws NacosException {
+		return subscribe ? selectInstances(serviceName, healthy)
+				: super.selectInstances(serviceName, healthy, false);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			boolean healthy, boolean subscribe) throws NacosException {
+		return subscribe ? selectInstances(serviceName, groupName, healthy)
+				: super.selectInstances(serviceName, groupName, healthy, false);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, List<String> clusters,
+			boolean healthy) throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, clusters, healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			List<String> clusters, boolean healthy) throws NacosException {
+		return getSnapshot(serviceName, groupName, clusters).getInstances(healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, List<String> clusters,
+			boolean healthy, boolean subscribe) throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, clusters, healthy,
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			List<String> clusters, boolean healthy, boolean subscribe)
+			throws NacosException {
+		return subscribe ? selectInstances(serviceName, groupName, clusters, healthy)
+				: super.selectInstances(serviceName, groupName, clusters, healthy,
+						false);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName) throws NacosException {
+		return getSnapshot(serviceName).select(selector, null);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName)
+			throws NacosException {
+		return getSnapshot(serviceName, groupName).select(selector, null);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, boolean subscribe)
+			throws NacosException {
+		return subscribe ? selectOneHealthyInstance(serviceName)
+				: super.selectOneHealthyInstance(serviceName, false);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			boolean subscribe) throws NacosException {
+		return subscribe ? selectOneHealthyInstance(serviceName, groupName)
+				: super.selectOneHealthyInstance(serviceName, groupName, false);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, List<String> clusters)
+			throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP, clusters);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		return getSnapshot(serviceName, groupName, clusters).select(selector, null);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, List<String> clusters,
+			boolean subscribe) throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP, clusters,
+				subscribe);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters, boolean subscribe) throws NacosException {
+		return subscribe ? selectOneHealthyInstance(serviceName, groupName, clusters)
+				: super.selectOneHealthyInstance(serviceName, groupName, clusters,
+						false);
+	}
+
+	@Override
+	public void shutDown() throws NacosException {
+		for (Map.Entry<String, SnapshotSubscription> entry : subscriptions.entrySet()) {
+			SnapshotSubscription subscription = entry.getValue();
+			// The services loaded from the store but no longer used by the application
+			if (store != null && !subscription.isUsed()) {
+				store.remove(entry.getKey());
+			}
+			subscription.unsubscribe();
+		}
+		subscriptions.clear();
+		if (store != null) {
+			store.flush();
+		}
+		super.shutDown();
+	}
+
+	/**
+	 * The subscription feeding the {@link InstancesSnapshot} of a service
+	 */
+	private class SnapshotSubscription implements EventListener {
+
+		private final String serviceName;
+
+		private final String groupName;
+
+		private final List<String> clusters;
+
+		private volatile InstancesSnapshot snapshot;
+
+		/**
+		 * Whether the snapshot is loaded from the store and not reconciled yet
+		 */
+		private volatile boolean stale;
+
+		private final AtomicBoolean reconciling = new AtomicBoolean();
+
+		/**
+		 * Whether the snapshot has been read in this run
+		 */
+		private volatile boolean used;
+
+		private boolean subscribed;
+
+		SnapshotSubscription(String serviceName, String groupName,
+				List<String> clusters) {
+			this.serviceName = serviceName;
+			this.groupName = groupName;
+			this.clusters = clusters;
+		}
+
+		/**
+		 * Serve the stored instances, which are subscribed on the first read
+		 */
+		void warmUp(List<Instance> instances) {
+			snapshot = new InstancesSnapshot(serviceName, instances);
+			stale = true;
+		}
+
+		boolean isUsed() {
+			return used;
+		}
+
+		InstancesSnapshot getSnapshot() throws NacosException {
+			if (!used) {
+				used = true;
+			}
+			InstancesSnapshot current = snapshot;
+			if (current != null) {
+				if (stale) {
+					reconcileAsync();
+				}
+				return current;
+			}
+			synchronized (this) {
+				if (!subscribed) {
+					delegate.subscribe(serviceName, groupName, clusters, this);
+					subscribed = true;
+				}
+				if (snapshot == null) {
+					update(delegate.getAllInstances(serviceName, groupName, clusters,
+							true));
+				}
+				return snapshot;
+			}
+		}
+
+		/**
+		 * Subscribe and replace the stored snapshot by the live instances in background,
+		 * the failed reconciliation is retried on the next read
+		 */
+		private void reconcileAsync() {
+			if (!reconciling.compareAndSet(false, true)) {
+				return;
+			}
+			reconciler.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						reconcile();
+					}
+					catch (Throwable e) {
+						logger.warn(
+								"Failed to reconcile the Nacos naming snapshot [name : {}, group : {}]",
+								serviceName, groupName, e);
+					}
+					finally {
+						reconciling.set(false);
+					}
+				}
+			});
+		}
+
+		private synchronized void reconcile() throws NacosException {
+			if (!stale) {
+				return;
+			}
+			if (!subscribed) {
+				delegate.subscribe(serviceName, groupName, clusters, this);
+				subscribed = true;
+			}
+			List<Instance> instances = delegate.getAllInstances(serviceName, groupName,
+					clusters, true);
+			// A push may have arrived meanwhile
+			if (stale) {
+				update(instances);
+			}
+		}
+
+		private void update(List<Instance> instances) {
+			snapshot = new InstancesSnapshot(serviceName, instances);
+			stale = false;
+			if (store != null) {
+				store.save(new InstancesSnapshotStore.Entry(serviceName, groupName,
+						clusters, instances));
+			}
+		}
+
+		@Override
+		public void onEvent(Event event) {
+			if (event instanceof NamingEvent) {
+				update(((NamingEvent) event).getInstances());
+			}
+		}
+
+		synchronized void unsubscribe() {
+			stale = false;
+			if (!subscribed) {
+				return;
+			}
+			try {
+				delegate.unsubscribe(serviceName, groupName, clusters, this);
+			}
+			catch (NacosException e) {
+				logger.warn("Failed to unsubscribe the service [name : {}, group : {}]",
+						serviceName, groupName, e);
+			}
+			subscribed = false;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+/**
+ * The {@link InstanceSelector} selecting randomly by weight in O(1) with the alias method
+ * (Vose), the key is ignored.
+ *
+ * @since 2.1.0
+ */
+public class WeightedRandomInstanceSelector
+		implements InstanceSelector<WeightedRandomInstanceSelector.AliasTable> {
+
+	/**
+	 * The shared instance
+	 */
+	public static final WeightedRandomInstanceSelector INSTANCE = new WeightedRandomInstanceSelector();
+
+	@Override
+	public AliasTable buildIndex(List<Instance> instances) {
+		int size = instances.size();
+		Instance[] candidates = instances.toArray(new Instance[size]);
+		double[] probabilities = new double[size];
+		int[] aliases = new int[size];
+		double total = 0;
+		for (Instance instance : candidates) {
+			total += instance.getWeight();
+		}
+		double[] scaled = new double[size];
+		int[] small = new int[size];
+		int[] large = new int[size];
+		int smallSize = 0;
+		int largeSize = 0;
+		for (int i = 0; i < size; i++) {
+			scaled[i] = candidates[i].getWeight() * size / total;
+			if (scaled[i] < 1.0) {
+				small[smallSize++] = i;
+			}
+			else {
+				large[largeSize++] = i;
+			}
+		}
+		while (smallSize > 0 && largeSize > 0) {
+			int less = small[--smallSize];
+			int more = large[--largeSize];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0) {
+				small[smallSize++] = more;
+			}
+			else {
+				large[largeSize++] = more;
+			}
+		}
+		// The rest are 1.0 except for the rounding errors
+		while (largeSize > 0) {
+			probabilities[large[--largeSize]] = 1.0;
+		}
+		while (smallSize > 0) {
+			probabilities[small[--smallSize]] = 1.0;
+		}
+		return new AliasTable(candidates, probabilities, aliases);
+	}
+
+	@Override
+	public Instance select(AliasTable index, String key) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int i = random.nextInt(index.instances.length);
+		if (random.nextDouble() >= index.probabilities[i]) {
+			i = index.aliases[i];
+		}
+		return index.instances[i];
+	}
+
+	/**
+	 * The alias table of instances
+	 */
+	public static final class AliasTable {
+
+		private final Instance[] instances;
+
+		private final double[] probabilities;
+
+		private final int[] aliases;
+
+		AliasTable(Instance[] instances, double[] probabilities, int[] aliases) {
+			this.instances = instances;
+			this.probabilities = probabilities;
+			this.aliases = aliases;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The <a href="https://micrometer.io">Micrometer</a> binding of
+ * {@link NacosConfigMetrics}, Micrometer is an optional dependency, thus it must be
+ * present in the classpath if current class is used.
+ *
+ * @since 2.1.0
+ */
+public class MicrometerNacosConfigMetrics implements NacosConfigMetrics {
+
+	/**
+	 * The prefix of meter names
+	 */
+	public static final String METER_NAME_PREFIX = "nacos.config.";
+
+	private static final String DATA_ID_TAG = "dataId";
+
+	private static final String GROUP_ID_TAG = "groupId";
+
+	private static final String EVENT_TYPE_TAG = "eventType";
+
+	private final MeterRegistry registry;
+
+	/**
+	 * The meters are looked up per push, and the lookups of the registry build and sort
+	 * the tags every time
+	 */
+	private final ConcurrentMap<List<String>, Counter> counters = new ConcurrentHashMap<List<String>, Counter>();
+
+	private final ConcurrentMap<List<String>, Timer> timers = new ConcurrentHashMap<List<String>, Timer>();
+
+	/**
+	 * Bind to {@link Metrics#globalRegistry the global registry}
+	 */
+	public MicrometerNacosConfigMetrics() {
+		this(Metrics.globalRegistry);
+	}
+
+	public MicrometerNacosConfigMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordPush(String dataId, String groupId) {
+		counter("push", DATA_ID_TAG, nullSafe(dataId), GROUP_ID_TAG, nullSafe(groupId))
+				.increment();
+	}
+
+	@Override
+	public void recordParse(String type, long nanos) {
+		timer("parse", "type", nullSafe(type)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordPropertySourceReplace(String dataId, String groupId, long nanos) {
+		timer("property-source.replace", DATA_ID_TAG, nullSafe(dataId), GROUP_ID_TAG,
+				nullSafe(groupId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordNacosValueRefresh(String dataId, String groupId,
+			int updatedTargets) {
+		counter("nacos-value.updated", DATA_ID_TAG, nullSafe(dataId), GROUP_ID_TAG,
+				nullSafe(groupId)).increment(updatedTargets);
+	}
+
+	@Override
+	public void recordConfigurationPropertiesBind(String dataId, String groupId,
+			Class<?> beanType, long nanos) {
+		timer("configuration-properties.bind", DATA_ID_TAG, nullSafe(dataId),
+				GROUP_ID_TAG, nullSafe(groupId), "beanType", beanType.getName())
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordListenerTimeout(String dataId, String groupId) {
+		counter("listener.timeout", DATA_ID_TAG, nullSafe(dataId), GROUP_ID_TAG,
+				nullSafe(groupId)).increment();
+	}
+
+	@Override
+	public void recordPushApplied(String dataId, String groupId, long nanos) {
+		timer("push.applied", DATA_ID_TAG, nullSafe(dataId), GROUP_ID_TAG,
+				nullSafe(groupId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordDeferredEvent(Class<?> eventType) {
+		counter("deferred-event.buffered", EVENT_TYPE_TAG, eventType.getName())
+				.increment();
+	}
+
+	@Override
+	public void recordDeferredEventDropped(Class<?> eventType) {
+		counter("deferred-event.dropped", EVENT_TYPE_TAG, eventType.getName())
+				.increment();
+	}
+
+	private Counter counter(String name, String... tags) {
+		List<String> key = meterKey(name, tags);
+		Counter counter = counters.get(key);
+		if (counter == null) {
+			// the registry returns the registered meter of the same id
+			counter = registry.counter(METER_NAME_PREFIX + name, tags);
+			counters.put(key, counter);
+		}
+		return counter;
+	}
+
+	private Timer timer(String name, String... tags) {
+		List<String> key = meterKey(name, tags);
+		Timer timer = timers.get(key);
+		if (timer == null) {
+			timer = registry.timer(METER_NAME_PREFIX + name, tags);
+			timers.put(key, timer);
+		}
+		return timer;
+	}
+
+	private static List<String> meterKey(String name, String... tags) {
+		String[] key = new String[tags.length + 1];
+		key[0] = name;
+		System.arraycopy(tags, 0, key, 1, tags.length);
+		return Arrays.asList(key);
+	}
+
+	private static String nullSafe(String tagValue) {
+		return tagValue == null ? "" : tagValue;
+	}
+}
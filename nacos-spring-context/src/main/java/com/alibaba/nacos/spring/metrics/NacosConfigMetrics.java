@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+/**
+ * The metrics SPI of the Nacos config pipeline, from the Nacos client delivering the
+ * content to the Spring beans being updated. The implementation could be registered in
+ * <code>META-INF/services/com.alibaba.nacos.spring.metrics.NacosConfigMetrics</code> or
+ * {@link NacosConfigMetricsHolder#setMetrics(NacosConfigMetrics) set} programmatically,
+ * and it must be thread-safe and non-blocking.
+ *
+ * @see NoopNacosConfigMetrics
+ * @see MicrometerNacosConfigMetrics
+ * @see NacosConfigMetricsHolder
+ * @since 2.1.0
+ */
+public interface NacosConfigMetrics {
+
+	/**
+	 * A Nacos config has been pushed by the Nacos client
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 */
+	void recordPush(String dataId, String groupId);
+
+	/**
+	 * A Nacos config has been parsed
+	 *
+	 * @param type the type of config, e.g. properties, yaml
+	 * @param nanos the duration of parsing in nanoseconds
+	 */
+	void recordParse(String type, long nanos);
+
+	/**
+	 * A Nacos property source has been replaced in the Spring Environment
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 * @param nanos the duration of replacement in nanoseconds
+	 */
+	void recordPropertySourceReplace(String dataId, String groupId, long nanos);
+
+	/**
+	 * The targets of {@link com.alibaba.nacos.api.config.annotation.NacosValue} have been
+	 * refreshed
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 * @param updatedTargets the count of targets updated
+	 */
+	void recordNacosValueRefresh(String dataId, String groupId, int updatedTargets);
+
+	/**
+	 * A {@link com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties} bean
+	 * has been bound
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 * @param beanType the type of bean
+	 * @param nanos the duration of binding in nanoseconds
+	 */
+	void recordConfigurationPropertiesBind(String dataId, String groupId,
+			Class<?> beanType, long nanos);
+
+	/**
+	 * A Nacos config listener exceeds its timeout
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 */
+	void recordListenerTimeout(String dataId, String groupId);
+
+	/**
+	 * A pushed Nacos config has been applied to the listeners and Spring beans
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 * @param nanos the duration from the push to being applied in nanoseconds
+	 */
+	void recordPushApplied(String dataId, String groupId, long nanos);
+
+	/**
+	 * An event has been deferred as the Spring ApplicationContext is not running yet
+	 *
+	 * @param eventType the type of event
+	 */
+	void recordDeferredEvent(Class<?> eventType);
+
+	/**
+	 * A deferred event has been dropped as the deferred events exceed the capacity
+	 *
+	 * @param eventType the type of event
+	 */
+	void recordDeferredEventDropped(Class<?> eventType);
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.springframework.util.Assert;
+
+/**
+ * The holder of the JVM-wide {@link NacosConfigMetrics}, it's loaded from
+ * {@link ServiceLoader} at first, {@link NoopNacosConfigMetrics} is used if absent.
+ *
+ * @since 2.1.0
+ */
+public final class NacosConfigMetricsHolder {
+
+	private static volatile NacosConfigMetrics metrics = loadMetrics();
+
+	private NacosConfigMetricsHolder() {
+	}
+
+	private static NacosConfigMetrics loadMetrics() {
+		List<NacosConfigMetrics> loaded = new ArrayList<NacosConfigMetrics>();
+		for (NacosConfigMetrics metrics : ServiceLoader.load(NacosConfigMetrics.class)) {
+			loaded.add(metrics);
+		}
+		if (loaded.isEmpty()) {
+			return NoopNacosConfigMetrics.INSTANCE;
+		}
+		return loaded.size() == 1 ? loaded.get(0)
+				: new CompositeNacosConfigMetrics(loaded);
+	}
+
+	/**
+	 * Get the current {@link NacosConfigMetrics}
+	 *
+	 * @return non-null
+	 */
+	public static NacosConfigMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Set the current {@link NacosConfigMetrics}
+	 *
+	 * @param metrics {@link NacosConfigMetrics}
+	 */
+	public static void setMetrics(NacosConfigMetrics metrics) {
+		Assert.notNull(metrics, "NacosConfigMetrics must not be null!");
+		NacosConfigMetricsHolder.metrics = metrics;
+	}
+
+	/**
+	 * Reset the current {@link NacosConfigMetrics} to {@link NoopNacosConfigMetrics}
+	 */
+	public static void reset() {
+		NacosConfigMetricsHolder.metrics = NoopNacosConfigMetrics.INSTANCE;
+	}
+
+	private static class CompositeNacosConfigMetrics implements NacosConfigMetrics {
+
+		private final NacosConfigMetrics[] delegates;
+
+		CompositeNacosConfigMetrics(List<NacosConfigMetrics> delegates) {
+			this.delegates = delegates.toArray(new NacosConfigMetrics[0]);
+		}
+
+		@Override
+		public void recordPush(String dataId, String groupId) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordPush(dataId, groupId);
+			}
+		}
+
+		@Override
+		public void recordParse(String type, long nanos) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordParse(type, nanos);
+			}
+		}
+
+		@Override
+		public void recordPropertySourceReplace(String dataId, String groupId,
+				long nanos) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordPropertySourceReplace(dataId, groupId, nanos);
+			}
+		}
+
+		@Override
+		public void recordNacosValueRefresh(String dataId, String groupId,
+				int updatedTargets) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordNacosValueRefresh(dataId, groupId, updatedTargets);
+			}
+		}
+
+		@Override
+		public void recordConfigurationPropertiesBind(String dataId, String groupId,
+				Class<?> beanType, long nanos) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordConfigurationPropertiesBind(dataId, groupId, beanType,
+						nanos);
+			}
+		}
+
+		@Override
+		public void recordListenerTimeout(String dataId, String groupId) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordListenerTimeout(dataId, groupId);
+			}
+		}
+
+		@Override
+		public void recordPushApplied(String dataId, String groupId, long nanos) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordPushApplied(dataId, groupId, nanos);
+			}
+		}
+
+		@Override
+		public void recordDeferredEvent(Class<?> eventType) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordDeferredEvent(eventType);
+			}
+		}
+
+		@Override
+		public void recordDeferredEventDropped(Class<?> eventType) {
+			for (NacosConfigMetrics delegate : delegates) {
+				delegate.recordDeferredEventDropped(eventType);
+			}
+		}
+	}
+}
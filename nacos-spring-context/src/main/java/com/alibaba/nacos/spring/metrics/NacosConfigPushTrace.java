@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The trace of a Nacos config push, identified by a correlation id, from the Nacos client
+ * delivering the content to the Spring beans being updated. The durations of every stage
+ * are accumulated, e.g. a push parsed by both the property source and a
+ * {@link com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties} bean.
+ *
+ * @see NacosConfigTraceRecorder
+ * @since 2.1.0
+ */
+public class NacosConfigPushTrace {
+
+	/**
+	 * The stage of the delegate {@link com.alibaba.nacos.api.config.listener.Listener}
+	 */
+	public static final String LISTENER = "listener";
+
+	/**
+	 * The stage of parsing the content
+	 */
+	public static final String PARSE = "parse";
+
+	/**
+	 * The stage of replacing the property source in the Spring Environment
+	 */
+	public static final String PROPERTY_SOURCE_REPLACE = "property-source.replace";
+
+	/**
+	 * The stage of publishing the
+	 * {@link com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent}
+	 */
+	public static final String EVENT_PUBLISH = "event.publish";
+
+	/**
+	 * The stage of refreshing the
+	 * {@link com.alibaba.nacos.api.config.annotation.NacosValue} targets
+	 */
+	public static final String NACOS_VALUE_REFRESH = "nacos-value.refresh";
+
+	/**
+	 * The stage of binding the
+	 * {@link com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties} beans
+	 */
+	public static final String CONFIGURATION_PROPERTIES_BIND = "configuration-properties.bind";
+
+	private static final String ID_PREFIX = Long
+			.toHexString(System.currentTimeMillis());
+
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private final String correlationId;
+
+	private final String dataId;
+
+	private final String groupId;
+
+	private final long receivedTimeMillis;
+
+	private final long receivedNanos;
+
+	private final Map<String, Long> stageNanos = new LinkedHashMap<String, Long>();
+
+	private long lastStageEndNanos;
+
+	public NacosConfigPushTrace(String dataId, String groupId) {
+		this.correlationId = ID_PREFIX + "-" + SEQUENCE.incrementAndGet();
+		this.dataId = dataId;
+		this.groupId = groupId;
+		this.receivedTimeMillis = System.currentTimeMillis();
+		this.receivedNanos = System.nanoTime();
+		this.lastStageEndNanos = receivedNanos;
+	}
+
+	/**
+	 * Record the duration of a stage, which is ended now
+	 *
+	 * @param stage the name of stage, e.g. {@link #PARSE}
+	 * @param nanos the duration in nanoseconds
+	 */
+	public synchronized void recordStage(String stage, long nanos) {
+		Long previous = stageNanos.get(stage);
+		stageNanos.put(stage, previous == null ? nanos : previous + nanos);
+		lastStageEndNanos = Math.max(lastStageEndNanos, System.nanoTime());
+	}
+
+	public String getCorrelationId() {
+		return correlationId;
+	}
+
+	public String getDataId() {
+		return dataId;
+	}
+
+	public String getGroupId() {
+		return groupId;
+	}
+
+	/**
+	 * Get the time when the push was received
+	 *
+	 * @return the milliseconds since the epoch
+	 */
+	public long getReceivedTimeMillis() {
+		return receivedTimeMillis;
+	}
+
+	/**
+	 * Get the accumulated durations of stages in recording order
+	 *
+	 * @return the copy of stage name to nanoseconds
+	 */
+	public synchronized Map<String, Long> getStageNanos() {
+		return new LinkedHashMap<String, Long>(stageNanos);
+	}
+
+	/**
+	 * Get the duration from the push being received to the end of the last stage
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	public synchronized long getElapsedNanos() {
+		return lastStageEndNanos - receivedNanos;
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder builder = new StringBuilder("NacosConfigPushTrace{");
+		builder.append("correlationId='").append(correlationId).append('\'');
+		builder.append(", dataId='").append(dataId).append('\'');
+		builder.append(", groupId='").append(groupId).append('\'');
+		builder.append(", elapsed=").append(toMicros(getElapsedNanos())).append("us");
+		builder.append(", stages={");
+		boolean first = true;
+		for (Map.Entry<String, Long> entry : stageNanos.entrySet()) {
+			if (!first) {
+				builder.append(", ");
+			}
+			builder.append(entry.getKey()).append('=')
+					.append(toMicros(entry.getValue())).append("us");
+			first = false;
+		}
+		return builder.append("}}").toString();
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
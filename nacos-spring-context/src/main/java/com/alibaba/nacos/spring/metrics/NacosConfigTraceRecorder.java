@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * The in-process recorder of the last N {@link NacosConfigPushTrace Nacos config push
+ * traces} in a ring buffer, and the holder of the trace being processed by the current
+ * thread, so that the stages running on the push thread, e.g. parsing, could be recorded
+ * without passing the trace through.
+ *
+ * @see NacosConfigPushTrace
+ * @since 2.1.0
+ */
+public class NacosConfigTraceRecorder {
+
+	/**
+	 * The default count of traces kept
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private static final ThreadLocal<NacosConfigPushTrace> CURRENT = new ThreadLocal<NacosConfigPushTrace>();
+
+	private static volatile NacosConfigTraceRecorder instance = new NacosConfigTraceRecorder(
+			DEFAULT_CAPACITY);
+
+	private final AtomicReferenceArray<NacosConfigPushTrace> traces;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	public NacosConfigTraceRecorder(int capacity) {
+		Assert.isTrue(capacity > 0, "The capacity must be positive!");
+		this.traces = new AtomicReferenceArray<NacosConfigPushTrace>(capacity);
+	}
+
+	/**
+	 * Get the JVM-wide {@link NacosConfigTraceRecorder}
+	 *
+	 * @return non-null
+	 */
+	public static NacosConfigTraceRecorder getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Set the JVM-wide {@link NacosConfigTraceRecorder}, e.g. with another capacity
+	 *
+	 * @param recorder {@link NacosConfigTraceRecorder}
+	 */
+	public static void setInstance(NacosConfigTraceRecorder recorder) {
+		Assert.notNull(recorder, "NacosConfigTraceRecorder must not be null!");
+		NacosConfigTraceRecorder.instance = recorder;
+	}
+
+	/**
+	 * Get the trace being processed by the current thread
+	 *
+	 * @return <code>null</code> if absent
+	 */
+	public static NacosConfigPushTrace current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Attach the trace to the current thread
+	 *
+	 * @param trace {@link NacosConfigPushTrace}, or <code>null</code> to detach
+	 * @return the trace attached previously, which should be
+	 *     {@link #attach(NacosConfigPushTrace) restored} when done
+	 */
+	public static NacosConfigPushTrace attach(NacosConfigPushTrace trace) {
+		NacosConfigPushTrace previous = CURRENT.get();
+		if (trace == null) {
+			CURRENT.remove();
+		}
+		else {
+			CURRENT.set(trace);
+		}
+		return previous;
+	}
+
+	/**
+	 * Record the duration of a stage on the trace of the current thread if present
+	 *
+	 * @param stage the name of stage
+	 * @param nanos the duration in nanoseconds
+	 */
+	public static void recordStage(String stage, long nanos) {
+		NacosConfigPushTrace trace = CURRENT.get();
+		if (trace != null) {
+			trace.recordStage(stage, nanos);
+		}
+	}
+
+	/**
+	 * Begin a new trace of the push, which will be kept in the ring buffer
+	 *
+	 * @param dataId data ID
+	 * @param groupId group ID
+	 * @return new {@link NacosConfigPushTrace}
+	 */
+	public NacosConfigPushTrace begin(String dataId, String groupId) {
+		NacosConfigPushTrace trace = new NacosConfigPushTrace(dataId, groupId);
+		int index = (int) (sequence.getAndIncrement() % traces.length());
+		traces.set(index, trace);
+		return trace;
+	}
+
+	/**
+	 * Get the traces kept, the newest first
+	 *
+	 * @return the copy of traces
+	 */
+	public List<NacosConfigPushTrace> getTraces() {
+		int capacity = traces.length();
+		long next = sequence.get();
+		int size = (int) Math.min(next, capacity);
+		List<NacosConfigPushTrace> result = new ArrayList<NacosConfigPushTrace>(size);
+		for (int i = 1; i <= size; i++) {
+			NacosConfigPushTrace trace = traces.get((int) ((next - i) % capacity));
+			if (trace != null) {
+				result.add(trace);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the trace kept by correlation id
+	 *
+	 * @param correlationId the correlation id
+	 * @return <code>null</code> if absent or overwritten
+	 */
+	public NacosConfigPushTrace getTrace(String correlationId) {
+		for (int i = 0; i < traces.length(); i++) {
+			NacosConfigPushTrace trace = traces.get(i);
+			if (trace != null && trace.getCorrelationId().equals(correlationId)) {
+				return trace;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get the count of traces kept at most
+	 *
+	 * @return capacity
+	 */
+	public int getCapacity() {
+		return traces.length();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+/**
+ * The default {@link NacosConfigMetrics} does nothing.
+ *
+ * @since 2.1.0
+ */
+public class NoopNacosConfigMetrics implements NacosConfigMetrics {
+
+	public static final NoopNacosConfigMetrics INSTANCE = new NoopNacosConfigMetrics();
+
+	@Override
+	public void recordPush(String dataId, String groupId) {
+	}
+
+	@Override
+	public void recordParse(String type, long nanos) {
+	}
+
+	@Override
+	public void recordPropertySourceReplace(String dataId, String groupId, long nanos) {
+	}
+
+	@Override
+	public void recordNacosValueRefresh(String dataId, String groupId,
+			int updatedTargets) {
+	}
+
+	@Override
+	public void recordConfigurationPropertiesBind(String dataId, String groupId,
+			Class<?> beanType, long nanos) {
+	}
+
+	@Override
+	public void recordListenerTimeout(String dataId, String groupId) {
+	}
+
+	@Override
+	public void recordPushApplied(String dataId, String groupId, long nanos) {
+	}
+
+	@Override
+	public void recordDeferredEvent(Class<?> eventType) {
+	}
+
+	@Override
+	public void recordDeferredEventDropped(Class<?> eventType) {
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+/**
+ * A change of Nacos config content, as emitted by the publishers of
+ * {@link ReactiveConfigService}.
+ *
+ * @since 2.1.0
+ */
+public final class ConfigChange {
+
+	private final String dataId;
+
+	private final String group;
+
+	private final String content;
+
+	private final long sequence;
+
+	private final long timestamp;
+
+	public ConfigChange(String dataId, String group, String content, long sequence,
+			long timestamp) {
+		this.dataId = dataId;
+		this.group = group;
+		this.content = content;
+		this.sequence = sequence;
+		this.timestamp = timestamp;
+	}
+
+	public String getDataId() {
+		return dataId;
+	}
+
+	public String getGroup() {
+		return group;
+	}
+
+	public String getContent() {
+		return content;
+	}
+
+	/**
+	 * The position of this change in its stream, starting from 1. Gaps mean changes
+	 * were conflated or dropped.
+	 *
+	 * @return the sequence number
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * The time the change was received, in milliseconds since the epoch.
+	 *
+	 * @return the timestamp
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigChange{" + "dataId='" + dataId + '\'' + ", group='" + group + '\''
+				+ ", sequence=" + sequence + ", timestamp=" + timestamp + '}';
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.exception.NacosException;
+
+/**
+ * The single Nacos listener behind all subscriptions to one dataId and group. It is
+ * registered when the first subscriber arrives, removed when the last one cancels,
+ * and remembers the latest change so that late subscribers start from it.
+ * <p>
+ * {@link #receiveConfigInfo(String)} only hands the change to each subscription,
+ * which never blocks, so Nacos notifier threads are never held up by a slow
+ * subscriber.
+ *
+ * @since 2.1.0
+ */
+final class ConfigChangeSource extends AbstractListener {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(ConfigChangeSource.class);
+
+	private final ConfigService configService;
+
+	private final String dataId;
+
+	private final String group;
+
+	private final long timeoutMs;
+
+	private final Executor executor;
+
+	private final List<ConfigChangeSubscription> subscriptions = new CopyOnWriteArrayList<ConfigChangeSubscription>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Incremented each time the listener is registered or removed, guarded by this
+	 */
+	private long generation;
+
+	private boolean listening;
+
+	private volatile ConfigChange latest;
+
+	ConfigChangeSource(ConfigService configService, String dataId, String group,
+			long timeoutMs, Executor executor) {
+		this.configService = configService;
+		this.dataId = dataId;
+		this.group = group;
+		this.timeoutMs = timeoutMs;
+		this.executor = executor;
+	}
+
+	void subscribe(ConfigChangeSubscription subscription) {
+		final long startGeneration;
+		synchronized (this) {
+			subscriptions.add(subscription);
+			// Replayed under the lock so that a concurrent push can't overtake it
+			ConfigChange current = latest;
+			if (current != null) {
+				subscription.offer(current);
+			}
+			if (listening) {
+				return;
+			}
+			listening = true;
+			startGeneration = ++generation;
+		}
+		// Fetching the initial content is a remote call, keep it off the subscribing
+		// thread
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				startListening(startGeneration);
+			}
+		});
+	}
+
+	synchronized void unsubscribe(ConfigChangeSubscription subscription) {
+		if (!subscriptions.remove(subscription) || !subscriptions.isEmpty()
+				|| !listening) {
+			return;
+		}
+		listening = false;
+		generation++;
+		latest = null;
+		configService.removeListener(dataId, group, this);
+	}
+
+	private void startListening(long startGeneration) {
+		String content;
+		try {
+			// Registered before fetching so that no push is lost in between. Not via
+			// getConfigAndSignListener, which EventPublishingConfigService wraps in
+			// a listener that removeListener could no longer find
+			configService.addListener(dataId, group, this);
+			content = configService.getConfig(dataId, group, timeoutMs);
+		}
+		catch (NacosException e) {
+			fail(startGeneration, e);
+			return;
+		}
+		catch (RuntimeException e) {
+			fail(startGeneration, e);
+			return;
+		}
+		synchronized (this) {
+			if (generation != startGeneration) {
+				// Every subscriber cancelled while the listener was being registered
+				configService.removeListener(dataId, group, this);
+				return;
+			}
+			// Checked and published under the same lock, otherwise a push could be
+			// overtaken by the initial content published after it
+			if (content != null && latest == null) {
+				publish(content);
+			}
+		}
+	}
+
+	private void fail(long startGeneration, Throwable cause) {
+		logger.error("Can't listen to the Nacos config[dataId : {} , group : {}]",
+				dataId, group, cause);
+		synchronized (this) {
+			if (generation != startGeneration) {
+				return;
+			}
+			listening = false;
+			generation++;
+			configService.removeListener(dataId, group, this);
+		}
+		for (ConfigChangeSubscription subscription : subscriptions) {
+			subscription.fail(cause);
+		}
+	}
+
+	@Override
+	public void receiveConfigInfo(String content) {
+		publish(content);
+	}
+
+	private synchronized void publish(String content) {
+		ConfigChange change = new ConfigChange(dataId, group, content,
+				sequence.incrementAndGet(), System.currentTimeMillis());
+		latest = change;
+		for (ConfigChangeSubscription subscription : subscriptions) {
+			subscription.offer(change);
+		}
+	}
+
+	ConfigChange getLatest() {
+		return latest;
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One subscriber's view of a {@link ConfigChangeSource}: a bounded buffer drained on
+ * the executor as far as the subscriber has requested. All signals to the subscriber
+ * are made from the drain loop, so they are never concurrent.
+ *
+ * @since 2.1.0
+ */
+final class ConfigChangeSubscription implements Subscription, Runnable {
+
+	private static final Logger logger = LoggerFactory
+			.getLogger(ConfigChangeSubscription.class);
+
+	private final Subscriber<? super ConfigChange> subscriber;
+
+	private final ConfigChangeSource source;
+
+	private final Executor executor;
+
+	private final OverflowStrategy overflowStrategy;
+
+	private final int bufferSize;
+
+	private final ArrayDeque<ConfigChange> buffer = new ArrayDeque<ConfigChange>();
+
+	private final AtomicLong requested = new AtomicLong();
+
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private volatile boolean cancelled;
+
+	private volatile Throwable error;
+
+	ConfigChangeSubscription(Subscriber<? super ConfigChange> subscriber,
+			ConfigChangeSource source, Executor executor,
+			OverflowStrategy overflowStrategy, int bufferSize) {
+		this.subscriber = subscriber;
+		this.source = source;
+		this.executor = executor;
+		this.overflowStrategy = overflowStrategy;
+		this.bufferSize = bufferSize;
+	}
+
+	void start() {
+		subscriber.onSubscribe(this);
+		if (!cancelled) {
+			source.subscribe(this);
+		}
+	}
+
+	@Override
+	public void request(long n) {
+		if (n <= 0) {
+			fail(new IllegalArgumentException(
+					"The number of requested changes must be positive, but was " + n));
+			return;
+		}
+		long current;
+		long next;
+		do {
+			current = requested.get();
+			if (current == Long.MAX_VALUE) {
+				break;
+			}
+			next = current + n;
+			if (next < 0) {
+				next = Long.MAX_VALUE;
+			}
+		}
+		while (!requested.compareAndSet(current, next));
+		schedule();
+	}
+
+	@Override
+	public void cancel() {
+		if (!cancelled) {
+			cancelled = true;
+			source.unsubscribe(this);
+			schedule();
+		}
+	}
+
+	/**
+	 * Buffers the change and schedules delivery, never blocking the caller.
+	 *
+	 * @param change the change to deliver
+	 */
+	void offer(ConfigChange change) {
+		if (cancelled) {
+			return;
+		}
+		synchronized (buffer) {
+			if (overflowStrategy == OverflowStrategy.LATEST) {
+				buffer.clear();
+			}
+			else if (buffer.size() >= bufferSize) {
+				if (overflowStrategy == OverflowStrategy.DROP_OLDEST) {
+					buffer.poll();
+				}
+				else {
+					fail(new IllegalStateException("The subscriber of the Nacos config[dataId : "
+							+ change.getDataId() + " , group : " + change.getGroup()
+							+ "] fell behind by more than " + bufferSize + " changes"));
+					return;
+				}
+			}
+			buffer.offer(change);
+		}
+		schedule();
+	}
+
+	void fail(Throwable cause) {
+		if (error == null) {
+			error = cause;
+		}
+		schedule();
+	}
+
+	private void schedule() {
+		if (wip.getAndIncrement() == 0) {
+			executor.execute(this);
+		}
+	}
+
+	@Override
+	public void run() {
+		int missed = 1;
+		for (;;) {
+			if (cancelled) {
+				synchronized (buffer) {
+					buffer.clear();
+				}
+			}
+			else {
+				drain();
+			}
+			missed = wip.addAndGet(-missed);
+			if (missed == 0) {
+				break;
+			}
+		}
+	}
+
+	private void drain() {
+		long demand = requested.get();
+		long emitted = 0;
+		while (emitted != demand && !cancelled && error == null) {
+			ConfigChange change;
+			synchronized (buffer) {
+				change = buffer.poll();
+			}
+			if (change == null) {
+				break;
+			}
+			try {
+				subscriber.onNext(change);
+			}
+			catch (Throwable e) {
+				logger.error("The subscriber of the Nacos config[dataId : {} , group : {}] failed, cancelling it",
+						change.getDataId(), change.getGroup(), e);
+				cancel();
+				return;
+			}
+			emitted++;
+		}
+		if (emitted != 0 && demand != Long.MAX_VALUE) {
+			requested.addAndGet(-emitted);
+		}
+		Throwable cause = error;
+		if (cause != null && !cancelled) {
+			cancel();
+			try {
+				subscriber.onError(cause);
+			}
+			catch (Throwable e) {
+				logger.error("The subscriber's onError failed", e);
+			}
+		}
+	}
+}
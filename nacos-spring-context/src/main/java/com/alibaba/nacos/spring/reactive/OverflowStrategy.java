@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+/**
+ * What a config change stream does when a subscriber requests slower than changes
+ * arrive.
+ *
+ * @since 2.1.0
+ */
+public enum OverflowStrategy {
+
+	/**
+	 * Conflate, keeping only the newest change that has not been delivered yet
+	 */
+	LATEST,
+
+	/**
+	 * Buffer up to the buffer size, then drop the oldest buffered change
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Buffer up to the buffer size, then cancel and signal an error
+	 */
+	ERROR
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.springframework.util.Assert;
+
+import com.alibaba.nacos.api.config.ConfigService;
+
+/**
+ * Exposes Nacos config changes as Reactive Streams {@link Publisher Publishers}, one
+ * stream per dataId and group, so they can be composed with any Reactive Streams
+ * library, e.g. {@code Flux.from(reactiveConfigService.latest(dataId, group))}.
+ * <p>
+ * Every publisher honours backpressure and starts each new subscriber from the
+ * latest known content. All subscribers of one dataId and group share a single Nacos
+ * listener, and delivery happens on the given {@link Executor}, never on Nacos
+ * notifier threads.
+ *
+ * @since 2.1.0
+ */
+public class ReactiveConfigService {
+
+	/**
+	 * The default number of undelivered changes buffered per subscriber
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * The default timeout of fetching the initial content
+	 */
+	public static final long DEFAULT_TIMEOUT = 3000;
+
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors
+			.newCachedThreadPool(new ThreadFactory() {
+
+				private final AtomicInteger counter = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r);
+					t.setName("com.alibaba.nacos.spring.reactive-"
+							+ counter.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+
+	private final ConfigService configService;
+
+	private final Executor executor;
+
+	private final long timeoutMs;
+
+	private final ConcurrentMap<String, ConfigChangeSource> sources = new ConcurrentHashMap<String, ConfigChangeSource>();
+
+	public ReactiveConfigService(ConfigService configService) {
+		this(configService, DEFAULT_EXECUTOR);
+	}
+
+	public ReactiveConfigService(ConfigService configService, Executor executor) {
+		this(configService, executor, DEFAULT_TIMEOUT);
+	}
+
+	public ReactiveConfigService(ConfigService configService, Executor executor,
+			long timeoutMs) {
+		Assert.notNull(configService, "configService must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		this.configService = configService;
+		this.executor = executor;
+		this.timeoutMs = timeoutMs;
+	}
+
+	/**
+	 * Every change of the config, buffering up to {@link #DEFAULT_BUFFER_SIZE}
+	 * changes per subscriber and dropping the oldest beyond that.
+	 *
+	 * @param dataId data id
+	 * @param group group
+	 * @return a publisher of changes
+	 */
+	public Publisher<ConfigChange> changes(String dataId, String group) {
+		return changes(dataId, group, OverflowStrategy.DROP_OLDEST,
+				DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * The latest content of the config, conflating changes a subscriber has not
+	 * requested yet into the newest one.
+	 *
+	 * @param dataId data id
+	 * @param group group
+	 * @return a publisher of changes
+	 */
+	public Publisher<ConfigChange> latest(String dataId, String group) {
+		return changes(dataId, group, OverflowStrategy.LATEST, 1);
+	}
+
+	/**
+	 * The changes of the config.
+	 *
+	 * @param dataId data id
+	 * @param group group
+	 * @param overflowStrategy what to do with changes beyond the buffer size
+	 * @param bufferSize the number of undelivered changes buffered per subscriber,
+	 *     ignored by {@link OverflowStrategy#LATEST}
+	 * @return a publisher of changes
+	 */
+	public Publisher<ConfigChange> changes(String dataId, String group,
+			final OverflowStrategy overflowStrategy, final int bufferSize) {
+		Assert.hasText(dataId, "dataId must not be empty");
+		Assert.hasText(group, "group must not be empty");
+		Assert.notNull(overflowStrategy, "overflowStrategy must not be null");
+		Assert.isTrue(bufferSize > 0, "bufferSize must be positive");
+		final ConfigChangeSource source = getSource(dataId, group);
+		return new Publisher<ConfigChange>() {
+			@Override
+			public void subscribe(Subscriber<? super ConfigChange> subscriber) {
+				if (subscriber == null) {
+					throw new NullPointerException("subscriber must not be null");
+				}
+				new ConfigChangeSubscription(subscriber, source, executor,
+						overflowStrategy, bufferSize).start();
+			}
+		};
+	}
+
+	private ConfigChangeSource getSource(String dataId, String group) {
+		String key = dataId + "+" + group;
+		ConfigChangeSource source = sources.get(key);
+		if (source == null) {
+			source = new ConfigChangeSource(configService, dataId, group, timeoutMs,
+					executor);
+			ConfigChangeSource existing = sources.putIfAbsent(key, source);
+			if (existing != null) {
+				source = existing;
+			}
+		}
+		return source;
+	}
+
+	/**
+	 * The latest known change of the config, or {@code null} if it has no
+	 * subscribers or nothing was received yet.
+	 *
+	 * @param dataId data id
+	 * @param group group
+	 * @return the latest change or {@code null}
+	 */
+	public ConfigChange getLatest(String dataId, String group) {
+		ConfigChangeSource source = sources.get(dataId + "+" + group);
+		return source == null ? null : source.getLatest();
+	}
+
+}
@@ -23,6 +23,9 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ServiceLoader;
 
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.metrics.NacosConfigPushTrace;
+import com.alibaba.nacos.spring.metrics.NacosConfigTraceRecorder;
 import com.alibaba.nacos.spring.util.parse.DefaultJsonConfigParse;
 import com.alibaba.nacos.spring.util.parse.DefaultPropertiesConfigParse;
 import com.alibaba.nacos.spring.util.parse.DefaultXmlConfigParse;
@@ -92,7 +95,7 @@ public final class ConfigParseUtils {
 
 		if (DEFAULT_CONFIG_PARSE_MAP.containsKey(type)) {
 			ConfigParse configParse = DEFAULT_CONFIG_PARSE_MAP.get(type);
-			Map<String, Object> parseMap = configParse.parse(context);
+			Map<String, Object> parseMap = parse(configParse, context, type);
 			return parseMap == null ? new HashMap<>() : parseMap;
 		}
 		else {
@@ -130,7 +133,7 @@ public final class ConfigParseUtils {
 					throw new NoSuchElementException(
 							"This config can't find ConfigParse to parse");
 				}
-				return configParse.parse(context);
+				return parse(configParse, context, type);
 			}
 			else {
 				throw new UnsupportedOperationException(
@@ -139,4 +142,17 @@ public final class ConfigParseUtils {
 		}
 	}
 
+	private static Map<String, Object> parse(ConfigParse configParse, String context,
+			String type) {
+		long start = System.nanoTime();
+		try {
+			return configParse.parse(context);
+		}
+		finally {
+			long nanos = System.nanoTime() - start;
+			NacosConfigMetricsHolder.getMetrics().recordParse(type, nanos);
+			NacosConfigTraceRecorder.recordStage(NacosConfigPushTrace.PARSE, nanos);
+		}
+	}
+
 }
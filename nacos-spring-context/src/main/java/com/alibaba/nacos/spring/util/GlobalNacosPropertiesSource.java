@@ -23,8 +23,11 @@ import static com.alibaba.nacos.spring.util.NacosBeanUtils.MAINTAIN_GLOBAL_NACOS
 import static com.alibaba.nacos.spring.util.NacosUtils.merge;
 import static java.util.Collections.emptyMap;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
 
 import org.springframework.beans.factory.BeanFactory;
 
@@ -66,26 +69,74 @@ public enum GlobalNacosPropertiesSource {
 
 	/**
 	 * Get Merged {@link Properties} from {@link BeanFactory}
+	 * <p>
+	 * The merged {@link Properties} are computed once per {@link BeanFactory} and
+	 * shared, until the entries of the Global {@link Properties} Beans change.
 	 *
 	 * @param beanFactory {@link BeanFactory}
-	 * @return Global {@link Properties} Bean
+	 * @return Global {@link Properties} Bean, read-only
 	 */
 	public Properties getMergedGlobalProperties(BeanFactory beanFactory) {
-		Properties currentProperties = getProperties(beanFactory, beanName);
-		Properties globalProperties = getProperties(beanFactory,
+		Map<?, ?> currentSource = getPropertiesSource(beanFactory, beanName);
+		Map<?, ?> globalSource = getPropertiesSource(beanFactory,
 				GLOBAL_NACOS_PROPERTIES_BEAN_NAME);
-		// merge
-		merge(globalProperties, currentProperties);
-		return globalProperties;
+		synchronized (MergedGlobalProperties.CACHE) {
+			Map<GlobalNacosPropertiesSource, MergedGlobalProperties> cache = MergedGlobalProperties.CACHE
+					.get(beanFactory);
+			if (cache == null) {
+				cache = new EnumMap<GlobalNacosPropertiesSource, MergedGlobalProperties>(
+						GlobalNacosPropertiesSource.class);
+				MergedGlobalProperties.CACHE.put(beanFactory, cache);
+			}
+			MergedGlobalProperties merged = cache.get(this);
+			if (merged == null || !merged.isMergedFrom(currentSource, globalSource)) {
+				merged = new MergedGlobalProperties(currentSource, globalSource);
+				cache.put(this, merged);
+			}
+			return merged.properties;
+		}
 	}
 
-	private Properties getProperties(BeanFactory beanFactory, String beanName) {
-		Properties properties = new Properties();
+	private Map<?, ?> getPropertiesSource(BeanFactory beanFactory, String beanName) {
 		// If Bean is absent , source will be empty.
-		Map<?, ?> propertiesSource = beanFactory.containsBean(beanName)
+		return beanFactory.containsBean(beanName)
 				? beanFactory.getBean(beanName, Properties.class)
 				: emptyMap();
-		properties.putAll(propertiesSource);
-		return properties;
+	}
+
+	/**
+	 * The merged Global {@link Properties} and the entries they are merged from
+	 */
+	private static class MergedGlobalProperties {
+
+		private static final Map<BeanFactory, Map<GlobalNacosPropertiesSource, MergedGlobalProperties>> CACHE = new WeakHashMap<BeanFactory, Map<GlobalNacosPropertiesSource, MergedGlobalProperties>>();
+
+		private final Map<Object, Object> currentEntries;
+
+		private final Map<Object, Object> globalEntries;
+
+		private final Properties properties;
+
+		MergedGlobalProperties(Map<?, ?> currentSource, Map<?, ?> globalSource) {
+			this.currentEntries = new HashMap<Object, Object>(currentSource);
+			this.globalEntries = new HashMap<Object, Object>(globalSource);
+			Properties globalProperties = new Properties();
+			globalProperties.putAll(globalEntries);
+			Properties currentProperties = new Properties();
+			currentProperties.putAll(currentEntries);
+			// merge
+			merge(globalProperties, currentProperties);
+			this.properties = new UnmodifiableProperties(globalProperties);
+		}
+
+		/**
+		 * Compares the entries rather than the Beans, so that a
+		 * {@link Properties#setProperty} on a Global {@link Properties} Bean is seen
+		 * even when it overwrites a key.
+		 */
+		boolean isMergedFrom(Map<?, ?> currentSource, Map<?, ?> globalSource) {
+			return this.currentEntries.equals(currentSource)
+					&& this.globalEntries.equals(globalSource);
+		}
 	}
 }
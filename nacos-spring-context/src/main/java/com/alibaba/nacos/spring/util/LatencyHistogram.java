@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram whose buckets grow exponentially (power of two
+ * microseconds), it's cheap enough to be recorded on every Nacos config push.
+ *
+ * @since 2.1.0
+ */
+public class LatencyHistogram {
+
+	private static final int BUCKETS = 40;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Record a latency
+	 *
+	 * @param nanos latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		buckets.incrementAndGet(bucketIndex(nanos));
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		long max;
+		while (nanos > (max = maxNanos.get())) {
+			if (maxNanos.compareAndSet(max, nanos)) {
+				break;
+			}
+		}
+	}
+
+	private static int bucketIndex(long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+		int index = 64 - Long.numberOfLeadingZeros(micros);
+		return index < BUCKETS ? index : BUCKETS - 1;
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.get();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	public long getMeanNanos() {
+		long count = getCount();
+		return count == 0 ? 0 : getTotalNanos() / count;
+	}
+
+	/**
+	 * Get the upper bound of the bucket the percentile falls in
+	 *
+	 * @param percentile percentile in (0, 100]
+	 * @return latency in nanoseconds
+	 */
+	public long getPercentileNanos(double percentile) {
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(count * percentile / 100.0d);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets.get(i);
+			if (seen >= rank) {
+				return Math.min(TimeUnit.MICROSECONDS.toNanos(1L << i), getMaxNanos());
+			}
+		}
+		return getMaxNanos();
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram{" + "count=" + getCount() + ", meanNanos="
+				+ getMeanNanos() + ", p99Nanos=" + getPercentileNanos(99)
+				+ ", maxNanos=" + getMaxNanos() + '}';
+	}
+}
@@ -16,7 +16,10 @@
  */
 package com.alibaba.nacos.spring.util;
 
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.DEFAULT_NACOS_CONFIG_EVENT_PARALLELISM;
 import static com.alibaba.nacos.spring.context.constants.NacosConstants.DEFAULT_NACOS_CONFIG_LISTENER_PARALLELISM;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_CONFIG_EVENT_ASYNC;
+import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_CONFIG_EVENT_PARALLELISM;
 import static com.alibaba.nacos.spring.context.constants.NacosConstants.NACOS_CONFIG_LISTENER_PARALLELISM;
 import static com.alibaba.nacos.spring.util.NacosUtils.resolveProperties;
 
@@ -45,12 +48,14 @@ import org.springframework.core.env.Environment;
 import org.springframework.core.env.PropertyResolver;
 
 import com.alibaba.nacos.spring.beans.factory.annotation.AnnotationNacosInjectedBeanPostProcessor;
+import com.alibaba.nacos.spring.beans.factory.annotation.AnnotationNacosInstancesBeanPostProcessor;
 import com.alibaba.nacos.spring.beans.factory.annotation.ConfigServiceBeanBuilder;
 import com.alibaba.nacos.spring.beans.factory.annotation.NamingMaintainServiceBeanBuilder;
 import com.alibaba.nacos.spring.beans.factory.annotation.NamingServiceBeanBuilder;
 import com.alibaba.nacos.spring.context.annotation.config.NacosConfigListenerMethodProcessor;
 import com.alibaba.nacos.spring.context.annotation.config.NacosValueAnnotationBeanPostProcessor;
 import com.alibaba.nacos.spring.context.event.LoggingNacosConfigMetadataEventListener;
+import com.alibaba.nacos.spring.context.event.NacosConfigEventMulticaster;
 import com.alibaba.nacos.spring.context.properties.config.NacosConfigurationPropertiesBindingPostProcessor;
 import com.alibaba.nacos.spring.core.env.AnnotationNacosPropertySourceBuilder;
 import com.alibaba.nacos.spring.core.env.NacosPropertySourcePostProcessor;
@@ -324,8 +329,10 @@ public abstract class NacosBeanUtils {
 	public static void registerNacosConfigListenerExecutor(
 			BeanDefinitionRegistry registry, Environment environment) {
 		final String beanName = NACOS_CONFIG_LISTENER_EXECUTOR_BEAN_NAME;
-		if (registry instanceof BeanFactory
-				&& ((BeanFactory) registry).containsBean(beanName)) {
+		// The multicaster of the parent context must not prevent the registration
+		if (registry instanceof ConfigurableListableBeanFactory
+				&& ((ConfigurableListableBeanFactory) registry)
+						.containsLocalBean(beanName)) {
 			return;
 		}
 		ExecutorService nacosConfigListenerExecutor = buildNacosConfigListenerExecutor(
@@ -355,6 +362,32 @@ public abstract class NacosBeanUtils {
 		return parallelism < 1 ? DEFAULT_NACOS_CONFIG_LISTENER_PARALLELISM : parallelism;
 	}
 
+	/**
+	 * Register {@link NacosConfigEventMulticaster} Bean if
+	 * {@link com.alibaba.nacos.spring.context.constants.NacosConstants#NACOS_CONFIG_EVENT_ASYNC}
+	 * is enabled and no ApplicationEventMulticaster is present
+	 *
+	 * @param registry {@link BeanDefinitionRegistry}
+	 * @param environment {@link Environment}
+	 */
+	public static void registerNacosConfigEventMulticaster(
+			BeanDefinitionRegistry registry, Environment environment) {
+		if (!environment.getProperty(NACOS_CONFIG_EVENT_ASYNC, boolean.class, false)) {
+			return;
+		}
+		final String beanName = NacosConfigEventMulticaster.BEAN_NAME;
+		// The multicaster of the parent context must not prevent the registration
+		if (registry instanceof ConfigurableListableBeanFactory
+				&& ((ConfigurableListableBeanFactory) registry)
+						.containsLocalBean(beanName)) {
+			return;
+		}
+		int parallelism = environment.getProperty(NACOS_CONFIG_EVENT_PARALLELISM,
+				int.class, DEFAULT_NACOS_CONFIG_EVENT_PARALLELISM);
+		registerInfrastructureBeanIfAbsent(registry, beanName,
+				NacosConfigEventMulticaster.class, parallelism);
+	}
+
 	public static void registerNacosValueAnnotationBeanPostProcessor(
 			BeanDefinitionRegistry registry) {
 		registerInfrastructureBeanIfAbsent(registry,
@@ -396,6 +429,8 @@ public abstract class NacosBeanUtils {
 
 		registerNacosConfigListenerExecutor(registry, environment);
 
+		registerNacosConfigEventMulticaster(registry, environment);
+
 		registerNacosValueAnnotationBeanPostProcessor(registry);
 
 		registerConfigServiceBeanBuilder(registry);
@@ -436,6 +471,7 @@ public abstract class NacosBeanUtils {
 	public static void registerNacosDiscoveryBeans(BeanDefinitionRegistry registry) {
 		registerNamingServiceBeanBuilder(registry);
 		registerNamingMaintainServiceBeanBuilder(registry);
+		registerAnnotationNacosInstancesBeanPostProcessor(registry);
 	}
 
 	/**
@@ -451,6 +487,19 @@ public abstract class NacosBeanUtils {
 				AnnotationNacosInjectedBeanPostProcessor.class);
 	}
 
+	/**
+	 * Register {@link AnnotationNacosInstancesBeanPostProcessor} with
+	 * {@link AnnotationNacosInstancesBeanPostProcessor#BEAN_NAME name}
+	 *
+	 * @param registry {@link BeanDefinitionRegistry}
+	 */
+	private static void registerAnnotationNacosInstancesBeanPostProcessor(
+			BeanDefinitionRegistry registry) {
+		registerInfrastructureBeanIfAbsent(registry,
+				AnnotationNacosInstancesBeanPostProcessor.BEAN_NAME,
+				AnnotationNacosInstancesBeanPostProcessor.class);
+	}
+
 	private static void registerConfigServiceBeanBuilder(
 			BeanDefinitionRegistry registry) {
 		registerInfrastructureBeanIfAbsent(registry, ConfigServiceBeanBuilder.BEAN_NAME,
@@ -47,7 +47,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 import static com.alibaba.nacos.api.PropertyKeyConst.*;
 import static org.springframework.core.annotation.AnnotationUtils.getAnnotation;
@@ -256,6 +255,10 @@ public abstract class NacosUtils {
 			String dataId, String groupId, String content, String type) {
 		final Map<String, Object> configProperties = toProperties(dataId, groupId,
 				content, type);
+		// Sorted once per content, so that every field's prefix lookups are binary
+		// searches
+		final PropertyKeyIndex keyIndex = PropertyKeyIndex.of(dataId, groupId, content,
+				type, configProperties);
 		final MutablePropertyValues propertyValues = new MutablePropertyValues();
 		ReflectionUtils.doWithFields(bean.getClass(),
 				new ReflectionUtils.FieldCallback() {
@@ -271,13 +274,13 @@ public abstract class NacosUtils {
 							if (Collection.class.isAssignableFrom(field.getType())
 									|| Map.class.isAssignableFrom(field.getType())) {
 								bindContainer(prefix, propertyName, configProperties,
-										propertyValues);
+										keyIndex, propertyValues);
 								return;
 							}
-							if (containsDescendantOf(configProperties.keySet(),
-									propertyName) && !isUnbindableBean(field.getType())) {
+							if (keyIndex.hasDescendant(propertyName)
+									&& !isUnbindableBean(field.getType())) {
 								bindBean(propertyName, field.getType(), configProperties,
-										propertyValues);
+										keyIndex, propertyValues);
 								return;
 							}
 
@@ -400,15 +403,17 @@ public abstract class NacosUtils {
 	 * @param propertyName propertyName
 	 * @param target bind target
 	 * @param configProperties config context
+	 * @param keyIndex the index of config context's property names
 	 * @param propertyValues {@link MutablePropertyValues}
 	 */
 	private static void bindBean(String propertyName, Class<?> target,
-			Map<String, Object> configProperties, MutablePropertyValues propertyValues) {
+			Map<String, Object> configProperties, PropertyKeyIndex keyIndex,
+			MutablePropertyValues propertyValues) {
 		Object propertyValue = configProperties.get(propertyName);
 		if (propertyValue != null) {
 			propertyValues.add(propertyName, propertyValue);
 		}
-		if (isUnbindableBean(target)) {
+		if (isUnbindableBean(target) || !keyIndex.hasDescendant(propertyName)) {
 			return;
 		}
 
@@ -416,21 +421,12 @@ public abstract class NacosUtils {
 		for (Field field : fields) {
 			String mergePropertyName = propertyName + "."
 					+ NacosUtils.resolvePropertyName(field);
-			bindBean(mergePropertyName, field.getType(), configProperties,
+			bindBean(mergePropertyName, field.getType(), configProperties, keyIndex,
 					propertyValues);
 		}
 
 	}
 
-	private static boolean containsDescendantOf(Set<String> names, String propertyName) {
-		for (String name : names) {
-			if (name.startsWith(propertyName + ".")) {
-				return true;
-			}
-		}
-		return false;
-	}
-
 	private static boolean isUnbindableBean(Class<?> resolved) {
 		if (resolved.isPrimitive() || NON_BEAN_CLASSES.contains(resolved)) {
 			return true;
@@ -443,30 +439,31 @@ public abstract class NacosUtils {
 	 *
 	 * @param fieldName property name
 	 * @param configProperties config context
+	 * @param keyIndex the index of config context's property names
 	 * @param propertyValues {@link MutablePropertyValues}
 	 */
 	private static void bindContainer(String prefix, String fieldName,
-			Map<String, Object> configProperties, MutablePropertyValues propertyValues) {
-		String regx1 = fieldName + "\\[(.*)\\]";
-		String regx2 = fieldName + "\\..*";
-		Pattern pattern1 = Pattern.compile(regx1);
-		Pattern pattern2 = Pattern.compile(regx2);
-		Set<String> enumeration = configProperties.keySet();
-		for (Object item : enumeration) {
-			final String s = String.valueOf(item);
-			String name = StringUtils.isEmpty(prefix) ? s : s.replace(prefix + ".", "");
+			Map<String, Object> configProperties, PropertyKeyIndex keyIndex,
+			MutablePropertyValues propertyValues) {
+		if (configProperties.containsKey(fieldName)) {
+			// for example: list=1,2,3,4,5 will be into here
+			Map<String, Object> listProperties = listToProperties(fieldName,
+					String.valueOf(configProperties.get(fieldName)));
+			bindContainer(prefix, fieldName, listProperties,
+					PropertyKeyIndex.of(listProperties), propertyValues);
+			return;
+		}
+		String indexedPrefix = fieldName + "[";
+		for (String s : keyIndex.subtree(fieldName)) {
 			Object value = configProperties.get(s);
-			if (configProperties.containsKey(fieldName)) {
-				// for example: list=1,2,3,4,5 will be into here
-				bindContainer(prefix, fieldName,
-						listToProperties(fieldName,
-								String.valueOf(configProperties.get(fieldName))),
-						propertyValues);
-			}
-			else if (pattern1.matcher(s).find()) {
-				propertyValues.add(name, value);
+			if (s.startsWith(indexedPrefix)) {
+				if (s.indexOf(']', indexedPrefix.length()) != -1) {
+					String name = StringUtils.isEmpty(prefix) ? s
+							: s.replace(prefix + ".", "");
+					propertyValues.add(name, value);
+				}
 			}
-			else if (pattern2.matcher(s).find()) {
+			else {
 				int index = s.indexOf('.');
 				if (index != -1) {
 					String key = s.substring(index + 1);
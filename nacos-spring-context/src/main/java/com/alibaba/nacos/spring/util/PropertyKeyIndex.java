@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, sorted index of property names answering prefix queries by binary
+ * search instead of scanning every name.
+ * <p>
+ * Property names are nested with "." and indexed with "[...]", e.g.
+ * {@code user.address.city} or {@code users[0].name}.
+ * <p>
+ * The indices of the recently parsed config contents are shared through
+ * {@link #of(String, String, String, String, Map)}, so that the Nacos property source
+ * and the beans bound from the same content sort the names only once per push.
+ *
+ * @since 2.1.0
+ */
+public final class PropertyKeyIndex {
+
+	private static final PropertyKeyIndex EMPTY = new PropertyKeyIndex(new String[0]);
+
+	private static final int SHARED_CAPACITY = 64;
+
+	/**
+	 * The indices per (dataId, group, type, content), as the parser of a config may be
+	 * customized per dataId and group, the least recently used one is evicted
+	 */
+	private static final Map<List<String>, PropertyKeyIndex> sharedIndices = new LinkedHashMap<List<String>, PropertyKeyIndex>(
+			16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(
+				Map.Entry<List<String>, PropertyKeyIndex> eldest) {
+			return size() > SHARED_CAPACITY;
+		}
+	};
+
+	private final String[] keys;
+
+	private PropertyKeyIndex(String[] keys) {
+		this.keys = keys;
+	}
+
+	public static PropertyKeyIndex of(Map<?, ?> properties) {
+		return properties == null ? EMPTY : of(properties.keySet());
+	}
+
+	/**
+	 * Get the index shared by the properties parsed from the same config content.
+	 *
+	 * @param dataId the data id of config
+	 * @param group the group of config
+	 * @param content the content of config
+	 * @param type the type of config
+	 * @param properties the properties parsed from the content, which are indexed if
+	 *     the content has no shared index yet
+	 * @return non-null
+	 */
+	public static PropertyKeyIndex of(String dataId, String group, String content,
+			String type, Map<?, ?> properties) {
+		if (content == null) {
+			return of(properties);
+		}
+		List<String> key = Arrays.asList(dataId, group, type, content);
+		synchronized (sharedIndices) {
+			PropertyKeyIndex index = sharedIndices.get(key);
+			if (index != null) {
+				return index;
+			}
+		}
+		// Sorted outside of the lock, a concurrent sorting of the same content is
+		// harmless
+		PropertyKeyIndex index = of(properties);
+		synchronized (sharedIndices) {
+			sharedIndices.put(key, index);
+		}
+		return index;
+	}
+
+	public static PropertyKeyIndex of(Collection<?> names) {
+		if (names == null || names.isEmpty()) {
+			return EMPTY;
+		}
+		String[] keys = new String[names.size()];
+		int i = 0;
+		for (Object name : names) {
+			keys[i++] = String.valueOf(name);
+		}
+		Arrays.sort(keys);
+		return new PropertyKeyIndex(keys);
+	}
+
+	/**
+	 * @param name property name
+	 * @return whether a nested property of the name, e.g. {@code name.child}, exists
+	 */
+	public boolean hasDescendant(String name) {
+		String start = name + ".";
+		int i = lowerBound(start);
+		return i < keys.length && keys[i].startsWith(start);
+	}
+
+	/**
+	 * @param name property name
+	 * @return the sorted names of the property itself and all its nested and indexed
+	 *     properties, e.g. {@code name}, {@code name.child} and {@code name[0]}
+	 */
+	public List<String> subtree(String name) {
+		List<String> names = new ArrayList<String>();
+		int i = lowerBound(name);
+		if (i < keys.length && keys[i].equals(name)) {
+			names.add(name);
+		}
+		addStartingWith(name + ".", names);
+		addStartingWith(name + "[", names);
+		return names;
+	}
+
+	/**
+	 * @param name property name
+	 * @return the distinct indices of the property in the order of the sorted names,
+	 *     e.g. {@code 0} and {@code 1} for {@code name[0]} and {@code name[1].child}
+	 */
+	public Set<String> listIndices(String name) {
+		String start = name + "[";
+		Set<String> indices = new LinkedHashSet<String>();
+		for (int i = lowerBound(start); i < keys.length
+				&& keys[i].startsWith(start); i++) {
+			int end = keys[i].indexOf(']', start.length());
+			if (end != -1) {
+				indices.add(keys[i].substring(start.length(), end));
+			}
+		}
+		return indices;
+	}
+
+	public boolean contains(String name) {
+		return Arrays.binarySearch(keys, name) >= 0;
+	}
+
+	public int size() {
+		return keys.length;
+	}
+
+	public List<String> getNames() {
+		return Collections.unmodifiableList(Arrays.asList(keys));
+	}
+
+	private void addStartingWith(String start, List<String> names) {
+		for (int i = lowerBound(start); i < keys.length
+				&& keys[i].startsWith(start); i++) {
+			names.add(keys[i]);
+		}
+	}
+
+	/**
+	 * @return the position of the first name not less than the given one
+	 */
+	private int lowerBound(String name) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(name) < 0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
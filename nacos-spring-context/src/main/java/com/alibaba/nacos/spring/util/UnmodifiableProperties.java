@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A read-only copy of {@link Properties}, every mutation throws
+ * {@link UnsupportedOperationException}.
+ *
+ * @since 2.1.0
+ */
+final class UnmodifiableProperties extends Properties {
+
+	private static final long serialVersionUID = 1L;
+
+	UnmodifiableProperties(Map<?, ?> properties) {
+		for (Map.Entry<?, ?> entry : properties.entrySet()) {
+			super.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public synchronized Object setProperty(String key, String value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void load(Reader reader) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void load(InputStream inStream) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void loadFromXML(InputStream in) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object put(Object key, Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void putAll(Map<?, ?> t) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object putIfAbsent(Object key, Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object remove(Object key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized boolean replace(Object key, Object oldValue, Object newValue) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object replace(Object key, Object value) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized void replaceAll(
+			BiFunction<? super Object, ? super Object, ?> function) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object computeIfAbsent(Object key,
+			Function<? super Object, ?> mappingFunction) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object compute(Object key,
+			BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public synchronized Object merge(Object key, Object value,
+			BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return Collections.unmodifiableSet(super.keySet());
+	}
+
+	@Override
+	public Set<Map.Entry<Object, Object>> entrySet() {
+		// Wrapped as a map, so that the entries can't be modified either
+		return Collections.unmodifiableMap(new AbstractMap<Object, Object>() {
+			@Override
+			public Set<Entry<Object, Object>> entrySet() {
+				return UnmodifiableProperties.super.entrySet();
+			}
+		}).entrySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return Collections.unmodifiableCollection(super.values());
+	}
+
+}
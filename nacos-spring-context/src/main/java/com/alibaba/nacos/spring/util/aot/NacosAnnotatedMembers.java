@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util.aot;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * The Nacos-annotated fields and methods of a bean class, computed ahead of time so
+ * that the annotation post-processors can skip scanning the whole class hierarchy at
+ * startup.
+ * <p>
+ * Members are recorded by name and resolved against the runtime bean class on
+ * demand. A descriptor only answers for the {@link #covers(Class) annotation types}
+ * it was computed for, and resolving returns <code>null</code> if a recorded member
+ * no longer exists, in which case callers fall back to reflective scanning.
+ *
+ * @see NacosAnnotatedMembersRegistry
+ * @since 2.1.0
+ */
+public final class NacosAnnotatedMembers {
+
+	private final String beanClassName;
+
+	private final Set<Class<? extends Annotation>> annotationTypes;
+
+	private final List<MemberRef> fields;
+
+	private final List<MemberRef> methods;
+
+	private final boolean configurationProperties;
+
+	private NacosAnnotatedMembers(Builder builder) {
+		this.beanClassName = builder.beanClassName;
+		this.annotationTypes = Collections.unmodifiableSet(
+				new LinkedHashSet<Class<? extends Annotation>>(builder.annotationTypes));
+		this.fields = Collections
+				.unmodifiableList(new ArrayList<MemberRef>(builder.fields));
+		this.methods = Collections
+				.unmodifiableList(new ArrayList<MemberRef>(builder.methods));
+		this.configurationProperties = builder.configurationProperties;
+	}
+
+	public static Builder builder(String beanClassName) {
+		return new Builder(beanClassName);
+	}
+
+	public String getBeanClassName() {
+		return beanClassName;
+	}
+
+	public Set<Class<? extends Annotation>> getAnnotationTypes() {
+		return annotationTypes;
+	}
+
+	/**
+	 * Whether the bean class is annotated with
+	 * {@link com.alibaba.nacos.api.config.annotation.NacosConfigurationProperties}.
+	 *
+	 * @return <code>true</code> if the properties should be bound
+	 */
+	public boolean isConfigurationProperties() {
+		return configurationProperties;
+	}
+
+	/**
+	 * Whether this descriptor was computed for all of the given annotation types.
+	 *
+	 * @param types the annotation types
+	 * @return <code>true</code> if the recorded members are complete for those types
+	 */
+	public boolean covers(Class<? extends Annotation>... types) {
+		return annotationTypes.containsAll(Arrays.asList(types));
+	}
+
+	/**
+	 * Resolve the fields annotated with any of the given types.
+	 *
+	 * @param beanClass the runtime bean class
+	 * @param types the annotation types
+	 * @return the distinct fields in scan order, or <code>null</code> if a recorded
+	 *     field could not be resolved
+	 */
+	public List<Field> resolveFields(Class<?> beanClass,
+			Class<? extends Annotation>... types) {
+		Set<Field> resolved = new LinkedHashSet<Field>();
+		List<Class<? extends Annotation>> typeList = Arrays.asList(types);
+		for (MemberRef ref : fields) {
+			if (!typeList.contains(ref.annotationType)) {
+				continue;
+			}
+			Class<?> declaringClass = findDeclaringClass(beanClass,
+					ref.declaringClassName);
+			if (declaringClass == null) {
+				return null;
+			}
+			try {
+				resolved.add(declaringClass.getDeclaredField(ref.name));
+			}
+			catch (NoSuchFieldException e) {
+				return null;
+			}
+		}
+		return new ArrayList<Field>(resolved);
+	}
+
+	/**
+	 * Resolve the methods annotated with any of the given types.
+	 *
+	 * @param beanClass the runtime bean class
+	 * @param types the annotation types
+	 * @return the distinct methods in scan order, or <code>null</code> if a recorded
+	 *     method could not be resolved
+	 */
+	public List<Method> resolveMethods(Class<?> beanClass,
+			Class<? extends Annotation>... types) {
+		Set<Method> resolved = new LinkedHashSet<Method>();
+		List<Class<? extends Annotation>> typeList = Arrays.asList(types);
+		for (MemberRef ref : methods) {
+			if (!typeList.contains(ref.annotationType)) {
+				continue;
+			}
+			Class<?> declaringClass = findDeclaringClass(beanClass,
+					ref.declaringClassName);
+			if (declaringClass == null) {
+				return null;
+			}
+			try {
+				Class<?>[] parameterTypes = new Class<?>[ref.parameterTypeNames.length];
+				for (int i = 0; i < parameterTypes.length; i++) {
+					parameterTypes[i] = ClassUtils.forName(ref.parameterTypeNames[i],
+							declaringClass.getClassLoader());
+				}
+				resolved.add(declaringClass.getDeclaredMethod(ref.name, parameterTypes));
+			}
+			catch (ClassNotFoundException e) {
+				return null;
+			}
+			catch (LinkageError e) {
+				return null;
+			}
+			catch (NoSuchMethodException e) {
+				return null;
+			}
+		}
+		return new ArrayList<Method>(resolved);
+	}
+
+	private static Class<?> findDeclaringClass(Class<?> beanClass, String className) {
+		for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+			if (type.getName().equals(className)) {
+				return type;
+			}
+		}
+		for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+			if (type.getName().equals(className)) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "NacosAnnotatedMembers{" + "beanClassName='" + beanClassName + '\''
+				+ ", annotationTypes=" + annotationTypes + ", fields=" + fields
+				+ ", methods=" + methods + ", configurationProperties="
+				+ configurationProperties + '}';
+	}
+
+	private static class MemberRef {
+
+		private final Class<? extends Annotation> annotationType;
+
+		private final String declaringClassName;
+
+		private final String name;
+
+		private final String[] parameterTypeNames;
+
+		MemberRef(Class<? extends Annotation> annotationType, String declaringClassName,
+				String name, String[] parameterTypeNames) {
+			this.annotationType = annotationType;
+			this.declaringClassName = declaringClassName;
+			this.name = name;
+			this.parameterTypeNames = parameterTypeNames;
+		}
+
+		@Override
+		public String toString() {
+			return "@" + annotationType.getSimpleName() + " " + declaringClassName + "."
+					+ name + (parameterTypeNames == null ? ""
+							: Arrays.toString(parameterTypeNames));
+		}
+	}
+
+	public static class Builder {
+
+		private final String beanClassName;
+
+		private final Set<Class<? extends Annotation>> annotationTypes = new LinkedHashSet<Class<? extends Annotation>>();
+
+		private final List<MemberRef> fields = new ArrayList<MemberRef>();
+
+		private final List<MemberRef> methods = new ArrayList<MemberRef>();
+
+		private boolean configurationProperties;
+
+		private Builder(String beanClassName) {
+			this.beanClassName = beanClassName;
+		}
+
+		/**
+		 * Declare the annotation types the members were collected for.
+		 *
+		 * @param types the annotation types
+		 * @return this builder
+		 */
+		public Builder annotationTypes(Class<? extends Annotation>... types) {
+			this.annotationTypes.addAll(Arrays.asList(types));
+			return this;
+		}
+
+		public Builder field(Class<? extends Annotation> annotationType,
+				String declaringClassName, String name) {
+			this.fields.add(
+					new MemberRef(annotationType, declaringClassName, name, null));
+			return this;
+		}
+
+		public Builder method(Class<? extends Annotation> annotationType,
+				String declaringClassName, String name, String... parameterTypeNames) {
+			this.methods.add(new MemberRef(annotationType, declaringClassName, name,
+					parameterTypeNames));
+			return this;
+		}
+
+		public Builder configurationProperties(boolean configurationProperties) {
+			this.configurationProperties = configurationProperties;
+			return this;
+		}
+
+		public NacosAnnotatedMembers build() {
+			return new NacosAnnotatedMembers(this);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util.aot;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of {@link NacosAnnotatedMembers} generated ahead of time, keyed by the user
+ * class name of the bean. Lookups for classes without a descriptor return
+ * <code>null</code> and callers scan the class reflectively as usual.
+ *
+ * @since 2.1.0
+ */
+public abstract class NacosAnnotatedMembersRegistry {
+
+	private static final Map<String, NacosAnnotatedMembers> REGISTRY = new ConcurrentHashMap<String, NacosAnnotatedMembers>();
+
+	public static void register(NacosAnnotatedMembers members) {
+		REGISTRY.put(members.getBeanClassName(), members);
+	}
+
+	/**
+	 * Record that the given bean classes have no members annotated with any of the
+	 * given types, so that the post-processors skip scanning them.
+	 *
+	 * @param annotationTypes the annotation types the classes were scanned for
+	 * @param beanClassNames the user class names of the beans
+	 */
+	@SuppressWarnings("unchecked")
+	public static void registerWithoutMembers(
+			List<Class<? extends Annotation>> annotationTypes,
+			String... beanClassNames) {
+		Class<? extends Annotation>[] types = annotationTypes
+				.toArray(new Class[annotationTypes.size()]);
+		for (String beanClassName : beanClassNames) {
+			register(NacosAnnotatedMembers.builder(beanClassName)
+					.annotationTypes(types).build());
+		}
+	}
+
+	/**
+	 * Find the descriptor of the given bean class, looking through CGLIB subclasses.
+	 *
+	 * @param beanClass the runtime bean class
+	 * @return the descriptor, or <code>null</code> if none was generated
+	 */
+	public static NacosAnnotatedMembers get(Class<?> beanClass) {
+		if (REGISTRY.isEmpty()) {
+			return null;
+		}
+		return REGISTRY.get(ClassUtils.getUserClass(beanClass).getName());
+	}
+
+	public static void clear() {
+		REGISTRY.clear();
+	}
+}
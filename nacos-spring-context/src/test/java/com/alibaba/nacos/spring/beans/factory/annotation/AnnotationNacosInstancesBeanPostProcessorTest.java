@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.beans.factory.annotation;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_GROUP;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.alibaba.nacos.api.annotation.NacosProperties;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.context.annotation.discovery.EnableNacosDiscovery;
+import com.alibaba.nacos.spring.context.annotation.discovery.NacosInstances;
+import com.alibaba.nacos.spring.core.discovery.NacosServiceInstances;
+import com.alibaba.nacos.spring.factory.CacheableEventPublishingNacosServiceFactory;
+import com.alibaba.nacos.spring.test.MockNamingService;
+import com.alibaba.nacos.spring.util.NacosUtils;
+
+/**
+ * {@link AnnotationNacosInstancesBeanPostProcessor} Test
+ *
+ * @since 2.1.0
+ */
+public class AnnotationNacosInstancesBeanPostProcessorTest {
+
+	private static final String SERVICE_NAME = "instances";
+
+	/**
+	 * The naming services are cached by the properties across the tests
+	 */
+	private static final MockNamingService namingService = new MockNamingService();
+
+	private AnnotationConfigApplicationContext context;
+
+	private int subscribed;
+
+	private int unsubscribed;
+
+	@BeforeClass
+	public static void initInstances() {
+		Instance instance = new Instance();
+		instance.setIp("127.0.0.1");
+		instance.setPort(8080);
+		namingService.setInstances(SERVICE_NAME, DEFAULT_GROUP,
+				Collections.singletonList(instance));
+	}
+
+	@Before
+	public void init() throws Exception {
+		subscribed = namingService.getInvocationCount("subscribe");
+		unsubscribed = namingService.getInvocationCount("unsubscribe");
+		context = new AnnotationConfigApplicationContext();
+		context.register(InstancesConfiguration.class);
+		Properties properties = NacosUtils.resolveProperties(
+				InstancesConfiguration.class.getAnnotation(EnableNacosDiscovery.class)
+						.globalProperties(),
+				context.getEnvironment());
+		CacheableEventPublishingNacosServiceFactory factory = CacheableEventPublishingNacosServiceFactory
+				.getSingleton();
+		factory.deferCreateService(namingService, properties);
+		factory.publishDeferService(context);
+		context.refresh();
+	}
+
+	@After
+	public void destroy() {
+		context.close();
+	}
+
+	@Test
+	public void testInjection() {
+		InstancesTarget target = context.getBean(InstancesTarget.class);
+		// The default group and properties are dropped from the attributes
+		Assert.assertEquals(DEFAULT_GROUP, target.instances.getGroupName());
+		Assert.assertTrue(target.instances.getClusters().isEmpty());
+		Assert.assertEquals(1, target.instances.getInstances().size());
+		Assert.assertEquals(Arrays.asList("c1"), target.clusterInstances.getClusters());
+	}
+
+	@Test
+	public void testShared() {
+		InstancesTarget target = context.getBean(InstancesTarget.class);
+		Assert.assertSame(target.instances, target.groupInstances);
+		Assert.assertSame(target.instances,
+				context.getBean(OtherInstancesTarget.class).instances);
+		Assert.assertNotSame(target.instances, target.clusterInstances);
+		Assert.assertEquals(subscribed + 2, namingService.getInvocationCount("subscribe"));
+	}
+
+	@Test
+	public void testUnsubscribeOnClose() {
+		Assert.assertEquals(unsubscribed,
+				namingService.getInvocationCount("unsubscribe"));
+		context.close();
+		Assert.assertEquals(unsubscribed + 2,
+				namingService.getInvocationCount("unsubscribe"));
+	}
+
+	@Configuration
+	@EnableNacosDiscovery(globalProperties = @NacosProperties(serverAddr = "127.0.0.1:18850", namespace = "instances"))
+	static class InstancesConfiguration {
+
+		@Bean
+		public InstancesTarget instancesTarget() {
+			return new InstancesTarget();
+		}
+
+		@Bean
+		public OtherInstancesTarget otherInstancesTarget() {
+			return new OtherInstancesTarget();
+		}
+	}
+
+	static class InstancesTarget {
+
+		@NacosInstances(serviceName = SERVICE_NAME)
+		private NacosServiceInstances instances;
+
+		@NacosInstances(serviceName = SERVICE_NAME, groupName = DEFAULT_GROUP)
+		private NacosServiceInstances groupInstances;
+
+		@NacosInstances(serviceName = SERVICE_NAME, clusters = "c1")
+		private NacosServiceInstances clusterInstances;
+	}
+
+	static class OtherInstancesTarget {
+
+		@NacosInstances(serviceName = SERVICE_NAME)
+		private NacosServiceInstances instances;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.config;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.spring.test.MockConfigService;
+
+/**
+ * {@link NacosConfigHolder} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigHolderTest {
+
+	private static final String DATA_ID = "app.properties";
+
+	private static final String GROUP_ID = "DEFAULT_GROUP";
+
+	private MockConfigService configService;
+
+	@Before
+	public void init() {
+		configService = new MockConfigService();
+	}
+
+	@Test
+	public void testLoadAndRefresh() throws NacosException {
+		configService.publishConfig(DATA_ID, GROUP_ID, "name=a");
+		NacosConfigHolder<Map> holder = NacosConfigHolder
+				.of(configService, DATA_ID, GROUP_ID, Map.class, "properties").start();
+
+		Map first = holder.get();
+		Assert.assertEquals("a", first.get("name"));
+		Assert.assertEquals(1, holder.getSnapshot().getVersion());
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "name=b");
+		Assert.assertEquals("b", holder.get().get("name"));
+		Assert.assertEquals(2, holder.getSnapshot().getVersion());
+		// The previous snapshot is replaced, not modified
+		Assert.assertEquals("a", first.get("name"));
+	}
+
+	@Test
+	public void testEmptyBeforeLoad() throws NacosException {
+		NacosConfigHolder<Integer> holder = NacosConfigHolder
+				.of(configService, DATA_ID, GROUP_ID, Integer.class, "text").start();
+		Assert.assertNull(holder.get());
+		Assert.assertEquals(0, holder.getSnapshot().getVersion());
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "42");
+		Assert.assertEquals(Integer.valueOf(42), holder.get());
+	}
+
+	@Test
+	public void testUnchangedContentKeepsSnapshot() throws NacosException {
+		configService.publishConfig(DATA_ID, GROUP_ID, "1");
+		NacosConfigHolder<Integer> holder = NacosConfigHolder
+				.of(configService, DATA_ID, GROUP_ID, Integer.class, "text").start();
+		NacosConfigHolder.Snapshot<Integer> snapshot = holder.getSnapshot();
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "1");
+		Assert.assertSame(snapshot, holder.getSnapshot());
+	}
+
+	@Test
+	public void testConversionFailureKeepsSnapshot() throws NacosException {
+		configService.publishConfig(DATA_ID, GROUP_ID, "1");
+		NacosConfigHolder<Integer> holder = new NacosConfigHolder<Integer>(
+				configService, DATA_ID, GROUP_ID, new NacosConfigConverter<Integer>() {
+					@Override
+					public boolean canConvert(Class<Integer> targetType) {
+						return true;
+					}
+
+					@Override
+					public Integer convert(String source) {
+						return Integer.valueOf(source);
+					}
+				}).start();
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "not a number");
+		Assert.assertEquals(Integer.valueOf(1), holder.get());
+		Assert.assertEquals("1", holder.getSnapshot().getContent());
+	}
+
+	@Test
+	public void testStop() throws NacosException {
+		configService.publishConfig(DATA_ID, GROUP_ID, "1");
+		NacosConfigHolder<Integer> holder = NacosConfigHolder
+				.of(configService, DATA_ID, GROUP_ID, Integer.class, "text").start();
+		holder.stop();
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "2");
+		Assert.assertEquals(Integer.valueOf(1), holder.get());
+	}
+
+}
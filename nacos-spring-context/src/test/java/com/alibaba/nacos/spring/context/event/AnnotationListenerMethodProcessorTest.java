@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+
+/**
+ * {@link AnnotationListenerMethodProcessor} Test
+ *
+ * @since 2.1.0
+ */
+public class AnnotationListenerMethodProcessorTest {
+
+	@Test
+	public void testProcessRecordedBeans() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBeanDefinition("processor",
+				new RootBeanDefinition(RecordingProcessor.class));
+		context.registerBeanDefinition("listener",
+				new RootBeanDefinition(ListenerBean.class));
+		context.registerBeanDefinition("plain", new RootBeanDefinition(Object.class));
+		RootBeanDefinition lazy = new RootBeanDefinition(ListenerBean.class);
+		lazy.setLazyInit(true);
+		context.registerBeanDefinition("lazyListener", lazy);
+		RootBeanDefinition prototype = new RootBeanDefinition(ListenerBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		context.registerBeanDefinition("prototypeListener", prototype);
+		context.refresh();
+
+		RecordingProcessor processor = context.getBean(RecordingProcessor.class);
+		Assert.assertEquals(1, processor.processed.size());
+		Assert.assertEquals("listener#onChange", processor.processed.get(0));
+		Assert.assertFalse(context.getBeanFactory().containsSingleton("lazyListener"));
+
+		// Lazy singletons are processed once initialized, prototypes never
+		context.getBean("lazyListener");
+		context.getBean("prototypeListener");
+		Assert.assertEquals(2, processor.processed.size());
+		Assert.assertEquals("lazyListener#onChange", processor.processed.get(1));
+
+		context.close();
+	}
+
+	@Test
+	public void testProcessRegisteredSingletons() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBeanDefinition("processor",
+				new RootBeanDefinition(RecordingProcessor.class));
+		context.getBeanFactory().registerSingleton("registeredListener",
+				new ListenerBean());
+		context.getBeanFactory().registerSingleton("registeredPlain", new Object());
+		context.refresh();
+
+		RecordingProcessor processor = context.getBean(RecordingProcessor.class);
+		Assert.assertEquals(1, processor.processed.size());
+		Assert.assertEquals("registeredListener#onChange", processor.processed.get(0));
+
+		context.close();
+	}
+
+	@Test
+	public void testProcessEarlyInitializedSingletons() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBeanDefinition("processor",
+				new RootBeanDefinition(RecordingProcessor.class));
+		context.registerBeanDefinition("earlyListener",
+				new RootBeanDefinition(ListenerBean.class));
+		context.registerBeanDefinition("listener",
+				new RootBeanDefinition(ListenerBean.class));
+		// The listener bean is initialized before the processor is registered
+		context.addBeanFactoryPostProcessor(new BeanFactoryPostProcessor() {
+			@Override
+			public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory)
+					throws BeansException {
+				beanFactory.getBean("earlyListener");
+			}
+		});
+		context.refresh();
+
+		RecordingProcessor processor = context.getBean(RecordingProcessor.class);
+		Assert.assertEquals(2, processor.processed.size());
+		Assert.assertTrue(processor.processed.contains("earlyListener#onChange"));
+		Assert.assertTrue(processor.processed.contains("listener#onChange"));
+
+		context.close();
+	}
+
+	static class RecordingProcessor
+			extends AnnotationListenerMethodProcessor<NacosConfigListener> {
+
+		private final List<String> processed = new ArrayList<String>();
+
+		@Override
+		protected void processListenerMethod(String beanName, Object bean,
+				Class<?> beanClass, NacosConfigListener annotation, Method method,
+				ApplicationContext applicationContext) {
+			processed.add(beanName + "#" + method.getName());
+		}
+	}
+
+	public static class ListenerBean {
+
+		@NacosConfigListener(dataId = "test")
+		public void onChange(String content) {
+		}
+
+		public void notListener(String content) {
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.alibaba.nacos.spring.context.event.config.NacosConfigEvent;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigListenerRegisteredEvent;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent;
+import com.alibaba.nacos.spring.metrics.MicrometerNacosConfigMetrics;
+import com.alibaba.nacos.spring.metrics.NacosConfigMetricsHolder;
+import com.alibaba.nacos.spring.test.MockConfigService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link DeferredApplicationEventPublisher} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @since 2.1.0
+ */
+public class DeferredApplicationEventPublisherTest {
+
+	@Test
+	public void testCoalesceAndDropDeferredEvents() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		final List<String> contents = new ArrayList<String>();
+		context.addApplicationListener(
+				new ApplicationListener<NacosConfigReceivedEvent>() {
+					@Override
+					public void onApplicationEvent(NacosConfigReceivedEvent event) {
+						contents.add(event.getContent());
+					}
+				});
+
+		DeferredApplicationEventPublisher publisher = new DeferredApplicationEventPublisher(
+				context, 2);
+		MockConfigService configService = new MockConfigService();
+
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "a",
+				"DEFAULT_GROUP", "a-1", "properties"));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "a",
+				"DEFAULT_GROUP", "a-2", "properties"));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "b",
+				"DEFAULT_GROUP", "b-1", "properties"));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "c",
+				"DEFAULT_GROUP", "c-1", "properties"));
+
+		Assert.assertEquals(2, publisher.getPendingEventCount());
+		Assert.assertEquals(4, publisher.getBufferedEventCount());
+		Assert.assertEquals(1, publisher.getCoalescedEventCount());
+		Assert.assertEquals(1, publisher.getDroppedEventCount());
+		Assert.assertTrue(contents.isEmpty());
+
+		context.refresh();
+
+		Assert.assertEquals(0, publisher.getPendingEventCount());
+		Assert.assertEquals(2, contents.size());
+		Assert.assertEquals("b-1", contents.get(0));
+		Assert.assertEquals("c-1", contents.get(1));
+
+		context.close();
+	}
+
+	@Test
+	public void testGetInstance() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		DeferredApplicationEventPublisher publisher = DeferredApplicationEventPublisher
+				.getInstance(context);
+		Assert.assertSame(publisher,
+				DeferredApplicationEventPublisher.getInstance(context));
+		context.refresh();
+		context.close();
+		// Not created again once the context is closed
+		Assert.assertSame(publisher,
+				DeferredApplicationEventPublisher.getInstance(context));
+		publisher.publishEvent(new NacosConfigReceivedEvent(new MockConfigService(),
+				"a", "DEFAULT_GROUP", "a-1", "properties"));
+		Assert.assertEquals(0, publisher.getPendingEventCount());
+	}
+
+	@Test
+	public void testNotCoalesceEventsOfDifferentSources() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		DeferredApplicationEventPublisher publisher = new DeferredApplicationEventPublisher(
+				context, 8);
+
+		publisher.publishEvent(new NacosConfigReceivedEvent(new MockConfigService(),
+				"a", "DEFAULT_GROUP", "a-1", "properties"));
+		publisher.publishEvent(new NacosConfigReceivedEvent(new MockConfigService(),
+				"a", "DEFAULT_GROUP", "a-2", "properties"));
+
+		Assert.assertEquals(2, publisher.getPendingEventCount());
+		Assert.assertEquals(0, publisher.getCoalescedEventCount());
+	}
+
+	@Test
+	public void testDropCoalescableEventsFirst() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		final List<String> events = new ArrayList<String>();
+		context.addApplicationListener(new ApplicationListener<NacosConfigEvent>() {
+			@Override
+			public void onApplicationEvent(NacosConfigEvent event) {
+				events.add(event.getClass().getSimpleName() + ":" + event.getDataId());
+			}
+		});
+		DeferredApplicationEventPublisher publisher = new DeferredApplicationEventPublisher(
+				context, 2);
+		MockConfigService configService = new MockConfigService();
+
+		publisher.publishEvent(new NacosConfigListenerRegisteredEvent(configService,
+				"a", "DEFAULT_GROUP", null, true));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "b",
+				"DEFAULT_GROUP", "b-1", "properties"));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "c",
+				"DEFAULT_GROUP", "c-1", "properties"));
+
+		Assert.assertEquals(1, publisher.getDroppedEventCount());
+		Assert.assertEquals(0, publisher.getDroppedUncoalescableEventCount());
+
+		context.refresh();
+
+		Assert.assertEquals("NacosConfigListenerRegisteredEvent:a", events.get(0));
+		Assert.assertEquals("NacosConfigReceivedEvent:c", events.get(1));
+		context.close();
+	}
+
+	@Test
+	public void testRecordMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		NacosConfigMetricsHolder.setMetrics(new MicrometerNacosConfigMetrics(registry));
+		try {
+			GenericApplicationContext context = new GenericApplicationContext();
+			DeferredApplicationEventPublisher publisher = new DeferredApplicationEventPublisher(
+					context, 1);
+			MockConfigService configService = new MockConfigService();
+
+			publisher.publishEvent(new NacosConfigReceivedEvent(configService, "a",
+					"DEFAULT_GROUP", "a-1", "properties"));
+			publisher.publishEvent(new NacosConfigReceivedEvent(configService, "b",
+					"DEFAULT_GROUP", "b-1", "properties"));
+
+			String eventType = NacosConfigReceivedEvent.class.getName();
+			Assert.assertEquals(2, registry.get("nacos.config.deferred-event.buffered")
+					.tag("eventType", eventType).counter().count(), 0);
+			Assert.assertEquals(1, registry.get("nacos.config.deferred-event.dropped")
+					.tag("eventType", eventType).counter().count(), 0);
+		}
+		finally {
+			NacosConfigMetricsHolder.reset();
+		}
+	}
+
+	@Test
+	public void testDeferEventsAfterRefreshedAgain() {
+		GenericApplicationContext context = new GenericApplicationContext();
+		DeferredApplicationEventPublisher publisher = new DeferredApplicationEventPublisher(
+				context, 8);
+		MockConfigService configService = new MockConfigService();
+
+		publisher.onApplicationEvent(new ContextClosedEvent(context));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "a",
+				"DEFAULT_GROUP", "a-1", "properties"));
+		Assert.assertEquals(0, publisher.getPendingEventCount());
+
+		// the context is not running until it's started by the refresh
+		publisher.onApplicationEvent(new ContextRefreshedEvent(context));
+		publisher.publishEvent(new NacosConfigReceivedEvent(configService, "a",
+				"DEFAULT_GROUP", "a-2", "properties"));
+		Assert.assertEquals(1, publisher.getPendingEventCount());
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.alibaba.nacos.spring.context.constants.NacosConstants;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent;
+import com.alibaba.nacos.spring.test.MockConfigService;
+import com.alibaba.nacos.spring.util.LatencyHistogram;
+import com.alibaba.nacos.spring.util.NacosBeanUtils;
+
+/**
+ * {@link NacosConfigEventMulticaster} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigEventMulticasterTest {
+
+	@Test
+	public void testMulticastAsynchronouslyInOrder() throws InterruptedException {
+		GenericApplicationContext context = new GenericApplicationContext();
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(NacosConstants.NACOS_CONFIG_EVENT_ASYNC, "true");
+		context.setEnvironment(environment);
+		NacosBeanUtils.registerNacosConfigEventMulticaster(
+				context.getDefaultListableBeanFactory(), environment);
+
+		final int events = 100;
+		final CountDownLatch latch = new CountDownLatch(events);
+		final List<String> contents = Collections
+				.synchronizedList(new ArrayList<String>());
+		final Thread caller = Thread.currentThread();
+		context.addApplicationListener(
+				new ApplicationListener<NacosConfigReceivedEvent>() {
+					@Override
+					public void onApplicationEvent(NacosConfigReceivedEvent event) {
+						Assert.assertNotSame(caller, Thread.currentThread());
+						contents.add(event.getContent());
+						latch.countDown();
+					}
+				});
+		context.refresh();
+
+		NacosConfigEventMulticaster multicaster = context.getBean(
+				NacosConfigEventMulticaster.BEAN_NAME,
+				NacosConfigEventMulticaster.class);
+
+		MockConfigService configService = new MockConfigService();
+		for (int i = 0; i < events; i++) {
+			context.publishEvent(new NacosConfigReceivedEvent(configService, "app",
+					"DEFAULT_GROUP", String.valueOf(i), "properties"));
+		}
+
+		Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < events; i++) {
+			Assert.assertEquals(String.valueOf(i), contents.get(i));
+		}
+
+		Assert.assertEquals(1, multicaster.getListenerLatencies().size());
+		LatencyHistogram histogram = multicaster.getListenerLatencies().values()
+				.iterator().next();
+		// the latency is recorded after the listener returned
+		long deadline = System.currentTimeMillis() + 5000;
+		while (histogram.getCount() < events
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(events, histogram.getCount());
+
+		context.close();
+	}
+
+	@Test
+	public void testRegisterWithParentMulticaster() {
+		GenericApplicationContext parent = new GenericApplicationContext();
+		parent.refresh();
+		GenericApplicationContext context = new GenericApplicationContext(parent);
+		MockEnvironment environment = new MockEnvironment();
+		environment.setProperty(NacosConstants.NACOS_CONFIG_EVENT_ASYNC, "true");
+		context.setEnvironment(environment);
+		NacosBeanUtils.registerNacosConfigEventMulticaster(
+				context.getDefaultListableBeanFactory(), environment);
+		context.refresh();
+
+		Assert.assertTrue(context.getBean(NacosConfigEventMulticaster.BEAN_NAME)
+				instanceof NacosConfigEventMulticaster);
+
+		context.close();
+		parent.close();
+	}
+
+	@Test
+	public void testDropEventsAfterDestroy() throws Exception {
+		final List<String> contents = Collections
+				.synchronizedList(new ArrayList<String>());
+		NacosConfigEventMulticaster multicaster = new NacosConfigEventMulticaster(1);
+		multicaster.addApplicationListener(
+				new ApplicationListener<NacosConfigReceivedEvent>() {
+					@Override
+					public void onApplicationEvent(NacosConfigReceivedEvent event) {
+						contents.add(event.getContent());
+					}
+				});
+		multicaster.destroy();
+
+		// the Nacos client thread must not see a RejectedExecutionException
+		multicaster.multicastEvent(new NacosConfigReceivedEvent(new MockConfigService(),
+				"app", "DEFAULT_GROUP", "late", "properties"));
+		Assert.assertTrue(contents.isEmpty());
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.event.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.config.convert.NacosConfigConverter;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+
+/**
+ * {@link FanOutNacosConfigListener} Test
+ *
+ * @since 2.1.0
+ */
+public class FanOutNacosConfigListenerTest {
+
+	@Test
+	public void testConvertOncePerPush() {
+		final FanOutNacosConfigListener fanOut = new FanOutNacosConfigListener("data",
+				"group");
+		final CountingConverter converter = new CountingConverter();
+		final List<Integer> received = new ArrayList<Integer>();
+
+		for (int i = 0; i < 3; i++) {
+			fanOut.addListener(new AbstractListener() {
+				@Override
+				public void receiveConfigInfo(String config) {
+					received.add(fanOut.convert(config, "integer", converter));
+				}
+			});
+		}
+
+		fanOut.receiveConfigInfo("1");
+		fanOut.receiveConfigInfo(new String("2"));
+
+		Assert.assertEquals(3, fanOut.getListenerCount());
+		Assert.assertEquals(2, converter.count.get());
+		Assert.assertEquals(6, received.size());
+		Assert.assertEquals(Integer.valueOf(1), received.get(2));
+		Assert.assertEquals(Integer.valueOf(2), received.get(5));
+	}
+
+	@Test
+	public void testFailingListenerDoesNotStopOthers() {
+		FanOutNacosConfigListener fanOut = new FanOutNacosConfigListener("data",
+				"group");
+		final List<String> received = new ArrayList<String>();
+		fanOut.addListener(new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String config) {
+				throw new IllegalStateException("failed");
+			}
+		});
+		fanOut.addListener(new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String config) {
+				received.add(config);
+			}
+		});
+
+		fanOut.receiveConfigInfo("content");
+
+		Assert.assertEquals(1, received.size());
+	}
+
+	@Test
+	public void testLateListenerReceivesLaterPushesOnly() {
+		FanOutNacosConfigListener fanOut = new FanOutNacosConfigListener("data",
+				"group");
+		final List<String> received = new ArrayList<String>();
+		AbstractListener listener = new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String config) {
+				received.add(config);
+			}
+		};
+
+		fanOut.addListener(listener);
+		Assert.assertTrue(received.isEmpty());
+
+		fanOut.receiveConfigInfo("first");
+		fanOut.addListener(listener);
+		Assert.assertEquals(1, received.size());
+
+		fanOut.receiveConfigInfo("second");
+		Assert.assertEquals(3, received.size());
+		Assert.assertEquals("second", received.get(2));
+	}
+
+	static class CountingConverter implements NacosConfigConverter<Integer> {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public boolean canConvert(Class<Integer> targetType) {
+			return true;
+		}
+
+		@Override
+		public Integer convert(String config) {
+			count.incrementAndGet();
+			return Integer.valueOf(config);
+		}
+	}
+}
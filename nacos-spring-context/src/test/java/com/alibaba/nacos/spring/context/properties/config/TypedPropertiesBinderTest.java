@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.context.properties.config;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link TypedPropertiesBinderRegistry} Test. The generated binders are tested against
+ * the {@link org.springframework.validation.DataBinder} in nacos-spring-context-aot.
+ *
+ * @since 2.1.0
+ */
+public class TypedPropertiesBinderTest {
+
+	@After
+	public void clear() {
+		TypedPropertiesBinderRegistry.clear();
+	}
+
+	@Test
+	public void testRegistry() {
+		Assert.assertNull(TypedPropertiesBinderRegistry.get(Target.class));
+
+		TargetBinder binder = new TargetBinder();
+		TypedPropertiesBinderRegistry.register(Target.class.getName(), binder);
+
+		Assert.assertSame(binder, TypedPropertiesBinderRegistry.get(Target.class));
+	}
+
+	static class Target {
+	}
+
+	static class TargetBinder extends AbstractTypedPropertiesBinder<Target> {
+
+		@Override
+		public void bind(Target bean, String prefix, Map<String, Object> properties) {
+		}
+	}
+}
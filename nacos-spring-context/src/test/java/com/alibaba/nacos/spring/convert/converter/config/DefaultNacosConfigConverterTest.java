@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.convert.converter.config;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+/**
+ * {@link DefaultNacosConfigConverter} Test
+ *
+ * @since 2.1.0
+ */
+public class DefaultNacosConfigConverterTest {
+
+	private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+	@Test
+	public void testConvert() {
+		DefaultNacosConfigConverter<Integer> converter = new DefaultNacosConfigConverter<Integer>(
+				Integer.class, conversionService, "properties");
+		Assert.assertEquals(Integer.valueOf(9527), converter.convert("9527"));
+		Assert.assertTrue(converter.canConvert(Integer.class));
+	}
+
+	@Test
+	public void testConvertToMap() {
+		DefaultNacosConfigConverter<Map> converter = new DefaultNacosConfigConverter<Map>(
+				Map.class, conversionService, "properties");
+		Map<?, ?> properties = converter.convert("name=nacos");
+		Assert.assertEquals("nacos", properties.get("name"));
+	}
+
+	@Test
+	public void testBindJson() {
+		DefaultNacosConfigConverter<Server> converter = new DefaultNacosConfigConverter<Server>(
+				Server.class, conversionService, "json");
+		Assert.assertTrue(converter.canConvert(Server.class));
+
+		Server server = converter.convert(
+				"{\"name\":\"nacos\",\"port\":8848,\"enabled\":true,\"timeout\":1.5,"
+						+ "\"address\":{\"host\":\"127.0.0.1\"},\"unknown\":\"x\"}");
+
+		Assert.assertEquals("nacos", server.getName());
+		Assert.assertEquals(8848, server.getPort());
+		Assert.assertTrue(server.isEnabled());
+		Assert.assertEquals(Double.valueOf(1.5), server.getTimeout());
+		Assert.assertEquals("127.0.0.1", server.getAddress().getHost());
+	}
+
+	@Test
+	public void testBindYaml() {
+		DefaultNacosConfigConverter<Server> converter = new DefaultNacosConfigConverter<Server>(
+				Server.class, conversionService, "yaml");
+
+		Server server = converter.convert("name: nacos\nport: 8848\n");
+
+		Assert.assertEquals("nacos", server.getName());
+		Assert.assertEquals(8848, server.getPort());
+		Assert.assertNull(server.getAddress());
+		Assert.assertNull(server.getTimeout());
+	}
+
+	@Test
+	public void testNoBindingForProperties() {
+		DefaultNacosConfigConverter<Server> converter = new DefaultNacosConfigConverter<Server>(
+				Server.class, conversionService, "properties");
+		Assert.assertFalse(converter.canConvert(Server.class));
+		Assert.assertNull(converter.convert("name=nacos"));
+	}
+
+	public static class Server {
+
+		private String name;
+
+		private int port;
+
+		private boolean enabled;
+
+		private Double timeout;
+
+		private Address address;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getPort() {
+			return port;
+		}
+
+		public void setPort(int port) {
+			this.port = port;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Double getTimeout() {
+			return timeout;
+		}
+
+		public void setTimeout(Double timeout) {
+			this.timeout = timeout;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+	}
+
+	public static class Address {
+
+		private String host;
+
+		public String getHost() {
+			return host;
+		}
+
+		public void setHost(String host) {
+			this.host = host;
+		}
+	}
+}
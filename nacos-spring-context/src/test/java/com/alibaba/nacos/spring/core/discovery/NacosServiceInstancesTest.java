@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.discovery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.test.MockNamingService;
+
+/**
+ * {@link NacosServiceInstances} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosServiceInstancesTest {
+
+	private static final String SERVICE_NAME = "example";
+
+	private MockNamingService namingService;
+
+	private NacosServiceInstances serviceInstances;
+
+	private final List<InstancesChange> changes = new ArrayList<InstancesChange>();
+
+	@Before
+	public void init() throws NacosException {
+		namingService = new MockNamingService();
+		namingService.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(instance("127.0.0.1", 1), instance("127.0.0.2", 1)));
+		serviceInstances = new NacosServiceInstances(namingService, SERVICE_NAME,
+				Constants.DEFAULT_GROUP, Collections.<String> emptyList());
+		serviceInstances.subscribe();
+		serviceInstances.addListener(new InstancesChangeListener() {
+			@Override
+			public void onChange(InstancesChange change) {
+				changes.add(change);
+			}
+		});
+	}
+
+	@Test
+	public void testInitialChange() {
+		Assert.assertEquals(2, serviceInstances.getInstances().size());
+		Assert.assertEquals(1, changes.size());
+		Assert.assertEquals(2, changes.get(0).getAdded().size());
+		Assert.assertTrue(changes.get(0).getRemoved().isEmpty());
+	}
+
+	@Test
+	public void testDiff() {
+		Instance unhealthy = instance("127.0.0.1", 1);
+		unhealthy.setHealthy(false);
+		namingService.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(unhealthy, instance("127.0.0.3", 1)));
+		namingService.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(unhealthy, instance("127.0.0.3", 5)));
+		// Unchanged
+		namingService.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(unhealthy, instance("127.0.0.3", 5)));
+
+		Assert.assertEquals(3, changes.size());
+		InstancesChange change = changes.get(1);
+		Assert.assertEquals("127.0.0.3", change.getAdded().get(0).getIp());
+		Assert.assertEquals("127.0.0.2", change.getRemoved().get(0).getIp());
+		Assert.assertEquals("127.0.0.1", change.getModified().get(0).getIp());
+		Assert.assertTrue(change.getWeightChanged().isEmpty());
+
+		change = changes.get(2);
+		Assert.assertEquals(1, change.getWeightChanged().size());
+		Assert.assertEquals(5, change.getWeightChanged().get(0).getWeight(), 0);
+		Assert.assertTrue(change.getAdded().isEmpty());
+		Assert.assertTrue(change.getRemoved().isEmpty());
+
+		Assert.assertEquals("127.0.0.3",
+				serviceInstances.getHealthyInstances().get(0).getIp());
+	}
+
+	@Test
+	public void testDestroy() throws NacosException {
+		serviceInstances.destroy();
+		namingService.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Collections.<Instance> emptyList());
+		Assert.assertEquals(1, changes.size());
+		Assert.assertEquals(2, serviceInstances.getInstances().size());
+		Assert.assertEquals(1, namingService.getInvocationCount("unsubscribe"));
+	}
+
+	static Instance instance(String ip, double weight) {
+		Instance instance = new Instance();
+		instance.setIp(ip);
+		instance.setPort(8080);
+		instance.setWeight(weight);
+		instance.setClusterName(Constants.DEFAULT_CLUSTER_NAME);
+		return instance;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.core.env;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.spring.util.parse.DefaultPropertiesConfigParse.OriginTrackedValue;
+
+/**
+ * {@link CompactPropertyMap} Test
+ *
+ * @since 2.1.0
+ */
+public class CompactPropertyMapTest {
+
+	@Test
+	public void testLookupAndOrder() {
+		Map<String, Object> properties = new LinkedHashMap<String, Object>();
+		for (int i = 0; i < 1000; i++) {
+			properties.put("app.group" + (i / 10) + ".item" + (i % 10), "value-" + i);
+		}
+		CompactPropertyMap map = CompactPropertyMap.of(properties);
+
+		Assert.assertEquals(properties, map);
+		Assert.assertEquals(properties.hashCode(), map.hashCode());
+		Assert.assertEquals("value-537", map.get("app.group53.item7"));
+		Assert.assertTrue(map.containsKey("app.group0.item0"));
+		Assert.assertFalse(map.containsKey("app.group100.item0"));
+		Assert.assertNull(map.get("absent"));
+		Assert.assertNull(map.get(1));
+		Assert.assertEquals(new ArrayList<String>(properties.keySet()),
+				new ArrayList<String>(map.keySet()));
+	}
+
+	@Test
+	public void testInterningAndUnwrapping() {
+		Map<String, Object> first = new LinkedHashMap<String, Object>();
+		first.put(new String("server.port"), OriginTrackedValue.of(new String("8080")));
+		Map<String, Object> second = new LinkedHashMap<String, Object>();
+		second.put(new String("server.port"), new String("8080"));
+
+		CompactPropertyMap firstMap = CompactPropertyMap.of(first);
+		CompactPropertyMap secondMap = CompactPropertyMap.of(second);
+
+		Assert.assertSame(firstMap.keySet().iterator().next(),
+				secondMap.keySet().iterator().next());
+		Assert.assertSame(firstMap.get("server.port"), secondMap.get("server.port"));
+	}
+
+	@Test
+	public void testEmptyAndImmutable() {
+		CompactPropertyMap map = CompactPropertyMap
+				.of(new LinkedHashMap<String, Object>());
+		Assert.assertTrue(map.isEmpty());
+		Assert.assertNull(map.get("a"));
+		try {
+			map.put("a", "b");
+			Assert.fail();
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+		Map<String, Object> properties = new LinkedHashMap<String, Object>();
+		properties.put("a", "1");
+		Iterator<Map.Entry<String, Object>> iterator = CompactPropertyMap.of(properties)
+				.entrySet().iterator();
+		iterator.next();
+		try {
+			iterator.remove();
+			Assert.fail();
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+	}
+
+	@Test
+	public void testCompactPropertySource() {
+		NacosPropertySource propertySource = new NacosPropertySource("app.properties",
+				"DEFAULT_GROUP", "app", "a=1\nb.c=2", ConfigType.PROPERTIES.getType(),
+				true);
+		Assert.assertTrue(propertySource.isCompact());
+		Assert.assertEquals("1", propertySource.getProperty("a"));
+		Assert.assertTrue(propertySource.getKeyIndex().hasDescendant("b"));
+		List<String> names = new ArrayList<String>();
+		for (String name : propertySource.getPropertyNames()) {
+			names.add(name);
+		}
+		Assert.assertEquals(2, names.size());
+		Assert.assertFalse(new NacosPropertySource("app.properties", "DEFAULT_GROUP",
+				"app", "a=1", ConfigType.PROPERTIES.getType()).isCompact());
+	}
+
+}
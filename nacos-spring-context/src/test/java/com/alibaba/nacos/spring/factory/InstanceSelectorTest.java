@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import static com.alibaba.nacos.spring.factory.SnapshotNamingServiceTest.instance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.test.MockNamingService;
+
+/**
+ * {@link InstanceSelector} Test
+ *
+ * @since 2.1.0
+ */
+public class InstanceSelectorTest {
+
+	private static final String SERVICE_NAME = "example";
+
+	@Test
+	public void testIndexBuiltOncePerSnapshot() throws NacosException {
+		MockNamingService delegate = new MockNamingService();
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(instance("127.0.0.1", 1, true)));
+		final AtomicInteger builds = new AtomicInteger();
+		InstanceSelector<List<Instance>> selector = new InstanceSelector<List<Instance>>() {
+			@Override
+			public List<Instance> buildIndex(List<Instance> instances) {
+				builds.incrementAndGet();
+				return instances;
+			}
+
+			@Override
+			public Instance select(List<Instance> index, String key) {
+				return index.get(0);
+			}
+		};
+		InstanceSelectingNamingService namingService = new SnapshotNamingService(
+				delegate, new Properties(), selector);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals("127.0.0.1",
+					namingService.selectOneHealthyInstance(SERVICE_NAME).getIp());
+		}
+		Assert.assertEquals(1, builds.get());
+
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(instance("127.0.0.2", 1, true)));
+		Assert.assertEquals("127.0.0.2", namingService.selectOneHealthyInstance(
+				SERVICE_NAME, Constants.DEFAULT_GROUP, Collections.<String> emptyList(),
+				selector, null).getIp());
+		Assert.assertEquals(2, builds.get());
+	}
+
+	@Test
+	public void testWeightedRandom() {
+		InstancesSnapshot snapshot = new InstancesSnapshot(SERVICE_NAME,
+				Arrays.asList(instance("127.0.0.1", 1, true),
+						instance("127.0.0.2", 2, true), instance("127.0.0.3", 5, true)));
+		Map<String, Integer> counts = select(snapshot,
+				WeightedRandomInstanceSelector.INSTANCE, 80000);
+		Assert.assertEquals(10000, counts.get("127.0.0.1"), 1000);
+		Assert.assertEquals(20000, counts.get("127.0.0.2"), 1000);
+		Assert.assertEquals(50000, counts.get("127.0.0.3"), 1000);
+	}
+
+	@Test
+	public void testPowerOfTwoChoices() {
+		Instance light = instance("127.0.0.1", 1, true);
+		Instance heavy = instance("127.0.0.2", 3, true);
+		InstancesSnapshot snapshot = new InstancesSnapshot(SERVICE_NAME,
+				Arrays.asList(light, heavy));
+		PowerOfTwoChoicesInstanceSelector selector = new PowerOfTwoChoicesInstanceSelector();
+		// The in-flight requests are balanced by weight
+		for (int i = 0; i < 400; i++) {
+			snapshot.select(selector, null);
+		}
+		Assert.assertEquals(100, selector.getInflight(light), 1);
+		Assert.assertEquals(300, selector.getInflight(heavy), 1);
+
+		long inflight = selector.getInflight(light);
+		selector.complete(light);
+		Assert.assertEquals(inflight - 1, selector.getInflight(light));
+
+		// The counters are kept across the snapshots
+		InstancesSnapshot next = new InstancesSnapshot(SERVICE_NAME,
+				Arrays.asList(instance("127.0.0.1", 1, true),
+						instance("127.0.0.2", 3, true)));
+		Assert.assertEquals("127.0.0.1", next.select(selector, null).getIp());
+	}
+
+	@Test
+	public void testPowerOfTwoChoicesReleasesCounters() throws InterruptedException {
+		PowerOfTwoChoicesInstanceSelector selector = new PowerOfTwoChoicesInstanceSelector();
+		InstancesSnapshot snapshot = new InstancesSnapshot(SERVICE_NAME,
+				Arrays.asList(instance("127.0.0.1", 1, true),
+						instance("127.0.0.2", 1, true)));
+		snapshot.select(selector, null);
+		Assert.assertEquals(2, selector.getInflightCounterCount());
+
+		// The instances left with the replaced snapshot
+		snapshot = new InstancesSnapshot(SERVICE_NAME,
+				Arrays.asList(instance("127.0.0.3", 1, true)));
+		snapshot.select(selector, null);
+		long deadline = System.currentTimeMillis() + 5000;
+		while (selector.getInflightCounterCount() > 1
+				&& System.currentTimeMillis() < deadline) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(1, selector.getInflightCounterCount());
+	}
+
+	@Test
+	public void testConsistentHash() {
+		List<Instance> instances = new ArrayList<Instance>();
+		for (int i = 1; i <= 5; i++) {
+			instances.add(instance("127.0.0." + i, 1, true));
+		}
+		ConsistentHashInstanceSelector selector = new ConsistentHashInstanceSelector();
+		InstancesSnapshot snapshot = new InstancesSnapshot(SERVICE_NAME, instances);
+		Map<String, String> routes = new HashMap<String, String>();
+		for (int i = 0; i < 10000; i++) {
+			String key = "request-" + i;
+			String ip = snapshot.select(selector, key).getIp();
+			Assert.assertEquals(ip, snapshot.select(selector, key).getIp());
+			routes.put(key, ip);
+		}
+		Map<String, Integer> counts = count(routes.values());
+		for (Integer count : counts.values()) {
+			Assert.assertEquals(2000, count, 600);
+		}
+
+		// Only the keys of the removed instance are remapped
+		InstancesSnapshot next = new InstancesSnapshot(SERVICE_NAME,
+				instances.subList(0, 4));
+		for (Map.Entry<String, String> route : routes.entrySet()) {
+			String ip = next.select(selector, route.getKey()).getIp();
+			if (!"127.0.0.5".equals(route.getValue())) {
+				Assert.assertEquals(route.getValue(), ip);
+			}
+			else {
+				Assert.assertNotEquals("127.0.0.5", ip);
+			}
+		}
+	}
+
+	private static Map<String, Integer> select(InstancesSnapshot snapshot,
+			InstanceSelector<?> selector, int times) {
+		List<String> ips = new ArrayList<String>(times);
+		for (int i = 0; i < times; i++) {
+			ips.add(snapshot.select(selector, null).getIp());
+		}
+		return count(ips);
+	}
+
+	private static Map<String, Integer> count(Iterable<String> ips) {
+		Map<String, Integer> counts = new HashMap<String, Integer>();
+		for (String ip : ips) {
+			Integer count = counts.get(ip);
+			counts.put(ip, count == null ? 1 : count + 1);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import static com.alibaba.nacos.spring.factory.SnapshotNamingServiceTest.instance;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.test.MockNamingService;
+
+/**
+ * {@link InstancesSnapshotStore} Test
+ *
+ * @since 2.1.0
+ */
+public class InstancesSnapshotStoreTest {
+
+	private static final String SERVICE_NAME = "example";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSaveAndLoad() throws Exception {
+		File file = new File(folder.getRoot(), "naming.snapshot");
+		Instance instance = instance("127.0.0.1", 2, false);
+		instance.setEphemeral(false);
+		instance.setClusterName("DEFAULT");
+		instance.setMetadata(Collections.singletonMap("zone", "a"));
+
+		InstancesSnapshotStore store = new InstancesSnapshotStore(file);
+		store.save(new InstancesSnapshotStore.Entry(SERVICE_NAME,
+				Constants.DEFAULT_GROUP, Arrays.asList("DEFAULT", "BACKUP"),
+				Arrays.asList(instance, instance("127.0.0.2", 1, true))));
+		store.flush();
+
+		Collection<InstancesSnapshotStore.Entry> entries = new InstancesSnapshotStore(
+				file).load();
+		Assert.assertEquals(1, entries.size());
+		InstancesSnapshotStore.Entry entry = entries.iterator().next();
+		Assert.assertEquals(SERVICE_NAME, entry.getServiceName());
+		Assert.assertEquals(Arrays.asList("DEFAULT", "BACKUP"), entry.getClusters());
+		Assert.assertEquals(2, entry.getInstances().size());
+		Instance loaded = entry.getInstances().get(0);
+		Assert.assertEquals("127.0.0.1", loaded.getIp());
+		Assert.assertEquals(8080, loaded.getPort());
+		Assert.assertEquals(2, loaded.getWeight(), 0);
+		Assert.assertFalse(loaded.isHealthy());
+		Assert.assertFalse(loaded.isEphemeral());
+		Assert.assertTrue(loaded.isEnabled());
+		Assert.assertEquals("DEFAULT", loaded.getClusterName());
+		Assert.assertEquals("a", loaded.getMetadata().get("zone"));
+		Assert.assertNull(loaded.getInstanceId());
+	}
+
+	@Test
+	public void testBrokenFile() throws Exception {
+		File file = folder.newFile();
+		Assert.assertTrue(new InstancesSnapshotStore(file).load().isEmpty());
+	}
+
+	@Test
+	public void testGarbageFile() throws Exception {
+		Random random = new Random(0);
+		for (int i = 0; i < 100; i++) {
+			byte[] garbage = new byte[random.nextInt(256)];
+			random.nextBytes(garbage);
+			File file = folder.newFile();
+			DataOutputStream output = new DataOutputStream(new FileOutputStream(file));
+			try {
+				// A valid header followed by garbage
+				output.writeInt(0x4E41534E);
+				output.writeByte(2);
+				if (i == 0) {
+					output.writeInt(-1);
+				}
+				else if (i == 1) {
+					output.writeInt(Integer.MAX_VALUE);
+				}
+				output.write(garbage);
+			}
+			finally {
+				output.close();
+			}
+			Assert.assertTrue(new InstancesSnapshotStore(file).load().isEmpty());
+		}
+	}
+
+	@Test
+	public void testWarmUp() throws Exception {
+		File file = new File(folder.getRoot(), "naming.snapshot");
+		InstancesSnapshotStore store = new InstancesSnapshotStore(file);
+		store.save(new InstancesSnapshotStore.Entry(SERVICE_NAME,
+				Constants.DEFAULT_GROUP, Collections.<String> emptyList(),
+				Collections.singletonList(instance("127.0.0.1", 1, true))));
+		store.flush();
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		MockNamingService delegate = new MockNamingService() {
+			@Override
+			public List<Instance> getAllInstances(String serviceName, String groupName,
+					List<String> clusters, boolean subscribe) throws NacosException {
+				try {
+					latch.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.getAllInstances(serviceName, groupName, clusters,
+						subscribe);
+			}
+		};
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				new ArrayList<Instance>(Arrays.asList(instance("127.0.0.2", 1, true),
+						instance("127.0.0.3", 1, true))));
+
+		SnapshotNamingService namingService = new SnapshotNamingService(delegate,
+				new Properties(), WeightedRandomInstanceSelector.INSTANCE,
+				new InstancesSnapshotStore(file));
+		// Served from the stored snapshot before the subscription delivers
+		Assert.assertEquals("127.0.0.1",
+				namingService.selectOneHealthyInstance(SERVICE_NAME).getIp());
+
+		latch.countDown();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (namingService.getAllInstances(SERVICE_NAME).size() != 2
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(2, namingService.getAllInstances(SERVICE_NAME).size());
+		Assert.assertEquals(1, delegate.getInvocationCount("subscribe"));
+
+		// The live instances are stored
+		namingService.shutDown();
+		InstancesSnapshotStore.Entry entry = new InstancesSnapshotStore(file).load()
+				.iterator().next();
+		Assert.assertEquals(2, entry.getInstances().size());
+	}
+
+	@Test
+	public void testSaveAndLoadLargeString() throws Exception {
+		File file = new File(folder.getRoot(), "naming.snapshot");
+		StringBuilder value = new StringBuilder();
+		while (value.length() < 70000) {
+			value.append("\u4e2d");
+		}
+		Instance instance = instance("127.0.0.1", 1, true);
+		instance.setMetadata(Collections.singletonMap("large", value.toString()));
+
+		InstancesSnapshotStore store = new InstancesSnapshotStore(file);
+		store.save(new InstancesSnapshotStore.Entry(SERVICE_NAME,
+				Constants.DEFAULT_GROUP, Collections.<String> emptyList(),
+				Collections.singletonList(instance)));
+		store.flush();
+
+		InstancesSnapshotStore.Entry entry = new InstancesSnapshotStore(file).load()
+				.iterator().next();
+		Assert.assertEquals(value.toString(),
+				entry.getInstances().get(0).getMetadata().get("large"));
+	}
+
+	@Test
+	public void testPruneUnusedEntries() throws Exception {
+		File file = new File(folder.getRoot(), "naming.snapshot");
+		InstancesSnapshotStore store = new InstancesSnapshotStore(file);
+		store.save(new InstancesSnapshotStore.Entry(SERVICE_NAME,
+				Constants.DEFAULT_GROUP, Collections.<String> emptyList(),
+				Collections.singletonList(instance("127.0.0.1", 1, true))));
+		store.save(new InstancesSnapshotStore.Entry("unused", Constants.DEFAULT_GROUP,
+				Collections.<String> emptyList(),
+				Collections.singletonList(instance("127.0.0.1", 1, true))));
+		store.flush();
+
+		MockNamingService delegate = new MockNamingService();
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				new ArrayList<Instance>(
+						Collections.singletonList(instance("127.0.0.2", 1, true))));
+		SnapshotNamingService namingService = new SnapshotNamingService(delegate,
+				new Properties(), WeightedRandomInstanceSelector.INSTANCE,
+				new InstancesSnapshotStore(file));
+		// Nothing is subscribed until read
+		Assert.assertEquals(0, delegate.getInvocationCount("subscribe"));
+
+		namingService.getAllInstances(SERVICE_NAME);
+		namingService.shutDown();
+
+		Collection<InstancesSnapshotStore.Entry> entries = new InstancesSnapshotStore(
+				file).load();
+		Assert.assertEquals(1, entries.size());
+		Assert.assertEquals(SERVICE_NAME, entries.iterator().next().getServiceName());
+	}
+}
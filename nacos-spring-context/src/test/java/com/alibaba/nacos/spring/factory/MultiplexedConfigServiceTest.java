@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.embedded.web.server.EmbeddedNacosHttpServer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@link MultiplexedConfigService} Test
+ *
+ * @since 2.1.0
+ */
+public class MultiplexedConfigServiceTest {
+
+	private static EmbeddedNacosHttpServer httpServer;
+
+	@BeforeClass
+	public static void startServer() throws Exception {
+		httpServer = new EmbeddedNacosHttpServer();
+		httpServer.start(true);
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		httpServer.stop();
+	}
+
+	@Test
+	public void testNamespacesShareTransport() throws Exception {
+		MultiplexedConfigService dev = create("dev");
+		MultiplexedConfigService test = create("test");
+		MultiplexedConfigTransport transport = dev.getTransport();
+		Assert.assertSame(transport, test.getTransport());
+
+		dev.shutDown();
+		Assert.assertFalse(transport.isClosed());
+		test.shutDown();
+		Assert.assertTrue(transport.isClosed());
+
+		MultiplexedConfigService recreated = create("dev");
+		Assert.assertNotSame(transport, recreated.getTransport());
+		recreated.shutDown();
+	}
+
+	@Test
+	public void testPublishAndRemoveConfig() throws Exception {
+		ConfigService configService = create("dev");
+		try {
+			Assert.assertTrue(configService.publishConfig("multiplexed-publish",
+					"DEFAULT_GROUP", "value"));
+			Assert.assertEquals("value",
+					configService.getConfig("multiplexed-publish", null, 3000));
+			Assert.assertTrue(
+					configService.removeConfig("multiplexed-publish", "DEFAULT_GROUP"));
+			Assert.assertEquals("UP", configService.getServerStatus());
+		}
+		finally {
+			configService.shutDown();
+		}
+	}
+
+	@Test
+	public void testListenersOfNamespaces() throws Exception {
+		ConfigService dev = create("dev");
+		ConfigService test = create("test");
+		final BlockingQueue<String> devChanges = new LinkedBlockingQueue<String>();
+		final BlockingQueue<String> testChanges = new LinkedBlockingQueue<String>();
+		final BlockingQueue<String> threadNames = new LinkedBlockingQueue<String>();
+		try {
+			dev.publishConfig("multiplexed", "DEFAULT_GROUP", "v1");
+			dev.addListener("multiplexed", "DEFAULT_GROUP", new AbstractListener() {
+				@Override
+				public void receiveConfigInfo(String configInfo) {
+					threadNames.add(Thread.currentThread().getName());
+					devChanges.add(configInfo);
+				}
+			});
+			test.publishConfig("multiplexed", "DEFAULT_GROUP", "v1");
+			test.addListener("multiplexed", "DEFAULT_GROUP", new AbstractListener() {
+				@Override
+				public void receiveConfigInfo(String configInfo) {
+					testChanges.add(configInfo);
+				}
+			});
+
+			// The current contents are not notified on adding the listeners
+			dev.publishConfig("multiplexed", "DEFAULT_GROUP", "v2");
+			Assert.assertEquals("v2", devChanges.poll(10, TimeUnit.SECONDS));
+			test.publishConfig("multiplexed", "DEFAULT_GROUP", "v3");
+			Assert.assertEquals("v3", testChanges.poll(10, TimeUnit.SECONDS));
+			Assert.assertTrue(devChanges.isEmpty());
+			Assert.assertTrue(testChanges.isEmpty());
+			Assert.assertEquals("v2", dev.getConfig("multiplexed", "DEFAULT_GROUP", 3000));
+			Assert.assertEquals(1, countPollingThreads());
+			// The listeners are never notified on the polling thread
+			Assert.assertTrue(threadNames.poll().startsWith(
+					"com.alibaba.nacos.spring.multiplexedConfigNotifier-"));
+		}
+		finally {
+			dev.shutDown();
+			test.shutDown();
+		}
+	}
+
+	@Test
+	public void testRemoveListenerOfUntrimmedDataId() throws Exception {
+		ConfigService configService = create("dev");
+		final BlockingQueue<String> changes = new LinkedBlockingQueue<String>();
+		AbstractListener listener = new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String configInfo) {
+				changes.add(configInfo);
+			}
+		};
+		try {
+			configService.publishConfig("multiplexed-remove", "DEFAULT_GROUP", "v1");
+			configService.addListener(" multiplexed-remove ", "DEFAULT_GROUP", listener);
+			configService.removeListener(" multiplexed-remove ", "DEFAULT_GROUP",
+					listener);
+			configService.publishConfig("multiplexed-remove", "DEFAULT_GROUP", "v2");
+			Assert.assertNull(changes.poll(5, TimeUnit.SECONDS));
+		}
+		finally {
+			configService.shutDown();
+		}
+	}
+
+	@Test
+	public void testLoginAgainOnForbidden() throws Exception {
+		final AtomicInteger logins = new AtomicInteger();
+		HttpServer authServer = HttpServer.create(new InetSocketAddress(0), 0);
+		authServer.createContext("/nacos/v1/auth/users/login", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				// The tokenTtl is absent
+				respond(exchange, 200,
+						"{\"accessToken\":\"token-" + logins.incrementAndGet() + "\"}");
+			}
+		});
+		authServer.createContext("/nacos/v1/cs/configs", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				// The first token is expired on the server
+				boolean expired = exchange.getRequestURI().getQuery()
+						.contains("accessToken=token-1");
+				respond(exchange, expired ? 403 : 200, expired ? "expired" : "value");
+			}
+		});
+		authServer.start();
+		Properties properties = new Properties();
+		properties.setProperty(PropertyKeyConst.SERVER_ADDR,
+				"127.0.0.1:" + authServer.getAddress().getPort());
+		properties.setProperty(PropertyKeyConst.USERNAME, "nacos");
+		properties.setProperty(PropertyKeyConst.PASSWORD, "nacos");
+		ConfigService configService = MultiplexedConfigService.create(properties);
+		try {
+			Assert.assertEquals("value",
+					configService.getConfig("auth", "DEFAULT_GROUP", 3000));
+			Assert.assertEquals(2, logins.get());
+			// The token is kept for the default ttl
+			Assert.assertEquals("value",
+					configService.getConfig("auth", "DEFAULT_GROUP", 3000));
+			Assert.assertEquals(2, logins.get());
+		}
+		finally {
+			configService.shutDown();
+			authServer.stop(0);
+		}
+	}
+
+	@Test
+	public void testSupports() {
+		Properties properties = properties("dev");
+		Assert.assertTrue(MultiplexedConfigTransport.supports(properties));
+		properties.setProperty(PropertyKeyConst.ACCESS_KEY, "ak");
+		Assert.assertFalse(MultiplexedConfigTransport.supports(properties));
+		properties = properties("dev");
+		properties.setProperty(PropertyKeyConst.ENDPOINT, "127.0.0.1");
+		Assert.assertFalse(MultiplexedConfigTransport.supports(properties));
+	}
+
+	private static int countPollingThreads() {
+		int count = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName()
+					.startsWith("com.alibaba.nacos.spring.multiplexedConfig-")) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void respond(HttpExchange exchange, int code, String body)
+			throws IOException {
+		byte[] bytes = body.getBytes("UTF-8");
+		exchange.sendResponseHeaders(code, bytes.length);
+		OutputStream outputStream = exchange.getResponseBody();
+		try {
+			outputStream.write(bytes);
+		}
+		finally {
+			outputStream.close();
+		}
+	}
+
+	private static MultiplexedConfigService create(String namespace) {
+		return (MultiplexedConfigService) MultiplexedConfigService
+				.create(properties(namespace));
+	}
+
+	private static Properties properties(String namespace) {
+		Properties properties = new Properties();
+		properties.setProperty(PropertyKeyConst.SERVER_ADDR,
+				"127.0.0.1:" + httpServer.getPort());
+		properties.setProperty(PropertyKeyConst.NAMESPACE, namespace);
+		return properties;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.PropertyKeyConst;
+
+/**
+ * {@link NacosServiceIdentity} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosServiceIdentityTest {
+
+	@Test
+	public void testEquals() {
+		Properties properties = properties("127.0.0.1:8848", "dev");
+		properties.setProperty(PropertyKeyConst.CONFIG_LONG_POLL_TIMEOUT, "30000");
+		NacosServiceIdentity identity = NacosServiceIdentity.of(properties);
+
+		Assert.assertEquals(identity,
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", "dev")));
+		Assert.assertEquals(identity.hashCode(), NacosServiceIdentity
+				.of(properties("127.0.0.1:8848", "dev")).hashCode());
+		Assert.assertNotEquals(identity,
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", "test")));
+	}
+
+	@Test
+	public void testEmptyEqualsAbsent() {
+		Properties properties = properties("127.0.0.1:8848", "");
+		Assert.assertEquals(NacosServiceIdentity.of(properties),
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", null)));
+	}
+
+	@Test
+	public void testDigest() {
+		Properties properties = properties("127.0.0.1:8848", "dev");
+		String digest = NacosServiceIdentity.of(properties).digest();
+		Assert.assertEquals(digest,
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", "dev")).digest());
+		properties.setProperty(PropertyKeyConst.USERNAME, "nacos");
+		Assert.assertNotEquals(digest, NacosServiceIdentity.of(properties).digest());
+		Assert.assertNotEquals(
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", "ab")).digest(),
+				NacosServiceIdentity.of(properties("127.0.0.1:8848a", "b")).digest());
+	}
+
+	@Test
+	public void testCredentials() {
+		Properties properties = properties("127.0.0.1:8848", "dev");
+		properties.setProperty(PropertyKeyConst.USERNAME, "nacos");
+		properties.setProperty(PropertyKeyConst.PASSWORD, "secret");
+		NacosServiceIdentity identity = NacosServiceIdentity.of(properties);
+
+		Assert.assertNotEquals(identity,
+				NacosServiceIdentity.of(properties("127.0.0.1:8848", "dev")));
+		Assert.assertFalse(identity.toString().contains("secret"));
+		Assert.assertTrue(identity.toString().contains("username=nacos"));
+	}
+
+	private static Properties properties(String serverAddr, String namespace) {
+		Properties properties = new Properties();
+		properties.setProperty(PropertyKeyConst.SERVER_ADDR, serverAddr);
+		if (namespace != null) {
+			properties.setProperty(PropertyKeyConst.NAMESPACE, namespace);
+		}
+		return properties;
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.test.MockNamingService;
+
+/**
+ * {@link RegistrationBatcher} Test
+ *
+ * @since 2.1.0
+ */
+public class RegistrationBatcherTest {
+
+	private static final String SERVICE_NAME = "sidecar";
+
+	private MockNamingService delegate;
+
+	private DelegatingNamingService namingService;
+
+	@Before
+	public void init() {
+		delegate = new MockNamingService();
+		namingService = new DelegatingNamingService(delegate, new Properties());
+		namingService.enableRegistrationBatching(60 * 1000);
+	}
+
+	@Test
+	public void testBatchRegistrations() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			namingService.registerInstance(SERVICE_NAME, "127.0.0.1", 8000 + i);
+		}
+		Assert.assertTrue(delegate.getAllInstances(SERVICE_NAME, false).isEmpty());
+
+		namingService.flushRegistrations();
+		Assert.assertEquals(1, delegate.getInvocationCount("batchRegisterInstance"));
+		Assert.assertEquals(0, delegate.getInvocationCount("registerInstance"));
+		Assert.assertEquals(100, delegate.getAllInstances(SERVICE_NAME, false).size());
+
+		// Pending registration is cancelled without any call
+		namingService.registerInstance(SERVICE_NAME, "127.0.0.2", 8000);
+		namingService.deregisterInstance(SERVICE_NAME, "127.0.0.2", 8000);
+		for (int i = 0; i < 10; i++) {
+			namingService.deregisterInstance(SERVICE_NAME, "127.0.0.1", 8000 + i);
+		}
+		namingService.flushRegistrations();
+
+		Assert.assertEquals(1, delegate.getInvocationCount("batchDeregisterInstance"));
+		Assert.assertEquals(1, delegate.getInvocationCount("batchRegisterInstance"));
+		Assert.assertEquals(0, delegate.getInvocationCount("deregisterInstance"));
+		Assert.assertEquals(90, delegate.getAllInstances(SERVICE_NAME, false).size());
+	}
+
+	@Test
+	public void testFlushOnDestroy() throws Exception {
+		namingService.registerInstance(SERVICE_NAME, "127.0.0.1", 8080);
+		namingService.destroy();
+		Assert.assertEquals(1, delegate.getInvocationCount("batchRegisterInstance"));
+
+		// Not batched after shutting down
+		namingService.registerInstance(SERVICE_NAME, "127.0.0.1", 8081);
+		Assert.assertEquals(1, delegate.getInvocationCount("registerInstance"));
+	}
+
+	@Test
+	public void testUnbatchedRegistrations() throws NacosException {
+		Instance persistent = new Instance();
+		persistent.setIp("127.0.0.1");
+		persistent.setPort(8080);
+		persistent.setEphemeral(false);
+		namingService.registerInstance(SERVICE_NAME, persistent);
+		Assert.assertEquals(1, delegate.getInvocationCount("registerInstance"));
+
+		// Never registered by the batches
+		namingService.deregisterInstance(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				"127.0.0.1", 8080);
+		Assert.assertEquals(1, delegate.getInvocationCount("deregisterInstance"));
+		Assert.assertEquals(0, delegate.getInvocationCount("batchDeregisterInstance"));
+	}
+
+	@Test
+	public void testScheduledFlush() throws Exception {
+		namingService = new DelegatingNamingService(delegate, new Properties());
+		namingService.enableRegistrationBatching(50);
+		namingService.registerInstance(SERVICE_NAME, "127.0.0.1", 8080);
+		namingService.registerInstance(SERVICE_NAME, "127.0.0.1", 8081);
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (delegate.getInvocationCount("batchRegisterInstance") == 0
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(1, delegate.getInvocationCount("batchRegisterInstance"));
+		Assert.assertEquals(2, delegate.getAllInstances(SERVICE_NAME, false).size());
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.factory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.spring.test.MockNamingService;
+
+/**
+ * {@link SnapshotNamingService} Test
+ *
+ * @since 2.1.0
+ */
+public class SnapshotNamingServiceTest {
+
+	private static final String SERVICE_NAME = "example";
+
+	private MockNamingService delegate;
+
+	private SnapshotNamingService namingService;
+
+	@Before
+	public void init() {
+		delegate = new MockNamingService();
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Arrays.asList(instance("127.0.0.1", 1, true),
+						instance("127.0.0.2", 3, true),
+						instance("127.0.0.3", 1, false),
+						instance("127.0.0.4", 0, true)));
+		namingService = new SnapshotNamingService(delegate, new Properties());
+	}
+
+	@Test
+	public void testSubscribeOnce() throws NacosException {
+		Assert.assertEquals(4, namingService.getAllInstances(SERVICE_NAME).size());
+		Assert.assertSame(namingService.getAllInstances(SERVICE_NAME),
+				namingService.getAllInstances(SERVICE_NAME, true));
+		namingService.selectOneHealthyInstance(SERVICE_NAME);
+		Assert.assertEquals(1, delegate.getInvocationCount("subscribe"));
+		Assert.assertEquals(1, delegate.getInvocationCount("getAllInstances"));
+
+		namingService.getAllInstances(SERVICE_NAME, false);
+		Assert.assertEquals(2, delegate.getInvocationCount("getAllInstances"));
+	}
+
+	@Test
+	public void testSelectInstances() throws NacosException {
+		List<Instance> healthy = namingService.selectInstances(SERVICE_NAME, true);
+		Assert.assertEquals(2, healthy.size());
+		Assert.assertEquals("127.0.0.1", healthy.get(0).getIp());
+		Assert.assertEquals("127.0.0.2", healthy.get(1).getIp());
+		List<Instance> unhealthy = namingService.selectInstances(SERVICE_NAME, false);
+		Assert.assertEquals(1, unhealthy.size());
+		Assert.assertEquals("127.0.0.3", unhealthy.get(0).getIp());
+	}
+
+	@Test
+	public void testSelectOneHealthyInstanceByWeight() throws NacosException {
+		int total = 40000;
+		int second = 0;
+		for (int i = 0; i < total; i++) {
+			Instance instance = namingService.selectOneHealthyInstance(SERVICE_NAME);
+			Assert.assertTrue(instance.isHealthy());
+			Assert.assertTrue(instance.getWeight() > 0);
+			if ("127.0.0.2".equals(instance.getIp())) {
+				second++;
+			}
+		}
+		// The weights are 1 : 3
+		Assert.assertEquals(0.75, (double) second / total, 0.02);
+	}
+
+	@Test
+	public void testSnapshotReplacedOnPush() throws NacosException {
+		namingService.getAllInstances(SERVICE_NAME);
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Collections.singletonList(instance("127.0.0.9", 1, true)));
+
+		Assert.assertEquals("127.0.0.9",
+				namingService.selectOneHealthyInstance(SERVICE_NAME).getIp());
+		Assert.assertEquals(1, namingService.getAllInstances(SERVICE_NAME).size());
+		Assert.assertEquals(1, delegate.getInvocationCount("getAllInstances"));
+
+		namingService.shutDown();
+		Assert.assertEquals(1, delegate.getInvocationCount("unsubscribe"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testSelectOneHealthyInstanceWithoutHealthy() throws NacosException {
+		namingService.getAllInstances(SERVICE_NAME);
+		delegate.setInstances(SERVICE_NAME, Constants.DEFAULT_GROUP,
+				Collections.singletonList(instance("127.0.0.9", 1, false)));
+		namingService.selectOneHealthyInstance(SERVICE_NAME);
+	}
+
+	static Instance instance(String ip, double weight, boolean healthy) {
+		Instance instance = new Instance();
+		instance.setIp(ip);
+		instance.setPort(8080);
+		instance.setWeight(weight);
+		instance.setHealthy(healthy);
+		return instance;
+	}
+}
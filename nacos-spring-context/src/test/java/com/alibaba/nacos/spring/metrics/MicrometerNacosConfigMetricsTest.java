@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_GROUP;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.alibaba.nacos.api.annotation.NacosProperties;
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+import com.alibaba.nacos.api.config.annotation.NacosValue;
+import com.alibaba.nacos.spring.context.annotation.config.EnableNacosConfig;
+import com.alibaba.nacos.spring.context.annotation.config.NacosPropertySource;
+import com.alibaba.nacos.spring.factory.CacheableEventPublishingNacosServiceFactory;
+import com.alibaba.nacos.spring.test.MockConfigService;
+import com.alibaba.nacos.spring.util.ConfigParseUtils;
+import com.alibaba.nacos.spring.util.NacosUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link MicrometerNacosConfigMetrics} Test
+ *
+ * @since 2.1.0
+ */
+public class MicrometerNacosConfigMetricsTest {
+
+	private static final String PUSH_DATA_ID = "metrics";
+
+	private SimpleMeterRegistry registry;
+
+	@Before
+	public void init() {
+		registry = new SimpleMeterRegistry();
+		NacosConfigMetricsHolder.setMetrics(new MicrometerNacosConfigMetrics(registry));
+	}
+
+	@After
+	public void destroy() {
+		NacosConfigMetricsHolder.reset();
+		registry.close();
+	}
+
+	@Test
+	public void testRecordParse() {
+		ConfigParseUtils.toProperties("a=1\nb=2", "properties");
+		ConfigParseUtils.toProperties("a: 1", "yaml");
+		Assert.assertEquals(1, registry.get("nacos.config.parse").tag("type", "properties")
+				.timer().count());
+		Assert.assertEquals(1,
+				registry.get("nacos.config.parse").tag("type", "yaml").timer().count());
+	}
+
+	@Test
+	public void testRecordPushAndTimeout() {
+		NacosConfigMetrics metrics = NacosConfigMetricsHolder.getMetrics();
+		metrics.recordPush("app", "DEFAULT_GROUP");
+		metrics.recordPush("app", "DEFAULT_GROUP");
+		metrics.recordPushApplied("app", "DEFAULT_GROUP", TimeUnit.MILLISECONDS.toNanos(5));
+		metrics.recordListenerTimeout("app", null);
+		metrics.recordNacosValueRefresh("app", "DEFAULT_GROUP", 3);
+
+		Assert.assertEquals(2.0d, registry.get("nacos.config.push").tag("dataId", "app")
+				.counter().count(), 0.0d);
+		Assert.assertEquals(5.0d, registry.get("nacos.config.push.applied").timer()
+				.totalTime(TimeUnit.MILLISECONDS), 0.0d);
+		Assert.assertEquals(1.0d, registry.get("nacos.config.listener.timeout")
+				.tag("groupId", "").counter().count(), 0.0d);
+		Assert.assertEquals(3.0d, registry.get("nacos.config.nacos-value.updated")
+				.counter().count(), 0.0d);
+	}
+
+	@Test
+	public void testNoopByDefault() {
+		NacosConfigMetricsHolder.reset();
+		Assert.assertSame(NoopNacosConfigMetrics.INSTANCE,
+				NacosConfigMetricsHolder.getMetrics());
+	}
+
+	@Test
+	public void testRecordPushThroughContext() throws Exception {
+		MockConfigService configService = new MockConfigService();
+		configService.publishConfig(PUSH_DATA_ID, DEFAULT_GROUP, "app.name=v1");
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(PushConfiguration.class);
+		Properties properties = NacosUtils.resolveProperties(
+				PushConfiguration.class.getAnnotation(EnableNacosConfig.class)
+						.globalProperties(),
+				context.getEnvironment());
+		CacheableEventPublishingNacosServiceFactory factory = CacheableEventPublishingNacosServiceFactory
+				.getSingleton();
+		factory.deferCreateService(configService, properties);
+		factory.publishDeferService(context);
+		context.refresh();
+		try {
+			configService.publishConfig(PUSH_DATA_ID, DEFAULT_GROUP, "app.name=v2");
+			Assert.assertEquals("v2", context.getBean(PushTarget.class).name);
+
+			double pushes = registry.get("nacos.config.push").tag("dataId", PUSH_DATA_ID)
+					.counter().count();
+			Assert.assertTrue(pushes > 0);
+			Assert.assertEquals((long) pushes, registry.get("nacos.config.push.applied")
+					.tag("dataId", PUSH_DATA_ID).timer().count());
+			Assert.assertTrue(registry.get("nacos.config.property-source.replace")
+					.tag("dataId", PUSH_DATA_ID).tag("groupId", DEFAULT_GROUP).timer()
+					.count() > 0);
+			Assert.assertEquals(1.0d, registry.get("nacos.config.nacos-value.updated")
+					.tag("dataId", PUSH_DATA_ID).counter().count(), 0.0d);
+			Assert.assertEquals(1.0d, registry.get("nacos.config.listener.timeout")
+					.tag("dataId", PUSH_DATA_ID).counter().count(), 0.0d);
+		}
+		finally {
+			context.close();
+		}
+	}
+
+	@Test
+	public void testMetersCached() {
+		MicrometerNacosConfigMetrics metrics = new MicrometerNacosConfigMetrics(registry);
+		metrics.recordPush("app", "DEFAULT_GROUP");
+		metrics.recordPush("app", "DEFAULT_GROUP");
+		metrics.recordPush("other", "DEFAULT_GROUP");
+		Assert.assertEquals(2, registry.find("nacos.config.push").counters().size());
+		Assert.assertEquals(2.0d, registry.get("nacos.config.push").tag("dataId", "app")
+				.counter().count(), 0.0d);
+	}
+
+	@Configuration
+	@EnableNacosConfig(globalProperties = @NacosProperties(serverAddr = "127.0.0.1:18849", namespace = "metrics"))
+	@NacosPropertySource(dataId = PUSH_DATA_ID, autoRefreshed = true)
+	static class PushConfiguration {
+
+		@Bean
+		public PushTarget pushTarget() {
+			return new PushTarget();
+		}
+	}
+
+	public static class PushTarget {
+
+		@NacosValue(value = "${app.name:}", autoRefreshed = true)
+		private String name;
+
+		@NacosConfigListener(dataId = PUSH_DATA_ID, timeout = 50)
+		public void onChange(String content) throws InterruptedException {
+			if (content.contains("v2")) {
+				// exceeds the timeout, and is interrupted then
+				Thread.sleep(5000);
+			}
+		}
+	}
+}
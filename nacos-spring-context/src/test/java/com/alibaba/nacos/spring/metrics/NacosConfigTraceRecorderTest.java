@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.metrics;
+
+import static com.alibaba.nacos.spring.test.MockNacosServiceFactory.DATA_ID;
+import static com.alibaba.nacos.spring.test.MockNacosServiceFactory.GROUP_ID;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.spring.context.event.config.EventPublishingConfigService;
+import com.alibaba.nacos.spring.context.event.config.NacosConfigReceivedEvent;
+import com.alibaba.nacos.spring.test.MockConfigService;
+import com.alibaba.nacos.spring.util.ConfigParseUtils;
+
+/**
+ * {@link NacosConfigTraceRecorder} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigTraceRecorderTest {
+
+	@After
+	public void reset() {
+		NacosConfigTraceRecorder.setInstance(
+				new NacosConfigTraceRecorder(NacosConfigTraceRecorder.DEFAULT_CAPACITY));
+		NacosConfigTraceRecorder.attach(null);
+	}
+
+	@Test
+	public void testRingBuffer() {
+		NacosConfigTraceRecorder recorder = new NacosConfigTraceRecorder(3);
+		NacosConfigPushTrace first = recorder.begin(DATA_ID, GROUP_ID);
+		NacosConfigPushTrace last = null;
+		for (int i = 0; i < 4; i++) {
+			last = recorder.begin(DATA_ID, GROUP_ID);
+		}
+		List<NacosConfigPushTrace> traces = recorder.getTraces();
+		Assert.assertEquals(3, traces.size());
+		Assert.assertSame(last, traces.get(0));
+		Assert.assertSame(last, recorder.getTrace(last.getCorrelationId()));
+		Assert.assertNull(recorder.getTrace(first.getCorrelationId()));
+		Assert.assertNotEquals(first.getCorrelationId(), last.getCorrelationId());
+	}
+
+	@Test
+	public void testRecordStage() {
+		NacosConfigPushTrace trace = new NacosConfigPushTrace(DATA_ID, GROUP_ID);
+		NacosConfigTraceRecorder.recordStage(NacosConfigPushTrace.PARSE, 1);
+		Assert.assertTrue(trace.getStageNanos().isEmpty());
+
+		Assert.assertNull(NacosConfigTraceRecorder.attach(trace));
+		NacosConfigTraceRecorder.recordStage(NacosConfigPushTrace.PARSE, 1);
+		NacosConfigTraceRecorder.recordStage(NacosConfigPushTrace.PARSE, 2);
+		Assert.assertSame(trace, NacosConfigTraceRecorder.attach(null));
+		Assert.assertNull(NacosConfigTraceRecorder.current());
+
+		Assert.assertEquals(Long.valueOf(3),
+				trace.getStageNanos().get(NacosConfigPushTrace.PARSE));
+		Assert.assertTrue(trace.getElapsedNanos() >= 0);
+	}
+
+	@Test
+	public void testPushTrace() throws NacosException {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.refresh();
+		final AtomicReference<NacosConfigReceivedEvent> received = new AtomicReference<NacosConfigReceivedEvent>();
+		context.addApplicationListener(
+				new ApplicationListener<NacosConfigReceivedEvent>() {
+					@Override
+					public void onApplicationEvent(NacosConfigReceivedEvent event) {
+						received.set(event);
+					}
+				});
+		EventPublishingConfigService configService = new EventPublishingConfigService(
+				new MockConfigService(), new Properties(), context, new Executor() {
+					@Override
+					public void execute(Runnable command) {
+						command.run();
+					}
+				});
+		final String type = ConfigType.PROPERTIES.getType();
+		configService.addListener(DATA_ID, GROUP_ID, type, new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String configInfo) {
+				ConfigParseUtils.toProperties(configInfo, type);
+			}
+		});
+
+		configService.publishConfig(DATA_ID, GROUP_ID, "a=1");
+		context.close();
+
+		NacosConfigReceivedEvent event = received.get();
+		Assert.assertNotNull(event.getCorrelationId());
+		NacosConfigPushTrace trace = NacosConfigTraceRecorder.getInstance()
+				.getTrace(event.getCorrelationId());
+		Assert.assertSame(event.getTrace(), trace);
+		Assert.assertEquals(DATA_ID, trace.getDataId());
+		Map<String, Long> stages = trace.getStageNanos();
+		Assert.assertTrue(stages.containsKey(NacosConfigPushTrace.PARSE));
+		Assert.assertTrue(stages.containsKey(NacosConfigPushTrace.LISTENER));
+		Assert.assertTrue(stages.containsKey(NacosConfigPushTrace.EVENT_PUBLISH));
+		Assert.assertNull(NacosConfigTraceRecorder.current());
+	}
+}
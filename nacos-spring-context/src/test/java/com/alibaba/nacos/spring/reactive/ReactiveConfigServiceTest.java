@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.spring.test.MockConfigService;
+
+/**
+ * {@link ReactiveConfigService} Test
+ *
+ * @since 2.1.0
+ */
+public class ReactiveConfigServiceTest {
+
+	private static final String DATA_ID = "app";
+
+	private static final String GROUP = "DEFAULT_GROUP";
+
+	private static final Executor DIRECT = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	private ListeningConfigService configService;
+
+	private ReactiveConfigService reactiveConfigService;
+
+	@Before
+	public void init() {
+		configService = new ListeningConfigService();
+		reactiveConfigService = new ReactiveConfigService(configService, DIRECT);
+	}
+
+	@Test
+	public void testInitialContentAndChanges() throws NacosException {
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(subscriber);
+		subscriber.request(Long.MAX_VALUE);
+
+		configService.publishConfig(DATA_ID, GROUP, "v2");
+
+		Assert.assertEquals(2, subscriber.contents.size());
+		Assert.assertEquals("v1", subscriber.contents.get(0));
+		Assert.assertEquals("v2", subscriber.contents.get(1));
+		Assert.assertEquals(1, configService.addCount);
+	}
+
+	@Test
+	public void testBackpressure() throws NacosException {
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(subscriber);
+
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		configService.publishConfig(DATA_ID, GROUP, "v2");
+		configService.publishConfig(DATA_ID, GROUP, "v3");
+		Assert.assertTrue(subscriber.contents.isEmpty());
+
+		subscriber.request(2);
+		Assert.assertEquals(2, subscriber.contents.size());
+		Assert.assertEquals("v2", subscriber.contents.get(1));
+
+		subscriber.request(1);
+		Assert.assertEquals("v3", subscriber.contents.get(2));
+	}
+
+	@Test
+	public void testLatestConflates() throws NacosException {
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		reactiveConfigService.latest(DATA_ID, GROUP).subscribe(subscriber);
+
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		configService.publishConfig(DATA_ID, GROUP, "v2");
+		configService.publishConfig(DATA_ID, GROUP, "v3");
+
+		subscriber.request(5);
+		Assert.assertEquals(1, subscriber.contents.size());
+		Assert.assertEquals("v3", subscriber.contents.get(0));
+		Assert.assertEquals(3, subscriber.changes.get(0).getSequence());
+	}
+
+	@Test
+	public void testLateSubscriberReplaysLatest() throws NacosException {
+		RecordingSubscriber first = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(first);
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		configService.publishConfig(DATA_ID, GROUP, "v2");
+
+		RecordingSubscriber second = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(second);
+		second.request(Long.MAX_VALUE);
+
+		Assert.assertEquals(1, second.contents.size());
+		Assert.assertEquals("v2", second.contents.get(0));
+		Assert.assertEquals(1, configService.addCount);
+	}
+
+	@Test
+	public void testOverflowError() throws NacosException {
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		reactiveConfigService
+				.changes(DATA_ID, GROUP, OverflowStrategy.ERROR, 1)
+				.subscribe(subscriber);
+
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		configService.publishConfig(DATA_ID, GROUP, "v2");
+
+		Assert.assertTrue(subscriber.error instanceof IllegalStateException);
+		Assert.assertTrue(subscriber.contents.isEmpty());
+		Assert.assertEquals(1, configService.removeCount);
+	}
+
+	@Test
+	public void testCancelRemovesListener() throws NacosException {
+		RecordingSubscriber first = new RecordingSubscriber();
+		RecordingSubscriber second = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(first);
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(second);
+		first.request(Long.MAX_VALUE);
+
+		second.subscription.cancel();
+		Assert.assertEquals(0, configService.removeCount);
+		configService.publishConfig(DATA_ID, GROUP, "v1");
+		Assert.assertEquals(1, first.contents.size());
+
+		first.subscription.cancel();
+		Assert.assertEquals(1, configService.removeCount);
+		Assert.assertNull(reactiveConfigService.getLatest(DATA_ID, GROUP));
+	}
+
+	@Test
+	public void testInvalidRequest() {
+		RecordingSubscriber subscriber = new RecordingSubscriber();
+		reactiveConfigService.changes(DATA_ID, GROUP).subscribe(subscriber);
+		subscriber.request(0);
+		Assert.assertTrue(subscriber.error instanceof IllegalArgumentException);
+	}
+
+	private static class ListeningConfigService extends MockConfigService {
+
+		private int addCount;
+
+		private int removeCount;
+
+		@Override
+		public void addListener(String dataId, String group, Listener listener)
+				throws NacosException {
+			addCount++;
+			super.addListener(dataId, group, listener);
+		}
+
+		@Override
+		public void removeListener(String dataId, String group, Listener listener) {
+			removeCount++;
+			super.removeListener(dataId, group, listener);
+		}
+	}
+
+	private static class RecordingSubscriber implements Subscriber<ConfigChange> {
+
+		private final List<ConfigChange> changes = new ArrayList<ConfigChange>();
+
+		private final List<String> contents = new ArrayList<String>();
+
+		private Subscription subscription;
+
+		private Throwable error;
+
+		void request(long n) {
+			subscription.request(n);
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ConfigChange change) {
+			changes.add(change);
+			contents.add(change.getContent());
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+
+}
@@ -0,0 +1,506 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingService;
+import com.alibaba.nacos.api.naming.listener.EventListener;
+import com.alibaba.nacos.api.naming.listener.NamingEvent;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ListView;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.selector.AbstractSelector;
+
+/**
+ * In-memory {@link NamingService}, the subscribers are notified synchronously on every
+ * change of the instances, and the invocations are counted by the method name.
+ *
+ * @since 2.1.0
+ */
+public class MockNamingService implements NamingService {
+
+	private final Map<String, List<Instance>> instancesCache = new ConcurrentHashMap<String, List<Instance>>();
+
+	private final Map<String, List<EventListener>> listenersCache = new ConcurrentHashMap<String, List<EventListener>>();
+
+	private final Map<String, AtomicInteger> invocations = new ConcurrentHashMap<String, AtomicInteger>();
+
+	/**
+	 * Replace the instances of the service and notify the subscribers
+	 *
+	 * @param serviceName service name
+	 * @param groupName group name
+	 * @param instances the new instances
+	 */
+	public void setInstances(String serviceName, String groupName,
+			List<Instance> instances) {
+		String key = createKey(serviceName, groupName);
+		instancesCache.put(key, new CopyOnWriteArrayList<Instance>(instances));
+		notifyListeners(serviceName, groupName);
+	}
+
+	/**
+	 * Get the count of invocations by the method name
+	 *
+	 * @param method the name of method, e.g. "subscribe"
+	 * @return the count
+	 */
+	public int getInvocationCount(String method) {
+		AtomicInteger count = invocations.get(method);
+		return count == null ? 0 : count.get();
+	}
+
+	private void count(String method) {
+		AtomicInteger count = invocations.get(method);
+		if (count == null) {
+			invocations.putIfAbsent(method, new AtomicInteger());
+			count = invocations.get(method);
+		}
+		count.incrementAndGet();
+	}
+
+	private static String createKey(String serviceName, String groupName) {
+		return groupName + Constants.SERVICE_INFO_SPLITER + serviceName;
+	}
+
+	private List<Instance> getInstances(String serviceName, String groupName) {
+		List<Instance> instances = instancesCache.get(createKey(serviceName, groupName));
+		if (instances == null) {
+			instances = new CopyOnWriteArrayList<Instance>();
+			instancesCache.put(createKey(serviceName, groupName), instances);
+		}
+		return instances;
+	}
+
+	private void notifyListeners(String serviceName, String groupName) {
+		List<EventListener> listeners = listenersCache
+				.get(createKey(serviceName, groupName));
+		if (listeners == null) {
+			return;
+		}
+		List<Instance> instances = new ArrayList<Instance>(
+				getInstances(serviceName, groupName));
+		for (EventListener listener : listeners) {
+			listener.onEvent(new NamingEvent(serviceName, groupName, "", instances));
+		}
+	}
+
+	private static Instance newInstance(String ip, int port, String clusterName) {
+		Instance instance = new Instance();
+		instance.setIp(ip);
+		instance.setPort(port);
+		instance.setClusterName(clusterName);
+		return instance;
+	}
+
+	@Override
+	public void registerInstance(String serviceName, String ip, int port)
+			throws NacosException {
+		registerInstance(serviceName, Constants.DEFAULT_GROUP, ip, port);
+	}
+
+	@Override
+	public void registerInstance(String serviceName, String groupName, String ip,
+			int port) throws NacosException {
+		registerInstance(serviceName, groupName, ip, port, Constants.DEFAULT_CLUSTER_NAME);
+	}
+
+	@Override
+	public void registerInstance(String serviceName, String ip, int port,
+			String clusterName) throws NacosException {
+		registerInstance(serviceName, Constants.DEFAULT_GROUP, ip, port, clusterName);
+	}
+
+	@Override
+	public void registerInstance(String serviceName, String groupName, String ip,
+			int port, String clusterName) throws NacosException {
+		registerInstance(serviceName, groupName, newInstance(ip, port, clusterName));
+	}
+
+	@Override
+	public void registerInstance(String serviceName, Instance instance)
+			throws NacosException {
+		registerInstance(serviceName, Constants.DEFAULT_GROUP, instance);
+	}
+
+	@Override
+	public void registerInstance(String serviceName, String groupName,
+			Instance instance) throws NacosException {
+		count("registerInstance");
+		removeInstance(serviceName, groupName, instance);
+		getInstances(serviceName, groupName).add(instance);
+		notifyListeners(serviceName, groupName);
+	}
+
+	@Override
+	public void batchRegisterInstance(String serviceName, String groupName,
+			List<Instance> instances) throws NacosException {
+		count("batchRegisterInstance");
+		for (Instance instance : instances) {
+			removeInstance(serviceName, groupName, instance);
+		}
+		getInstances(serviceName, groupName).addAll(instances);
+		notifyListeners(serviceName, groupName);
+	}
+
+	@Override
+	public void batchDeregisterInstance(String serviceName, String groupName,
+			List<Instance> instances) throws NacosException {
+		count("batchDeregisterInstance");
+		for (Instance instance : instances) {
+			removeInstance(serviceName, groupName, instance);
+		}
+		notifyListeners(serviceName, groupName);
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, String ip, int port)
+			throws NacosException {
+		deregisterInstance(serviceName, Constants.DEFAULT_GROUP, ip, port);
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, String groupName, String ip,
+			int port) throws NacosException {
+		deregisterInstance(serviceName, groupName, ip, port,
+				Constants.DEFAULT_CLUSTER_NAME);
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, String ip, int port,
+			String clusterName) throws NacosException {
+		deregisterInstance(serviceName, Constants.DEFAULT_GROUP, ip, port, clusterName);
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, String groupName, String ip,
+			int port, String clusterName) throws NacosException {
+		deregisterInstance(serviceName, groupName, newInstance(ip, port, clusterName));
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, Instance instance)
+			throws NacosException {
+		deregisterInstance(serviceName, Constants.DEFAULT_GROUP, instance);
+	}
+
+	@Override
+	public void deregisterInstance(String serviceName, String groupName,
+			Instance instance) throws NacosException {
+		count("deregisterInstance");
+		removeInstance(serviceName, groupName, instance);
+		notifyListeners(serviceName, groupName);
+	}
+
+	private void removeInstance(String serviceName, String groupName,
+			Instance instance) {
+		List<Instance> instances = getInstances(serviceName, groupName);
+		for (Instance existed : instances) {
+			if (existed.getIp().equals(instance.getIp())
+					&& existed.getPort() == instance.getPort()) {
+				instances.remove(existed);
+			}
+		}
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName) throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName)
+			throws NacosException {
+		return getAllInstances(serviceName, groupName, true);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, boolean subscribe)
+			throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP, subscribe);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			boolean subscribe) throws NacosException {
+		return getAllInstances(serviceName, groupName, Collections.<String> emptyList(),
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, List<String> clusters)
+			throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP, clusters);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		return getAllInstances(serviceName, groupName, clusters, true);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, List<String> clusters,
+			boolean subscribe) throws NacosException {
+		return getAllInstances(serviceName, Constants.DEFAULT_GROUP, clusters,
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> getAllInstances(String serviceName, String groupName,
+			List<String> clusters, boolean subscribe) throws NacosException {
+		count("getAllInstances");
+		List<Instance> instances = new ArrayList<Instance>(
+				getInstances(serviceName, groupName));
+		if (clusters != null && !clusters.isEmpty()) {
+			for (Iterator<Instance> iterator = instances.iterator(); iterator
+					.hasNext();) {
+				if (!clusters.contains(iterator.next().getClusterName())) {
+					iterator.remove();
+				}
+			}
+		}
+		return instances;
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, boolean healthy)
+			throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			boolean healthy) throws NacosException {
+		return selectInstances(serviceName, groupName, healthy, true);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, boolean healthy,
+			boolean subscribe) throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, healthy,
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			boolean healthy, boolean subscribe) throws NacosException {
+		return selectInstances(serviceName, groupName, Collections.<String> emptyList(),
+				healthy, subscribe);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, List<String> clusters,
+			boolean healthy) throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, clusters, healthy);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			List<String> clusters, boolean healthy) throws NacosException {
+		return selectInstances(serviceName, groupName, clusters, healthy, true);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, List<String> clusters,
+			boolean healthy, boolean subscribe) throws NacosException {
+		return selectInstances(serviceName, Constants.DEFAULT_GROUP, clusters, healthy,
+				subscribe);
+	}
+
+	@Override
+	public List<Instance> selectInstances(String serviceName, String groupName,
+			List<String> clusters, boolean healthy, boolean subscribe)
+			throws NacosException {
+		List<Instance> instances = getAllInstances(serviceName, groupName, clusters,
+				subscribe);
+		for (Iterator<Instance> iterator = instances.iterator(); iterator.hasNext();) {
+			Instance instance = iterator.next();
+			if (healthy != instance.isHealthy() || !instance.isEnabled()
+					|| instance.getWeight() <= 0) {
+				iterator.remove();
+			}
+		}
+		return instances;
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName) throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName)
+			throws NacosException {
+		return selectOneHealthyInstance(serviceName, groupName, true);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, boolean subscribe)
+			throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP,
+				subscribe);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			boolean subscribe) throws NacosException {
+		return selectOneHealthyInstance(serviceName, groupName,
+				Collections.<String> emptyList(), subscribe);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, List<String> clusters)
+			throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP, clusters);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters) throws NacosException {
+		return selectOneHealthyInstance(serviceName, groupName, clusters, true);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, List<String> clusters,
+			boolean subscribe) throws NacosException {
+		return selectOneHealthyInstance(serviceName, Constants.DEFAULT_GROUP, clusters,
+				subscribe);
+	}
+
+	@Override
+	public Instance selectOneHealthyInstance(String serviceName, String groupName,
+			List<String> clusters, boolean subscribe) throws NacosException {
+		List<Instance> instances = selectInstances(serviceName, groupName, clusters,
+				true, subscribe);
+		if (instances.isEmpty()) {
+			throw new IllegalStateException(
+					"no host to srv for serviceInfo: " + serviceName);
+		}
+		return instances.get(0);
+	}
+
+	@Override
+	public void subscribe(String serviceName, EventListener listener)
+			throws NacosException {
+		subscribe(serviceName, Constants.DEFAULT_GROUP, listener);
+	}
+
+	@Override
+	public void subscribe(String serviceName, String groupName, EventListener listener)
+			throws NacosException {
+		subscribe(serviceName, groupName, Collections.<String> emptyList(), listener);
+	}
+
+	@Override
+	public void subscribe(String serviceName, List<String> clusters,
+			EventListener listener) throws NacosException {
+		subscribe(serviceName, Constants.DEFAULT_GROUP, clusters, listener);
+	}
+
+	@Override
+	public void subscribe(String serviceName, String groupName, List<String> clusters,
+			EventListener listener) throws NacosException {
+		count("subscribe");
+		String key = createKey(serviceName, groupName);
+		List<EventListener> listeners = listenersCache.get(key);
+		if (listeners == null) {
+			listeners = new CopyOnWriteArrayList<EventListener>();
+			listenersCache.put(key, listeners);
+		}
+		listeners.add(listener);
+	}
+
+	@Override
+	public void unsubscribe(String serviceName, EventListener listener)
+			throws NacosException {
+		unsubscribe(serviceName, Constants.DEFAULT_GROUP, listener);
+	}
+
+	@Override
+	public void unsubscribe(String serviceName, String groupName,
+			EventListener listener) throws NacosException {
+		unsubscribe(serviceName, groupName, Collections.<String> emptyList(), listener);
+	}
+
+	@Override
+	public void unsubscribe(String serviceName, List<String> clusters,
+			EventListener listener) throws NacosException {
+		unsubscribe(serviceName, Constants.DEFAULT_GROUP, clusters, listener);
+	}
+
+	@Override
+	public void unsubscribe(String serviceName, String groupName, List<String> clusters,
+			EventListener listener) throws NacosException {
+		count("unsubscribe");
+		List<EventListener> listeners = listenersCache
+				.get(createKey(serviceName, groupName));
+		if (listeners != null) {
+			listeners.remove(listener);
+		}
+	}
+
+	@Override
+	public ListView<String> getServicesOfServer(int pageNo, int pageSize)
+			throws NacosException {
+		return getServicesOfServer(pageNo, pageSize, Constants.DEFAULT_GROUP);
+	}
+
+	@Override
+	public ListView<String> getServicesOfServer(int pageNo, int pageSize,
+			String groupName) throws NacosException {
+		return getServicesOfServer(pageNo, pageSize, groupName, null);
+	}
+
+	@Override
+	public ListView<String> getServicesOfServer(int pageNo, int pageSize,
+			AbstractSelector selector) throws NacosException {
+		return getServicesOfServer(pageNo, pageSize, Constants.DEFAULT_GROUP, selector);
+	}
+
+	@Override
+	public ListView<String> getServicesOfServer(int pageNo, int pageSize,
+			String groupName, AbstractSelector selector) throws NacosException {
+		return new ListView<String>();
+	}
+
+	@Override
+	public List<ServiceInfo> getSubscribeServices() throws NacosException {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getServerStatus() {
+		return "UP";
+	}
+
+	@Override
+	public void shutDown() throws NacosException {
+		instancesCache.clear();
+		listenersCache.clear();
+	}
+}
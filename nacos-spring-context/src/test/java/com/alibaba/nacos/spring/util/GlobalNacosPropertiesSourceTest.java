@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util;
+
+import static com.alibaba.nacos.spring.util.NacosBeanUtils.CONFIG_GLOBAL_NACOS_PROPERTIES_BEAN_NAME;
+import static com.alibaba.nacos.spring.util.NacosBeanUtils.GLOBAL_NACOS_PROPERTIES_BEAN_NAME;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * {@link GlobalNacosPropertiesSource} Test
+ *
+ * @since 2.1.0
+ */
+public class GlobalNacosPropertiesSourceTest {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	@Before
+	public void init() {
+		beanFactory = new DefaultListableBeanFactory();
+		Properties globalProperties = new Properties();
+		globalProperties.setProperty("serverAddr", "127.0.0.1:8848");
+		globalProperties.setProperty("namespace", "global");
+		beanFactory.registerSingleton(GLOBAL_NACOS_PROPERTIES_BEAN_NAME,
+				globalProperties);
+	}
+
+	@Test
+	public void testMerge() {
+		Properties configProperties = new Properties();
+		configProperties.setProperty("namespace", "config");
+		configProperties.setProperty("username", "nacos");
+		beanFactory.registerSingleton(CONFIG_GLOBAL_NACOS_PROPERTIES_BEAN_NAME,
+				configProperties);
+
+		Properties merged = GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory);
+		Assert.assertEquals("127.0.0.1:8848", merged.getProperty("serverAddr"));
+		Assert.assertEquals("global", merged.getProperty("namespace"));
+		Assert.assertEquals("nacos", merged.getProperty("username"));
+	}
+
+	@Test
+	public void testShared() {
+		Properties merged = GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory);
+		Assert.assertSame(merged, GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory));
+		Assert.assertNotSame(merged, GlobalNacosPropertiesSource.DISCOVERY
+				.getMergedGlobalProperties(beanFactory));
+		Assert.assertNotSame(merged, GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(new DefaultListableBeanFactory()));
+	}
+
+	@Test
+	public void testInvalidatedWhenBeansChange() {
+		Properties merged = GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory);
+		Assert.assertNull(merged.getProperty("username"));
+
+		Properties configProperties = new Properties();
+		configProperties.setProperty("username", "nacos");
+		beanFactory.registerSingleton(CONFIG_GLOBAL_NACOS_PROPERTIES_BEAN_NAME,
+				configProperties);
+		Assert.assertEquals("nacos", GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory).getProperty("username"));
+
+		configProperties.setProperty("password", "nacos");
+		Assert.assertEquals("nacos", GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory).getProperty("password"));
+
+		// Overwriting a key keeps the size unchanged
+		configProperties.setProperty("password", "changed");
+		Assert.assertEquals("changed", GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory).getProperty("password"));
+		beanFactory.getBean(GLOBAL_NACOS_PROPERTIES_BEAN_NAME, Properties.class)
+				.setProperty("serverAddr", "127.0.0.2:8848");
+		Assert.assertEquals("127.0.0.2:8848", GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory).getProperty("serverAddr"));
+	}
+
+	@Test
+	public void testReadOnly() {
+		Properties merged = GlobalNacosPropertiesSource.CONFIG
+				.getMergedGlobalProperties(beanFactory);
+		try {
+			merged.setProperty("namespace", "other");
+			Assert.fail();
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+		try {
+			merged.keySet().clear();
+			Assert.fail();
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+		try {
+			Map.Entry<Object, Object> entry = merged.entrySet().iterator().next();
+			entry.setValue("other");
+			Assert.fail();
+		}
+		catch (UnsupportedOperationException expected) {
+		}
+		Properties copy = new Properties();
+		copy.putAll(merged);
+		Assert.assertEquals(2, copy.size());
+	}
+
+}
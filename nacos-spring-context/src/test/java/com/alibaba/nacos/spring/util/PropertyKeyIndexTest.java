@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.spring.core.env.NacosPropertySource;
+
+/**
+ * {@link PropertyKeyIndex} Test
+ *
+ * @since 2.1.0
+ */
+public class PropertyKeyIndexTest {
+
+	private final PropertyKeyIndex index = PropertyKeyIndex.of(Arrays.asList(
+			"user.name", "user.address.city", "users[1].name", "users[0].name",
+			"users[0].age", "user", "userName", "map.k1", "map[k2]", "list[10]",
+			"list[2]"));
+
+	@Test
+	public void testHasDescendant() {
+		Assert.assertTrue(index.hasDescendant("user"));
+		Assert.assertTrue(index.hasDescendant("user.address"));
+		Assert.assertFalse(index.hasDescendant("user.name"));
+		Assert.assertFalse(index.hasDescendant("users"));
+		Assert.assertFalse(index.hasDescendant("use"));
+		Assert.assertFalse(PropertyKeyIndex.of((Map<?, ?>) null).hasDescendant("user"));
+	}
+
+	@Test
+	public void testSubtree() {
+		Assert.assertEquals(
+				Arrays.asList("user", "user.address.city", "user.name"),
+				index.subtree("user"));
+		Assert.assertEquals(Arrays.asList("map.k1", "map[k2]"), index.subtree("map"));
+		Assert.assertTrue(index.subtree("none").isEmpty());
+	}
+
+	@Test
+	public void testListIndices() {
+		Assert.assertEquals(Arrays.asList("0", "1"),
+				Arrays.asList(index.listIndices("users").toArray()));
+		Assert.assertEquals(Arrays.asList("10", "2"),
+				Arrays.asList(index.listIndices("list").toArray()));
+		Assert.assertTrue(index.listIndices("user").isEmpty());
+	}
+
+	@Test
+	public void testOfMap() {
+		Map<String, Object> properties = new LinkedHashMap<String, Object>();
+		properties.put("b", "2");
+		properties.put("a", "1");
+		PropertyKeyIndex mapIndex = PropertyKeyIndex.of(properties);
+		Assert.assertEquals(2, mapIndex.size());
+		Assert.assertEquals(Arrays.asList("a", "b"), mapIndex.getNames());
+		Assert.assertTrue(mapIndex.contains("a"));
+		Assert.assertFalse(mapIndex.contains("c"));
+	}
+
+	@Test
+	public void testSharedIndex() {
+		String content = "a=1\nb.c=2";
+		NacosPropertySource propertySource = new NacosPropertySource("shared",
+				"DEFAULT_GROUP", "shared", content, "properties");
+		PropertyKeyIndex sharedIndex = PropertyKeyIndex.of("shared", "DEFAULT_GROUP",
+				content, "properties", NacosUtils.toProperties(content));
+		Assert.assertSame(propertySource.getKeyIndex(), sharedIndex);
+		Assert.assertTrue(sharedIndex.hasDescendant("b"));
+		// The parser may be customized per dataId and group
+		Assert.assertNotSame(sharedIndex, PropertyKeyIndex.of("other", "DEFAULT_GROUP",
+				content, "properties", NacosUtils.toProperties(content)));
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.spring.util.aot;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.nacos.api.annotation.NacosInjected;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.annotation.NacosConfigListener;
+import com.alibaba.nacos.api.config.annotation.NacosValue;
+
+/**
+ * {@link NacosAnnotatedMembers} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosAnnotatedMembersTest {
+
+	@After
+	public void clear() {
+		NacosAnnotatedMembersRegistry.clear();
+	}
+
+	@Test
+	public void testResolveMembers() throws Exception {
+		NacosAnnotatedMembers members = NacosAnnotatedMembers
+				.builder(Target.class.getName())
+				.annotationTypes(NacosInjected.class, NacosValue.class,
+						NacosConfigListener.class)
+				.field(NacosValue.class, Target.class.getName(), "name")
+				.field(NacosInjected.class, Base.class.getName(), "configService")
+				.method(NacosValue.class, Target.class.getName(), "setValues", "int",
+						"java.lang.String[]")
+				.method(NacosConfigListener.class, Target.class.getName(), "onChange",
+						"java.lang.String")
+				.build();
+
+		Assert.assertTrue(members.covers(NacosValue.class, NacosInjected.class));
+		Assert.assertFalse(members.covers(NacosValue.class, Deprecated.class));
+
+		List<Field> fields = members.resolveFields(Target.class, NacosValue.class,
+				NacosInjected.class);
+		Assert.assertEquals(2, fields.size());
+		Assert.assertEquals(Target.class.getDeclaredField("name"), fields.get(0));
+		Assert.assertEquals(Base.class.getDeclaredField("configService"),
+				fields.get(1));
+
+		List<Method> methods = members.resolveMethods(Target.class, NacosValue.class);
+		Assert.assertEquals(1, methods.size());
+		Assert.assertEquals(
+				Target.class.getDeclaredMethod("setValues", int.class, String[].class),
+				methods.get(0));
+		Assert.assertTrue(
+				members.resolveMethods(Target.class, NacosInjected.class).isEmpty());
+	}
+
+	@Test
+	public void testResolveMissingMember() {
+		NacosAnnotatedMembers members = NacosAnnotatedMembers
+				.builder(Target.class.getName()).annotationTypes(NacosValue.class)
+				.field(NacosValue.class, Target.class.getName(), "removed")
+				.method(NacosValue.class, "com.example.Unknown", "setValues", "int")
+				.build();
+
+		Assert.assertNull(members.resolveFields(Target.class, NacosValue.class));
+		Assert.assertNull(members.resolveMethods(Target.class, NacosValue.class));
+	}
+
+	@Test
+	public void testRegistry() {
+		Assert.assertNull(NacosAnnotatedMembersRegistry.get(Target.class));
+
+		NacosAnnotatedMembers members = NacosAnnotatedMembers
+				.builder(Target.class.getName()).configurationProperties(true).build();
+		NacosAnnotatedMembersRegistry.register(members);
+
+		Assert.assertSame(members, NacosAnnotatedMembersRegistry.get(Target.class));
+		Assert.assertNull(NacosAnnotatedMembersRegistry.get(Base.class));
+		Assert.assertTrue(members.isConfigurationProperties());
+	}
+
+	static class Base {
+
+		@NacosInjected
+		private ConfigService configService;
+
+	}
+
+	static class Target extends Base {
+
+		@NacosValue("${name}")
+		private String name;
+
+		@NacosValue("${values}")
+		public void setValues(int count, String[] values) {
+		}
+
+		@NacosConfigListener(dataId = "target")
+		public void onChange(String content) {
+		}
+
+	}
+}
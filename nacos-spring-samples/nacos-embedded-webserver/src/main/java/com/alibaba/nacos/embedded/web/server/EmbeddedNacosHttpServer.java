@@ -18,6 +18,7 @@ package com.alibaba.nacos.embedded.web.server;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -67,6 +68,17 @@ public class EmbeddedNacosHttpServer {
 		nacosConfigHttpHandler.cacheConfig(map);
 	}
 
+	/**
+	 * Publish the configs in bulk, every long-polling client is notified once with all
+	 * of its changed configs
+	 *
+	 * @param configs the configs with the parameters of {@link NacosConfigHttpHandler}
+	 * @since 2.1.0
+	 */
+	public void publishConfigs(Collection<Map<String, String>> configs) {
+		nacosConfigHttpHandler.publishConfigs(configs);
+	}
+
 	public EmbeddedNacosHttpServer start(boolean blocking) {
 
 		httpServer.createContext(path, nacosConfigHttpHandler);
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.embedded.web.server;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The registry of the long-polling waiters, which are keyed by the content keys they
+ * listen on. A key may have many waiters, and a waiter may listen on many keys, the
+ * waiter is completed exactly once by either a change of its keys or the expiry. The
+ * changes of many keys could be notified in bulk, like the batched change notifications
+ * of the Nacos gRPC server.
+ * <p>
+ * The expiry is driven by a hashed timer wheel, thus the waiters are never scanned as a
+ * whole, and the completed waiters are removed from their keys in O(1) per key.
+ *
+ * @since 2.1.0
+ */
+class LongPollingRegistry {
+
+	private static final int WHEEL_SIZE = 64;
+
+	private final ConcurrentMap<String, Set<Waiter>> waiters = new ConcurrentHashMap<String, Set<Waiter>>();
+
+	private final ConcurrentLinkedQueue<Waiter>[] wheel;
+
+	private final long tickMillis;
+
+	private final long startMillis;
+
+	private volatile long tick;
+
+	private ScheduledExecutorService timer;
+
+	@SuppressWarnings("unchecked")
+	LongPollingRegistry(long tickMillis) {
+		this.tickMillis = tickMillis;
+		this.startMillis = System.currentTimeMillis();
+		this.wheel = new ConcurrentLinkedQueue[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<Waiter>();
+		}
+	}
+
+	void start() {
+		timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r);
+				t.setDaemon(true);
+				t.setName("nacos-embedded-long-polling-timer");
+				return t;
+			}
+		});
+		timer.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				advance();
+			}
+		}, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	void stop() {
+		if (timer != null) {
+			timer.shutdownNow();
+		}
+	}
+
+	/**
+	 * Register the waiter on its keys and schedule its expiry
+	 *
+	 * @param waiter {@link Waiter}
+	 */
+	void register(Waiter waiter) {
+		for (String key : waiter.keys) {
+			Set<Waiter> keyWaiters = waiters.get(key);
+			if (keyWaiters == null) {
+				Set<Waiter> newWaiters = Collections
+						.newSetFromMap(new ConcurrentHashMap<Waiter, Boolean>());
+				keyWaiters = waiters.putIfAbsent(key, newWaiters);
+				if (keyWaiters == null) {
+					keyWaiters = newWaiters;
+				}
+			}
+			keyWaiters.add(waiter);
+		}
+		schedule(waiter);
+		// Completed concurrently before being registered
+		if (waiter.isCompleted()) {
+			remove(waiter);
+		}
+	}
+
+	/**
+	 * Complete all the waiters of the key
+	 *
+	 * @param key the content key
+	 */
+	void notify(String key) {
+		notify(Collections.singletonList(key));
+	}
+
+	/**
+	 * Complete all the waiters of the keys in bulk, every waiter is completed once with
+	 * all of its changed keys
+	 *
+	 * @param keys the content keys
+	 */
+	void notify(Collection<String> keys) {
+		Map<Waiter, List<String>> changes = new LinkedHashMap<Waiter, List<String>>();
+		for (String key : keys) {
+			Set<Waiter> keyWaiters = waiters.get(key);
+			if (keyWaiters == null) {
+				continue;
+			}
+			for (Waiter waiter : keyWaiters) {
+				List<String> changedKeys = changes.get(waiter);
+				if (changedKeys == null) {
+					changedKeys = new ArrayList<String>(1);
+					changes.put(waiter, changedKeys);
+				}
+				changedKeys.add(key);
+			}
+		}
+		for (Map.Entry<Waiter, List<String>> change : changes.entrySet()) {
+			Waiter waiter = change.getKey();
+			if (waiter.complete()) {
+				remove(waiter);
+				waiter.onChanged(change.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Complete the waiter with its changed keys, unless it's completed already
+	 *
+	 * @param waiter {@link Waiter}
+	 * @param keys the changed content keys
+	 */
+	void complete(Waiter waiter, List<String> keys) {
+		if (waiter.complete()) {
+			remove(waiter);
+			waiter.onChanged(keys);
+		}
+	}
+
+	int size() {
+		int size = 0;
+		for (Set<Waiter> keyWaiters : waiters.values()) {
+			size += keyWaiters.size();
+		}
+		return size;
+	}
+
+	private void remove(Waiter waiter) {
+		for (String key : waiter.keys) {
+			Set<Waiter> keyWaiters = waiters.get(key);
+			if (keyWaiters != null) {
+				keyWaiters.remove(waiter);
+			}
+		}
+	}
+
+	private void schedule(Waiter waiter) {
+		long deadlineTick = (waiter.deadline - startMillis + tickMillis - 1) / tickMillis;
+		// Never schedule into a passed bucket
+		long slot = Math.max(deadlineTick, tick + 1);
+		wheel[(int) (slot % WHEEL_SIZE)].add(waiter);
+	}
+
+	private void advance() {
+		long current = ++tick;
+		long now = System.currentTimeMillis();
+		ConcurrentLinkedQueue<Waiter> bucket = wheel[(int) (current % WHEEL_SIZE)];
+		int size = bucket.size();
+		for (int i = 0; i < size; i++) {
+			Waiter waiter = bucket.poll();
+			if (waiter == null) {
+				break;
+			}
+			if (waiter.isCompleted()) {
+				continue;
+			}
+			if (waiter.deadline > now) {
+				// Later rounds of the wheel
+				schedule(waiter);
+			}
+			else if (waiter.complete()) {
+				remove(waiter);
+				waiter.onExpired();
+			}
+		}
+	}
+
+	/**
+	 * The long-polling waiter of the content keys
+	 */
+	abstract static class Waiter {
+
+		private final Collection<String> keys;
+
+		private final long deadline;
+
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		Waiter(Collection<String> keys, long timeoutMillis) {
+			this.keys = keys;
+			this.deadline = System.currentTimeMillis() + timeoutMillis;
+		}
+
+		boolean complete() {
+			return completed.compareAndSet(false, true);
+		}
+
+		boolean isCompleted() {
+			return completed.get();
+		}
+
+		/**
+		 * Invoked once if some of the keys are changed
+		 *
+		 * @param keys the changed content keys
+		 */
+		abstract void onChanged(List<String> keys);
+
+		/**
+		 * Invoked once if nothing is changed before the deadline
+		 */
+		abstract void onExpired();
+	}
+}
@@ -25,15 +25,12 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +49,7 @@ import com.sun.net.httpserver.HttpHandler;
  * <li>{@link #DATA_ID_PARAM_NAME}</li>
  * <li>{@link #GROUP_ID_PARAM_NAME}</li>
  * <li>{@link #CONTENT_PARAM_NAME}</li>
+ * <li>{@link #TENANT_PARAM_NAME}</li>
  * </ul>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
@@ -65,51 +63,37 @@ public class NacosConfigHttpHandler implements HttpHandler {
 
 	public static final String CONTENT_PARAM_NAME = "content";
 
-	private static final Object LOCK = new Object();
+	/**
+	 * The namespace of the config, the configs of the absent namespace are the ones of
+	 * the default namespace
+	 * @since 2.1.0
+	 */
+	public static final String TENANT_PARAM_NAME = "tenant";
 
-	private final Logger logger = LoggerFactory.getLogger(getClass());
+	/**
+	 * The request parameter of the bulk publishing, its value is the URL-encoded lines
+	 * of <code>dataId WORD_SEPARATOR group WORD_SEPARATOR content LINE_SEPARATOR</code>
+	 * @see Constants#WORD_SEPARATOR
+	 * @see Constants#LINE_SEPARATOR
+	 * @since 2.1.0
+	 */
+	public static final String BULK_CONFIGS_PARAM_NAME = "Bulk-Configs";
+
+	private static final String CONTENT_KEY_SEPARATOR = " | ";
 
-	private Map<String, String> contentCache = new HashMap<String, String>();
+	private static final long MAX_WAIT_MILLIS = 3000L;
 
-	private Map<String, LongPolling> longPollingMap = new HashMap<String, LongPolling>();
+	private static final long EXPIRY_TICK_MILLIS = 100L;
 
-	private ScheduledExecutorService scheduledExecutorService;
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<String, String> contentCache = new ConcurrentHashMap<String, String>();
 
-	private volatile boolean isRunning;
+	private final LongPollingRegistry longPollingRegistry = new LongPollingRegistry(
+			EXPIRY_TICK_MILLIS);
 
 	public void init() {
-		isRunning = true;
-		final int maxWaitInSecond = 3;
-		scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-		scheduledExecutorService.scheduleWithFixedDelay(new Runnable() {
-			@Override
-			public void run() {
-				while (isRunning) {
-					synchronized (LOCK) {
-						Set<String> keySet = new HashSet<String>(longPollingMap.keySet());
-						for (String contentKey : keySet) {
-							LongPolling longPolling = longPollingMap.get(contentKey);
-							if (longPolling == null) {
-								continue;
-							}
-							if (System.currentTimeMillis() - longPolling.date
-									.getTime() > (maxWaitInSecond * 1000L)) {
-								try {
-									write(longPolling.httpExchange, "");
-								}
-								catch (IOException e) {
-									logger.error(
-											"Polling task encountered an exception, contentKey: "
-													+ contentKey,
-											e);
-								}
-								removeLongPolling(longPolling.httpExchange);
-							}
-						}
-					}
-				}
-			}
-		}, maxWaitInSecond, maxWaitInSecond, TimeUnit.SECONDS);
+		longPollingRegistry.start();
 	}
 
 	@Override
@@ -123,9 +107,13 @@ public class NacosConfigHttpHandler implements HttpHandler {
 					forName("UTF-8"));
 			Map<String, String> params = parseParams(queryString);
 			String listeningConfigs = params.get("Listening-Configs");
+			String bulkConfigs = params.get(BULK_CONFIGS_PARAM_NAME);
 			if (listeningConfigs != null) {
 				handleLongPolling(httpExchange, listeningConfigs);
 			}
+			else if (bulkConfigs != null) {
+				handleBulkPublishConfig(httpExchange, bulkConfigs);
+			}
 			else {
 				handlePublishConfig(httpExchange, params);
 			}
@@ -150,48 +138,67 @@ public class NacosConfigHttpHandler implements HttpHandler {
 		write(httpExchange, "true");
 	}
 
-	private void notifyLongPolling(Map<String, String> params) throws IOException {
-		String contentKey = createContentKey(params);
-		synchronized (LOCK) {
-			LongPolling longPolling = longPollingMap.get(contentKey);
-			if (longPolling != null) {
-				String dataId = params.get(DATA_ID_PARAM_NAME);
-				String groupId = params.get(GROUP_ID_PARAM_NAME);
-				String longPollingResult = createLongPollingResult(dataId, groupId);
-				removeLongPolling(longPolling.httpExchange);
-				write(longPolling.httpExchange, longPollingResult);
-			}
-		}
+	private void notifyLongPolling(Map<String, String> params) {
+		longPollingRegistry.notify(createContentKey(params));
 	}
 
-	private void removeLongPolling(HttpExchange httpExchange) {
-		Set<String> keySet = new HashSet<String>(longPollingMap.keySet());
-		for (String key : keySet) {
-			LongPolling longPolling = longPollingMap.get(key);
-			if (longPolling == null) {
+	/**
+	 * Handle the bulk publishing, every long-polling is notified once with all of its
+	 * changed configs
+	 *
+	 * @param httpExchange {@link HttpExchange}
+	 * @param bulkConfigs the value of {@link #BULK_CONFIGS_PARAM_NAME}
+	 * @throws IOException IO error
+	 */
+	private void handleBulkPublishConfig(HttpExchange httpExchange, String bulkConfigs)
+			throws IOException {
+		List<Map<String, String>> configs = new ArrayList<Map<String, String>>();
+		String[] lines = URLDecoder.decode(bulkConfigs, "UTF-8")
+				.split(Constants.LINE_SEPARATOR);
+		for (String line : lines) {
+			String[] arr = line.split(Constants.WORD_SEPARATOR, 3);
+			if (arr.length < 3) {
 				continue;
 			}
-			if (longPolling.httpExchange.equals(httpExchange)) {
-				longPollingMap.remove(key);
-			}
+			Map<String, String> params = new HashMap<String, String>(4);
+			params.put(DATA_ID_PARAM_NAME, arr[0]);
+			params.put(GROUP_ID_PARAM_NAME, arr[1]);
+			// The contents are cached URL-encoded, like the single publishing
+			params.put(CONTENT_PARAM_NAME, URLEncoder.encode(arr[2], "UTF-8"));
+			configs.add(params);
 		}
+
+		publishConfigs(configs);
+
+		write(httpExchange, "true");
 	}
 
-	private String createLongPollingResult(String dataId, String groupId)
-			throws IOException {
-		String sb = dataId + Constants.WORD_SEPARATOR + groupId
-				+ Constants.LINE_SEPARATOR;
-		return URLEncoder.encode(sb, "UTF-8");
+	/**
+	 * Publish the configs in bulk, every long-polling is notified once with all of its
+	 * changed configs
+	 *
+	 * @param configs the configs with the parameters {@link #DATA_ID_PARAM_NAME},
+	 *     {@link #GROUP_ID_PARAM_NAME} and {@link #CONTENT_PARAM_NAME}
+	 * @since 2.1.0
+	 */
+	public void publishConfigs(Collection<Map<String, String>> configs) {
+		List<String> contentKeys = new ArrayList<String>(configs.size());
+		for (Map<String, String> params : configs) {
+			cacheConfig(params);
+			contentKeys.add(createContentKey(params));
+		}
+		longPollingRegistry.notify(contentKeys);
 	}
 
-	private String createLongPollingResult(List<String> dataIdList,
-			List<String> groupIdList) throws IOException {
+	private String createLongPollingResult(List<String> contentKeys)
+			throws IOException {
 		StringBuilder sb = new StringBuilder();
-		int size = dataIdList.size();
-		for (int i = 0; i < size; i++) {
-			sb.append(dataIdList.get(i));
-			sb.append(Constants.WORD_SEPARATOR);
-			sb.append(groupIdList.get(i));
+		for (String contentKey : contentKeys) {
+			// dataId, groupId and the tenant if present
+			String[] words = StringUtils.delimitedListToStringArray(contentKey,
+					CONTENT_KEY_SEPARATOR);
+			sb.append(StringUtils.arrayToDelimitedString(words,
+					Constants.WORD_SEPARATOR));
 			sb.append(Constants.LINE_SEPARATOR);
 		}
 		return URLEncoder.encode(sb.toString(), "UTF-8");
@@ -202,32 +209,34 @@ public class NacosConfigHttpHandler implements HttpHandler {
 		// @see ClientWorker.checkUpdateDataIds
 		listeningConfigs = URLDecoder.decode(listeningConfigs, "UTF-8");
 
-		List<String> changeDataIdList = new ArrayList<String>();
-		List<String> changeGroupIdList = new ArrayList<String>();
-		List<String> contentKeyList = new ArrayList<String>();
+		// The md5 of the listened configs per content key
+		Map<String, String> md5s = new LinkedHashMap<String, String>();
 
 		String[] lines = listeningConfigs.split(Constants.LINE_SEPARATOR);
 		for (String line : lines) {
-			parseLine(changeDataIdList, changeGroupIdList, contentKeyList, line);
+			parseLine(md5s, line);
 		}
 
-		if (!changeDataIdList.isEmpty()) {
-			String longPollingResult = createLongPollingResult(changeDataIdList,
-					changeGroupIdList);
+		List<String> changedContentKeyList = findChangedContentKeys(md5s);
+		if (!changedContentKeyList.isEmpty()) {
+			String longPollingResult = createLongPollingResult(changedContentKeyList);
 			write(httpExchange, longPollingResult);
 			return;
 		}
 
-		synchronized (LOCK) {
-			for (String contentKey : contentKeyList) {
-				longPollingMap.put(contentKey, new LongPolling(httpExchange));
-			}
+		LongPolling longPolling = new LongPolling(httpExchange,
+				new ArrayList<String>(md5s.keySet()));
+		longPollingRegistry.register(longPolling);
+		// The configs published between the check and the registration have notified
+		// no waiter of this long polling
+		changedContentKeyList = findChangedContentKeys(md5s);
+		if (!changedContentKeyList.isEmpty()) {
+			longPollingRegistry.complete(longPolling, changedContentKeyList);
 		}
 	}
 
-	private void parseLine(List<String> changeDataIdList, List<String> changeGroupIdList,
-			List<String> contentKeyList, String line) {
-		String[] arr = line.split(Constants.WORD_SEPARATOR, 3);
+	private void parseLine(Map<String, String> md5s, String line) {
+		String[] arr = line.split(Constants.WORD_SEPARATOR, 4);
 		if (arr.length < 3) {
 			logger.warn("Listening-Configs is wrong format, line: {}", line);
 			return;
@@ -235,16 +244,20 @@ public class NacosConfigHttpHandler implements HttpHandler {
 		String dataId = arr[0];
 		String groupId = arr[1];
 		String md5 = arr[2];
-		String contentKey = createContentKey(dataId, groupId);
-		String content = contentCache.get(contentKey);
-		if (content != null) {
-			if (!md5.equals(MD5Utils.md5Hex(content, "UTF-8"))) {
-				changeDataIdList.add(dataId);
-				changeGroupIdList.add(groupId);
-				return;
+		String tenant = arr.length > 3 ? arr[3] : null;
+		md5s.put(createContentKey(dataId, groupId, tenant), md5);
+	}
+
+	private List<String> findChangedContentKeys(Map<String, String> md5s) {
+		List<String> changedContentKeyList = new ArrayList<String>();
+		for (Map.Entry<String, String> entry : md5s.entrySet()) {
+			String content = contentCache.get(entry.getKey());
+			if (content != null
+					&& !entry.getValue().equals(MD5Utils.md5Hex(content, "UTF-8"))) {
+				changedContentKeyList.add(entry.getKey());
 			}
 		}
-		contentKeyList.add(contentKey);
+		return changedContentKeyList;
 	}
 
 	public void cacheConfig(Map<String, String> params) {
@@ -252,7 +265,12 @@ public class NacosConfigHttpHandler implements HttpHandler {
 
 		String key = createContentKey(params);
 
-		contentCache.put(key, content);
+		if (content != null) {
+			contentCache.put(key, content);
+		}
+		else {
+			contentCache.remove(key);
+		}
 	}
 
 	/**
@@ -300,19 +318,23 @@ public class NacosConfigHttpHandler implements HttpHandler {
 	private String createContentKey(Map<String, String> params) {
 		String dataId = params.get(DATA_ID_PARAM_NAME);
 		String groupId = params.get(GROUP_ID_PARAM_NAME);
-		return createContentKey(dataId, groupId);
+		String tenant = params.get(TENANT_PARAM_NAME);
+		return createContentKey(dataId, groupId, tenant);
 	}
 
-	private String createContentKey(String dataId, String groupId) {
-		return dataId + " | " + groupId;
+	private String createContentKey(String dataId, String groupId, String tenant) {
+		String contentKey = dataId + CONTENT_KEY_SEPARATOR + groupId;
+		return StringUtils.hasText(tenant) ? contentKey + CONTENT_KEY_SEPARATOR + tenant
+				: contentKey;
 	}
 
 	private void write(HttpExchange httpExchange, String content) throws IOException {
 		if (content != null) {
+			// The length of the decoded bytes, rather than the encoded content
+			byte[] bytes = URLDecoder.decode(content, "UTF-8").getBytes(forName("UTF-8"));
 			OutputStream outputStream = httpExchange.getResponseBody();
-			httpExchange.sendResponseHeaders(200, content.length());
-			StreamUtils.copy(URLDecoder.decode(content, "UTF-8"), forName("UTF-8"),
-					outputStream);
+			httpExchange.sendResponseHeaders(200, bytes.length);
+			StreamUtils.copy(bytes, outputStream);
 		}
 		httpExchange.close();
 	}
@@ -335,21 +357,37 @@ public class NacosConfigHttpHandler implements HttpHandler {
 	}
 
 	public void destroy() {
-		isRunning = false;
-		if (scheduledExecutorService != null) {
-			scheduledExecutorService.shutdown();
-		}
+		longPollingRegistry.stop();
 	}
 
-	private static class LongPolling {
-
-		private HttpExchange httpExchange;
+	private class LongPolling extends LongPollingRegistry.Waiter {
 
-		private Date date;
+		private final HttpExchange httpExchange;
 
-		LongPolling(HttpExchange httpExchange) {
+		LongPolling(HttpExchange httpExchange, List<String> contentKeys) {
+			super(contentKeys, MAX_WAIT_MILLIS);
 			this.httpExchange = httpExchange;
-			this.date = new Date();
+		}
+
+		@Override
+		void onChanged(List<String> contentKeys) {
+			try {
+				write(httpExchange, createLongPollingResult(contentKeys));
+			}
+			catch (IOException e) {
+				logger.error("Polling task encountered an exception, contentKeys: "
+						+ contentKeys, e);
+			}
+		}
+
+		@Override
+		void onExpired() {
+			try {
+				write(httpExchange, "");
+			}
+			catch (IOException e) {
+				logger.error("Polling task encountered an exception", e);
+			}
 		}
 	}
 }
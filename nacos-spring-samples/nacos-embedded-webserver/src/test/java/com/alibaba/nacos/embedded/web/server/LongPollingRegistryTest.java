@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.embedded.web.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * {@link LongPollingRegistry} Test
+ *
+ * @since 2.1.0
+ */
+public class LongPollingRegistryTest {
+
+	@Test
+	public void testMultipleWaitersPerKey() {
+		LongPollingRegistry registry = new LongPollingRegistry(100);
+		RecordingWaiter first = new RecordingWaiter(Arrays.asList("a"), 60000);
+		RecordingWaiter second = new RecordingWaiter(Arrays.asList("a"), 60000);
+		RecordingWaiter both = new RecordingWaiter(Arrays.asList("a", "b"), 60000);
+		RecordingWaiter other = new RecordingWaiter(Arrays.asList("c"), 60000);
+		registry.register(first);
+		registry.register(second);
+		registry.register(both);
+		registry.register(other);
+		Assert.assertEquals(5, registry.size());
+
+		registry.notify(Arrays.asList("a", "b"));
+
+		Assert.assertEquals(Arrays.asList("a"), first.changedKeys);
+		Assert.assertEquals(Arrays.asList("a"), second.changedKeys);
+		// Completed once with all of its changed keys
+		Assert.assertEquals(Arrays.asList("a", "b"), both.changedKeys);
+		Assert.assertEquals(1, both.completions.get());
+		Assert.assertNull(other.changedKeys);
+		Assert.assertEquals(1, registry.size());
+
+		// The completed waiters are never notified again
+		registry.notify("a");
+		Assert.assertEquals(1, first.completions.get());
+	}
+
+	@Test
+	public void testExpiry() throws Exception {
+		LongPollingRegistry registry = new LongPollingRegistry(10);
+		registry.start();
+		try {
+			RecordingWaiter expiring = new RecordingWaiter(Arrays.asList("a"), 50);
+			RecordingWaiter waiting = new RecordingWaiter(Arrays.asList("a"), 60000);
+			registry.register(expiring);
+			registry.register(waiting);
+
+			Assert.assertTrue(expiring.expired.await(5, TimeUnit.SECONDS));
+			Assert.assertNull(expiring.changedKeys);
+			Assert.assertEquals(1, registry.size());
+
+			registry.notify("a");
+			Assert.assertEquals(1, expiring.completions.get());
+			Assert.assertEquals(Arrays.asList("a"), waiting.changedKeys);
+			Assert.assertEquals(0, registry.size());
+		}
+		finally {
+			registry.stop();
+		}
+	}
+
+	@Test
+	public void testNotifyRacingRegister() throws Exception {
+		final LongPollingRegistry registry = new LongPollingRegistry(100);
+		for (int i = 0; i < 1000; i++) {
+			final RecordingWaiter waiter = new RecordingWaiter(
+					Collections.singletonList("a"), 60000);
+			final CountDownLatch start = new CountDownLatch(1);
+			Thread notifier = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					}
+					catch (InterruptedException e) {
+						return;
+					}
+					registry.notify("a");
+				}
+			});
+			notifier.start();
+			start.countDown();
+			registry.register(waiter);
+			notifier.join();
+			// Missed if notified before being registered, as the handler re-checks
+			registry.notify("a");
+
+			Assert.assertEquals(1, waiter.completions.get());
+			Assert.assertEquals(0, registry.size());
+		}
+	}
+
+	@Test
+	public void testComplete() {
+		LongPollingRegistry registry = new LongPollingRegistry(100);
+		RecordingWaiter waiter = new RecordingWaiter(Arrays.asList("a", "b"), 60000);
+		registry.register(waiter);
+
+		registry.complete(waiter, Arrays.asList("b"));
+		registry.complete(waiter, Arrays.asList("a"));
+
+		Assert.assertEquals(Arrays.asList("b"), waiter.changedKeys);
+		Assert.assertEquals(1, waiter.completions.get());
+		Assert.assertEquals(0, registry.size());
+	}
+
+	static class RecordingWaiter extends LongPollingRegistry.Waiter {
+
+		private final AtomicInteger completions = new AtomicInteger();
+
+		private final CountDownLatch expired = new CountDownLatch(1);
+
+		private volatile List<String> changedKeys;
+
+		RecordingWaiter(List<String> keys, long timeoutMillis) {
+			super(keys, timeoutMillis);
+		}
+
+		@Override
+		void onChanged(List<String> keys) {
+			changedKeys = keys;
+			completions.incrementAndGet();
+		}
+
+		@Override
+		void onExpired() {
+			completions.incrementAndGet();
+			expired.countDown();
+		}
+	}
+}
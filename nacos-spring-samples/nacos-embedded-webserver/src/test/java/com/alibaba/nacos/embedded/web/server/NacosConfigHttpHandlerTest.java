@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.nacos.embedded.web.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+import com.alibaba.nacos.api.common.Constants;
+
+/**
+ * {@link NacosConfigHttpHandler} Test
+ *
+ * @since 2.1.0
+ */
+public class NacosConfigHttpHandlerTest {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private EmbeddedNacosHttpServer server;
+
+	private ExecutorService executor;
+
+	@Before
+	public void init() throws IOException {
+		server = new EmbeddedNacosHttpServer().start(true);
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@After
+	public void destroy() {
+		executor.shutdownNow();
+		server.stop();
+	}
+
+	@Test
+	public void testBulkPublishNotifiesWaiters() throws Exception {
+		Future<String> first = poll(listening("a") + listening("b"));
+		Future<String> second = poll(listening("b"));
+		// Let both long pollings be registered
+		Thread.sleep(500);
+
+		post(NacosConfigHttpHandler.BULK_CONFIGS_PARAM_NAME,
+				config("a", "va") + config("b", "vb"));
+
+		// Every long polling is notified once with all of its changed configs
+		Assert.assertEquals(changed("a") + changed("b"),
+				first.get(2, TimeUnit.SECONDS));
+		Assert.assertEquals(changed("b"), second.get(2, TimeUnit.SECONDS));
+	}
+
+	private Future<String> poll(final String listeningConfigs) {
+		return executor.submit(new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				return post("Listening-Configs", listeningConfigs);
+			}
+		});
+	}
+
+	private String post(String name, String value) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(
+				"http://127.0.0.1:" + server.getPort() + "/nacos"
+						+ Constants.CONFIG_CONTROLLER_PATH).openConnection();
+		connection.setRequestMethod("POST");
+		connection.setDoOutput(true);
+		OutputStream outputStream = connection.getOutputStream();
+		try {
+			outputStream.write((name + "=" + URLEncoder.encode(value, "UTF-8"))
+					.getBytes(UTF_8));
+		}
+		finally {
+			outputStream.close();
+		}
+		InputStream inputStream = connection.getInputStream();
+		try {
+			return StreamUtils.copyToString(inputStream, UTF_8);
+		}
+		finally {
+			inputStream.close();
+		}
+	}
+
+	private static String listening(String dataId) {
+		// The configs are absent, so their md5 is empty
+		return dataId + Constants.WORD_SEPARATOR + Constants.DEFAULT_GROUP
+				+ Constants.WORD_SEPARATOR + Constants.LINE_SEPARATOR;
+	}
+
+	private static String config(String dataId, String content) {
+		return dataId + Constants.WORD_SEPARATOR + Constants.DEFAULT_GROUP
+				+ Constants.WORD_SEPARATOR + content + Constants.LINE_SEPARATOR;
+	}
+
+	private static String changed(String dataId) {
+		return dataId + Constants.WORD_SEPARATOR + Constants.DEFAULT_GROUP
+				+ Constants.LINE_SEPARATOR;
+	}
+}